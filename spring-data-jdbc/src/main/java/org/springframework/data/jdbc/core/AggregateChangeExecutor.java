@@ -15,6 +15,15 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.relational.core.conversion.AggregateChange;
@@ -47,7 +56,136 @@ class AggregateChangeExecutor {
 		JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
 				accessStrategy);
 
-		aggregateChange.forEachAction(action -> execute(action, executionContext));
+		execute(aggregateChange, executionContext, Collections.emptySet());
+
+		return populateRoot(aggregateChange, executionContext);
+	}
+
+	/**
+	 * Executes multiple {@link AggregateChange}s. The updates of versioned aggregate roots get executed as a single batch
+	 * per entity type if there is more than one of them. All other actions get executed per aggregate change in the order
+	 * of the changes.
+	 *
+	 * @param aggregateChanges the changes to execute. Must not be {@literal null}.
+	 * @return the aggregate roots resulting from the execution, in the order of the changes.
+	 * @since 2.3
+	 */
+	<T> List<T> executeAll(List<? extends AggregateChange<T>> aggregateChanges) {
+
+		List<JdbcAggregateChangeExecutionContext> executionContexts = new ArrayList<>(aggregateChanges.size());
+		List<DbAction.UpdateRoot<Object>> rootUpdates = new ArrayList<>(aggregateChanges.size());
+		Map<Class<?>, List<Integer>> versionedRootUpdates = new LinkedHashMap<>();
+		Set<Object> updatedRoots = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		for (int i = 0; i < aggregateChanges.size(); i++) {
+
+			executionContexts.add(new JdbcAggregateChangeExecutionContext(converter, accessStrategy));
+
+			DbAction.UpdateRoot<Object> update = getVersionedRootUpdate(aggregateChanges.get(i));
+			rootUpdates.add(update);
+
+			// the same instance saved twice depends on the version assigned by the first update
+			if (update != null && updatedRoots.add(update.getEntity())) {
+				versionedRootUpdates.computeIfAbsent(update.getEntityType(), type -> new ArrayList<>()).add(i);
+			}
+		}
+
+		Set<DbAction<?>> executedActions = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		for (List<Integer> indexes : versionedRootUpdates.values()) {
+
+			if (indexes.size() < 2) {
+				continue;
+			}
+
+			List<JdbcAggregateChangeExecutionContext> batchContexts = new ArrayList<>(indexes.size());
+			List<DbAction.UpdateRoot<Object>> updates = new ArrayList<>(indexes.size());
+
+			for (Integer index : indexes) {
+
+				batchContexts.add(executionContexts.get(index));
+				updates.add(rootUpdates.get(index));
+			}
+
+			executeUpdateRootsWithVersion(batchContexts, updates);
+			executedActions.addAll(updates);
+		}
+
+		List<T> roots = new ArrayList<>(aggregateChanges.size());
+
+		for (int i = 0; i < aggregateChanges.size(); i++) {
+
+			AggregateChange<T> aggregateChange = aggregateChanges.get(i);
+			JdbcAggregateChangeExecutionContext executionContext = executionContexts.get(i);
+
+			execute(aggregateChange, executionContext, executedActions);
+
+			roots.add(populateRoot(aggregateChange, executionContext));
+		}
+
+		return roots;
+	}
+
+	/**
+	 * Executes the actions of an {@link AggregateChange} in order. Consecutive inserts of entities at the same property
+	 * path, e.g. the elements of a collection, get executed together, so the {@link DataAccessStrategy} can batch them.
+	 */
+	@SuppressWarnings("unchecked")
+	private void execute(AggregateChange<?> aggregateChange, JdbcAggregateChangeExecutionContext executionContext,
+			Set<DbAction<?>> executedActions) {
+
+		List<DbAction.Insert<Object>> inserts = new ArrayList<>();
+
+		aggregateChange.forEachAction(action -> {
+
+			if (executedActions.contains(action)) {
+				return;
+			}
+
+			if (action instanceof DbAction.Insert) {
+
+				DbAction.Insert<Object> insert = (DbAction.Insert<Object>) action;
+
+				if (!inserts.isEmpty() && !isSameTarget(inserts.get(0), insert)) {
+					executeInserts(inserts, executionContext);
+				}
+
+				inserts.add(insert);
+				return;
+			}
+
+			executeInserts(inserts, executionContext);
+			execute(action, executionContext);
+		});
+
+		executeInserts(inserts, executionContext);
+	}
+
+	private static boolean isSameTarget(DbAction.Insert<?> first, DbAction.Insert<?> second) {
+
+		return first.getEntityType().equals(second.getEntityType())
+				&& first.getPropertyPath().equals(second.getPropertyPath());
+	}
+
+	private void executeInserts(List<DbAction.Insert<Object>> inserts,
+			JdbcAggregateChangeExecutionContext executionContext) {
+
+		if (inserts.size() == 1) {
+			execute(inserts.get(0), executionContext);
+		} else if (inserts.size() > 1) {
+
+			try {
+				executionContext.executeInsertAll(inserts);
+			} catch (Exception e) {
+				throw new DbActionExecutionException(inserts.get(0), e);
+			}
+		}
+
+		inserts.clear();
+	}
+
+	@Nullable
+	private <T> T populateRoot(AggregateChange<T> aggregateChange, JdbcAggregateChangeExecutionContext executionContext) {
 
 		T root = executionContext.populateIdsIfNecessary();
 		root = root == null ? aggregateChange.getEntity() : root;
@@ -59,6 +197,55 @@ class AggregateChangeExecutor {
 		return root;
 	}
 
+	/**
+	 * Returns the {@link DbAction.UpdateRoot} of the change if the root entity has a version property.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private DbAction.UpdateRoot<Object> getVersionedRootUpdate(AggregateChange<?> aggregateChange) {
+
+		List<DbAction.UpdateRoot<Object>> updates = new ArrayList<>(1);
+
+		aggregateChange.forEachAction(action -> {
+			if (action instanceof DbAction.UpdateRoot) {
+				updates.add((DbAction.UpdateRoot<Object>) action);
+			}
+		});
+
+		if (updates.size() != 1) {
+			return null;
+		}
+
+		DbAction.UpdateRoot<Object> update = updates.get(0);
+
+		return converter.getMappingContext().getRequiredPersistentEntity(update.getEntityType()).hasVersionProperty()
+				? update
+				: null;
+	}
+
+	private void executeUpdateRootsWithVersion(List<JdbcAggregateChangeExecutionContext> executionContexts,
+			List<DbAction.UpdateRoot<Object>> updates) {
+
+		boolean[] updated;
+
+		try {
+			updated = JdbcAggregateChangeExecutionContext.executeUpdateRootsWithVersion(executionContexts, updates);
+		} catch (Exception e) {
+			throw new DbActionExecutionException(updates.get(0), e);
+		}
+
+		for (int i = 0; i < updates.size(); i++) {
+
+			if (!updated[i]) {
+
+				DbAction.UpdateRoot<Object> update = updates.get(i);
+
+				throw new DbActionExecutionException(update, new OptimisticLockingFailureException(String
+						.format(JdbcAggregateChangeExecutionContext.UPDATE_FAILED_OPTIMISTIC_LOCKING, update.getEntity())));
+			}
+		}
+	}
+
 	private void execute(DbAction<?> action, JdbcAggregateChangeExecutionContext executionContext) {
 
 		try {
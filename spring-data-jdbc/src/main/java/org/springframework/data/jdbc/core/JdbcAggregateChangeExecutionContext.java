@@ -55,7 +55,7 @@ import org.springframework.util.Assert;
 class JdbcAggregateChangeExecutionContext {
 
 	private static final String UPDATE_FAILED = "Failed to update entity [%s]. Id [%s] not found in database.";
-	private static final String UPDATE_FAILED_OPTIMISTIC_LOCKING = "Failed to update entity [%s]. The entity was updated since it was rea or it isn't in the database at all.";
+	static final String UPDATE_FAILED_OPTIMISTIC_LOCKING = "Failed to update entity [%s]. The entity was updated since it was rea or it isn't in the database at all.";
 
 	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context;
 	private final JdbcConverter converter;
@@ -104,6 +104,36 @@ class JdbcAggregateChangeExecutionContext {
 		add(new DbActionExecutionResult(insert, id));
 	}
 
+	/**
+	 * Executes inserts of entities of the same type in a single call to
+	 * {@link DataAccessStrategy#insertAll(List, Class, List)}.
+	 *
+	 * @param inserts the inserts to execute. All must have the same entity type and their parents must already be
+	 *          inserted.
+	 */
+	<T> void executeInsertAll(List<DbAction.Insert<T>> inserts) {
+
+		Assert.isTrue(!inserts.isEmpty(), "Inserts must not be empty");
+
+		Class<T> domainType = inserts.get(0).getEntityType();
+		List<T> instances = new ArrayList<>(inserts.size());
+		List<Identifier> parentKeys = new ArrayList<>(inserts.size());
+
+		for (DbAction.Insert<T> insert : inserts) {
+
+			Assert.isTrue(domainType.equals(insert.getEntityType()), "All inserts must have the same entity type");
+
+			instances.add(insert.getEntity());
+			parentKeys.add(getParentKeys(insert, converter));
+		}
+
+		Object[] ids = accessStrategy.insertAll(instances, domainType, parentKeys);
+
+		for (int i = 0; i < inserts.size(); i++) {
+			add(new DbActionExecutionResult(inserts.get(i), ids[i]));
+		}
+	}
+
 	<T> void executeUpdateRoot(DbAction.UpdateRoot<T> update) {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(update.getEntityType());
@@ -371,23 +401,74 @@ class JdbcAggregateChangeExecutionContext {
 		}
 	}
 
+	/**
+	 * Executes the updates of versioned aggregate roots of the same type, one per execution context, in a single call to
+	 * {@link DataAccessStrategy#updateAllWithVersion(List, Class, List)}. Each context gets the new version of its root
+	 * just like {@link #executeUpdateRoot(DbAction.UpdateRoot)} would assign it.
+	 *
+	 * @param executionContexts the contexts of the aggregate changes the updates belong to, in the order of the updates.
+	 * @param updates the updates of the aggregate roots. All must have the same entity type, which must have a version
+	 *          property.
+	 * @return for each update whether it actually updated a row. {@literal false} indicates a failed version check.
+	 */
+	static <T> boolean[] executeUpdateRootsWithVersion(List<JdbcAggregateChangeExecutionContext> executionContexts,
+			List<DbAction.UpdateRoot<T>> updates) {
+
+		Assert.isTrue(!updates.isEmpty(), "Updates must not be empty");
+		Assert.isTrue(executionContexts.size() == updates.size(), "An execution context is required for each update");
+
+		JdbcAggregateChangeExecutionContext firstContext = executionContexts.get(0);
+		Class<T> domainType = updates.get(0).getEntityType();
+		RelationalPersistentEntity<T> persistentEntity = firstContext.getRequiredPersistentEntity(domainType);
+
+		List<T> rootEntities = new ArrayList<>(updates.size());
+		List<Number> previousVersions = new ArrayList<>(updates.size());
+
+		for (int i = 0; i < updates.size(); i++) {
+
+			DbAction.UpdateRoot<T> update = updates.get(i);
+
+			Assert.isTrue(domainType.equals(update.getEntityType()), "All updates must have the same entity type");
+
+			Number previousVersion = getPreviousVersion(update, persistentEntity, firstContext.converter);
+
+			previousVersions.add(previousVersion);
+			rootEntities.add(executionContexts.get(i).incrementVersion(update.getEntity(), previousVersion, persistentEntity));
+		}
+
+		return firstContext.accessStrategy.updateAllWithVersion(rootEntities, domainType, previousVersions);
+	}
+
 	private <T> void updateWithVersion(DbAction.UpdateRoot<T> update, RelationalPersistentEntity<T> persistentEntity) {
 
-		// If the root aggregate has a version property, increment it.
+		Number previousVersion = getPreviousVersion(update, persistentEntity, converter);
+
+		T rootEntity = incrementVersion(update.getEntity(), previousVersion, persistentEntity);
+
+		if (!accessStrategy.updateWithVersion(rootEntity, update.getEntityType(), previousVersion)) {
+
+			throw new OptimisticLockingFailureException(String.format(UPDATE_FAILED_OPTIMISTIC_LOCKING, update.getEntity()));
+		}
+	}
+
+	private static <T> Number getPreviousVersion(DbAction.UpdateRoot<T> update,
+			RelationalPersistentEntity<T> persistentEntity, JdbcConverter converter) {
+
 		Number previousVersion = RelationalEntityVersionUtils.getVersionNumberFromEntity(update.getEntity(),
 				persistentEntity, converter);
 
 		Assert.notNull(previousVersion, "The root aggregate cannot be updated because the version property is null.");
 
-		setNewVersion(previousVersion.longValue() + 1);
+		return previousVersion;
+	}
 
-		T rootEntity = RelationalEntityVersionUtils.setVersionNumberOnEntity(update.getEntity(), getNewVersion(),
-				persistentEntity, converter);
+	private <T> T incrementVersion(T rootEntity, Number previousVersion, RelationalPersistentEntity<T> persistentEntity) {
 
-		if (!accessStrategy.updateWithVersion(rootEntity, update.getEntityType(), previousVersion)) {
+		// If the root aggregate has a version property, increment it.
+		setNewVersion(previousVersion.longValue() + 1);
 
-			throw new OptimisticLockingFailureException(String.format(UPDATE_FAILED_OPTIMISTIC_LOCKING, update.getEntity()));
-		}
+		return RelationalEntityVersionUtils.setVersionNumberOnEntity(rootEntity, getNewVersion(), persistentEntity,
+				converter);
 	}
 
 	/**
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -38,6 +41,24 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> T save(T instance);
 
+	/**
+	 * Saves multiple instances of aggregates, including all the members of the aggregates. Implementations may combine
+	 * statements of different aggregates, e.g. execute the updates of versioned aggregate roots as a single batch. The
+	 * default implementation saves one aggregate after the other.
+	 *
+	 * @param instances the aggregate roots of the aggregates to be saved. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the saved instances, in the order of the given instances.
+	 * @since 2.3
+	 */
+	default <T> Iterable<T> saveAll(Iterable<T> instances) {
+
+		List<T> result = new ArrayList<>();
+		instances.forEach(instance -> result.add(save(instance)));
+
+		return result;
+	}
+
 	/**
 	 * Dedicated insert function. This skips the test if the aggregate root is new and makes an insert.
 	 * <p>
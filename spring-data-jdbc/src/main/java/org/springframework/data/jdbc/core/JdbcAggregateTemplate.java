@@ -16,7 +16,9 @@
 package org.springframework.data.jdbc.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -26,6 +28,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.cache.AggregateCache;
+import org.springframework.data.jdbc.core.convert.AggregateCopier;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.mapping.IdentifierAccessor;
@@ -41,6 +45,7 @@ import org.springframework.data.relational.core.mapping.event.*;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link JdbcAggregateOperations} implementation, storing aggregates in and obtaining them from a JDBC data store.
@@ -56,6 +61,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 	private final ApplicationEventPublisher publisher;
 	private final RelationalMappingContext context;
+	private final JdbcConverter converter;
 
 	private final RelationalEntityDeleteWriter jdbcEntityDeleteWriter;
 	private final RelationalEntityInsertWriter jdbcEntityInsertWriter;
@@ -64,7 +70,12 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	private final DataAccessStrategy accessStrategy;
 	private final AggregateChangeExecutor executor;
 
+	private final LifecycleListenerDetector listenerDetector;
+
 	private EntityCallbacks entityCallbacks = EntityCallbacks.create();
+	private boolean entityCallbacksFromContext;
+	private @Nullable AggregateCache aggregateCache;
+	private @Nullable AggregateCopier aggregateCopier;
 
 	/**
 	 * Creates a new {@link JdbcAggregateTemplate} given {@link ApplicationContext}, {@link RelationalMappingContext} and
@@ -85,6 +96,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		this.publisher = publisher;
 		this.context = context;
+		this.converter = converter;
 		this.accessStrategy = dataAccessStrategy;
 
 		this.jdbcEntityInsertWriter = new RelationalEntityInsertWriter(context);
@@ -92,8 +104,10 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.jdbcEntityDeleteWriter = new RelationalEntityDeleteWriter(context);
 
 		this.executor = new AggregateChangeExecutor(converter, accessStrategy);
+		this.listenerDetector = LifecycleListenerDetector.create(publisher);
 
 		setEntityCallbacks(EntityCallbacks.create(publisher));
+		this.entityCallbacksFromContext = true;
 	}
 
 	/**
@@ -114,12 +128,14 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		this.publisher = publisher;
 		this.context = context;
+		this.converter = converter;
 		this.accessStrategy = dataAccessStrategy;
 
 		this.jdbcEntityInsertWriter = new RelationalEntityInsertWriter(context);
 		this.jdbcEntityUpdateWriter = new RelationalEntityUpdateWriter(context);
 		this.jdbcEntityDeleteWriter = new RelationalEntityDeleteWriter(context);
 		this.executor = new AggregateChangeExecutor(converter, accessStrategy);
+		this.listenerDetector = LifecycleListenerDetector.create(publisher);
 	}
 
 	/**
@@ -131,6 +147,26 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(entityCallbacks, "Callbacks must not be null.");
 
 		this.entityCallbacks = entityCallbacks;
+		this.entityCallbacksFromContext = false;
+	}
+
+	/**
+	 * Configures an {@link AggregateCache} consulted by {@link #findById(Object, Class)} and
+	 * {@link #findAllById(Iterable, Class)} for aggregates the cache considers {@link AggregateCache#isCacheable(Class)
+	 * cacheable}. Saving or deleting an aggregate evicts it from the cache. Since the eviction should only become
+	 * visible to other transactions after the change got committed, the cache should normally be wrapped in a
+	 * {@link org.springframework.data.jdbc.core.cache.TransactionAwareAggregateCache}.
+	 * <p>
+	 * The cache holds copies of the loaded aggregates and every caller receives its own copy, so modifying a returned
+	 * aggregate doesn't affect the cache. Aggregates served from the cache don't trigger {@link AfterLoadEvent}s or
+	 * {@link AfterLoadCallback}s.
+	 *
+	 * @param aggregateCache the cache to use. May be {@literal null} to disable caching.
+	 * @since 2.3
+	 */
+	public void setAggregateCache(@Nullable AggregateCache aggregateCache) {
+		this.aggregateCache = aggregateCache;
+		this.aggregateCopier = aggregateCache == null ? null : new AggregateCopier(converter, accessStrategy);
 	}
 
 	/*
@@ -150,6 +186,60 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return store(instance, changeCreator, persistentEntity);
 	}
 
+	/**
+	 * Saves multiple instances of aggregates. If several of them are existing aggregates of the same type with a version
+	 * property, their root updates get executed as a single batch, verifying the version of each row. Otherwise the
+	 * aggregates get saved one after the other like {@link #save(Object)} does.
+	 * <p>
+	 * When batching, lifecycle events and entity callbacks don't interleave with the writes of each aggregate:
+	 * {@link BeforeConvertEvent}, {@link BeforeConvertCallback}, {@link BeforeSaveEvent} and {@link BeforeSaveCallback}
+	 * get triggered for all instances, in the order given, before any SQL statement gets executed.
+	 * {@link AfterSaveEvent} and {@link AfterSaveCallback} get triggered for all instances after all statements were
+	 * executed and not at all if one of them fails.
+	 *
+	 * @param instances the aggregate roots of the aggregates to be saved. Must not be {@code null}.
+	 * @return the saved instances.
+	 */
+	@Override
+	public <T> Iterable<T> saveAll(Iterable<T> instances) {
+
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		List<T> aggregateRoots = new ArrayList<>();
+		instances.forEach(aggregateRoots::add);
+
+		if (!containsBatchableUpdates(aggregateRoots)) {
+			return aggregateRoots.stream().map(this::save).collect(Collectors.toList());
+		}
+
+		List<MutableAggregateChange<T>> changes = new ArrayList<>(aggregateRoots.size());
+
+		for (T instance : aggregateRoots) {
+
+			Assert.notNull(instance, "Aggregate instance must not be null!");
+
+			RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
+
+			Function<T, MutableAggregateChange<T>> changeCreator = persistentEntity.isNew(instance)
+					? this::createInsertChange
+					: this::createUpdateChange;
+
+			changes.add(prepareChange(instance, changeCreator));
+		}
+
+		List<T> entitiesAfterExecution = executor.executeAll(changes);
+
+		List<T> result = new ArrayList<>(changes.size());
+		for (int i = 0; i < changes.size(); i++) {
+
+			T entityAfterExecution = entitiesAfterExecution.get(i);
+			result.add(completeChange(entityAfterExecution, changes.get(i),
+					context.getRequiredPersistentEntity(entityAfterExecution.getClass())));
+		}
+
+		return result;
+	}
+
 	/**
 	 * Dedicated insert function to do just the insert of an instance of an aggregate, including all the members of the
 	 * aggregate.
@@ -206,9 +296,27 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(id, "Id must not be null!");
 		Assert.notNull(domainType, "Domain type must not be null!");
 
+		AggregateCache cache = getAggregateCache(domainType);
+		long stamp = 0;
+
+		if (cache != null) {
+
+			T cached = cache.get(domainType, getCacheId(domainType, id));
+			if (cached != null) {
+				return copy(cached);
+			}
+
+			stamp = cache.getStamp(domainType);
+		}
+
 		T entity = accessStrategy.findById(id, domainType);
 		if (entity != null) {
-			return triggerAfterLoad(entity);
+
+			entity = triggerAfterLoad(entity);
+
+			if (cache != null) {
+				cache.put(domainType, getCacheId(domainType, id), copy(entity), stamp);
+			}
 		}
 		return entity;
 	}
@@ -236,7 +344,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(domainType, "Domain type must not be null!");
 
 		Iterable<T> all = accessStrategy.findAll(domainType, sort);
-		return triggerAfterLoad(all);
+		return triggerAfterLoad(all, domainType);
 	}
 
 	/*
@@ -248,7 +356,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(domainType, "Domain type must not be null!");
 
-		Iterable<T> items = triggerAfterLoad(accessStrategy.findAll(domainType, pageable));
+		Iterable<T> items = triggerAfterLoad(accessStrategy.findAll(domainType, pageable), domainType);
 		List<T> content = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
 
 		return PageableExecutionUtils.getPage(content, pageable, () -> accessStrategy.count(domainType));
@@ -264,7 +372,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(domainType, "Domain type must not be null!");
 
 		Iterable<T> all = accessStrategy.findAll(domainType);
-		return triggerAfterLoad(all);
+		return triggerAfterLoad(all, domainType);
 	}
 
 	/*
@@ -277,8 +385,46 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(ids, "Ids must not be null!");
 		Assert.notNull(domainType, "Domain type must not be null!");
 
-		Iterable<T> allById = accessStrategy.findAllById(ids, domainType);
-		return triggerAfterLoad(allById);
+		AggregateCache cache = getAggregateCache(domainType);
+
+		if (cache == null) {
+
+			Iterable<T> allById = accessStrategy.findAllById(ids, domainType);
+			return triggerAfterLoad(allById, domainType);
+		}
+
+		List<T> result = new ArrayList<>();
+		List<Object> idsToLoad = new ArrayList<>();
+
+		for (Object id : ids) {
+
+			T cached = cache.get(domainType, getCacheId(domainType, id));
+			if (cached == null) {
+				idsToLoad.add(id);
+			} else {
+				result.add(copy(cached));
+			}
+		}
+
+		if (idsToLoad.isEmpty()) {
+			return result;
+		}
+
+		long stamp = cache.getStamp(domainType);
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(domainType);
+
+		for (T entity : triggerAfterLoad(accessStrategy.findAllById(idsToLoad, domainType), domainType)) {
+
+			Object id = persistentEntity.getIdentifierAccessor(entity).getIdentifier();
+			if (id != null) {
+				cache.put(domainType, getCacheId(domainType, id), copy(entity), stamp);
+			}
+
+			result.add(entity);
+		}
+
+		return result;
 	}
 
 	/*
@@ -321,6 +467,11 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		MutableAggregateChange<?> change = createDeletingChange(domainType);
 		executor.execute(change);
+
+		AggregateCache cache = getAggregateCache(domainType);
+		if (cache != null) {
+			cache.evictAll(domainType);
+		}
 	}
 
 	private <T> T store(T aggregateRoot, Function<T, MutableAggregateChange<T>> changeCreator,
@@ -328,6 +479,16 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(aggregateRoot, "Aggregate instance must not be null!");
 
+		MutableAggregateChange<T> change = prepareChange(aggregateRoot, changeCreator);
+
+		T entityAfterExecution = executor.execute(change);
+
+		return completeChange(entityAfterExecution, change, persistentEntity);
+	}
+
+	private <T> MutableAggregateChange<T> prepareChange(T aggregateRoot,
+			Function<T, MutableAggregateChange<T>> changeCreator) {
+
 		aggregateRoot = triggerBeforeConvert(aggregateRoot);
 
 		MutableAggregateChange<T> change = changeCreator.apply(aggregateRoot);
@@ -336,15 +497,46 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		change.setEntity(aggregateRoot);
 
-		T entityAfterExecution = executor.execute(change);
+		return change;
+	}
+
+	private <T> T completeChange(T entityAfterExecution, MutableAggregateChange<T> change,
+			RelationalPersistentEntity<?> persistentEntity) {
 
 		Object identifier = persistentEntity.getIdentifierAccessor(entityAfterExecution).getIdentifier();
 
 		Assert.notNull(identifier, "After saving the identifier must not be null!");
 
+		evictFromCache(persistentEntity.getType(), identifier);
+
 		return triggerAfterSave(entityAfterExecution, change);
 	}
 
+	/**
+	 * Checks whether at least two of the instances are existing aggregates of the same type with a version property, so
+	 * that saving them together allows batching the updates of their roots.
+	 */
+	private boolean containsBatchableUpdates(List<?> instances) {
+
+		Map<Class<?>, Integer> versionedUpdates = new HashMap<>();
+
+		for (Object instance : instances) {
+
+			if (instance == null) {
+				return false;
+			}
+
+			RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
+
+			if (persistentEntity.hasVersionProperty() && !persistentEntity.isNew(instance)
+					&& versionedUpdates.merge(persistentEntity.getType(), 1, Integer::sum) > 1) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	private <T> void deleteTree(Object id, @Nullable T entity, Class<T> domainType) {
 
 		MutableAggregateChange<T> change = createDeletingChange(id, entity, domainType);
@@ -354,9 +546,52 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		executor.execute(change);
 
+		evictFromCache(domainType, id);
+
 		triggerAfterDelete(entity, id, change);
 	}
 
+	@Nullable
+	private AggregateCache getAggregateCache(Class<?> domainType) {
+
+		AggregateCache cache = this.aggregateCache;
+		return cache != null && cache.isCacheable(domainType) ? cache : null;
+	}
+
+	private <T> T copy(T aggregate) {
+
+		AggregateCopier copier = this.aggregateCopier;
+
+		Assert.state(copier != null, "No AggregateCopier configured");
+
+		return copier.copy(aggregate);
+	}
+
+	private void evictFromCache(Class<?> domainType, Object id) {
+
+		AggregateCache cache = getAggregateCache(domainType);
+		if (cache != null) {
+			cache.evict(domainType, getCacheId(domainType, id));
+		}
+	}
+
+	/**
+	 * Converts the given id into the type of the id property, so the same aggregate always gets cached under the same
+	 * key, independent of the type of id passed in by the caller.
+	 */
+	private Object getCacheId(Class<?> domainType, Object id) {
+
+		Class<?> idType = ClassUtils.resolvePrimitiveIfNecessary(
+				context.getRequiredPersistentEntity(domainType).getRequiredIdProperty().getType());
+
+		if (idType.isInstance(id)) {
+			return id;
+		}
+
+		Object converted = converter.getConversionService().convert(id, idType);
+		return converted == null ? id : converted;
+	}
+
 	private <T> MutableAggregateChange<T> createInsertChange(T instance) {
 
 		MutableAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(instance);
@@ -385,7 +620,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return aggregateChange;
 	}
 
-	private <T> Iterable<T> triggerAfterLoad(Iterable<T> all) {
+	private <T> Iterable<T> triggerAfterLoad(Iterable<T> all, Class<T> domainType) {
 
 		List<T> result = new ArrayList<>();
 
@@ -393,12 +628,22 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 			result.add(triggerAfterLoad(e));
 		}
 
+		if (!result.isEmpty() && listenerDetector.hasListenersFor(AfterLoadBatchEvent.class)) {
+			publisher.publishEvent(new AfterLoadBatchEvent<>(domainType, result));
+		}
+
 		return result;
 	}
 
 	private <T> T triggerAfterLoad(T entity) {
 
-		publisher.publishEvent(new AfterLoadEvent<>(entity));
+		if (listenerDetector.hasListenersFor(AfterLoadEvent.class)) {
+			publisher.publishEvent(new AfterLoadEvent<>(entity));
+		}
+
+		if (entityCallbacksFromContext && !listenerDetector.hasCallbacksFor(AfterLoadCallback.class)) {
+			return entity;
+		}
 
 		return entityCallbacks.callback(AfterLoadCallback.class, entity);
 	}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Cache for aggregates loaded by their id. Used by {@link org.springframework.data.jdbc.core.JdbcAggregateTemplate}
+ * to avoid loading rarely changing aggregates from the database over and over again.
+ * <p>
+ * Implementations hold on to the instances passed to {@link #put(Class, Object, Object, long)} and return them from
+ * {@link #get(Class, Object)}. Callers are responsible for not exposing these instances to modification, e.g. by
+ * copying them. Implementations must be thread safe.
+ *
+ * @author agent
+ * @since 2.3
+ * @see BoundedAggregateCache
+ * @see TransactionAwareAggregateCache
+ */
+public interface AggregateCache {
+
+	/**
+	 * Determines whether aggregates of the given type are held by this cache.
+	 *
+	 * @param type the type of the aggregate root. Must not be {@literal null}.
+	 * @return {@literal true} if aggregates of {@code type} get cached.
+	 */
+	boolean isCacheable(Class<?> type);
+
+	/**
+	 * Returns the cached aggregate of the given type and id.
+	 *
+	 * @param type the type of the aggregate root. Must not be {@literal null}.
+	 * @param id the id of the aggregate root. Must not be {@literal null}.
+	 * @return the cached aggregate or {@literal null} if it is not cached.
+	 */
+	@Nullable
+	<T> T get(Class<T> type, Object id);
+
+	/**
+	 * Returns a stamp to be obtained before loading an aggregate of the given type from the database and to be passed to
+	 * {@link #put(Class, Object, Object, long)} afterwards. This allows the cache to detect that the aggregate was
+	 * evicted while it was being loaded, and thus might be outdated.
+	 *
+	 * @param type the type of the aggregate root. Must not be {@literal null}.
+	 * @return the current stamp.
+	 */
+	long getStamp(Class<?> type);
+
+	/**
+	 * Adds an aggregate to the cache, unless aggregates of the given type got evicted since the {@code stamp} was
+	 * obtained.
+	 *
+	 * @param type the type of the aggregate root. Must not be {@literal null}.
+	 * @param id the id of the aggregate root. Must not be {@literal null}.
+	 * @param aggregate the aggregate root. Must not be {@literal null}.
+	 * @param stamp as returned by {@link #getStamp(Class)} before the aggregate was loaded.
+	 */
+	void put(Class<?> type, Object id, Object aggregate, long stamp);
+
+	/**
+	 * Adds an aggregate to the cache. Only to be used for aggregates that are known to be current, since the aggregate
+	 * gets added even if it got evicted concurrently.
+	 *
+	 * @param type the type of the aggregate root. Must not be {@literal null}.
+	 * @param id the id of the aggregate root. Must not be {@literal null}.
+	 * @param aggregate the aggregate root. Must not be {@literal null}.
+	 */
+	default void put(Class<?> type, Object id, Object aggregate) {
+		put(type, id, aggregate, getStamp(type));
+	}
+
+	/**
+	 * Removes the aggregate of the given type and id from the cache.
+	 *
+	 * @param type the type of the aggregate root. Must not be {@literal null}.
+	 * @param id the id of the aggregate root. Must not be {@literal null}.
+	 */
+	void evict(Class<?> type, Object id);
+
+	/**
+	 * Removes all aggregates of the given type from the cache.
+	 *
+	 * @param type the type of the aggregate root. Must not be {@literal null}.
+	 */
+	void evictAll(Class<?> type);
+
+	/**
+	 * @return the statistics collected by this cache so far. Guaranteed to be not {@literal null}.
+	 */
+	AggregateCacheStatistics getStatistics();
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+/**
+ * Immutable snapshot of the statistics of an {@link AggregateCache}.
+ *
+ * @author agent
+ * @since 2.3
+ */
+public final class AggregateCacheStatistics {
+
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+
+	/**
+	 * @param hitCount number of lookups that returned a cached aggregate.
+	 * @param missCount number of lookups that did not find a cached aggregate.
+	 * @param evictionCount number of aggregates removed from the cache due to size or time limits or explicit eviction.
+	 */
+	public AggregateCacheStatistics(long hitCount, long missCount, long evictionCount) {
+
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public long getMissCount() {
+		return missCount;
+	}
+
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	public long getRequestCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * @return the ratio of lookups that returned a cached aggregate. {@literal 1.0} if there were no lookups yet.
+	 */
+	public double getHitRate() {
+
+		long requestCount = getRequestCount();
+		return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	@Override
+	public String toString() {
+		return "AggregateCacheStatistics{" + "hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount="
+				+ evictionCount + '}';
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import java.util.Objects;
+
+import org.springframework.util.Assert;
+
+/**
+ * Key of an aggregate in an {@link AggregateCache}, consisting of the type of the aggregate root and its id.
+ *
+ * @author agent
+ * @since 2.3
+ */
+final class AggregateKey {
+
+	private final Class<?> type;
+	private final Object id;
+
+	AggregateKey(Class<?> type, Object id) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(id, "Id must not be null");
+
+		this.type = type;
+		this.id = id;
+	}
+
+	Class<?> getType() {
+		return type;
+	}
+
+	Object getId() {
+		return id;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o)
+			return true;
+		if (o == null || getClass() != o.getClass())
+			return false;
+		AggregateKey that = (AggregateKey) o;
+		return type.equals(that.type) && id.equals(that.id);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(type, id);
+	}
+
+	@Override
+	public String toString() {
+		return type.getName() + "#" + id;
+	}
+}
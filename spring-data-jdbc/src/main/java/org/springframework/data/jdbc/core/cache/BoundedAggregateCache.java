@@ -0,0 +1,343 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AggregateCache} holding a bounded number of aggregates in memory. When the maximum size is exceeded, the least
+ * recently used aggregate gets evicted. Optionally, aggregates expire after a fixed time after they got added to the
+ * cache.
+ * <p>
+ * Every eviction advances an internal stamp, so {@link #put(Class, Object, Object, long) puts} of aggregates that were
+ * loaded before an eviction of the same type get ignored instead of adding a potentially outdated aggregate again.
+ * <p>
+ * Instances are created using a {@link Builder}:
+ *
+ * <pre class="code">
+ * AggregateCache cache = BoundedAggregateCache.builder() //
+ * 		.cacheTypes(Country.class, Currency.class) //
+ * 		.maximumSize(1000) //
+ * 		.expireAfterWrite(Duration.ofMinutes(10)) //
+ * 		.build();
+ * </pre>
+ *
+ * @author agent
+ * @since 2.3
+ */
+public class BoundedAggregateCache implements AggregateCache {
+
+	private final Predicate<Class<?>> cacheableTypes;
+	private final int maximumSize;
+	private final @Nullable Duration expireAfterWrite;
+	private final Clock clock;
+
+	private final LinkedHashMap<AggregateKey, CacheEntry> entries;
+	private final Map<Class<?>, Long> lastEviction = new HashMap<>();
+	private long stamp;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	private BoundedAggregateCache(Predicate<Class<?>> cacheableTypes, int maximumSize,
+			@Nullable Duration expireAfterWrite, Clock clock) {
+
+		this.cacheableTypes = cacheableTypes;
+		this.maximumSize = maximumSize;
+		this.expireAfterWrite = expireAfterWrite;
+		this.clock = clock;
+		this.entries = new LinkedHashMap<AggregateKey, CacheEntry>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<AggregateKey, CacheEntry> eldest) {
+
+				boolean evict = size() > BoundedAggregateCache.this.maximumSize;
+
+				if (evict) {
+					evictionCount.increment();
+				}
+
+				return evict;
+			}
+		};
+	}
+
+	/**
+	 * @return a new {@link Builder} for a {@link BoundedAggregateCache}.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#isCacheable(java.lang.Class)
+	 */
+	@Override
+	public boolean isCacheable(Class<?> type) {
+		return cacheableTypes.test(type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#get(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T get(Class<T> type, Object id) {
+
+		AggregateKey key = new AggregateKey(type, id);
+		Object aggregate = null;
+
+		synchronized (entries) {
+
+			CacheEntry entry = entries.get(key);
+
+			if (entry != null) {
+
+				if (entry.isExpired(clock.millis())) {
+
+					entries.remove(key);
+					evictionCount.increment();
+				} else {
+					aggregate = entry.aggregate;
+				}
+			}
+		}
+
+		if (aggregate == null) {
+			missCount.increment();
+		} else {
+			hitCount.increment();
+		}
+
+		return (T) aggregate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#getStamp(java.lang.Class)
+	 */
+	@Override
+	public long getStamp(Class<?> type) {
+
+		synchronized (entries) {
+			return stamp;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#put(java.lang.Class, java.lang.Object, java.lang.Object, long)
+	 */
+	@Override
+	public void put(Class<?> type, Object id, Object aggregate, long stamp) {
+
+		Assert.notNull(aggregate, "Aggregate must not be null");
+
+		long expiresAt = expireAfterWrite == null ? Long.MAX_VALUE : clock.millis() + expireAfterWrite.toMillis();
+
+		synchronized (entries) {
+
+			if (lastEviction.getOrDefault(type, Long.MIN_VALUE) > stamp) {
+				return;
+			}
+
+			entries.put(new AggregateKey(type, id), new CacheEntry(aggregate, expiresAt));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#evict(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	public void evict(Class<?> type, Object id) {
+
+		synchronized (entries) {
+
+			lastEviction.put(type, ++stamp);
+
+			if (entries.remove(new AggregateKey(type, id)) != null) {
+				evictionCount.increment();
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#evictAll(java.lang.Class)
+	 */
+	@Override
+	public void evictAll(Class<?> type) {
+
+		synchronized (entries) {
+
+			lastEviction.put(type, ++stamp);
+
+			for (Iterator<AggregateKey> keys = entries.keySet().iterator(); keys.hasNext();) {
+
+				if (keys.next().getType().equals(type)) {
+
+					keys.remove();
+					evictionCount.increment();
+				}
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#getStatistics()
+	 */
+	@Override
+	public AggregateCacheStatistics getStatistics() {
+		return new AggregateCacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum());
+	}
+
+	/**
+	 * @return the number of aggregates currently held by the cache, including expired ones not yet removed.
+	 */
+	public int size() {
+
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private static class CacheEntry {
+
+		private final Object aggregate;
+		private final long expiresAt;
+
+		CacheEntry(Object aggregate, long expiresAt) {
+
+			this.aggregate = aggregate;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+
+	/**
+	 * Builder for {@link BoundedAggregateCache}.
+	 */
+	public static class Builder {
+
+		private Predicate<Class<?>> cacheableTypes = type -> false;
+		private int maximumSize = 1000;
+		private @Nullable Duration expireAfterWrite;
+		private Clock clock = Clock.systemUTC();
+
+		private Builder() {}
+
+		/**
+		 * Configures the aggregate types to cache. No types are cached by default.
+		 *
+		 * @param types the aggregate root types to cache. Must not be {@literal null}.
+		 * @return this builder.
+		 */
+		public Builder cacheTypes(Class<?>... types) {
+
+			Assert.notNull(types, "Types must not be null");
+
+			Set<Class<?>> typeSet = new HashSet<>(Arrays.asList(types));
+			this.cacheableTypes = typeSet::contains;
+			return this;
+		}
+
+		/**
+		 * Configures the aggregate types to cache.
+		 *
+		 * @param cacheableTypes decides which aggregate root types to cache. Must not be {@literal null}.
+		 * @return this builder.
+		 */
+		public Builder cacheTypes(Predicate<Class<?>> cacheableTypes) {
+
+			Assert.notNull(cacheableTypes, "Predicate must not be null");
+
+			this.cacheableTypes = cacheableTypes;
+			return this;
+		}
+
+		/**
+		 * Configures the maximum number of aggregates held by the cache. Defaults to 1000.
+		 *
+		 * @param maximumSize must be greater than zero.
+		 * @return this builder.
+		 */
+		public Builder maximumSize(int maximumSize) {
+
+			Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+
+			this.maximumSize = maximumSize;
+			return this;
+		}
+
+		/**
+		 * Configures the time after which a cached aggregate expires. Aggregates don't expire by default.
+		 *
+		 * @param expireAfterWrite must not be {@literal null} and must be positive.
+		 * @return this builder.
+		 */
+		public Builder expireAfterWrite(Duration expireAfterWrite) {
+
+			Assert.notNull(expireAfterWrite, "Duration must not be null");
+			Assert.isTrue(!expireAfterWrite.isNegative() && !expireAfterWrite.isZero(), "Duration must be positive");
+
+			this.expireAfterWrite = expireAfterWrite;
+			return this;
+		}
+
+		/**
+		 * Configures the {@link Clock} used for expiring aggregates. Mainly intended for testing.
+		 *
+		 * @param clock must not be {@literal null}.
+		 * @return this builder.
+		 */
+		public Builder clock(Clock clock) {
+
+			Assert.notNull(clock, "Clock must not be null");
+
+			this.clock = clock;
+			return this;
+		}
+
+		/**
+		 * @return a new {@link BoundedAggregateCache}. Guaranteed to be not {@literal null}.
+		 */
+		public BoundedAggregateCache build() {
+			return new BoundedAggregateCache(cacheableTypes, maximumSize, expireAfterWrite, clock);
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AggregateCache} decorator that defers evictions to the completion of the current transaction.
+ * <p>
+ * Evicting an aggregate while a transaction is active doesn't remove it from the target cache right away, since other
+ * transactions still see the old state in the database. Instead the aggregate gets removed after the transaction
+ * completed. Until then, the transaction performing the change bypasses the cache for that aggregate, so it neither
+ * sees the outdated cached state nor adds its uncommitted state to the cache.
+ * <p>
+ * Without an active transaction synchronization evictions get applied immediately.
+ *
+ * @author agent
+ * @since 2.3
+ */
+public class TransactionAwareAggregateCache implements AggregateCache {
+
+	private final AggregateCache delegate;
+
+	/**
+	 * @param delegate the target cache. Must not be {@literal null}.
+	 */
+	public TransactionAwareAggregateCache(AggregateCache delegate) {
+
+		Assert.notNull(delegate, "Delegate must not be null");
+
+		this.delegate = delegate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#isCacheable(java.lang.Class)
+	 */
+	@Override
+	public boolean isCacheable(Class<?> type) {
+		return delegate.isCacheable(type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#get(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	@Nullable
+	public <T> T get(Class<T> type, Object id) {
+		return isPendingEviction(type, id) ? null : delegate.get(type, id);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#getStamp(java.lang.Class)
+	 */
+	@Override
+	public long getStamp(Class<?> type) {
+		return delegate.getStamp(type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#put(java.lang.Class, java.lang.Object, java.lang.Object, long)
+	 */
+	@Override
+	public void put(Class<?> type, Object id, Object aggregate, long stamp) {
+
+		if (!isPendingEviction(type, id)) {
+			delegate.put(type, id, aggregate, stamp);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#evict(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	public void evict(Class<?> type, Object id) {
+
+		PendingEvictions pendingEvictions = getPendingEvictions();
+
+		if (pendingEvictions == null) {
+			delegate.evict(type, id);
+		} else {
+			pendingEvictions.keys.add(new AggregateKey(type, id));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#evictAll(java.lang.Class)
+	 */
+	@Override
+	public void evictAll(Class<?> type) {
+
+		PendingEvictions pendingEvictions = getPendingEvictions();
+
+		if (pendingEvictions == null) {
+			delegate.evictAll(type);
+		} else {
+			pendingEvictions.types.add(type);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#getStatistics()
+	 */
+	@Override
+	public AggregateCacheStatistics getStatistics() {
+		return delegate.getStatistics();
+	}
+
+	private boolean isPendingEviction(Class<?> type, Object id) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return false;
+		}
+
+		PendingEvictions pendingEvictions = (PendingEvictions) TransactionSynchronizationManager.getResource(this);
+
+		return pendingEvictions != null
+				&& (pendingEvictions.types.contains(type) || pendingEvictions.keys.contains(new AggregateKey(type, id)));
+	}
+
+	/**
+	 * Obtains the evictions pending for the current transaction, registering a {@link TransactionSynchronization} on
+	 * first access.
+	 *
+	 * @return {@literal null} if there is no active transaction synchronization.
+	 */
+	@Nullable
+	private PendingEvictions getPendingEvictions() {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		PendingEvictions pendingEvictions = (PendingEvictions) TransactionSynchronizationManager.getResource(this);
+
+		if (pendingEvictions == null) {
+
+			pendingEvictions = new PendingEvictions();
+			TransactionSynchronizationManager.bindResource(this, pendingEvictions);
+			TransactionSynchronizationManager.registerSynchronization(new EvictingSynchronization(pendingEvictions));
+		}
+
+		return pendingEvictions;
+	}
+
+	private static class PendingEvictions {
+
+		private final Set<AggregateKey> keys = new HashSet<>();
+		private final Set<Class<?>> types = new HashSet<>();
+	}
+
+	/**
+	 * Applies the pending evictions after completion of the transaction. Evictions get applied after a rollback as well,
+	 * which is not necessary but harmless.
+	 */
+	private class EvictingSynchronization implements TransactionSynchronization {
+
+		private final PendingEvictions pendingEvictions;
+
+		EvictingSynchronization(PendingEvictions pendingEvictions) {
+			this.pendingEvictions = pendingEvictions;
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+
+			TransactionSynchronizationManager.unbindResourceIfPossible(TransactionAwareAggregateCache.this);
+
+			pendingEvictions.types.forEach(delegate::evictAll);
+			pendingEvictions.keys.forEach(key -> delegate.evict(key.getType(), key.getId()));
+		}
+	}
+}
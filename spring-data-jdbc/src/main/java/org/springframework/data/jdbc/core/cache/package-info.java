@@ -0,0 +1,7 @@
+/**
+ * Caching of aggregates loaded by id.
+ */
+@NonNullApi
+package org.springframework.data.jdbc.core.cache;
+
+import org.springframework.lang.NonNullApi;
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+import org.springframework.core.CollectionFactory;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Creates deep copies of aggregates, so that an aggregate can be handed out multiple times without changes made by one
+ * recipient becoming visible to the others. Entities, collections, maps, arrays and {@link Date}s get copied, all other
+ * simple values are considered immutable and get shared. {@link LazyLoadingProxy Lazy loading proxies} that have not
+ * been resolved yet get replaced by new proxies for the same relation.
+ *
+ * @author agent
+ * @since 2.3
+ */
+public class AggregateCopier {
+
+	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context;
+	private final EntityInstantiators instantiators;
+	private final RelationResolver relationResolver;
+
+	/**
+	 * @param converter provides the mapping metadata and the instantiators. Must not be {@literal null}.
+	 * @param relationResolver used by the copies of unresolved lazy loading proxies. Must not be {@literal null}.
+	 */
+	public AggregateCopier(JdbcConverter converter, RelationResolver relationResolver) {
+
+		Assert.notNull(converter, "JdbcConverter must not be null");
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+
+		this.context = converter.getMappingContext();
+		this.instantiators = converter.getEntityInstantiators();
+		this.relationResolver = relationResolver;
+	}
+
+	/**
+	 * Copies the given aggregate.
+	 *
+	 * @param aggregate the aggregate root. Must not be {@literal null}.
+	 * @return a copy of the aggregate. Guaranteed to be not {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T copy(T aggregate) {
+
+		Assert.notNull(aggregate, "Aggregate must not be null");
+
+		return (T) copyEntity(aggregate);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T copyEntity(T source) {
+
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) context
+				.getRequiredPersistentEntity(source.getClass());
+		PersistentPropertyAccessor<T> sourceAccessor = entity.getPropertyAccessor(source);
+		PreferredConstructor<T, RelationalPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
+
+		T instance = instantiators.getInstantiatorFor(entity).createInstance(entity,
+				new ParameterValueProvider<RelationalPersistentProperty>() {
+
+					@Override
+					@Nullable
+					public <V> V getParameterValue(PreferredConstructor.Parameter<V, RelationalPersistentProperty> parameter) {
+
+						String parameterName = parameter.getName();
+
+						Assert.notNull(parameterName, "A constructor parameter name must not be null to be copied");
+
+						RelationalPersistentProperty property = entity.getRequiredPersistentProperty(parameterName);
+						return (V) copyValue(sourceAccessor.getProperty(property), property);
+					}
+				});
+
+		PersistentPropertyAccessor<T> targetAccessor = entity.getPropertyAccessor(instance);
+
+		entity.doWithAll(property -> {
+
+			if (persistenceConstructor != null && persistenceConstructor.isConstructorParameter(property)) {
+				return;
+			}
+
+			targetAccessor.setProperty(property, copyValue(sourceAccessor.getProperty(property), property));
+		});
+
+		return targetAccessor.getBean();
+	}
+
+	@Nullable
+	private Object copyValue(@Nullable Object value, RelationalPersistentProperty property) {
+
+		if (value instanceof LazyLoadingProxy && !((LazyLoadingProxy) value).isResolved()) {
+
+			LazyLoadingProxy proxy = (LazyLoadingProxy) value;
+			return LazyLoadingProxyFactory.createProxy(property.getType(), proxy.getIdentifier(), proxy.getPath(),
+					() -> relationResolver.findAllByPath(proxy.getIdentifier(), proxy.getPath()));
+		}
+
+		return copyValue(value, property.getType(), property.isEntity());
+	}
+
+	@Nullable
+	private Object copyValue(@Nullable Object value, Class<?> type, boolean entity) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (value instanceof Map) {
+
+			Map<?, ?> source = (Map<?, ?>) value;
+			Map<Object, Object> copy = CollectionFactory.createMap(Map.class.isAssignableFrom(type) ? type : Map.class,
+					source.size());
+			source.forEach((key, element) -> copy.put(key, copyElement(element, entity)));
+
+			return copy;
+		}
+
+		if (value instanceof Collection) {
+
+			Collection<?> source = (Collection<?>) value;
+			Collection<Object> copy = CollectionFactory
+					.createCollection(Collection.class.isAssignableFrom(type) ? type : Collection.class, source.size());
+			source.forEach(element -> copy.add(copyElement(element, entity)));
+
+			return copy;
+		}
+
+		if (value instanceof Object[]) {
+
+			Object[] copy = ((Object[]) value).clone();
+
+			for (int i = 0; i < copy.length; i++) {
+				copy[i] = copyElement(copy[i], entity);
+			}
+
+			return copy;
+		}
+
+		if (value.getClass().isArray()) {
+			return cloneArray(value);
+		}
+
+		return entity ? copyEntity(value) : copySimpleValue(value);
+	}
+
+	@Nullable
+	private Object copyElement(@Nullable Object element, boolean entity) {
+
+		if (element == null) {
+			return null;
+		}
+
+		return entity ? copyEntity(element) : copyValue(element, element.getClass(), false);
+	}
+
+	private static Object copySimpleValue(Object value) {
+		return value instanceof Date ? ((Date) value).clone() : value;
+	}
+
+	private static Object cloneArray(Object array) {
+
+		int length = Array.getLength(array);
+		Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+		System.arraycopy(array, 0, copy, 0, length);
+
+		return copy;
+	}
+}
@@ -19,8 +19,17 @@ import java.sql.Array;
 import java.sql.JDBCType;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,11 +37,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.convert.ConverterNotFoundException;
-import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.jdbc.support.ReadWriteRouting;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PreferredConstructor;
@@ -52,7 +62,9 @@ import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * {@link RelationalConverter} that uses a {@link MappingContext} to apply basic conversion of relational values to
@@ -79,6 +91,20 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 	private final RelationResolver relationResolver;
 	private SpELContext spELContext;
+	private boolean lazyLoadingRequiresTransaction = false;
+	@Nullable private Executor relationResolutionExecutor;
+	private int lazyLoadingBatchSize = 1;
+
+	private final Map<Class<?>, Predicate<Object>> jdbcValueWriteChecks = new ConcurrentReferenceHashMap<>();
+
+	private boolean readPlansEnabled = false;
+	private final Map<ReadPlan.Layout, ReadPlan<?>> readPlans = new ConcurrentReferenceHashMap<>();
+
+	/**
+	 * Marks threads that resolve a relation on behalf of another thread. Relations of entities loaded on such a thread get
+	 * resolved sequentially so that nested resolutions can't exhaust a bounded {@link Executor}.
+	 */
+	private static final ThreadLocal<Boolean> RESOLVING_IN_PARALLEL = new ThreadLocal<>();
 
 	/**
 	 * Creates a new {@link BasicRelationalConverter} given {@link MappingContext} and a
@@ -139,6 +165,73 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		this.spELContext = new SpELContext(this.spELContext, applicationContext);
 	}
 
+	/**
+	 * Configures whether {@link LazyLoadingProxy lazy loading proxies} may only be resolved inside an active
+	 * transaction. If set to {@literal true}, accessing a lazily loaded property that has not been resolved yet outside
+	 * of a transaction results in an {@link InvalidDataAccessApiUsageException}. Otherwise the referenced entities get
+	 * loaded using a separate connection. Defaults to {@literal false}.
+	 *
+	 * @param lazyLoadingRequiresTransaction whether lazy loading requires an active transaction.
+	 * @since 2.3
+	 * @see org.springframework.data.relational.core.mapping.MappedCollection#lazy()
+	 */
+	public void setLazyLoadingRequiresTransaction(boolean lazyLoadingRequiresTransaction) {
+		this.lazyLoadingRequiresTransaction = lazyLoadingRequiresTransaction;
+	}
+
+	/**
+	 * Configures an {@link Executor} used for resolving the independent collection and map properties of an entity
+	 * concurrently. Each relation gets loaded by a separate task and therefore using a separate connection. Parallel
+	 * resolution only happens for entities with at least two relations that need loading and only without an active
+	 * transaction synchronization, since the state bound to it, like the transaction bound connection or the writes
+	 * tracked by {@link ReadWriteRouting}, is not visible to other threads. Reads
+	 * {@link ReadWriteRouting#setReadFromPrimary(boolean) pinned to the primary} stay pinned in the resolving tasks.
+	 * Defaults to {@literal null}, which resolves all relations sequentially.
+	 *
+	 * @param relationResolutionExecutor the {@link Executor} to use. May be {@literal null}.
+	 * @since 2.3
+	 */
+	public void setRelationResolutionExecutor(@Nullable Executor relationResolutionExecutor) {
+		this.relationResolutionExecutor = relationResolutionExecutor;
+	}
+
+	/**
+	 * Configures the maximum number of {@link LazyLoadingProxy lazy loading proxies} for the same property path that get
+	 * resolved together. Proxies created within a transaction get collected in batches of this size, and accessing one
+	 * of them loads the referenced entities of the whole batch using
+	 * {@link RelationResolver#findAllByPathIn(List, PersistentPropertyPath)}. Defaults to {@literal 1}, which loads the
+	 * entities of each proxy separately.
+	 * <p>
+	 * Batching only applies to property paths for which the {@link RelationResolver}
+	 * {@link RelationResolver#supportsFindAllByPathIn(PersistentPropertyPath) supports loading multiple parents at
+	 * once}. {@link DefaultDataAccessStrategy} doesn't, so with it each proxy keeps loading its own entities, and so
+	 * does {@link org.springframework.data.jdbc.mybatis.MyBatisDataAccessStrategy} for paths without a
+	 * {@code findAllByPathIn-<propertyPath>} statement.
+	 *
+	 * @param lazyLoadingBatchSize the maximum number of proxies to resolve at once. Must be greater than zero.
+	 * @since 2.3
+	 */
+	public void setLazyLoadingBatchSize(int lazyLoadingBatchSize) {
+
+		Assert.isTrue(lazyLoadingBatchSize > 0, "Lazy loading batch size must be greater than zero");
+
+		this.lazyLoadingBatchSize = lazyLoadingBatchSize;
+	}
+
+	/**
+	 * Configures whether aggregate roots consisting only of simple properties get mapped using a plan compiled once per
+	 * entity and column layout of the {@link ResultSet}. Such a plan reads the columns by index using typed getters and
+	 * invokes the persistence constructor directly. Entities with embedded, referenced or collection properties as well
+	 * as constructors using SpEL expressions always use the generic mapping. Read plans get applied by
+	 * {@link EntityRowMapper}, which resolves the plan once per {@link ResultSet}. Defaults to {@literal false}.
+	 *
+	 * @param readPlansEnabled whether to use read plans for mapping rows.
+	 * @since 2.3
+	 */
+	public void setReadPlansEnabled(boolean readPlansEnabled) {
+		this.readPlansEnabled = readPlansEnabled;
+	}
+
 	@Nullable
 	private Class<?> getEntityColumnType(Class<?> type) {
 
@@ -221,15 +314,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			return value;
 		}
 
-		if (getConversions().hasCustomReadTarget(value.getClass(), type.getType())) {
-
-			TypeDescriptor sourceDescriptor = TypeDescriptor.valueOf(value.getClass());
-			TypeDescriptor targetDescriptor = createTypeDescriptor(type);
-
-			return getConversionService().convert(value, sourceDescriptor, targetDescriptor);
-		}
-
-		if (value instanceof Array) {
+		if (value instanceof Array && !getConversions().hasCustomReadTarget(value.getClass(), type.getType())) {
 			try {
 				return readValue(((Array) value).getArray(), type);
 			} catch (SQLException | ConverterNotFoundException e) {
@@ -261,24 +346,29 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			return true;
 		}
 
-		if (AggregateReference.class.isAssignableFrom(value.getClass())) {
-			return canWriteAsJdbcValue(((AggregateReference) value).getId());
+		return jdbcValueWriteChecks.computeIfAbsent(value.getClass(), this::createJdbcValueWriteCheck).test(value);
+	}
+
+	private Predicate<Object> createJdbcValueWriteCheck(Class<?> type) {
+
+		if (AggregateReference.class.isAssignableFrom(type)) {
+			return value -> canWriteAsJdbcValue(((AggregateReference<?, ?>) value).getId());
 		}
 
-		RelationalPersistentEntity<?> persistentEntity = getMappingContext().getPersistentEntity(value.getClass());
+		RelationalPersistentEntity<?> persistentEntity = getMappingContext().getPersistentEntity(type);
 
 		if (persistentEntity != null) {
-
-			Object id = persistentEntity.getIdentifierAccessor(value).getIdentifier();
-			return canWriteAsJdbcValue(id);
+			return value -> canWriteAsJdbcValue(persistentEntity.getIdentifierAccessor(value).getIdentifier());
 		}
 
-		if (value instanceof JdbcValue) {
-			return true;
+		if (JdbcValue.class.isAssignableFrom(type)) {
+			return value -> true;
 		}
 
-		Optional<Class<?>> customWriteTarget = getConversions().getCustomWriteTarget(value.getClass());
-		return customWriteTarget.isPresent() && customWriteTarget.get().isAssignableFrom(JdbcValue.class);
+		Optional<Class<?>> customWriteTarget = getConversions().getCustomWriteTarget(type);
+		boolean writesJdbcValue = customWriteTarget.isPresent() && customWriteTarget.get().isAssignableFrom(JdbcValue.class);
+
+		return value -> writesJdbcValue;
 	}
 
 	/*
@@ -302,8 +392,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		Class<?> componentType = convertedValue.getClass().getComponentType();
 		if (componentType != byte.class && componentType != Byte.class) {
 
-			Object[] objectArray = requireObjectArray(convertedValue);
-			return JdbcValue.of(typeFactory.createArray(objectArray), JDBCType.ARRAY);
+			return JdbcValue.of(typeFactory.createArrayParameter(convertedValue), JDBCType.ARRAY);
 		}
 
 		if (componentType == Byte.class) {
@@ -333,6 +422,41 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 				new ResultSetAccessor(resultSet), Identifier.empty(), key).mapRow();
 	}
 
+	/**
+	 * Returns the {@link ReadPlan} for mapping the rows of the given {@link ResultSet} to {@code entity}. The column
+	 * layout of the {@link ResultSet} gets inspected on every invocation, so callers should resolve the plan once per
+	 * {@link ResultSet}, as {@link EntityRowMapper} does.
+	 *
+	 * @return the {@link ReadPlan} or {@literal null} if read plans are disabled or cannot map the entity.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	<T> ReadPlan<T> getReadPlan(RelationalPersistentEntity<T> entity, ResultSet resultSet) {
+
+		if (!readPlansEnabled) {
+			return null;
+		}
+
+		ReadPlan<T> readPlan = (ReadPlan<T>) readPlans.computeIfAbsent(ReadPlan.Layout.of(entity, resultSet),
+				layout -> ReadPlan.create(layout, this, identifierProcessing));
+
+		return readPlan.isSupported() ? readPlan : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#mapRow(org.springframework.data.relational.core.mapping.RelationalPersistentEntity, java.sql.ResultSet, java.lang.Object, java.util.function.Predicate)
+	 */
+	@Override
+	public <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			Predicate<? super RelationalPersistentProperty> propertyFilter) {
+
+		Assert.notNull(propertyFilter, "Property filter must not be null");
+
+		return new ReadingContext<T>(new PersistentPropertyPathExtension(getMappingContext(), entity),
+				new ResultSetAccessor(resultSet), Identifier.empty(), key, propertyFilter).mapRow();
+	}
+
 	@Override
 	public <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key) {
 		return new ReadingContext<T>(path, new ResultSetAccessor(resultSet), identifier, key).mapRow();
@@ -387,10 +511,19 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		private final JdbcPropertyValueProvider propertyValueProvider;
 		private final JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider;
 		private final ResultSetAccessor accessor;
+		private final Predicate<? super RelationalPersistentProperty> propertyFilter;
+
+		private Map<RelationalPersistentProperty, CompletableFuture<Iterable<Object>>> prefetchedRelations = Collections
+				.emptyMap();
 
-		@SuppressWarnings("unchecked")
 		private ReadingContext(PersistentPropertyPathExtension rootPath, ResultSetAccessor accessor, Identifier identifier,
 				Object key) {
+			this(rootPath, accessor, identifier, key, property -> true);
+		}
+
+		@SuppressWarnings("unchecked")
+		private ReadingContext(PersistentPropertyPathExtension rootPath, ResultSetAccessor accessor, Identifier identifier,
+				Object key, Predicate<? super RelationalPersistentProperty> propertyFilter) {
 			RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) rootPath.getLeafEntity();
 
 			Assert.notNull(entity, "The rootPath must point to an entity.");
@@ -404,6 +537,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			this.backReferencePropertyValueProvider = new JdbcBackReferencePropertyValueProvider(identifierProcessing, path,
 					accessor);
 			this.accessor = accessor;
+			this.propertyFilter = propertyFilter;
 		}
 
 		private ReadingContext(RelationalPersistentEntity<T> entity, PersistentPropertyPathExtension rootPath,
@@ -418,6 +552,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			this.propertyValueProvider = propertyValueProvider;
 			this.backReferencePropertyValueProvider = backReferencePropertyValueProvider;
 			this.accessor = accessor;
+			this.propertyFilter = property -> true;
 		}
 
 		private <S> ReadingContext<S> extendBy(RelationalPersistentProperty property) {
@@ -438,7 +573,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 		private T populateProperties(T instance, @Nullable Object idValue) {
 
-			PersistentPropertyAccessor<T> propertyAccessor = getPropertyAccessor(entity, instance);
+			PersistentPropertyAccessor<T> propertyAccessor = entity.getPropertyAccessor(instance);
 			PreferredConstructor<T, RelationalPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
 
 			entity.doWithAll(property -> {
@@ -447,6 +582,11 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 					return;
 				}
 
+				// skip properties that are not part of a projection
+				if (!propertyFilter.test(property)) {
+					return;
+				}
+
 				// skip absent simple properties
 				if (isSimpleProperty(property)) {
 
@@ -456,16 +596,42 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 				}
 
 				Object value = readOrLoadProperty(idValue, property);
+
+				if (isRelation(property)) {
+					value = convertIfNecessary(value, property.getType());
+				}
+
 				propertyAccessor.setProperty(property, value);
 			});
 
 			return propertyAccessor.getBean();
 		}
 
+		/**
+		 * Values of relations are the {@link Iterable}s returned by the {@link RelationResolver} and might need a
+		 * conversion into the property type. All other values are read using {@link #readValue(Object, TypeInformation)}
+		 * or are entities of the property type and can be set without a conversion.
+		 */
+		private boolean isRelation(RelationalPersistentProperty property) {
+			return (property.isCollectionLike() && property.isEntity()) || property.isMap();
+		}
+
+		@Nullable
+		private Object convertIfNecessary(@Nullable Object value, Class<?> type) {
+
+			return value == null || type.isAssignableFrom(value.getClass()) //
+					? value //
+					: getConversionService().convert(value, type);
+		}
+
 		@Nullable
 		private Object readOrLoadProperty(@Nullable Object id, RelationalPersistentProperty property) {
 
-			if ((property.isCollectionLike() && property.isEntity()) || property.isMap()) {
+			if (isRelation(property)) {
+
+				if (property.isLazyLoaded() && LazyLoadingProxyFactory.canProxy(property.getType())) {
+					return createLazyLoadingProxy(id, property);
+				}
 
 				Iterable<Object> allByPath = resolveRelation(id, property);
 
@@ -482,9 +648,13 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 		private Iterable<Object> resolveRelation(@Nullable Object id, RelationalPersistentProperty property) {
 
-			Identifier identifier = id == null //
-					? this.identifier.withPart(rootPath.getQualifierColumn(), key, Object.class) //
-					: Identifier.of(rootPath.extendBy(property).getReverseColumnName(), id, Object.class);
+			CompletableFuture<Iterable<Object>> prefetched = prefetchedRelations.get(property);
+
+			if (prefetched != null) {
+				return awaitRelation(prefetched);
+			}
+
+			Identifier identifier = getRelationIdentifier(id, property);
 
 			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath = path.extendBy(property)
 					.getRequiredPersistentPropertyPath();
@@ -492,6 +662,111 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			return relationResolver.findAllByPath(identifier, propertyPath);
 		}
 
+		/**
+		 * Starts loading all relations of the entity that require a separate query using the
+		 * {@link #setRelationResolutionExecutor(Executor) relation resolution executor}, if parallel resolution is
+		 * possible.
+		 *
+		 * @param id the id of the entity to load the relations for. May be {@literal null}.
+		 */
+		private void prefetchRelations(@Nullable Object id) {
+
+			Executor executor = relationResolutionExecutor;
+
+			if (executor == null || RESOLVING_IN_PARALLEL.get() != null
+					|| TransactionSynchronizationManager.isSynchronizationActive()) {
+				return;
+			}
+
+			List<RelationalPersistentProperty> relations = new ArrayList<>();
+			for (RelationalPersistentProperty property : entity) {
+
+				if (propertyFilter.test(property) && requiresSeparateQuery(property)) {
+					relations.add(property);
+				}
+			}
+
+			if (relations.size() < 2) {
+				return;
+			}
+
+			boolean readFromPrimary = ReadWriteRouting.isReadFromPrimary();
+
+			Map<RelationalPersistentProperty, CompletableFuture<Iterable<Object>>> futures = new HashMap<>();
+			for (RelationalPersistentProperty property : relations) {
+
+				Identifier identifier = getRelationIdentifier(id, property);
+				PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath = path.extendBy(property)
+						.getRequiredPersistentPropertyPath();
+
+				futures.put(property, CompletableFuture.supplyAsync(() -> {
+
+					RESOLVING_IN_PARALLEL.set(Boolean.TRUE);
+					ReadWriteRouting.setReadFromPrimary(readFromPrimary);
+					try {
+						return relationResolver.findAllByPath(identifier, propertyPath);
+					} finally {
+						RESOLVING_IN_PARALLEL.remove();
+						ReadWriteRouting.setReadFromPrimary(false);
+					}
+				}, executor));
+			}
+
+			this.prefetchedRelations = futures;
+		}
+
+		private boolean requiresSeparateQuery(RelationalPersistentProperty property) {
+
+			if ((property.isCollectionLike() && property.isEntity()) || property.isMap()) {
+				return !(property.isLazyLoaded() && LazyLoadingProxyFactory.canProxy(property.getType()));
+			}
+
+			return false;
+		}
+
+		private Iterable<Object> awaitRelation(CompletableFuture<Iterable<Object>> future) {
+
+			try {
+				return future.join();
+			} catch (CompletionException e) {
+
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+
+				if (e.getCause() instanceof Error) {
+					throw (Error) e.getCause();
+				}
+
+				throw e;
+			}
+		}
+
+		private Object createLazyLoadingProxy(@Nullable Object id, RelationalPersistentProperty property) {
+
+			Identifier identifier = getRelationIdentifier(id, property);
+
+			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath = path.extendBy(property)
+					.getRequiredPersistentPropertyPath();
+
+			boolean batched = lazyLoadingBatchSize > 1 && relationResolver.supportsFindAllByPathIn(propertyPath);
+
+			LazyLoadingBatch batch = batched //
+					? LazyLoadingBatch.join(BasicJdbcConverter.this, relationResolver, identifier, propertyPath,
+							lazyLoadingBatchSize) //
+					: null;
+
+			return LazyLoadingProxyFactory.createProxy(property.getType(), identifier, propertyPath,
+					createLoader(relationResolver, identifier, propertyPath, batch, lazyLoadingRequiresTransaction));
+		}
+
+		private Identifier getRelationIdentifier(@Nullable Object id, RelationalPersistentProperty property) {
+
+			return id == null //
+					? this.identifier.withPart(rootPath.getQualifierColumn(), key, Object.class) //
+					: Identifier.of(rootPath.extendBy(property).getReverseColumnName(), id, Object.class);
+		}
+
 		/**
 		 * Read a single value or a complete Entity from the {@link ResultSet} passed as an argument.
 		 *
@@ -576,6 +851,8 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			PreferredConstructor<T, RelationalPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
 			ParameterValueProvider<RelationalPersistentProperty> provider;
 
+			prefetchRelations(idValue);
+
 			if (persistenceConstructor != null && persistenceConstructor.hasParameters()) {
 
 				SpELExpressionEvaluator expressionEvaluator = new DefaultSpELExpressionEvaluator(accessor, spELContext);
@@ -620,11 +897,39 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 				Assert.notNull(parameterName, "A constructor parameter name must not be null to be used with Spring Data JDBC");
 
 				RelationalPersistentProperty property = entity.getRequiredPersistentProperty(parameterName);
+
+				// neither read nor resolve properties that are not part of a projection or absent from the result
+				if (!propertyFilter.test(property)
+						|| (isSimpleProperty(property) && !propertyValueProvider.hasProperty(property))) {
+					return (T) ReadPlan.getAbsentValue(parameter.getRawType());
+				}
+
 				return (T) readOrLoadProperty(idValue, property);
 			}
 		}
 	}
 
+	/**
+	 * Creates the loader of a {@link LazyLoadingProxy}. The loader lives as long as the proxy and therefore must not
+	 * reference the {@link ReadingContext} and through it the {@link ResultSet} the proxy got created for.
+	 */
+	private static Supplier<Iterable<Object>> createLoader(RelationResolver relationResolver, Identifier identifier,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath, @Nullable LazyLoadingBatch batch,
+			boolean requiresTransaction) {
+
+		return () -> {
+
+			if (requiresTransaction && !TransactionSynchronizationManager.isActualTransactionActive()) {
+				throw new InvalidDataAccessApiUsageException(String.format(
+						"Cannot lazily load %s of %s outside of a transaction", propertyPath.toDotPath(), identifier));
+			}
+
+			return batch == null //
+					? relationResolver.findAllByPath(identifier, propertyPath) //
+					: batch.get(identifier);
+		};
+	}
+
 	private boolean isSimpleProperty(RelationalPersistentProperty property) {
 		return !property.isCollectionLike() && !property.isEntity() && !property.isMap() && !property.isEmbedded();
 	}
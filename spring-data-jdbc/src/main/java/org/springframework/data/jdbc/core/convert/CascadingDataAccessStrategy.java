@@ -17,6 +17,7 @@ package org.springframework.data.jdbc.core.convert;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -54,6 +55,15 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.insert(instance, domainType, identifier));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insertAll(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <T> Object[] insertAll(List<T> instances, Class<T> domainType, List<Identifier> identifiers) {
+		return collect(das -> das.insertAll(instances, domainType, identifiers));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#update(java.lang.Object, java.lang.Class)
@@ -72,6 +82,15 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.updateWithVersion(instance, domainType, previousVersion));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateAllWithVersion(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <S> boolean[] updateAllWithVersion(List<S> instances, Class<S> domainType, List<Number> previousVersions) {
+		return collect(das -> das.updateAllWithVersion(instances, domainType, previousVersions));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, java.lang.Class)
@@ -126,6 +145,24 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		collectVoid(das -> das.acquireLockById(id, lockMode, domainType));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#tryAcquireLockById(java.lang.Object, org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
+	 */
+	@Override
+	public <T> boolean tryAcquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
+		return collect(das -> das.tryAcquireLockById(id, lockMode, domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#acquireLockAllById(java.lang.Iterable, org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
+	 */
+	@Override
+	public <T> Iterable<Object> acquireLockAllById(Iterable<?> ids, LockMode lockMode, Class<T> domainType) {
+		return collect(das -> das.acquireLockAllById(ids, lockMode, domainType));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#acquireLockAll(org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
@@ -181,6 +218,25 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAllByPath(identifier, path));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.RelationResolver#findAllByPathIn(java.util.List, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public Map<Identifier, Iterable<Object>> findAllByPathIn(List<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+		return collect(das -> das.findAllByPathIn(identifiers, path));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.RelationResolver#supportsFindAllByPathIn(org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public boolean supportsFindAllByPathIn(PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+		return collect(das -> das.supportsFindAllByPathIn(path));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#existsById(java.lang.Object, java.lang.Class)
@@ -208,6 +264,15 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAll(domainType, pageable));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#warmUp(java.lang.Class)
+	 */
+	@Override
+	public void warmUp(Class<?> domainType) {
+		strategies.forEach(das -> das.warmUp(domainType));
+	}
+
 	private <T> T collect(Function<DataAccessStrategy, T> function) {
 
 		// Keep <T> as Eclipse fails to compile if <> is used.
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -53,6 +55,31 @@ public interface DataAccessStrategy extends RelationResolver {
 	@Nullable
 	<T> Object insert(T instance, Class<T> domainType, Identifier identifier);
 
+	/**
+	 * Inserts the data of multiple entities of the same type, like {@link #insert(Object, Class, Identifier)} does for a
+	 * single one. Implementations may execute the inserts as a single batch. The default implementation inserts one
+	 * instance after the other.
+	 *
+	 * @param instances the instances to be stored. Must not be {@code null}.
+	 * @param domainType the type of the instances. Must not be {@code null}.
+	 * @param identifiers the {@link Identifier} for each instance, in the order of the instances. Must not be
+	 *          {@code null}.
+	 * @param <T> the type of the instances.
+	 * @return the ids generated by the database, in the order of the instances. Elements are {@literal null} for
+	 *         instances without a generated id.
+	 * @since 2.3
+	 */
+	default <T> Object[] insertAll(List<T> instances, Class<T> domainType, List<Identifier> identifiers) {
+
+		Object[] ids = new Object[instances.size()];
+
+		for (int i = 0; i < instances.size(); i++) {
+			ids[i] = insert(instances.get(i), domainType, identifiers.get(i));
+		}
+
+		return ids;
+	}
+
 	/**
 	 * Updates the data of a single entity in the database. Referenced entities don't get handled.
 	 *
@@ -81,6 +108,41 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> boolean updateWithVersion(T instance, Class<T> domainType, Number previousVersion);
 
+	/**
+	 * Updates the data of multiple existing entities of the same type, guarding each update by the previous version of
+	 * the entity like {@link #updateWithVersion(Object, Class, Number)} does. Implementations may execute the updates as
+	 * a single batch. The default implementation updates one instance after the other and stops at the first instance
+	 * whose version check failed.
+	 *
+	 * @param instances the instances to save. Must not be {@code null}.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param previousVersions the previous versions assigned to the instances, in the order of the instances. Must not be
+	 *          {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @return for each instance whether the update actually updated a row. {@literal false} indicates a failed version
+	 *         check.
+	 * @since 2.3
+	 */
+	default <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+
+		boolean[] updated = new boolean[instances.size()];
+
+		for (int i = 0; i < instances.size(); i++) {
+
+			try {
+				updated[i] = updateWithVersion(instances.get(i), domainType, previousVersions.get(i));
+			} catch (OptimisticLockingFailureException e) {
+				return updated;
+			}
+
+			if (!updated[i]) {
+				return updated;
+			}
+		}
+
+		return updated;
+	}
+
 	/**
 	 * Deletes a single row identified by the id, from the table identified by the domainType. Does not handle cascading
 	 * deletes.
@@ -140,6 +202,60 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> void acquireLockById(Object id, LockMode lockMode, Class<T> domainType);
 
+	/**
+	 * Acquire a lock on the aggregate specified by id and report whether it got locked. Implementations should derive
+	 * the result from the rows returned by the locking statement itself. The default implementation uses
+	 * {@link #acquireLockById(Object, LockMode, Class)} and checks whether the aggregate exists using
+	 * {@link #existsById(Object, Class)}. As an existing aggregate might have been skipped, it doesn't support lock
+	 * modes that {@link LockMode#isSkipLocked() skip locked rows}.
+	 *
+	 * @param id the id of the aggregate to lock. Must not be {@code null}.
+	 * @param lockMode the lock mode for select. Must not be {@code null}.
+	 * @param domainType the domain type of the entity. Must not be {@code null}.
+	 * @return {@literal true} if the aggregate got locked, {@literal false} if it doesn't exist or, for lock modes that
+	 *         skip locked rows, is locked by another transaction.
+	 * @throws UnsupportedOperationException if the lock mode skips locked rows and the implementation can't tell
+	 *           whether the aggregate got locked.
+	 * @since 2.3
+	 */
+	default <T> boolean tryAcquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
+
+		if (lockMode.isSkipLocked()) {
+			throw new UnsupportedOperationException(
+					String.format("%s does not support lock mode %s", getClass().getName(), lockMode));
+		}
+
+		acquireLockById(id, lockMode, domainType);
+
+		return existsById(id, domainType);
+	}
+
+	/**
+	 * Acquire a lock on the aggregates specified by the given ids. Implementations should do so using a single statement.
+	 * The default implementation locks one aggregate after the other using
+	 * {@link #tryAcquireLockById(Object, LockMode, Class)}.
+	 *
+	 * @param ids the ids of the aggregates to lock. Must not be {@code null}.
+	 * @param lockMode the lock mode for select. Must not be {@code null}.
+	 * @param domainType the domain type of the entity. Must not be {@code null}.
+	 * @return the ids of the aggregates actually locked. Ids of aggregates that don't exist or, for lock modes that
+	 *         skip locked rows, are locked by another transaction are not contained. Guaranteed to be not {@code null}.
+	 * @since 2.3
+	 */
+	default <T> Iterable<Object> acquireLockAllById(Iterable<?> ids, LockMode lockMode, Class<T> domainType) {
+
+		List<Object> lockedIds = new ArrayList<>();
+
+		for (Object id : ids) {
+
+			if (tryAcquireLockById(id, lockMode, domainType)) {
+				lockedIds.add(id);
+			}
+		}
+
+		return lockedIds;
+	}
+
 	/**
 	 * Acquire a lock on all aggregates of the given domain type.
 	 *
@@ -226,4 +342,13 @@ public interface DataAccessStrategy extends RelationResolver {
 	 * @since 2.0
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType, Pageable pageable);
+
+	/**
+	 * Prepares everything this strategy needs for accessing aggregates of the given type, like rendering SQL statements,
+	 * so that it doesn't happen on first use. Does nothing by default.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @since 2.3
+	 */
+	default void warmUp(Class<?> domainType) {}
 }
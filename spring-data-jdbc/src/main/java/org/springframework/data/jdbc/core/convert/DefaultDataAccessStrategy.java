@@ -19,12 +19,16 @@ import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
 
 import java.sql.JDBCType;
 import java.sql.ResultSet;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -33,6 +37,7 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.jdbc.support.ReadWriteRouting;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
@@ -52,6 +57,7 @@ import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * The default {@link DataAccessStrategy} is to generate SQL statements based on meta data from the entity.
@@ -75,6 +81,12 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final NamedParameterJdbcOperations operations;
+	@Nullable private SnapshotChangeDetector changeDetector;
+
+	private final Map<Class<?>, WritePlan<?>> insertPlans = new ConcurrentReferenceHashMap<>();
+	private final Map<Class<?>, WritePlan<?>> updatePlans = new ConcurrentReferenceHashMap<>();
+	private final Map<String, PositionalStatement> positionalStatements = new ConcurrentReferenceHashMap<>();
+	private final Map<InsertKey, PositionalStatement> insertStatements = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a {@link DefaultDataAccessStrategy}
@@ -99,6 +111,20 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		this.operations = operations;
 	}
 
+	/**
+	 * Configures a {@link SnapshotChangeDetector} used to skip {@code UPDATE} statements for aggregate roots that did not
+	 * change since they were loaded and to only update changed columns otherwise. The {@link SnapshotChangeDetector} must
+	 * also be registered as an {@link org.springframework.data.relational.core.mapping.event.AfterLoadCallback} in order
+	 * to record snapshots of loaded aggregate roots.
+	 *
+	 * @param changeDetector the {@link SnapshotChangeDetector} to use. May be {@literal null} to always update all
+	 *          columns.
+	 * @since 2.3
+	 */
+	public void setChangeDetector(@Nullable SnapshotChangeDetector changeDetector) {
+		this.changeDetector = changeDetector;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#insert(java.lang.Object, java.lang.Class, java.util.Map)
@@ -106,50 +132,152 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> Object insert(T instance, Class<T> domainType, Identifier identifier) {
 
-		SqlGenerator sqlGenerator = sql(domainType);
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
 
-		SqlIdentifierParameterSource parameterSource = getParameterSource(instance, persistentEntity, "",
-				PersistentProperty::isIdProperty, getIdentifierProcessing());
+		Object idValue = getIdValueOrNull(instance, persistentEntity);
+		InsertValues insert = bindInsert(instance, persistentEntity, identifier, idValue);
+
+		if (idValue == null) {
+			return executeInsertAndReturnGeneratedId(domainType, persistentEntity, insert);
+		}
 
-		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
+		discardSnapshot(idValue, domainType);
+		insert.statement.update(operations.getJdbcOperations(), insert.values, insert.sqlTypes);
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insertAll(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <T> Object[] insertAll(List<T> instances, Class<T> domainType, List<Identifier> identifiers) {
+
+		Assert.isTrue(instances.size() == identifiers.size(), "An identifier is required for each instance");
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+
+		InsertKey insertKey = null;
+		PositionalStatement insertStatement = null;
+		List<Object[]> values = new ArrayList<>(instances.size());
+		List<int[]> sqlTypes = new ArrayList<>(instances.size());
+		Object[] idValues = new Object[instances.size()];
+
+		for (int i = 0; i < instances.size(); i++) {
+
+			T instance = instances.get(i);
+			Object idValue = getIdValueOrNull(instance, persistentEntity);
+
+			// Generated ids can't be obtained from a batch in a portable way.
+			if (idValue == null && persistentEntity.hasIdProperty()) {
+				return DataAccessStrategy.super.insertAll(instances, domainType, identifiers);
+			}
+
+			InsertValues insert = bindInsert(instance, persistentEntity, identifiers.get(i), idValue);
+
+			// All executions of a batch share one statement.
+			if (insertKey != null && !insertKey.equals(insert.key)) {
+				return DataAccessStrategy.super.insertAll(instances, domainType, identifiers);
+			}
+
+			insertKey = insert.key;
+			insertStatement = insert.statement;
+			values.add(insert.values);
+			sqlTypes.add(insert.sqlTypes);
+			idValues[i] = idValue;
+		}
+
+		for (Object idValue : idValues) {
+			if (idValue != null) {
+				discardSnapshot(idValue, domainType);
+			}
+		}
+
+		if (insertStatement != null) {
+			insertStatement.batchUpdate(operations.getJdbcOperations(), values, sqlTypes);
+		}
+
+		return new Object[instances.size()];
+	}
+
+	/**
+	 * Extracts the values for inserting the given instance, followed by the values of the parent keys and the id if
+	 * present, and obtains the {@link PositionalStatement} for that set of columns. The statement is cached per entity
+	 * and set of additional columns, so neither the statement gets rendered nor the parameter names get resolved per
+	 * row.
+	 */
+	private <T> InsertValues bindInsert(T instance, RelationalPersistentEntity<T> persistentEntity,
+			Identifier identifier, @Nullable Object idValue) {
+
+		WritePlan<T> plan = getInsertPlan(persistentEntity);
+		String[] parameterNames = plan.getParameterNames();
+
+		int parameterCount = parameterNames.length + identifier.size() + (idValue == null ? 0 : 1);
+		Object[] values = new Object[parameterCount];
+		int[] sqlTypes = new int[parameterCount];
+		plan.bind(instance, values, sqlTypes);
+
+		List<SqlIdentifier> additionalColumns = new ArrayList<>(parameterCount - parameterNames.length);
+		int index = parameterNames.length;
+
+		for (Identifier.SingleIdentifierValue part : identifier.getParts()) {
+
+			Class<?> targetType = part.getTargetType();
+			setConvertedValue(values, sqlTypes, index++, part.getValue(), targetType, JdbcUtil.sqlTypeFor(targetType));
+			additionalColumns.add(part.getName());
+		}
 
-		Object idValue = getIdValueOrNull(instance, persistentEntity);
 		if (idValue != null) {
 
 			RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
-			addConvertedPropertyValue(parameterSource, idProperty, idValue, idProperty.getColumnName());
+			setConvertedValue(values, sqlTypes, index, idValue, converter.getColumnType(idProperty),
+					converter.getSqlType(idProperty));
+			additionalColumns.add(idProperty.getColumnName());
 		}
 
-		String insertSql = sqlGenerator.getInsert(new HashSet<>(parameterSource.getIdentifiers()));
+		InsertKey key = new InsertKey(persistentEntity.getType(), additionalColumns);
+		PositionalStatement statement = insertStatements.computeIfAbsent(key,
+				it -> createInsertStatement(it, parameterNames));
 
-		if (idValue == null) {
-			return executeInsertAndReturnGeneratedId(domainType, persistentEntity, parameterSource, insertSql);
-		} else {
+		return new InsertValues(key, statement, values, sqlTypes);
+	}
 
-			operations.update(insertSql, parameterSource);
-			return null;
+	private PositionalStatement createInsertStatement(InsertKey key, String[] planParameterNames) {
+
+		String[] parameterNames = Arrays.copyOf(planParameterNames,
+				planParameterNames.length + key.additionalColumns.size());
+
+		for (int i = 0; i < key.additionalColumns.size(); i++) {
+			parameterNames[planParameterNames.length + i] = key.additionalColumns.get(i)
+					.getReference(getIdentifierProcessing());
 		}
+
+		String insertSql = sql(key.domainType).getInsert(new HashSet<>(key.additionalColumns));
+
+		return PositionalStatement.of(insertSql, parameterNames);
+	}
+
+	private void setConvertedValue(Object[] values, int[] sqlTypes, int index, @Nullable Object value,
+			Class<?> javaType, int sqlType) {
+
+		JdbcValue jdbcValue = converter.writeJdbcValue(value, javaType, sqlType);
+
+		values[index] = jdbcValue.getValue();
+		sqlTypes[index] = JdbcUtil.sqlTypeFor(jdbcValue.getJdbcType());
 	}
 
 	@Nullable
-	private <T> Object executeInsertAndReturnGeneratedId(Class<T> domainType, RelationalPersistentEntity<T> persistentEntity, SqlIdentifierParameterSource parameterSource, String insertSql) {
+	private <T> Object executeInsertAndReturnGeneratedId(Class<T> domainType,
+			RelationalPersistentEntity<T> persistentEntity, InsertValues insert) {
 
 		KeyHolder holder = new GeneratedKeyHolder();
 
 		IdGeneration idGeneration = sqlGeneratorSource.getDialect().getIdGeneration();
+		String[] keyColumnNames = idGeneration.driverRequiresKeyColumnNames() //
+				? getKeyColumnNames(domainType) //
+				: new String[0];
 
-		if (idGeneration.driverRequiresKeyColumnNames()) {
-
-			String[] keyColumnNames = getKeyColumnNames(domainType);
-			if (keyColumnNames.length == 0) {
-				operations.update(insertSql, parameterSource, holder);
-			} else {
-				operations.update(insertSql, parameterSource, holder, keyColumnNames);
-			}
-		} else {
-			operations.update(insertSql, parameterSource, holder);
-		}
+		insert.statement.update(operations.getJdbcOperations(), insert.values, insert.sqlTypes, holder, keyColumnNames);
 
 		return getIdFromHolder(holder, persistentEntity);
 	}
@@ -162,8 +290,32 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	public <S> boolean update(S instance, Class<S> domainType) {
 
 		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
-		return operations.update(sql(domainType).getUpdate(),
-				getParameterSource(instance, persistentEntity, "", Predicates.includeAll(), getIdentifierProcessing())) != 0;
+		Set<SqlIdentifier> changedColumns = getChangedColumns(instance);
+
+		if (changedColumns != null && changedColumns.isEmpty()) {
+			return true;
+		}
+
+		discardSnapshot(instance, persistentEntity);
+
+		String updateSql = changedColumns == null //
+				? sql(domainType).getUpdate() //
+				: sql(domainType).getUpdate(changedColumns);
+
+		WritePlan<S> plan = getUpdatePlan(persistentEntity);
+		String[] parameterNames = plan.getParameterNames();
+		Object[] values = new Object[parameterNames.length];
+		int[] sqlTypes = new int[parameterNames.length];
+		plan.bind(instance, values, sqlTypes);
+
+		boolean updated = getPositionalStatement(updateSql, () -> parameterNames) //
+				.update(operations.getJdbcOperations(), values, sqlTypes) != 0;
+
+		if (updated && changeDetector != null) {
+			changeDetector.capture(instance);
+		}
+
+		return updated;
 	}
 
 	/*
@@ -176,11 +328,25 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
 
 		// Adjust update statement to set the new version and use the old version in where clause.
-		SqlIdentifierParameterSource parameterSource = getParameterSource(instance, persistentEntity, "",
-				Predicates.includeAll(), getIdentifierProcessing());
-		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
-
-		int affectedRows = operations.update(sql(domainType).getUpdateWithVersion(), parameterSource);
+		WritePlan<S> plan = getUpdatePlan(persistentEntity);
+		String[] parameterNames = plan.getParameterNames();
+		int versionIndex = parameterNames.length;
+		Object[] values = new Object[versionIndex + 1];
+		int[] sqlTypes = new int[versionIndex + 1];
+		plan.bind(instance, values, sqlTypes);
+		values[versionIndex] = previousVersion;
+		sqlTypes[versionIndex] = JdbcUtils.TYPE_UNKNOWN;
+
+		// The version always changes, so there is at least the version column to update.
+		Set<SqlIdentifier> changedColumns = getChangedColumns(instance);
+		String updateSql = changedColumns == null || changedColumns.isEmpty() //
+				? sql(domainType).getUpdateWithVersion() //
+				: sql(domainType).getUpdateWithVersion(changedColumns);
+
+		discardSnapshot(instance, persistentEntity);
+
+		int affectedRows = getUpdateWithVersionStatement(updateSql, parameterNames) //
+				.update(operations.getJdbcOperations(), values, sqlTypes);
 
 		if (affectedRows == 0) {
 
@@ -188,9 +354,71 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 					String.format("Optimistic lock exception on saving entity of type %s.", persistentEntity.getName()));
 		}
 
+		if (changeDetector != null) {
+			changeDetector.capture(instance);
+		}
+
 		return true;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateAllWithVersion(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <S> boolean[] updateAllWithVersion(List<S> instances, Class<S> domainType, List<Number> previousVersions) {
+
+		Assert.isTrue(instances.size() == previousVersions.size(), "A previous version is required for each instance");
+
+		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
+
+		WritePlan<S> plan = getUpdatePlan(persistentEntity);
+		String[] parameterNames = plan.getParameterNames();
+		int versionIndex = parameterNames.length;
+
+		List<Object[]> values = new ArrayList<>(instances.size());
+		List<int[]> sqlTypes = new ArrayList<>(instances.size());
+
+		for (int i = 0; i < instances.size(); i++) {
+
+			S instance = instances.get(i);
+
+			Object[] instanceValues = new Object[versionIndex + 1];
+			int[] instanceSqlTypes = new int[versionIndex + 1];
+			plan.bind(instance, instanceValues, instanceSqlTypes);
+			instanceValues[versionIndex] = previousVersions.get(i);
+			instanceSqlTypes[versionIndex] = JdbcUtils.TYPE_UNKNOWN;
+
+			values.add(instanceValues);
+			sqlTypes.add(instanceSqlTypes);
+
+			discardSnapshot(instance, persistentEntity);
+		}
+
+		// All executions of a batch share one statement, so the batch updates all columns regardless of changes.
+		int[] affectedRows = getUpdateWithVersionStatement(sql(domainType).getUpdateWithVersion(), parameterNames) //
+				.batchUpdate(operations.getJdbcOperations(), values, sqlTypes);
+
+		boolean[] updated = new boolean[instances.size()];
+
+		for (int i = 0; i < instances.size(); i++) {
+
+			S instance = instances.get(i);
+
+			// Drivers may execute a batch without reporting counts, in which case the row has to be checked. Executions
+			// reported as failed (Statement.EXECUTE_FAILED) did not update the row.
+			updated[i] = affectedRows[i] == Statement.SUCCESS_NO_INFO //
+					? isStoredWithCurrentVersion(instance, persistentEntity) //
+					: affectedRows[i] > 0;
+
+			if (updated[i] && changeDetector != null) {
+				changeDetector.capture(instance);
+			}
+		}
+
+		return updated;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, java.lang.Class)
@@ -199,9 +427,9 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	public void delete(Object id, Class<?> domainType) {
 
 		String deleteByIdSql = sql(domainType).getDeleteById();
-		SqlParameterSource parameter = createIdParameterSource(id, domainType);
 
-		operations.update(deleteByIdSql, parameter);
+		discardSnapshot(id, domainType);
+		updateById(deleteByIdSql, id, domainType, null);
 	}
 
 	/*
@@ -215,9 +443,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
 
-		SqlIdentifierParameterSource parameterSource = createIdParameterSource(id, domainType);
-		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
-		int affectedRows = operations.update(sql(domainType).getDeleteByIdAndVersion(), parameterSource);
+		discardSnapshot(id, domainType);
+		int affectedRows = updateById(sql(domainType).getDeleteByIdAndVersion(), id, domainType, previousVersion);
 
 		if (affectedRows == 0) {
 			throw new OptimisticLockingFailureException(
@@ -256,6 +483,11 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 */
 	@Override
 	public <T> void deleteAll(Class<T> domainType) {
+
+		if (changeDetector != null) {
+			changeDetector.discardAll(domainType);
+		}
+
 		operations.getJdbcOperations().update(sql(domainType).createDeleteAllSql(null));
 	}
 
@@ -275,11 +507,45 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 */
 	@Override
 	public <T> void acquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
+		tryAcquireLockById(id, lockMode, domainType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#tryAcquireLockById(java.lang.Object, org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
+	 */
+	@Override
+	public <T> boolean tryAcquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
 
 		String acquireLockByIdSql = sql(domainType).getAcquireLockById(lockMode);
 		SqlIdentifierParameterSource parameter = createIdParameterSource(id, domainType);
 
-		operations.query(acquireLockByIdSql, parameter, ResultSet::next);
+		Boolean locked = ReadWriteRouting
+				.readFromPrimary(() -> operations.query(acquireLockByIdSql, parameter, ResultSet::next));
+
+		return locked != null && locked;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#acquireLockAllById(java.lang.Iterable, org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
+	 */
+	@Override
+	public <T> Iterable<Object> acquireLockAllById(Iterable<?> ids, LockMode lockMode, Class<T> domainType) {
+
+		if (!ids.iterator().hasNext()) {
+			return Collections.emptyList();
+		}
+
+		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(domainType).getRequiredIdProperty();
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+
+		addConvertedPropertyValuesAsList(parameterSource, idProperty, ids, IDS_SQL_PARAMETER);
+
+		String acquireLockAllByIdSql = sql(domainType).getAcquireLockAllById(lockMode);
+
+		return ReadWriteRouting.readFromPrimary(() -> operations.query(acquireLockAllByIdSql, parameterSource,
+				(rs, rowNum) -> converter.readValue(rs.getObject(1), idProperty.getTypeInformation())));
 	}
 
 	/*
@@ -290,7 +556,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	public <T> void acquireLockAll(LockMode lockMode, Class<T> domainType) {
 
 		String acquireLockAllSql = sql(domainType).getAcquireLockAll(lockMode);
-		operations.getJdbcOperations().query(acquireLockAllSql, ResultSet::next);
+		ReadWriteRouting.readFromPrimary(() -> operations.getJdbcOperations().query(acquireLockAllSql, ResultSet::next));
 	}
 
 	/*
@@ -428,42 +694,120 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return operations.query(sql(domainType).getFindAll(pageable), (RowMapper<T>) getEntityRowMapper(domainType));
 	}
 
-	private <S, T> SqlIdentifierParameterSource getParameterSource(@Nullable S instance,
-			RelationalPersistentEntity<S> persistentEntity, String prefix,
-			Predicate<RelationalPersistentProperty> skipProperty, IdentifierProcessing identifierProcessing) {
+	/**
+	 * Executes a statement having the id and optionally the previous version as its only parameters.
+	 *
+	 * @return the number of affected rows.
+	 */
+	private int updateById(String sql, Object id, Class<?> domainType, @Nullable Number previousVersion) {
 
-		SqlIdentifierParameterSource parameters = new SqlIdentifierParameterSource(identifierProcessing);
+		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(domainType).getRequiredIdProperty();
+		JdbcValue jdbcValue = converter.writeJdbcValue(id, converter.getColumnType(idProperty),
+				converter.getSqlType(idProperty));
 
-		PersistentPropertyAccessor<S> propertyAccessor = instance != null ? persistentEntity.getPropertyAccessor(instance)
-				: NoValuePropertyAccessor.instance();
+		int parameterCount = previousVersion == null ? 1 : 2;
+		Object[] values = new Object[parameterCount];
+		int[] sqlTypes = new int[parameterCount];
 
-		persistentEntity.doWithAll(property -> {
+		values[0] = jdbcValue.getValue();
+		sqlTypes[0] = JdbcUtil.sqlTypeFor(jdbcValue.getJdbcType());
 
-			if (skipProperty.test(property) || !property.isWritable()) {
-				return;
-			}
-			if (property.isEntity() && !property.isEmbedded()) {
-				return;
-			}
+		if (previousVersion != null) {
+			values[1] = previousVersion;
+			sqlTypes[1] = JdbcUtils.TYPE_UNKNOWN;
+		}
 
-			if (property.isEmbedded()) {
+		PositionalStatement statement = getPositionalStatement(sql, () -> previousVersion == null //
+				? new String[] { ID_SQL_PARAMETER.getReference(getIdentifierProcessing()) } //
+				: new String[] { ID_SQL_PARAMETER.getReference(getIdentifierProcessing()),
+						VERSION_SQL_PARAMETER.getReference(getIdentifierProcessing()) });
 
-				Object value = propertyAccessor.getProperty(property);
-				RelationalPersistentEntity<?> embeddedEntity = context.getPersistentEntity(property.getType());
-				SqlIdentifierParameterSource additionalParameters = getParameterSource((T) value,
-						(RelationalPersistentEntity<T>) embeddedEntity, prefix + property.getEmbeddedPrefix(), skipProperty,
-						identifierProcessing);
-				parameters.addAll(additionalParameters);
-			} else {
+		return statement.update(operations.getJdbcOperations(), values, sqlTypes);
+	}
 
-				Object value = propertyAccessor.getProperty(property);
-				SqlIdentifier paramName = property.getColumnName().transform(prefix::concat);
+	/**
+	 * Returns the {@link PositionalStatement} for an update statement that additionally uses the previous version as its
+	 * last parameter.
+	 */
+	private PositionalStatement getUpdateWithVersionStatement(String updateSql, String[] parameterNames) {
 
-				addConvertedPropertyValue(parameters, property, value, paramName);
-			}
+		return getPositionalStatement(updateSql, () -> {
+
+			String[] namesWithVersion = Arrays.copyOf(parameterNames, parameterNames.length + 1);
+			namesWithVersion[parameterNames.length] = VERSION_SQL_PARAMETER.getReference(getIdentifierProcessing());
+			return namesWithVersion;
 		});
+	}
+
+	/**
+	 * Checks whether the row of the given instance carries the version currently set on the instance.
+	 */
+	private <S> boolean isStoredWithCurrentVersion(S instance, RelationalPersistentEntity<S> persistentEntity) {
+
+		Object id = persistentEntity.getIdentifierAccessor(instance).getRequiredIdentifier();
+		Object version = persistentEntity.getPropertyAccessor(instance)
+				.getProperty(persistentEntity.getRequiredVersionProperty());
+
+		SqlIdentifierParameterSource parameter = createIdParameterSource(id, persistentEntity.getType());
+		parameter.addValue(VERSION_SQL_PARAMETER, version);
 
-		return parameters;
+		Long count = operations.queryForObject(sql(persistentEntity.getType()).getExistsByIdAndVersion(), parameter,
+				Long.class);
+
+		return count != null && count > 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#warmUp(java.lang.Class)
+	 */
+	@Override
+	public void warmUp(Class<?> domainType) {
+
+		RelationalPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(domainType);
+
+		sqlGeneratorSource.warmUp(domainType);
+		getInsertPlan(persistentEntity);
+
+		if (persistentEntity.hasIdProperty()) {
+			getUpdatePlan(persistentEntity);
+		}
+
+		// referenced entities get inserted and loaded using the SqlGenerator of their own type
+		context.findPersistentPropertyPaths(domainType, PersistentProperty::isEntity) //
+				.filter(path -> !path.getRequiredLeafProperty().isEmbedded()) //
+				.forEach(path -> {
+
+					RelationalPersistentEntity<?> referencedEntity = getRequiredPersistentEntity(
+							path.getRequiredLeafProperty().getActualType());
+
+					sql(referencedEntity.getType());
+					getInsertPlan(referencedEntity);
+				});
+	}
+
+	/**
+	 * Returns the {@link PositionalStatement} for the given statement using named parameters. The parameter names only
+	 * get obtained when the statement isn't cached yet.
+	 */
+	private PositionalStatement getPositionalStatement(String namedSql, Supplier<String[]> parameterNames) {
+		return positionalStatements.computeIfAbsent(namedSql, sql -> PositionalStatement.of(sql, parameterNames.get()));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <S> WritePlan<S> getInsertPlan(RelationalPersistentEntity<S> persistentEntity) {
+
+		return (WritePlan<S>) insertPlans.computeIfAbsent(persistentEntity.getType(),
+				type -> WritePlan.create(persistentEntity, PersistentProperty::isIdProperty, context, converter,
+						getIdentifierProcessing()));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <S> WritePlan<S> getUpdatePlan(RelationalPersistentEntity<S> persistentEntity) {
+
+		return (WritePlan<S>) updatePlans.computeIfAbsent(persistentEntity.getType(),
+				type -> WritePlan.create(persistentEntity, Predicates.includeAll(), context, converter,
+						getIdentifierProcessing()));
 	}
 
 	/**
@@ -591,6 +935,46 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		parameterSource.addValue(paramName, convertedIds, typeNumber);
 	}
 
+	/**
+	 * Returns the columns of the aggregate root that changed since it was loaded.
+	 *
+	 * @return the changed columns or {@literal null} if they are unknown.
+	 */
+	@Nullable
+	private <S> Set<SqlIdentifier> getChangedColumns(S instance) {
+		return changeDetector == null ? null : changeDetector.getChangedColumns(instance);
+	}
+
+	/**
+	 * Discards the snapshot of an aggregate root that is about to get written, so it doesn't get used if the write
+	 * fails.
+	 */
+	private <S> void discardSnapshot(S instance, RelationalPersistentEntity<S> persistentEntity) {
+
+		if (changeDetector == null) {
+			return;
+		}
+
+		Object id = persistentEntity.getIdentifierAccessor(instance).getIdentifier();
+		if (id != null) {
+			changeDetector.discard(persistentEntity.getType(), id);
+		}
+	}
+
+	private void discardSnapshot(Object id, Class<?> domainType) {
+
+		if (changeDetector == null) {
+			return;
+		}
+
+		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(domainType).getRequiredIdProperty();
+		Object convertedId = converter.getConversionService().convert(id, idProperty.getType());
+
+		if (convertedId != null) {
+			changeDetector.discard(domainType, convertedId);
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private <S> RelationalPersistentEntity<S> getRequiredPersistentEntity(Class<S> domainType) {
 		return (RelationalPersistentEntity<S>) context.getRequiredPersistentEntity(domainType);
@@ -613,6 +997,60 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return new String[] { idColumn.getReference(getIdentifierProcessing()) };
 	}
 
+	/**
+	 * Identifies an {@code INSERT} statement by the entity and the columns inserted in addition to the ones of its
+	 * {@link WritePlan}, i.e. the parent keys and the id, in the order their values get bound.
+	 */
+	private static final class InsertKey {
+
+		private final Class<?> domainType;
+		private final List<SqlIdentifier> additionalColumns;
+
+		InsertKey(Class<?> domainType, List<SqlIdentifier> additionalColumns) {
+
+			this.domainType = domainType;
+			this.additionalColumns = additionalColumns;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof InsertKey)) {
+				return false;
+			}
+
+			InsertKey that = (InsertKey) o;
+			return domainType.equals(that.domainType) && additionalColumns.equals(that.additionalColumns);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * domainType.hashCode() + additionalColumns.hashCode();
+		}
+	}
+
+	/**
+	 * The values for inserting a single row along with the statement to bind them to.
+	 */
+	private static final class InsertValues {
+
+		private final InsertKey key;
+		private final PositionalStatement statement;
+		private final Object[] values;
+		private final int[] sqlTypes;
+
+		InsertValues(InsertKey key, PositionalStatement statement, Object[] values, int[] sqlTypes) {
+
+			this.key = key;
+			this.statement = statement;
+			this.values = values;
+			this.sqlTypes = sqlTypes;
+		}
+	}
+
 	/**
 	 * Utility to create {@link Predicate}s.
 	 */
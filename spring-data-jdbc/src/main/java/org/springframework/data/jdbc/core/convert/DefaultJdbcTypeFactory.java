@@ -19,13 +19,15 @@ import java.sql.Array;
 import java.sql.JDBCType;
 
 import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.relational.core.dialect.ArrayColumns;
 import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.util.Assert;
 
 /**
  * A {@link JdbcTypeFactory} that performs the conversion by utilizing
- * {@link JdbcOperations#execute(ConnectionCallback)}.
+ * {@link JdbcOperations#execute(ConnectionCallback)}. Array parameters are created lazily on the connection of the
+ * statement they get bound to, see {@link #createArrayParameter(Object)}.
  *
  * @author Jens Schauder
  * @since 1.1
@@ -33,6 +35,7 @@ import org.springframework.util.Assert;
 public class DefaultJdbcTypeFactory implements JdbcTypeFactory {
 
 	private final JdbcOperations operations;
+	private final ArrayColumns arrayColumns;
 
 	/**
 	 * Creates a new {@link DefaultJdbcTypeFactory}.
@@ -40,10 +43,25 @@ public class DefaultJdbcTypeFactory implements JdbcTypeFactory {
 	 * @param operations must not be {@literal null}.
 	 */
 	public DefaultJdbcTypeFactory(JdbcOperations operations) {
+		this(operations, ArrayColumns.Unsupported.INSTANCE);
+	}
+
+	/**
+	 * Creates a new {@link DefaultJdbcTypeFactory} that passes on primitive arrays unchanged where the
+	 * {@link ArrayColumns} of the dialect say the driver supports them.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param arrayColumns the array support of the dialect in use. Must not be {@literal null}.
+	 * @since 2.3
+	 * @see ArrayColumns#isPrimitiveArraySupported(Class)
+	 */
+	public DefaultJdbcTypeFactory(JdbcOperations operations, ArrayColumns arrayColumns) {
 
 		Assert.notNull(operations, "JdbcOperations must not be null");
+		Assert.notNull(arrayColumns, "ArrayColumns must not be null");
 
 		this.operations = operations;
+		this.arrayColumns = arrayColumns;
 	}
 
 	@Override
@@ -51,13 +69,42 @@ public class DefaultJdbcTypeFactory implements JdbcTypeFactory {
 
 		Assert.notNull(value, "Value must not be null.");
 
+		String typeName = arrayTypeName(value);
+
+		return operations.execute((ConnectionCallback<Array>) c -> c.createArrayOf(typeName, value));
+	}
+
+	/**
+	 * Returns a value that creates the {@link Array} when it gets bound to a statement, using the connection of that
+	 * statement instead of acquiring a separate connection per value. Primitive arrays get passed on unchanged when the
+	 * {@link ArrayColumns} of the dialect support them.
+	 *
+	 * @param value the array to be converted. Must not be {@literal null}.
+	 * @return the value to bind. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	@Override
+	public Object createArrayParameter(Object value) {
+
+		Assert.notNull(value, "Value must not be null.");
+		Assert.isTrue(value.getClass().isArray(), "Value must be an array.");
+
+		if (value.getClass().getComponentType().isPrimitive()
+				&& arrayColumns.isPrimitiveArraySupported(value.getClass())) {
+			return value;
+		}
+
+		return new DeferredArray(arrayTypeName(value), BasicJdbcConverter.requireObjectArray(value));
+	}
+
+	private static String arrayTypeName(Object value) {
+
 		Class<?> componentType = innermostComponentType(value);
 
 		JDBCType jdbcType = JdbcUtil.jdbcTypeFor(componentType);
 		Assert.notNull(jdbcType, () -> String.format("Couldn't determine JDBCType for %s", componentType));
-		String typeName = jdbcType.getName();
 
-		return operations.execute((ConnectionCallback<Array>) c -> c.createArrayOf(typeName, value));
+		return jdbcType.getName();
 	}
 
 	private static Class<?> innermostComponentType(Object convertedValue) {
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.jdbc.core.DisposableSqlTypeValue;
+import org.springframework.lang.Nullable;
+
+/**
+ * An array parameter value that creates the {@link Array} only when it gets bound to a {@link PreparedStatement},
+ * using the connection of that statement. Arrays created that way get freed once the statement parameters are cleaned
+ * up.
+ *
+ * @author agent
+ * @since 2.3
+ */
+final class DeferredArray implements DisposableSqlTypeValue {
+
+	private static final Log LOG = LogFactory.getLog(DeferredArray.class);
+
+	private final String typeName;
+	private final Object[] elements;
+	private final List<Array> createdArrays = new ArrayList<>(1);
+
+	DeferredArray(String typeName, Object[] elements) {
+
+		this.typeName = typeName;
+		this.elements = elements;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.jdbc.core.SqlTypeValue#setTypeValue(java.sql.PreparedStatement, int, int, java.lang.String)
+	 */
+	@Override
+	public void setTypeValue(PreparedStatement ps, int paramIndex, int sqlType, @Nullable String typeName)
+			throws SQLException {
+
+		Array array = ps.getConnection().createArrayOf(this.typeName, elements);
+		createdArrays.add(array);
+
+		ps.setArray(paramIndex, array);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.jdbc.core.DisposableSqlTypeValue#cleanup()
+	 */
+	@Override
+	public void cleanup() {
+
+		for (Array array : createdArrays) {
+			try {
+				array.free();
+			} catch (SQLException e) {
+				LOG.debug("Could not free JDBC array", e);
+			}
+		}
+
+		createdArrays.clear();
+	}
+
+	String getTypeName() {
+		return typeName;
+	}
+
+	Object[] getElements() {
+		return elements;
+	}
+
+	@Override
+	public String toString() {
+		return typeName + Arrays.toString(elements);
+	}
+}
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
@@ -45,6 +48,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.insert(instance, domainType, identifier);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insertAll(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <T> Object[] insertAll(List<T> instances, Class<T> domainType, List<Identifier> identifiers) {
+		return delegate.insertAll(instances, domainType, identifiers);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#update(java.lang.Object, java.lang.Class)
@@ -64,6 +76,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#updateAllWithVersion(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <S> boolean[] updateAllWithVersion(List<S> instances, Class<S> domainType, List<Number> previousVersions) {
+		return delegate.updateAllWithVersion(instances, domainType, previousVersions);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath)
@@ -118,6 +139,24 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		delegate.acquireLockById(id, lockMode, domainType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#tryAcquireLockById(java.lang.Object, org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
+	 */
+	@Override
+	public <T> boolean tryAcquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
+		return delegate.tryAcquireLockById(id, lockMode, domainType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#acquireLockAllById(java.lang.Iterable, org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
+	 */
+	@Override
+	public <T> Iterable<Object> acquireLockAllById(Iterable<?> ids, LockMode lockMode, Class<T> domainType) {
+		return delegate.acquireLockAllById(ids, lockMode, domainType);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#acquireLockAll(org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
@@ -176,6 +215,25 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAllByPath(identifier, path);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.RelationResolver#findAllByPathIn(java.util.List, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public Map<Identifier, Iterable<Object>> findAllByPathIn(List<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+		return delegate.findAllByPathIn(identifiers, path);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.RelationResolver#supportsFindAllByPathIn(org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public boolean supportsFindAllByPathIn(PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+		return delegate.supportsFindAllByPathIn(path);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#existsById(java.lang.Object, java.lang.Class)
@@ -203,6 +261,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAll(domainType, pageable);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#warmUp(java.lang.Class)
+	 */
+	@Override
+	public void warmUp(Class<?> domainType) {
+		delegate.warmUp(domainType);
+	}
+
 	/**
 	 * Must be called exactly once before calling any of the other methods.
 	 *
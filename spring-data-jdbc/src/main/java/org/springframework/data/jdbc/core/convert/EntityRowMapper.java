@@ -16,10 +16,14 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.sql.ResultSet;
+import java.util.function.Predicate;
 
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Maps a {@link ResultSet} to an entity of type {@code T}, including entities referenced. This {@link RowMapper} might
@@ -38,6 +42,8 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	private final PersistentPropertyPathExtension path;
 	private final JdbcConverter converter;
 	private final Identifier identifier;
+	private final @Nullable Predicate<? super RelationalPersistentProperty> propertyFilter;
+	private volatile @Nullable ResultSetReadPlan<T> resultSetReadPlan;
 
 	@SuppressWarnings("unchecked")
 	public EntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier) {
@@ -46,6 +52,7 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 		this.path = path;
 		this.converter = converter;
 		this.identifier = identifier;
+		this.propertyFilter = null;
 	}
 
 	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter) {
@@ -54,6 +61,29 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 		this.path = null;
 		this.converter = converter;
 		this.identifier = null;
+		this.propertyFilter = null;
+	}
+
+	/**
+	 * Creates a new {@link EntityRowMapper} that only reads the properties of {@code entity} accepted by
+	 * {@code propertyFilter}. Rejected properties are left unset, in particular collections and maps rejected by the
+	 * filter do not cause additional queries.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param propertyFilter must not be {@literal null}.
+	 * @since 2.3
+	 */
+	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter,
+			Predicate<? super RelationalPersistentProperty> propertyFilter) {
+
+		Assert.notNull(propertyFilter, "Property filter must not be null");
+
+		this.entity = entity;
+		this.path = null;
+		this.converter = converter;
+		this.identifier = null;
+		this.propertyFilter = propertyFilter;
 	}
 
 	/*
@@ -63,9 +93,57 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	@Override
 	public T mapRow(ResultSet resultSet, int rowNumber) {
 
-		return path == null //
-				? converter.mapRow(entity, resultSet, rowNumber) //
-				: converter.mapRow(path, resultSet, identifier, rowNumber);
+		if (path != null) {
+			return converter.mapRow(path, resultSet, identifier, rowNumber);
+		}
+
+		if (propertyFilter != null) {
+			return converter.mapRow(entity, resultSet, rowNumber, propertyFilter);
+		}
+
+		ReadPlan<T> readPlan = getReadPlan(resultSet);
+
+		return readPlan != null //
+				? readPlan.mapRow(resultSet) //
+				: converter.mapRow(entity, resultSet, rowNumber);
+	}
+
+	/**
+	 * Resolves the {@link ReadPlan} when the first row of a {@link ResultSet} gets mapped, so the column layout only
+	 * gets inspected once per query.
+	 */
+	@Nullable
+	private ReadPlan<T> getReadPlan(ResultSet resultSet) {
+
+		if (!(converter instanceof BasicJdbcConverter)) {
+			return null;
+		}
+
+		ResultSetReadPlan<T> current = this.resultSetReadPlan;
+
+		if (current == null || current.resultSet != resultSet) {
+
+			current = new ResultSetReadPlan<>(resultSet,
+					((BasicJdbcConverter) converter).getReadPlan(entity, resultSet));
+			this.resultSetReadPlan = current;
+		}
+
+		return current.readPlan;
+	}
+
+	/**
+	 * The {@link ReadPlan} resolved for a {@link ResultSet}, {@literal null} if rows need to get mapped generically.
+	 */
+	private static class ResultSetReadPlan<T> {
+
+		private final ResultSet resultSet;
+		private final @Nullable ReadPlan<T> readPlan;
+
+		ResultSetReadPlan(ResultSet resultSet, @Nullable ReadPlan<T> readPlan) {
+
+			this.resultSet = resultSet;
+			this.readPlan = readPlan;
+		}
 	}
 
 }
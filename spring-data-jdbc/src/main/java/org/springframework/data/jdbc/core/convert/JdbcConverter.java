@@ -16,6 +16,7 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.sql.ResultSet;
+import java.util.function.Predicate;
 
 import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
@@ -55,6 +56,25 @@ public interface JdbcConverter extends RelationalConverter {
 	 */
 	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key);
 
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link RelationalPersistentEntity#getType() entity}, considering
+	 * only those top-level properties that are accepted by {@code propertyFilter}. Properties rejected by the filter are
+	 * neither read from the {@link ResultSet} nor loaded through additional queries. This is used to materialize
+	 * projections without resolving references that are not part of the projection.
+	 *
+	 * @param entity the persistent entity type.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param key primary key.
+	 * @param propertyFilter decides which properties of {@code entity} to read. Must not be {@literal null}.
+	 * @param <T>
+	 * @return
+	 * @since 2.3
+	 */
+	default <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			Predicate<? super RelationalPersistentProperty> propertyFilter) {
+		return mapRow(entity, resultSet, key);
+	}
+
 	/**
 	 * Read the current row from {@link ResultSet} to an {@link PersistentPropertyPathExtension#getActualType() entity}.
 	 *
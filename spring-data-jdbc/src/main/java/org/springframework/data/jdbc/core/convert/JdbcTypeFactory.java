@@ -44,4 +44,18 @@ public interface JdbcTypeFactory {
 	 * @return an {@link Array}. Guaranteed to be not {@literal null}.
 	 */
 	Array createArray(Object[] value);
+
+	/**
+	 * Converts the provided array into a value that can be bound as a parameter of {@link java.sql.Types#ARRAY} type.
+	 * Implementations may return a value that creates the actual {@link Array} only when it gets bound to a statement,
+	 * e.g. a {@link org.springframework.jdbc.core.SqlTypeValue}. The default implementation delegates to
+	 * {@link #createArray(Object[])}.
+	 *
+	 * @param value the array to be converted. May be an array of primitives. Must not be {@literal null}.
+	 * @return the value to bind. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	default Object createArrayParameter(Object value) {
+		return createArray(BasicJdbcConverter.requireObjectArray(value));
+	}
 }
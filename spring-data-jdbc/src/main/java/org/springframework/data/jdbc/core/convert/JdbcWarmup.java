@@ -0,0 +1,236 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.util.Assert;
+
+/**
+ * Prepares everything needed for accessing aggregates at application startup instead of on first use: the
+ * {@link org.springframework.data.relational.core.mapping.RelationalPersistentEntity persistent entities}, the SQL
+ * statements and write plans of the {@link DataAccessStrategy} and, for repositories, the repository instance including
+ * its query methods. This avoids latency spikes on the first requests after a deployment.
+ * <p>
+ * Aggregate types get {@link #register(Class) registered} by the repositories using them. The warm-up runs once all
+ * singletons got instantiated and records the time spent per aggregate type, available through {@link #getTimings()}.
+ *
+ * @author agent
+ * @since 2.3
+ */
+public class JdbcWarmup implements SmartInitializingSingleton {
+
+	private static final Logger LOG = LoggerFactory.getLogger(JdbcWarmup.class);
+
+	private final RelationalMappingContext context;
+	private final DataAccessStrategy accessStrategy;
+	private final Map<Class<?>, List<Runnable>> initializers = new LinkedHashMap<>();
+
+	private Mode mode = Mode.SEQUENTIAL;
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+	private volatile Map<Class<?>, Duration> timings = Collections.emptyMap();
+
+	/**
+	 * Creates a new {@link JdbcWarmup} running in {@link Mode#SEQUENTIAL} mode.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param accessStrategy must not be {@literal null}.
+	 */
+	public JdbcWarmup(RelationalMappingContext context, DataAccessStrategy accessStrategy) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+		Assert.notNull(accessStrategy, "DataAccessStrategy must not be null");
+
+		this.context = context;
+		this.accessStrategy = accessStrategy;
+	}
+
+	/**
+	 * @param mode determines whether and how the warm-up runs. Must not be {@literal null}.
+	 */
+	public void setMode(Mode mode) {
+
+		Assert.notNull(mode, "Mode must not be null");
+
+		this.mode = mode;
+	}
+
+	/**
+	 * @return whether the warm-up runs at all.
+	 */
+	public boolean isEnabled() {
+		return mode != Mode.DISABLED;
+	}
+
+	/**
+	 * @param pool the {@link ForkJoinPool} used in {@link Mode#PARALLEL} mode. Defaults to
+	 *          {@link ForkJoinPool#commonPool()}. Must not be {@literal null}.
+	 */
+	public void setForkJoinPool(ForkJoinPool pool) {
+
+		Assert.notNull(pool, "ForkJoinPool must not be null");
+
+		this.pool = pool;
+	}
+
+	/**
+	 * Registers an aggregate type to warm up.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 */
+	public void register(Class<?> domainType) {
+		register(domainType, () -> {});
+	}
+
+	/**
+	 * Registers an aggregate type to warm up together with an initializer running as part of the warm-up of that type,
+	 * for example the creation of a repository. Types registered after the warm-up ran get warmed up by the next call
+	 * to {@link #warmUp()} only.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 * @param initializer must not be {@literal null}.
+	 */
+	public void register(Class<?> domainType, Runnable initializer) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(initializer, "Initializer must not be null");
+
+		synchronized (initializers) {
+			initializers.computeIfAbsent(domainType, it -> new ArrayList<>()).add(initializer);
+		}
+	}
+
+	/**
+	 * @return the time the last warm-up took per aggregate type, in the order the types got registered. Empty when no
+	 *         warm-up happened yet. Guaranteed to be not {@literal null}.
+	 */
+	public Map<Class<?>, Duration> getTimings() {
+		return timings;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.SmartInitializingSingleton#afterSingletonsInstantiated()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		if (isEnabled()) {
+			warmUp();
+		}
+	}
+
+	/**
+	 * Warms up all registered aggregate types. Initializers always run sequentially on the calling thread, since they may
+	 * obtain beans. Failures get logged and don't stop the warm-up of other types, since they will surface again on first
+	 * use.
+	 *
+	 * @return the time spent per aggregate type. Guaranteed to be not {@literal null}.
+	 */
+	public Map<Class<?>, Duration> warmUp() {
+
+		long start = System.nanoTime();
+
+		Map<Class<?>, List<Runnable>> toWarmUp;
+		synchronized (initializers) {
+			toWarmUp = new LinkedHashMap<>(initializers);
+		}
+
+		Map<Class<?>, Long> nanos = new LinkedHashMap<>();
+		toWarmUp.forEach(
+				(type, typeInitializers) -> nanos.put(type, timed(type, () -> typeInitializers.forEach(Runnable::run))));
+
+		if (mode == Mode.PARALLEL) {
+
+			Map<Class<?>, ForkJoinTask<Long>> tasks = new LinkedHashMap<>();
+			toWarmUp.keySet().forEach(type -> tasks.put(type, pool.submit(() -> timed(type, () -> warmUp(type)))));
+			tasks.forEach((type, task) -> nanos.merge(type, task.join(), Long::sum));
+		} else {
+			toWarmUp.keySet().forEach(type -> nanos.merge(type, timed(type, () -> warmUp(type)), Long::sum));
+		}
+
+		Map<Class<?>, Duration> result = new LinkedHashMap<>();
+		nanos.forEach((type, time) -> {
+
+			Duration duration = Duration.ofNanos(time);
+			result.put(type, duration);
+
+			if (LOG.isDebugEnabled()) {
+				LOG.debug(String.format("Warmed up %s in %d ms", type.getName(), duration.toMillis()));
+			}
+		});
+
+		if (LOG.isInfoEnabled()) {
+			LOG.info(String.format("Warmed up %d aggregate types in %d ms", result.size(),
+					Duration.ofNanos(System.nanoTime() - start).toMillis()));
+		}
+
+		this.timings = Collections.unmodifiableMap(result);
+
+		return this.timings;
+	}
+
+	private void warmUp(Class<?> domainType) {
+
+		context.getRequiredPersistentEntity(domainType);
+		accessStrategy.warmUp(domainType);
+	}
+
+	private static long timed(Class<?> domainType, Runnable action) {
+
+		long start = System.nanoTime();
+
+		try {
+			action.run();
+		} catch (RuntimeException e) {
+			LOG.warn(String.format("Warm-up of %s failed", domainType.getName()), e);
+		}
+
+		return System.nanoTime() - start;
+	}
+
+	/**
+	 * Determines whether and how the warm-up runs.
+	 */
+	public enum Mode {
+
+		/**
+		 * No warm-up happens.
+		 */
+		DISABLED,
+
+		/**
+		 * Aggregate types get warmed up one after the other.
+		 */
+		SEQUENTIAL,
+
+		/**
+		 * Aggregate types get warmed up concurrently on a {@link ForkJoinPool}.
+		 */
+		PARALLEL
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collects the {@link Identifier}s of {@link LazyLoadingProxy lazy loading proxies} for the same property path created
+ * within a transaction, so that accessing one of them loads the referenced entities of all of them using a single
+ * {@link RelationResolver#findAllByPathIn(List, PersistentPropertyPath)} call. Batches are bound to the transaction
+ * synchronization of the current thread and get discarded on completion of the transaction.
+ *
+ * @author agent
+ * @since 2.3
+ */
+class LazyLoadingBatch {
+
+	private final RelationResolver relationResolver;
+	private final PersistentPropertyPath<? extends RelationalPersistentProperty> path;
+	private final int size;
+
+	private final List<Identifier> identifiers = new ArrayList<>();
+	@Nullable private Map<Identifier, Iterable<Object>> loaded;
+
+	private LazyLoadingBatch(RelationResolver relationResolver,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path, int size) {
+
+		this.relationResolver = relationResolver;
+		this.path = path;
+		this.size = size;
+	}
+
+	/**
+	 * Adds the {@link Identifier} to the open batch for the given path, starting a new batch if there is none or the
+	 * current one can't take it.
+	 *
+	 * @param scope the key under which the batches get bound to the transaction synchronization.
+	 * @param relationResolver used for loading the batch.
+	 * @param identifier the {@link Identifier} of the relation to load.
+	 * @param path the path of the relation to load.
+	 * @param size the maximum number of {@link Identifier}s in a batch.
+	 * @return the batch the {@link Identifier} was added to. {@literal null} if there is no active transaction
+	 *         synchronization.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	static LazyLoadingBatch join(Object scope, RelationResolver relationResolver, Identifier identifier,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path, int size) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		Map<String, LazyLoadingBatch> batches = (Map<String, LazyLoadingBatch>) TransactionSynchronizationManager
+				.getResource(scope);
+
+		if (batches == null) {
+
+			batches = new HashMap<>();
+			TransactionSynchronizationManager.bindResource(scope, batches);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(scope);
+				}
+			});
+		}
+
+		String key = path.getBaseProperty().getOwner().getType().getName() + "." + path.toDotPath();
+		LazyLoadingBatch batch = batches.get(key);
+
+		if (batch == null || !batch.add(identifier)) {
+
+			batch = new LazyLoadingBatch(relationResolver, path, size);
+			batch.add(identifier);
+			batches.put(key, batch);
+		}
+
+		return batch;
+	}
+
+	/**
+	 * Returns the entities referenced by the given {@link Identifier}, loading the entities of all {@link Identifier}s
+	 * of this batch on first access. {@link Identifier}s of this batch without referenced entities resolve to an empty
+	 * collection without issuing another query.
+	 *
+	 * @param identifier the {@link Identifier} of the relation to load.
+	 * @return the referenced entities.
+	 */
+	synchronized Iterable<Object> get(Identifier identifier) {
+
+		if (loaded == null) {
+
+			loaded = new HashMap<>(relationResolver.findAllByPathIn(new ArrayList<>(identifiers), path));
+
+			// implementations may leave out identifiers without referenced entities
+			for (Identifier batched : identifiers) {
+				loaded.putIfAbsent(batched, Collections.emptyList());
+			}
+		}
+
+		Iterable<Object> entities = loaded.remove(identifier);
+
+		return entities == null ? relationResolver.findAllByPath(identifier, path) : entities;
+	}
+
+	private synchronized boolean add(Identifier identifier) {
+
+		if (loaded != null || identifiers.size() >= size || identifiers.contains(identifier)) {
+			return false;
+		}
+
+		identifiers.add(identifier);
+		return true;
+	}
+}
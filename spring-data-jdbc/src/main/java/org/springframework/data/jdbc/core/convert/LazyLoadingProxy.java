@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * Interface implemented by the proxies used for lazily loaded {@link java.util.Collection} and {@link java.util.Map}
+ * properties. The proxy holds everything required to load the referenced entities and does so on first access of any
+ * collection or map method.
+ *
+ * @author agent
+ * @since 2.3
+ * @see org.springframework.data.relational.core.mapping.MappedCollection#lazy()
+ * @see org.springframework.data.relational.core.mapping.LazyLoading
+ */
+public interface LazyLoadingProxy {
+
+	/**
+	 * @return {@literal true} if the referenced entities have been loaded already.
+	 */
+	boolean isResolved();
+
+	/**
+	 * @return the {@link Identifier} of the parent of the referenced entities, i.e. the back reference used for loading
+	 *         them. Guaranteed to be not {@literal null}.
+	 */
+	Identifier getIdentifier();
+
+	/**
+	 * @return the path from the aggregate root to the referenced entities. Guaranteed to be not {@literal null}.
+	 */
+	PersistentPropertyPath<? extends RelationalPersistentProperty> getPath();
+}
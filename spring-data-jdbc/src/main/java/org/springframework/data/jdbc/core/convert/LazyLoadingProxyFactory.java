@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Creates {@link LazyLoadingProxy lazy loading proxies} for {@link Collection} and {@link Map} properties. The
+ * referenced entities get loaded on the first invocation of any method of the proxied interface.
+ *
+ * @author agent
+ * @since 2.3
+ */
+final class LazyLoadingProxyFactory {
+
+	private LazyLoadingProxyFactory() {
+	}
+
+	/**
+	 * Checks if properties of the given type can be represented by a lazy loading proxy. Only the interfaces
+	 * {@link Iterable}, {@link Collection}, {@link List}, {@link Set} and {@link Map} can be proxied.
+	 *
+	 * @param type the type of the property. Must not be {@literal null}.
+	 * @return {@literal true} if a proxy can be assigned to a property of the given type.
+	 */
+	static boolean canProxy(Class<?> type) {
+
+		return type == Iterable.class //
+				|| type == Collection.class //
+				|| type == List.class //
+				|| type == Set.class //
+				|| type == Map.class;
+	}
+
+	/**
+	 * Creates a proxy implementing {@code type} and {@link LazyLoadingProxy}.
+	 *
+	 * @param type the type of the property. Must be a type for which {@link #canProxy(Class)} returns {@literal true}.
+	 * @param identifier the back reference of the referenced entities. Must not be {@literal null}.
+	 * @param path the path to the referenced entities. Must not be {@literal null}.
+	 * @param loader loads the referenced entities when the proxy gets accessed the first time. For {@link Map} properties
+	 *          the loaded entities are expected to be {@link Map.Entry map entries}. Must not be {@literal null}.
+	 * @return the proxy. Guaranteed to be not {@literal null}.
+	 */
+	static Object createProxy(Class<?> type, Identifier identifier,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path, Supplier<Iterable<Object>> loader) {
+
+		Assert.isTrue(canProxy(type), () -> String.format("Can't create a lazy loading proxy for %s", type.getName()));
+		Assert.notNull(identifier, "Identifier must not be null");
+		Assert.notNull(path, "Path must not be null");
+		Assert.notNull(loader, "Loader must not be null");
+
+		return Proxy.newProxyInstance(LazyLoadingProxyFactory.class.getClassLoader(),
+				new Class<?>[] { type, LazyLoadingProxy.class },
+				new LazyLoadingInterceptor(type, identifier, path, loader));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object toPropertyValue(Class<?> type, Iterable<Object> loaded) {
+
+		if (type == Map.class) {
+			return new IterableOfEntryToMapConverter().convert(loaded);
+		}
+
+		Collection<Object> result = type == Set.class ? new LinkedHashSet<>() : new ArrayList<>();
+		loaded.forEach(result::add);
+
+		return result;
+	}
+
+	/**
+	 * {@link InvocationHandler} loading the referenced entities on first access and delegating all invocations to the
+	 * loaded {@link Collection} or {@link Map}.
+	 */
+	private static class LazyLoadingInterceptor implements InvocationHandler, LazyLoadingProxy {
+
+		private final Class<?> type;
+		private final Identifier identifier;
+		private final PersistentPropertyPath<? extends RelationalPersistentProperty> path;
+		private final Supplier<Iterable<Object>> loader;
+
+		private volatile @Nullable Object target;
+
+		LazyLoadingInterceptor(Class<?> type, Identifier identifier,
+				PersistentPropertyPath<? extends RelationalPersistentProperty> path, Supplier<Iterable<Object>> loader) {
+
+			this.type = type;
+			this.identifier = identifier;
+			this.path = path;
+			this.loader = loader;
+		}
+
+		@Override
+		@Nullable
+		public Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+			Object invocationTarget = method.getDeclaringClass() == LazyLoadingProxy.class ? this : getTarget();
+
+			try {
+				return method.invoke(invocationTarget, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+
+		@Override
+		public boolean isResolved() {
+			return target != null;
+		}
+
+		@Override
+		public Identifier getIdentifier() {
+			return identifier;
+		}
+
+		@Override
+		public PersistentPropertyPath<? extends RelationalPersistentProperty> getPath() {
+			return path;
+		}
+
+		private Object getTarget() {
+
+			Object result = target;
+
+			if (result == null) {
+
+				synchronized (this) {
+
+					result = target;
+
+					if (result == null) {
+
+						result = toPropertyValue(type, loader.get());
+						target = result;
+					}
+				}
+			}
+
+			return result;
+		}
+	}
+}
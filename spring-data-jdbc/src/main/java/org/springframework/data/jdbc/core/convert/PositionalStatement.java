@@ -0,0 +1,252 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.util.Assert;
+
+/**
+ * A statement using named parameters converted once into its positional ({@code ?}-based) form. Values get bound from
+ * flat arrays of values and SQL types, so executing the statement requires neither parsing nor name lookups.
+ *
+ * @author agent
+ * @since 2.3
+ */
+final class PositionalStatement {
+
+	private final String sql;
+	private final int[] valueIndexes;
+
+	private PositionalStatement(String sql, int[] valueIndexes) {
+
+		this.sql = sql;
+		this.valueIndexes = valueIndexes;
+	}
+
+	/**
+	 * Converts a statement using named parameters into a {@link PositionalStatement}.
+	 *
+	 * @param namedSql the statement using named parameters. Must not be {@literal null}.
+	 * @param parameterNames the names of the parameters in the order their values get provided when binding the
+	 *          statement. Must contain all parameters used by the statement.
+	 * @return the {@link PositionalStatement}. Guaranteed to be not {@literal null}.
+	 */
+	static PositionalStatement of(String namedSql, String[] parameterNames) {
+
+		Assert.notNull(namedSql, "SQL must not be null");
+		Assert.notNull(parameterNames, "Parameter names must not be null");
+
+		Map<String, Object> indexes = new HashMap<>();
+		for (int i = 0; i < parameterNames.length; i++) {
+			indexes.put(parameterNames[i], i);
+		}
+
+		MapSqlParameterSource indexSource = new MapSqlParameterSource(indexes);
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(namedSql);
+
+		// resolving the parameters against their indexes yields the index of the value for each placeholder
+		Object[] placeholderIndexes = NamedParameterUtils.buildValueArray(parsedSql, indexSource, null);
+
+		int[] valueIndexes = new int[placeholderIndexes.length];
+		for (int i = 0; i < placeholderIndexes.length; i++) {
+			valueIndexes[i] = (Integer) placeholderIndexes[i];
+		}
+
+		return new PositionalStatement(NamedParameterUtils.substituteNamedParameters(parsedSql, indexSource),
+				valueIndexes);
+	}
+
+	/**
+	 * @return the statement using {@code ?} as placeholders.
+	 */
+	String getSql() {
+		return sql;
+	}
+
+	/**
+	 * Executes the statement as an update.
+	 *
+	 * @param operations the {@link JdbcOperations} to use.
+	 * @param values the values of the parameters in the order of the parameter names used for creating the statement.
+	 * @param sqlTypes the SQL types of the parameters. {@link org.springframework.jdbc.support.JdbcUtils#TYPE_UNKNOWN}
+	 *          if unknown.
+	 * @return the number of affected rows.
+	 */
+	int update(JdbcOperations operations, Object[] values, int[] sqlTypes) {
+		return operations.update(sql, new ArrayPreparedStatementSetter(valueIndexes, values, sqlTypes));
+	}
+
+	/**
+	 * Executes the statement as an update, retrieving the keys generated by the database.
+	 *
+	 * @param operations the {@link JdbcOperations} to use.
+	 * @param values the values of the parameters in the order of the parameter names used for creating the statement.
+	 * @param sqlTypes the SQL types of the parameters.
+	 * @param keyHolder the {@link KeyHolder} receiving the generated keys.
+	 * @param keyColumnNames the names of the columns holding generated keys. Empty to let the driver determine them.
+	 * @return the number of affected rows.
+	 */
+	int update(JdbcOperations operations, Object[] values, int[] sqlTypes, KeyHolder keyHolder,
+			String[] keyColumnNames) {
+
+		ArrayPreparedStatementSetter setter = new ArrayPreparedStatementSetter(valueIndexes, values, sqlTypes);
+
+		return operations.update(new ArrayPreparedStatementCreator(sql, keyColumnNames, setter), keyHolder);
+	}
+
+	/**
+	 * Executes the statement as a single JDBC batch, once for each set of values.
+	 *
+	 * @param operations the {@link JdbcOperations} to use.
+	 * @param values the values of the parameters for each execution, in the order of the parameter names used for
+	 *          creating the statement.
+	 * @param sqlTypes the SQL types of the parameters for each execution.
+	 * @return the number of affected rows for each execution as reported by the driver. May contain
+	 *         {@link java.sql.Statement#SUCCESS_NO_INFO}.
+	 */
+	int[] batchUpdate(JdbcOperations operations, List<Object[]> values, List<int[]> sqlTypes) {
+
+		Assert.isTrue(values.size() == sqlTypes.size(), "Values and SQL types must be provided for each execution");
+
+		return operations.batchUpdate(sql, new ArrayBatchPreparedStatementSetter(valueIndexes, values, sqlTypes));
+	}
+
+	private static void setValues(PreparedStatement ps, int[] valueIndexes, Object[] values, int[] sqlTypes)
+			throws SQLException {
+
+		for (int i = 0; i < valueIndexes.length; i++) {
+
+			int valueIndex = valueIndexes[i];
+			StatementCreatorUtils.setParameterValue(ps, i + 1, sqlTypes[valueIndex], values[valueIndex]);
+		}
+	}
+
+	/**
+	 * {@link PreparedStatementSetter} binding values held in arrays.
+	 */
+	private static class ArrayPreparedStatementSetter implements PreparedStatementSetter, ParameterDisposer {
+
+		private final int[] valueIndexes;
+		private final Object[] values;
+		private final int[] sqlTypes;
+
+		ArrayPreparedStatementSetter(int[] valueIndexes, Object[] values, int[] sqlTypes) {
+
+			this.valueIndexes = valueIndexes;
+			this.values = values;
+			this.sqlTypes = sqlTypes;
+		}
+
+		@Override
+		public void setValues(PreparedStatement ps) throws SQLException {
+			PositionalStatement.setValues(ps, valueIndexes, values, sqlTypes);
+		}
+
+		@Override
+		public void cleanupParameters() {
+			StatementCreatorUtils.cleanupParameters(values);
+		}
+	}
+
+	/**
+	 * {@link PreparedStatementCreator} creating a statement returning generated keys and binding values held in arrays.
+	 */
+	private static class ArrayPreparedStatementCreator
+			implements PreparedStatementCreator, SqlProvider, ParameterDisposer {
+
+		private final String sql;
+		private final String[] keyColumnNames;
+		private final ArrayPreparedStatementSetter setter;
+
+		ArrayPreparedStatementCreator(String sql, String[] keyColumnNames, ArrayPreparedStatementSetter setter) {
+
+			this.sql = sql;
+			this.keyColumnNames = keyColumnNames;
+			this.setter = setter;
+		}
+
+		@Override
+		public PreparedStatement createPreparedStatement(Connection connection) throws SQLException {
+
+			PreparedStatement ps = keyColumnNames.length == 0 //
+					? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) //
+					: connection.prepareStatement(sql, keyColumnNames);
+
+			setter.setValues(ps);
+			return ps;
+		}
+
+		@Override
+		public String getSql() {
+			return sql;
+		}
+
+		@Override
+		public void cleanupParameters() {
+			setter.cleanupParameters();
+		}
+	}
+
+	/**
+	 * {@link BatchPreparedStatementSetter} binding values held in one pair of arrays per execution.
+	 */
+	private static class ArrayBatchPreparedStatementSetter implements BatchPreparedStatementSetter, ParameterDisposer {
+
+		private final int[] valueIndexes;
+		private final List<Object[]> values;
+		private final List<int[]> sqlTypes;
+
+		ArrayBatchPreparedStatementSetter(int[] valueIndexes, List<Object[]> values, List<int[]> sqlTypes) {
+
+			this.valueIndexes = valueIndexes;
+			this.values = values;
+			this.sqlTypes = sqlTypes;
+		}
+
+		@Override
+		public void setValues(PreparedStatement ps, int i) throws SQLException {
+			PositionalStatement.setValues(ps, valueIndexes, values.get(i), sqlTypes.get(i));
+		}
+
+		@Override
+		public int getBatchSize() {
+			return values.size();
+		}
+
+		@Override
+		public void cleanupParameters() {
+			values.forEach(StatementCreatorUtils::cleanupParameters);
+		}
+	}
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.core.mapping.JdbcSimpleTypes;
+import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * SQL statements of aggregates rendered in advance, typically at build time, so that {@link SqlGeneratorSource} doesn't
+ * need to render them at runtime. Statements get stored per {@link Dialect} and its {@link IdentifierProcessing} in a
+ * properties resource at {@code META-INF/spring-data-jdbc/sql/<dialect>-<identifier processing>.properties}, which
+ * gets picked up from the classpath automatically. The resource name contains the simple name of the dialect class and
+ * a hash of the quoting and letter casing of its identifiers.
+ * <p>
+ * Each aggregate type comes with a fingerprint of its mapping: table and column names of all property paths, the
+ * quoting and letter casing of identifiers and the Spring Data JDBC version. Statements of a type whose fingerprint
+ * doesn't match the runtime mapping get ignored and rendered as usual.
+ * <p>
+ * The resource gets created by {@link #write(RelationalMappingContext, JdbcConverter, Dialect, Iterable, OutputStream)}
+ * or, for applications using the default {@link org.springframework.data.relational.core.mapping.NamingStrategy} and
+ * conversions, by running {@link #main(String[])} as part of the build.
+ *
+ * @author agent
+ * @since 2.3
+ */
+public class PrecomputedSqlStatements {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PrecomputedSqlStatements.class);
+
+	private static final String LOCATION = "META-INF/spring-data-jdbc/sql/%s-%s.properties";
+	private static final String FINGERPRINT = "fingerprint";
+	private static final char SEPARATOR = '#';
+
+	private static final PrecomputedSqlStatements EMPTY = new PrecomputedSqlStatements(Collections.emptyMap());
+
+	private final Map<String, Map<String, String>> statementsByType;
+
+	private PrecomputedSqlStatements(Map<String, Map<String, String>> statementsByType) {
+		this.statementsByType = statementsByType;
+	}
+
+	/**
+	 * @return a {@link PrecomputedSqlStatements} instance without any statements.
+	 */
+	public static PrecomputedSqlStatements empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Loads the statements for the given {@link Dialect} from all matching resources on the classpath.
+	 *
+	 * @param dialect must not be {@literal null}.
+	 * @param classLoader the {@link ClassLoader} to load resources with. Uses the default {@link ClassLoader} when
+	 *          {@literal null}.
+	 * @return the loaded statements. {@link #empty()} when there are no resources. Guaranteed to be not {@literal null}.
+	 */
+	public static PrecomputedSqlStatements load(Dialect dialect, @Nullable ClassLoader classLoader) {
+
+		Assert.notNull(dialect, "Dialect must not be null");
+
+		ClassLoader loader = classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader();
+		String location = getLocation(dialect);
+
+		Map<String, Map<String, String>> statementsByType = new HashMap<>();
+
+		try {
+
+			Enumeration<URL> resources = loader == null ? ClassLoader.getSystemResources(location)
+					: loader.getResources(location);
+
+			while (resources.hasMoreElements()) {
+
+				Properties properties = new Properties();
+
+				try (InputStream in = resources.nextElement().openStream()) {
+					properties.load(in);
+				}
+
+				properties.forEach((key, value) -> {
+
+					String name = key.toString();
+					int separator = name.indexOf(SEPARATOR);
+
+					if (separator > 0) {
+						statementsByType.computeIfAbsent(name.substring(0, separator), it -> new HashMap<>())
+								.put(name.substring(separator + 1), value.toString());
+					}
+				});
+			}
+		} catch (IOException e) {
+
+			LOG.warn(String.format("Failed to load precomputed SQL statements from %s", location), e);
+
+			return EMPTY;
+		}
+
+		return statementsByType.isEmpty() ? EMPTY : new PrecomputedSqlStatements(statementsByType);
+	}
+
+	/**
+	 * Returns the statements of the given entity if they match its current mapping and the {@link IdentifierProcessing}
+	 * of the dialect.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return statements by name. Empty if there are no matching statements. Guaranteed to be not {@literal null}.
+	 */
+	Map<String, String> getStatements(RelationalMappingContext context, Dialect dialect,
+			RelationalPersistentEntity<?> entity) {
+
+		Map<String, String> statements = statementsByType.get(entity.getType().getName());
+
+		if (statements == null) {
+			return Collections.emptyMap();
+		}
+
+		if (!fingerprint(context, dialect, entity).equals(statements.get(FINGERPRINT))) {
+
+			LOG.warn(String.format("Ignoring precomputed SQL statements for %s since they don't match its mapping",
+					entity.getType().getName()));
+
+			return Collections.emptyMap();
+		}
+
+		return statements;
+	}
+
+	/**
+	 * Renders the statements of the given aggregate types and writes them in the format expected by
+	 * {@link #load(Dialect, ClassLoader)}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param types the aggregate types to render statements for. Must not be {@literal null}.
+	 * @param out the stream to write to. Must not be {@literal null}. Doesn't get closed.
+	 * @throws IOException when writing fails.
+	 */
+	public static void write(RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			Iterable<Class<?>> types, OutputStream out) throws IOException {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+		Assert.notNull(converter, "JdbcConverter must not be null");
+		Assert.notNull(dialect, "Dialect must not be null");
+		Assert.notNull(types, "Types must not be null");
+		Assert.notNull(out, "OutputStream must not be null");
+
+		Map<String, String> entries = new TreeMap<>();
+
+		for (Class<?> type : types) {
+
+			RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(type);
+			SqlGenerator sqlGenerator = new SqlGenerator(context, converter, entity, dialect);
+
+			entries.put(type.getName() + SEPARATOR + FINGERPRINT, fingerprint(context, dialect, entity));
+			sqlGenerator.getStatements().forEach((name, sql) -> entries.put(type.getName() + SEPARATOR + name, sql));
+		}
+
+		// Properties take care of escaping. Comments get dropped since they contain the current date.
+		StringWriter buffer = new StringWriter();
+		new OrderedProperties(entries).store(buffer, null);
+
+		Writer writer = new OutputStreamWriter(out, StandardCharsets.ISO_8859_1);
+
+		for (String line : buffer.toString().split("\\R")) {
+			if (!line.startsWith("#")) {
+				writer.write(line);
+				writer.write('\n');
+			}
+		}
+
+		writer.flush();
+	}
+
+	/**
+	 * Writes the statements of aggregate types using the default {@link JdbcMappingContext} and the conversions of the
+	 * dialect into the resource expected by {@link #load(Dialect, ClassLoader)}. Intended to be run after compilation,
+	 * for example with the {@code exec-maven-plugin}.
+	 *
+	 * @param args the output directory, typically {@code target/classes}, the name of the {@link Dialect} class and the
+	 *          names of the aggregate types.
+	 * @throws Exception when the statements can't be written.
+	 */
+	public static void main(String[] args) throws Exception {
+
+		Assert.isTrue(args.length >= 3, "Usage: PrecomputedSqlStatements <output directory> <dialect class> <types>");
+
+		ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+		Dialect dialect = instantiate(ClassUtils.forName(args[1], classLoader));
+
+		List<Class<?>> types = new ArrayList<>();
+		for (int i = 2; i < args.length; i++) {
+			types.add(ClassUtils.forName(args[i], classLoader));
+		}
+
+		SimpleTypeHolder simpleTypeHolder = dialect.simpleTypes().isEmpty() ? JdbcSimpleTypes.HOLDER
+				: new SimpleTypeHolder(dialect.simpleTypes(), JdbcSimpleTypes.HOLDER);
+		List<Object> storeConverters = new ArrayList<>(dialect.getConverters());
+		storeConverters.addAll(JdbcCustomConversions.storeConverters());
+		JdbcCustomConversions conversions = new JdbcCustomConversions(
+				CustomConversions.StoreConversions.of(simpleTypeHolder, storeConverters), Collections.emptyList());
+
+		JdbcMappingContext context = new JdbcMappingContext();
+		context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+
+		JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+			throw new UnsupportedOperationException();
+		}, conversions, JdbcTypeFactory.unsupported(), dialect.getIdentifierProcessing());
+
+		File file = new File(args[0], getLocation(dialect));
+		Assert.state(file.getParentFile().isDirectory() || file.getParentFile().mkdirs(),
+				() -> "Cannot create directory " + file.getParentFile());
+
+		try (OutputStream out = new FileOutputStream(file)) {
+			write(context, converter, dialect, types, out);
+		}
+	}
+
+	/**
+	 * Creates a fingerprint of everything the statements of an aggregate depend on.
+	 */
+	static String fingerprint(RelationalMappingContext context, Dialect dialect, RelationalPersistentEntity<?> entity) {
+
+		StringBuilder mapping = new StringBuilder() //
+				.append(SqlGenerator.class.getPackage().getImplementationVersion()).append(';') //
+				.append(describe(dialect.getIdentifierProcessing())).append(';') //
+				.append(entity.getTableName()).append(';');
+
+		context.findPersistentPropertyPaths(entity.getType(), property -> true).forEach(path -> {
+
+			PersistentPropertyPathExtension extension = new PersistentPropertyPathExtension(context, path);
+			RelationalPersistentProperty property = path.getRequiredLeafProperty();
+
+			mapping.append(path.toDotPath()).append('=') //
+					.append(extension.getTableName()).append(',') //
+					.append(extension.getColumnName()).append(',') //
+					.append(property.isWritable()).append(',') //
+					.append(property.isIdProperty()).append(',') //
+					.append(property.isVersionProperty());
+
+			if (property.isEntity() && !property.isEmbedded()) {
+				mapping.append(',').append(extension.getReverseColumnName()).append(',')
+						.append(extension.getQualifierColumn());
+			}
+
+			mapping.append(';');
+		});
+
+		return DigestUtils.md5DigestAsHex(mapping.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	static String getLocation(Dialect dialect) {
+
+		String identifierProcessing = DigestUtils
+				.md5DigestAsHex(describe(dialect.getIdentifierProcessing()).getBytes(StandardCharsets.UTF_8));
+
+		return String.format(LOCATION, dialect.getClass().getSimpleName(), identifierProcessing.substring(0, 8));
+	}
+
+	/**
+	 * Describes the quoting and letter casing of an {@link IdentifierProcessing} by applying both to a sample
+	 * identifier, since neither exposes its configuration.
+	 */
+	private static String describe(IdentifierProcessing identifierProcessing) {
+		return identifierProcessing.quote(identifierProcessing.standardizeLetterCase("sampleIdentifier"));
+	}
+
+	private static Dialect instantiate(Class<?> dialectType) {
+
+		Field instance = ReflectionUtils.findField(dialectType, "INSTANCE");
+
+		if (instance != null && Modifier.isStatic(instance.getModifiers())
+				&& Dialect.class.isAssignableFrom(instance.getType())) {
+			return (Dialect) ReflectionUtils.getField(instance, null);
+		}
+
+		return (Dialect) BeanUtils.instantiateClass(dialectType);
+	}
+
+	/**
+	 * {@link Properties} iterating their entries in the order of the given {@link Map}, so that written files don't change
+	 * unless the statements change.
+	 */
+	@SuppressWarnings("serial")
+	private static class OrderedProperties extends Properties {
+
+		private final Map<Object, Object> entries;
+
+		OrderedProperties(Map<String, String> entries) {
+
+			this.entries = new LinkedHashMap<>(entries);
+			putAll(entries);
+		}
+
+		@Override
+		public synchronized Enumeration<Object> keys() {
+			return Collections.enumeration(entries.keySet());
+		}
+
+		@Override
+		public Set<Map.Entry<Object, Object>> entrySet() {
+			return entries.entrySet();
+		}
+	}
+}
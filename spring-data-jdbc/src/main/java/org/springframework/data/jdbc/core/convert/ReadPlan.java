@@ -0,0 +1,616 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.model.EntityInstantiator;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Plan for mapping the rows of a {@link ResultSet} with a specific column layout to instances of an entity. The plan
+ * gets compiled once per entity and column layout. It determines the column index and a typed getter for every
+ * property as well as whether the value needs conversion upfront, so mapping a row only needs to read the columns,
+ * invoke the persistence constructor and set the remaining properties.
+ * <p>
+ * Only entities consisting of simple properties are supported. For all other entities the plan is
+ * {@link #isSupported() unsupported} and rows need to get mapped by the generic mapping in {@link BasicJdbcConverter}.
+ *
+ * @author agent
+ * @since 2.3
+ */
+class ReadPlan<T> {
+
+	private final RelationalPersistentEntity<T> entity;
+	private final BasicJdbcConverter converter;
+	@Nullable private final EntityInstantiator instantiator;
+	private final Map<String, ColumnMapping> constructorArguments;
+	private final ColumnMapping[] properties;
+
+	private ReadPlan(RelationalPersistentEntity<T> entity, BasicJdbcConverter converter,
+			@Nullable EntityInstantiator instantiator, Map<String, ColumnMapping> constructorArguments,
+			List<ColumnMapping> properties) {
+
+		this.entity = entity;
+		this.converter = converter;
+		this.instantiator = instantiator;
+		this.constructorArguments = constructorArguments;
+		this.properties = properties.toArray(new ColumnMapping[0]);
+	}
+
+	private static <T> ReadPlan<T> unsupported(RelationalPersistentEntity<T> entity, BasicJdbcConverter converter) {
+		return new ReadPlan<>(entity, converter, null, Collections.emptyMap(), Collections.emptyList());
+	}
+
+	/**
+	 * Compiles a {@link ReadPlan} for the given column layout.
+	 *
+	 * @param layout the entity and the columns of the {@link ResultSet} to read from.
+	 * @param converter the converter used for converting values and instantiating the entity.
+	 * @param identifierProcessing the {@link IdentifierProcessing} used for deriving column labels.
+	 * @return the {@link ReadPlan}, which might be {@link #isSupported() unsupported}. Guaranteed to be not
+	 *         {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> ReadPlan<T> create(Layout layout, BasicJdbcConverter converter,
+			IdentifierProcessing identifierProcessing) {
+
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) layout.entity;
+
+		for (RelationalPersistentProperty property : entity) {
+			if (!isSimpleProperty(property)) {
+				return unsupported(entity, converter);
+			}
+		}
+
+		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(converter.getMappingContext(), entity);
+		Map<String, Integer> columnIndexes = layout.indexColumns();
+
+		PreferredConstructor<T, RelationalPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
+		Map<String, ColumnMapping> constructorArguments = new HashMap<>();
+
+		if (persistenceConstructor != null) {
+
+			for (PreferredConstructor.Parameter<Object, RelationalPersistentProperty> parameter : persistenceConstructor
+					.getParameters()) {
+
+				String name = parameter.getName();
+
+				if (name == null || parameter.hasSpelExpression()) {
+					return unsupported(entity, converter);
+				}
+
+				RelationalPersistentProperty property = entity.getPersistentProperty(name);
+
+				if (property == null || !parameter.getType().equals(property.getTypeInformation())) {
+					return unsupported(entity, converter);
+				}
+
+				constructorArguments.put(name,
+						createColumnMapping(property, path, columnIndexes, layout, converter, identifierProcessing));
+			}
+		}
+
+		List<ColumnMapping> properties = new ArrayList<>();
+
+		if (entity.requiresPropertyPopulation()) {
+
+			for (RelationalPersistentProperty property : entity) {
+
+				if (persistenceConstructor != null && persistenceConstructor.isConstructorParameter(property)) {
+					continue;
+				}
+
+				ColumnMapping mapping = createColumnMapping(property, path, columnIndexes, layout, converter,
+						identifierProcessing);
+
+				// absent properties stay unset
+				if (mapping != null) {
+					properties.add(mapping);
+				}
+			}
+		}
+
+		return new ReadPlan<>(entity, converter, converter.getEntityInstantiators().getInstantiatorFor(entity),
+				constructorArguments, properties);
+	}
+
+	private static boolean isSimpleProperty(RelationalPersistentProperty property) {
+		return !property.isCollectionLike() && !property.isEntity() && !property.isMap() && !property.isEmbedded()
+				&& !property.isAssociation();
+	}
+
+	@Nullable
+	private static ColumnMapping createColumnMapping(RelationalPersistentProperty property,
+			PersistentPropertyPathExtension path, Map<String, Integer> columnIndexes, Layout layout,
+			BasicJdbcConverter converter, IdentifierProcessing identifierProcessing) {
+
+		String columnLabel = path.extendBy(property).getColumnAlias().getReference(identifierProcessing);
+		Integer index = columnIndexes.get(columnLabel);
+
+		if (index == null) {
+			return null;
+		}
+
+		Class<?> type = property.getType();
+		Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(type);
+		int sqlType = layout.sqlTypes[index - 1];
+		ColumnReader reader = ColumnReader.forColumn(sqlType, type);
+
+		// custom conversions registered for the value getObject(…) returns must see that value
+		Class<?> columnType = ColumnReader.getObjectType(sqlType);
+		if (reader.type != null && columnType != null && reader.type != columnType
+				&& converter.getConversions().hasCustomReadTarget(columnType, targetType)) {
+			reader = ColumnReader.OBJECT;
+		}
+
+		boolean requiresConversion = reader.type == null || !reader.exact || !ClassUtils.isAssignable(type, reader.type)
+				|| converter.getConversions().hasCustomReadTarget(reader.type, targetType);
+
+		return new ColumnMapping(property, index, reader, requiresConversion);
+	}
+
+	/**
+	 * @return whether the entity can get mapped using this plan.
+	 */
+	boolean isSupported() {
+		return instantiator != null;
+	}
+
+	/**
+	 * Maps the current row of the given {@link ResultSet}.
+	 *
+	 * @param resultSet the {@link ResultSet} positioned on the row to map. Must have the column layout this plan got
+	 *          created for.
+	 * @return the entity instance. Guaranteed to be not {@literal null}.
+	 */
+	T mapRow(ResultSet resultSet) {
+
+		EntityInstantiator instantiator = this.instantiator;
+
+		if (instantiator == null) {
+			throw new IllegalStateException(String.format("Cannot map %s using a read plan", entity.getType()));
+		}
+
+		T instance = instantiator.createInstance(entity, new ParameterValueProvider<RelationalPersistentProperty>() {
+
+			@Override
+			@Nullable
+			@SuppressWarnings("unchecked")
+			public <S> S getParameterValue(PreferredConstructor.Parameter<S, RelationalPersistentProperty> parameter) {
+
+				ColumnMapping mapping = constructorArguments.get(parameter.getName());
+				return (S) (mapping == null ? getAbsentValue(parameter.getRawType()) : read(resultSet, mapping));
+			}
+		});
+
+		if (properties.length == 0) {
+			return instance;
+		}
+
+		PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(instance);
+
+		for (ColumnMapping mapping : properties) {
+			accessor.setProperty(mapping.property, read(resultSet, mapping));
+		}
+
+		return accessor.getBean();
+	}
+
+	/**
+	 * Returns the value passed to a constructor parameter of the given type whose column is absent from the result or
+	 * excluded by a projection. Primitive parameters get the default value of their type, all others {@literal null}.
+	 * A column holding {@literal NULL} is not absent.
+	 *
+	 * @param type the raw type of the constructor parameter.
+	 * @return the default value of a primitive type or {@literal null}.
+	 */
+	@Nullable
+	static Object getAbsentValue(Class<?> type) {
+		return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+	}
+
+	@Nullable
+	private Object read(ResultSet resultSet, ColumnMapping mapping) {
+
+		Object value;
+		try {
+			value = mapping.reader.read(resultSet, mapping.index);
+		} catch (SQLException o_O) {
+			throw new MappingException(String.format("Could not read value for %s from result set!", mapping.property),
+					o_O);
+		}
+
+		return value != null && mapping.requiresConversion ? converter.readValue(value, mapping.typeInformation) : value;
+	}
+
+	/**
+	 * The entity to read and the labels and SQL types of the columns of a {@link ResultSet}. Used as cache key for
+	 * {@link ReadPlan}s.
+	 */
+	static final class Layout {
+
+		private final RelationalPersistentEntity<?> entity;
+		private final String[] labels;
+		private final int[] sqlTypes;
+		private final int hashCode;
+
+		private Layout(RelationalPersistentEntity<?> entity, String[] labels, int[] sqlTypes) {
+
+			this.entity = entity;
+			this.labels = labels;
+			this.sqlTypes = sqlTypes;
+			this.hashCode = 31 * (31 * entity.hashCode() + Arrays.hashCode(labels)) + Arrays.hashCode(sqlTypes);
+		}
+
+		/**
+		 * Determines the column layout of the given {@link ResultSet}.
+		 *
+		 * @param entity the entity to read.
+		 * @param resultSet the {@link ResultSet} to read from.
+		 * @return the {@link Layout}. Guaranteed to be not {@literal null}.
+		 */
+		static Layout of(RelationalPersistentEntity<?> entity, ResultSet resultSet) {
+
+			try {
+
+				ResultSetMetaData metaData = resultSet.getMetaData();
+				int columnCount = metaData.getColumnCount();
+
+				String[] labels = new String[columnCount];
+				int[] sqlTypes = new int[columnCount];
+
+				for (int i = 0; i < columnCount; i++) {
+
+					labels[i] = metaData.getColumnLabel(i + 1);
+					sqlTypes[i] = metaData.getColumnType(i + 1);
+				}
+
+				return new Layout(entity, labels, sqlTypes);
+			} catch (SQLException se) {
+				throw new MappingException("Cannot obtain result metadata", se);
+			}
+		}
+
+		/**
+		 * Maps column labels to column indexes, ignoring case. Just like {@link ResultSetAccessor} the first column wins
+		 * when a label occurs multiple times.
+		 */
+		private Map<String, Integer> indexColumns() {
+
+			Map<String, Integer> index = new LinkedCaseInsensitiveMap<>(labels.length);
+
+			for (int i = 0; i < labels.length; i++) {
+				index.putIfAbsent(labels[i], i + 1);
+			}
+
+			return index;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Layout)) {
+				return false;
+			}
+
+			Layout that = (Layout) o;
+			return entity.equals(that.entity) && Arrays.equals(labels, that.labels) && Arrays.equals(sqlTypes, that.sqlTypes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static final class ColumnMapping {
+
+		private final RelationalPersistentProperty property;
+		private final TypeInformation<?> typeInformation;
+		private final int index;
+		private final ColumnReader reader;
+		private final boolean requiresConversion;
+
+		ColumnMapping(RelationalPersistentProperty property, int index, ColumnReader reader, boolean requiresConversion) {
+
+			this.property = property;
+			this.typeInformation = property.getTypeInformation();
+			this.index = index;
+			this.reader = reader;
+			this.requiresConversion = requiresConversion;
+		}
+	}
+
+	/**
+	 * Reads a single column of a {@link ResultSet}. For wrapper types, {@link String} and {@link Timestamp} typed getters
+	 * only get used when {@link ResultSet#getObject(int)} would return a value of the same type for the column, so
+	 * converters see the same values as with the generic mapping. Primitive properties get read from any numeric column
+	 * using the getter for their type, unless a custom conversion is registered for the type
+	 * {@link ResultSet#getObject(int)} returns for that column. JSR-310 properties get read using
+	 * {@link ResultSet#getObject(int, Class)} as supported by JDBC 4.2 drivers, falling back to the corresponding
+	 * {@code java.sql} type otherwise.
+	 */
+	enum ColumnReader {
+
+		OBJECT(null) {
+
+			@Override
+			@Nullable
+			Object read(ResultSet resultSet, int index) throws SQLException {
+				return JdbcUtils.getResultSetValue(resultSet, index);
+			}
+		},
+
+		LONG(Long.class) {
+
+			@Override
+			@Nullable
+			Object read(ResultSet resultSet, int index) throws SQLException {
+
+				long value = resultSet.getLong(index);
+				if (value == 0 && resultSet.wasNull()) {
+					return null;
+				}
+				return value;
+			}
+		},
+
+		INTEGER(Integer.class) {
+
+			@Override
+			@Nullable
+			Object read(ResultSet resultSet, int index) throws SQLException {
+
+				int value = resultSet.getInt(index);
+				if (value == 0 && resultSet.wasNull()) {
+					return null;
+				}
+				return value;
+			}
+		},
+
+		DOUBLE(Double.class) {
+
+			@Override
+			@Nullable
+			Object read(ResultSet resultSet, int index) throws SQLException {
+
+				double value = resultSet.getDouble(index);
+				if (value == 0 && resultSet.wasNull()) {
+					return null;
+				}
+				return value;
+			}
+		},
+
+		BOOLEAN(Boolean.class) {
+
+			@Override
+			@Nullable
+			Object read(ResultSet resultSet, int index) throws SQLException {
+
+				boolean value = resultSet.getBoolean(index);
+				if (!value && resultSet.wasNull()) {
+					return null;
+				}
+				return value;
+			}
+		},
+
+		STRING(String.class) {
+
+			@Override
+			@Nullable
+			Object read(ResultSet resultSet, int index) throws SQLException {
+				return resultSet.getString(index);
+			}
+		},
+
+		TIMESTAMP(Timestamp.class) {
+
+			@Override
+			@Nullable
+			Object read(ResultSet resultSet, int index) throws SQLException {
+				return resultSet.getTimestamp(index);
+			}
+		},
+
+		LOCAL_DATE_TIME(LocalDateTime.class, false), //
+		LOCAL_DATE(LocalDate.class, false), //
+		LOCAL_TIME(LocalTime.class, false), //
+		OFFSET_DATE_TIME(OffsetDateTime.class, false);
+
+		@Nullable private final Class<?> type;
+		private final boolean exact;
+
+		ColumnReader(@Nullable Class<?> type) {
+			this(type, true);
+		}
+
+		/**
+		 * @param type the type of the values returned by the reader.
+		 * @param exact whether the reader is guaranteed to return values of {@code type}. Values returned by other readers
+		 *          might still need conversion.
+		 */
+		ColumnReader(@Nullable Class<?> type, boolean exact) {
+
+			this.type = type;
+			this.exact = exact;
+		}
+
+		/**
+		 * Reads the value using {@link JdbcUtils#getResultSetValue(ResultSet, int, Class)}, which tries
+		 * {@link ResultSet#getObject(int, Class)} first.
+		 */
+		@Nullable
+		Object read(ResultSet resultSet, int index) throws SQLException {
+			return JdbcUtils.getResultSetValue(resultSet, index, type);
+		}
+
+		/**
+		 * Selects the reader for a column of the given SQL type mapped to a property of the given type.
+		 */
+		static ColumnReader forColumn(int sqlType, Class<?> propertyType) {
+
+			if (propertyType.isPrimitive()) {
+
+				ColumnReader reader = forPrimitive(sqlType, propertyType);
+				if (reader != null) {
+					return reader;
+				}
+			}
+
+			Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(propertyType);
+
+			switch (sqlType) {
+				case Types.BIGINT:
+					return type == Long.class ? LONG : OBJECT;
+				case Types.INTEGER:
+					return type == Integer.class ? INTEGER : OBJECT;
+				case Types.DOUBLE:
+				case Types.FLOAT:
+					return type == Double.class ? DOUBLE : OBJECT;
+				case Types.BOOLEAN:
+					return type == Boolean.class ? BOOLEAN : OBJECT;
+				case Types.CHAR:
+				case Types.VARCHAR:
+				case Types.LONGVARCHAR:
+				case Types.NCHAR:
+				case Types.NVARCHAR:
+				case Types.LONGNVARCHAR:
+					return type == String.class ? STRING : OBJECT;
+				case Types.TIMESTAMP:
+					if (type == LocalDateTime.class) {
+						return LOCAL_DATE_TIME;
+					}
+					return type == Timestamp.class || type == Date.class ? TIMESTAMP : OBJECT;
+				case Types.DATE:
+					return type == LocalDate.class ? LOCAL_DATE : OBJECT;
+				case Types.TIME:
+					return type == LocalTime.class ? LOCAL_TIME : OBJECT;
+				case Types.TIMESTAMP_WITH_TIMEZONE:
+					return type == OffsetDateTime.class ? OFFSET_DATE_TIME : OBJECT;
+				default:
+					return OBJECT;
+			}
+		}
+
+		@Nullable
+		private static ColumnReader forPrimitive(int sqlType, Class<?> propertyType) {
+
+			if (propertyType == boolean.class) {
+				return sqlType == Types.BOOLEAN || sqlType == Types.BIT ? BOOLEAN : null;
+			}
+
+			if (!isNumeric(sqlType)) {
+				return null;
+			}
+
+			if (propertyType == long.class) {
+				return LONG;
+			}
+			if (propertyType == int.class) {
+				return INTEGER;
+			}
+			if (propertyType == double.class) {
+				return DOUBLE;
+			}
+
+			return null;
+		}
+
+		/**
+		 * Returns the type of the values {@link ResultSet#getObject(int)} returns for columns of the given numeric or
+		 * boolean SQL type as defined by the JDBC specification, {@literal null} for other SQL types.
+		 */
+		@Nullable
+		static Class<?> getObjectType(int sqlType) {
+
+			switch (sqlType) {
+				case Types.BIT:
+				case Types.BOOLEAN:
+					return Boolean.class;
+				case Types.TINYINT:
+				case Types.SMALLINT:
+				case Types.INTEGER:
+					return Integer.class;
+				case Types.BIGINT:
+					return Long.class;
+				case Types.REAL:
+					return Float.class;
+				case Types.FLOAT:
+				case Types.DOUBLE:
+					return Double.class;
+				case Types.NUMERIC:
+				case Types.DECIMAL:
+					return BigDecimal.class;
+				default:
+					return null;
+			}
+		}
+
+		private static boolean isNumeric(int sqlType) {
+
+			switch (sqlType) {
+				case Types.TINYINT:
+				case Types.SMALLINT:
+				case Types.INTEGER:
+				case Types.BIGINT:
+				case Types.REAL:
+				case Types.FLOAT:
+				case Types.DOUBLE:
+				case Types.NUMERIC:
+				case Types.DECIMAL:
+					return true;
+				default:
+					return false;
+			}
+		}
+	}
+}
@@ -15,6 +15,10 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 
@@ -36,4 +40,42 @@ public interface RelationResolver {
 	 */
 	Iterable<Object> findAllByPath(Identifier identifier,
 			PersistentPropertyPath<? extends RelationalPersistentProperty> path);
+
+	/**
+	 * Finds all entities reachable via {@literal path} for multiple parents at once. Implementations may load them with
+	 * a single query. The default implementation calls {@link #findAllByPath(Identifier, PersistentPropertyPath)} for
+	 * each parent. Implementations that load the entities more efficiently should report so using
+	 * {@link #supportsFindAllByPathIn(PersistentPropertyPath)}.
+	 *
+	 * @param identifiers the {@link Identifier}s of the parents of the entities to be loaded. Must not be
+	 *          {@literal null}.
+	 * @param path the path from the aggregate root to the entities to be resolved. Must not be {@literal null}.
+	 * @return the entities for each of the given {@link Identifier}s, in the order of the {@link Identifier}s. Guaranteed
+	 *         to be not {@literal null}.
+	 * @since 2.3
+	 */
+	default Map<Identifier, Iterable<Object>> findAllByPathIn(List<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		Map<Identifier, Iterable<Object>> result = new LinkedHashMap<>(identifiers.size());
+
+		for (Identifier identifier : identifiers) {
+			result.put(identifier, findAllByPath(identifier, path));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns whether {@link #findAllByPathIn(List, PersistentPropertyPath)} loads the entities reachable via
+	 * {@literal path} more efficiently than calling {@link #findAllByPath(Identifier, PersistentPropertyPath)} for each
+	 * parent, e.g. using a single query. Lazy loading proxies only get resolved in batches for such paths.
+	 *
+	 * @param path the path from the aggregate root to the entities to be resolved. Must not be {@literal null}.
+	 * @return {@literal false} by default.
+	 * @since 2.3
+	 */
+	default boolean supportsFindAllByPathIn(PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+		return false;
+	}
 }
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.mapping.event.AfterLoadCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Detects changes of the columns of aggregate roots by comparing them against a snapshot taken when the aggregate root
+ * was loaded. Registered as an {@link AfterLoadCallback} it records a snapshot for each loaded aggregate root.
+ * {@link DefaultDataAccessStrategy} uses the snapshots to skip {@code UPDATE} statements for unchanged aggregate roots
+ * or to only update the columns that actually changed.
+ * <p>
+ * A snapshot belongs to the loaded instance and to the transaction that loaded it. It only gets used when that same
+ * instance gets saved within that same transaction, and gets discarded when the transaction completes. Aggregate roots
+ * loaded outside of a transaction or in a read-only transaction, which might have read from a replica, don't get a
+ * snapshot. Changes made to the database by other means than saving the aggregate root, e.g. by a modifying query,
+ * are not visible to the snapshot, so aggregate roots affected by such changes must not be saved afterwards within the
+ * same transaction.
+ * <p>
+ * Values are compared using {@link Object#equals(Object)}. Arrays, collections, maps and {@link Date}s get copied when
+ * taking a snapshot, other mutable values must not be modified in place.
+ *
+ * @author agent
+ * @since 2.3
+ * @see DefaultDataAccessStrategy#setChangeDetector(SnapshotChangeDetector)
+ */
+public class SnapshotChangeDetector implements AfterLoadCallback<Object> {
+
+	private final RelationalMappingContext context;
+
+	/**
+	 * Creates a new {@link SnapshotChangeDetector}.
+	 *
+	 * @param context must not be {@literal null}.
+	 */
+	public SnapshotChangeDetector(RelationalMappingContext context) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+
+		this.context = context;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.mapping.event.AfterLoadCallback#onAfterLoad(java.lang.Object)
+	 */
+	@Override
+	public Object onAfterLoad(Object aggregate) {
+
+		capture(aggregate);
+
+		return aggregate;
+	}
+
+	/**
+	 * Records a snapshot of the column values of the given aggregate root for the current transaction. Does nothing
+	 * without an active transaction that is not read-only.
+	 *
+	 * @param aggregate the aggregate root. Must not be {@literal null}.
+	 */
+	public void capture(Object aggregate) {
+
+		Assert.notNull(aggregate, "Aggregate must not be null");
+
+		if (!TransactionSynchronizationManager.isActualTransactionActive()
+				|| TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+				|| !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		RelationalPersistentEntity<?> entity = context.getPersistentEntity(aggregate.getClass());
+
+		if (entity == null || !entity.hasIdProperty()) {
+			return;
+		}
+
+		Object id = entity.getIdentifierAccessor(aggregate).getIdentifier();
+
+		if (id == null) {
+			return;
+		}
+
+		Map<Object, Snapshot> snapshots = getSnapshots();
+
+		if (snapshots == null) {
+
+			snapshots = new IdentityHashMap<>();
+			TransactionSynchronizationManager.bindResource(this, snapshots);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(SnapshotChangeDetector.this);
+				}
+			});
+		}
+
+		snapshots.put(aggregate, new Snapshot(entity.getType(), id, takeSnapshot(aggregate, entity)));
+	}
+
+	/**
+	 * Determines the columns of the given aggregate root that changed since its snapshot was taken.
+	 *
+	 * @param aggregate the aggregate root. Must not be {@literal null}.
+	 * @return the names of the changed columns, which is empty if nothing changed, or {@literal null} if no snapshot of
+	 *         this instance was taken within the current transaction.
+	 */
+	@Nullable
+	public Set<SqlIdentifier> getChangedColumns(Object aggregate) {
+
+		Assert.notNull(aggregate, "Aggregate must not be null");
+
+		Map<Object, Snapshot> snapshots = getSnapshots();
+		Snapshot snapshot = snapshots == null ? null : snapshots.get(aggregate);
+
+		if (snapshot == null) {
+			return null;
+		}
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(snapshot.type);
+		Object id = entity.getIdentifierAccessor(aggregate).getIdentifier();
+
+		// The id got changed, so the snapshot doesn't describe the row getting updated.
+		if (!snapshot.id.equals(id)) {
+			return null;
+		}
+
+		Set<SqlIdentifier> changedColumns = new HashSet<>();
+		takeSnapshot(aggregate, entity).forEach((column, value) -> {
+
+			if (!snapshot.values.containsKey(column) || !ObjectUtils.nullSafeEquals(value, snapshot.values.get(column))) {
+				changedColumns.add(column);
+			}
+		});
+
+		return changedColumns;
+	}
+
+	/**
+	 * Discards the snapshots of the aggregate root with the given id taken within the current transaction.
+	 *
+	 * @param type the type of the aggregate root. Must not be {@literal null}.
+	 * @param id the id of the aggregate root. Must not be {@literal null}.
+	 */
+	public void discard(Class<?> type, Object id) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(id, "Id must not be null");
+
+		Map<Object, Snapshot> snapshots = getSnapshots();
+
+		if (snapshots != null) {
+			snapshots.values().removeIf(snapshot -> snapshot.type.equals(type) && snapshot.id.equals(id));
+		}
+	}
+
+	/**
+	 * Discards the snapshots of all aggregate roots of the given type taken within the current transaction.
+	 *
+	 * @param type the type of the aggregate roots. Must not be {@literal null}.
+	 */
+	public void discardAll(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null");
+
+		Map<Object, Snapshot> snapshots = getSnapshots();
+
+		if (snapshots != null) {
+			snapshots.values().removeIf(snapshot -> snapshot.type.equals(type));
+		}
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Map<Object, Snapshot> getSnapshots() {
+		return (Map<Object, Snapshot>) TransactionSynchronizationManager.getResource(this);
+	}
+
+	private Map<SqlIdentifier, Object> takeSnapshot(Object aggregate, RelationalPersistentEntity<?> entity) {
+
+		Map<SqlIdentifier, Object> snapshot = new HashMap<>();
+		collectColumnValues(aggregate, entity, "", snapshot);
+		return snapshot;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void collectColumnValues(@Nullable Object instance, RelationalPersistentEntity<T> entity, String prefix,
+			Map<SqlIdentifier, Object> snapshot) {
+
+		PersistentPropertyAccessor<T> accessor = instance == null ? null : entity.getPropertyAccessor((T) instance);
+
+		for (RelationalPersistentProperty property : entity) {
+
+			if (property.isIdProperty() || !property.isWritable() || (property.isEntity() && !property.isEmbedded())) {
+				continue;
+			}
+
+			Object value = accessor == null ? null : accessor.getProperty(property);
+
+			if (property.isEmbedded()) {
+
+				RelationalPersistentEntity<?> embeddedEntity = context.getRequiredPersistentEntity(property.getType());
+				collectColumnValues(value, embeddedEntity, prefix + property.getEmbeddedPrefix(), snapshot);
+			} else {
+				snapshot.put(property.getColumnName().transform(prefix::concat), copyOf(value));
+			}
+		}
+	}
+
+	@Nullable
+	private static Object copyOf(@Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (value.getClass().isArray()) {
+
+			int length = Array.getLength(value);
+			Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+			System.arraycopy(value, 0, copy, 0, length);
+			return copy;
+		}
+
+		if (value instanceof List) {
+			return new ArrayList<>((Collection<?>) value);
+		}
+
+		if (value instanceof Set) {
+			return new LinkedHashSet<>((Collection<?>) value);
+		}
+
+		if (value instanceof Map) {
+			return new LinkedHashMap<>((Map<?, ?>) value);
+		}
+
+		if (value instanceof Date) {
+			return ((Date) value).clone();
+		}
+
+		return value;
+	}
+
+	private static class Snapshot {
+
+		private final Class<?> type;
+		private final Object id;
+		private final Map<SqlIdentifier, Object> values;
+
+		Snapshot(Class<?> type, Object id, Map<SqlIdentifier, Object> values) {
+
+			this.type = type;
+			this.id = id;
+			this.values = values;
+		}
+	}
+}
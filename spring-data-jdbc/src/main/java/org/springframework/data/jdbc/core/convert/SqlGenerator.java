@@ -18,6 +18,7 @@ package org.springframework.data.jdbc.core.convert;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.repository.support.SimpleJdbcRepository;
+import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -28,13 +29,16 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentEnti
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.*;
 import org.springframework.data.relational.core.sql.render.RenderContext;
-import org.springframework.data.relational.core.sql.render.SqlRenderer;
+import org.springframework.data.relational.core.sql.render.Renderer;
+import org.springframework.data.relational.core.sql.render.SinglePassSqlRenderer;
 import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -59,27 +63,51 @@ class SqlGenerator {
 	static final SqlIdentifier ROOT_ID_PARAMETER = SqlIdentifier.unquoted("rootId");
 
 	private static final Pattern parameterPattern = Pattern.compile("\\W");
+
+	private static final String FIND_ONE = "findOne";
+	private static final String FIND_ALL = "findAll";
+	private static final String FIND_ALL_IN_LIST = "findAllInList";
+	private static final String EXISTS = "exists";
+	private static final String EXISTS_BY_ID_AND_VERSION = "existsByIdAndVersion";
+	private static final String COUNT = "count";
+	private static final String UPDATE = "update";
+	private static final String UPDATE_WITH_VERSION = "updateWithVersion";
+	private static final String DELETE_BY_ID = "deleteById";
+	private static final String DELETE_BY_ID_AND_VERSION = "deleteByIdAndVersion";
+	private static final String DELETE_BY_LIST = "deleteByList";
+	private static final String DELETE_ALL = "deleteAll";
+	private static final String DELETE_BY_PATH = "deleteByPath.";
+	private static final String DELETE_ALL_BY_PATH = "deleteAllByPath.";
+
 	private final RelationalPersistentEntity<?> entity;
 	private final MappingContext<RelationalPersistentEntity<?>, RelationalPersistentProperty> mappingContext;
 	private final RenderContext renderContext;
 
 	private final SqlContext sqlContext;
-	private final SqlRenderer sqlRenderer;
+	private final Renderer sqlRenderer;
 	private final Columns columns;
+	private final Map<String, String> precomputedStatements;
 
-	private final Lazy<String> findOneSql = Lazy.of(this::createFindOneSql);
-	private final Lazy<String> findAllSql = Lazy.of(this::createFindAllSql);
-	private final Lazy<String> findAllInListSql = Lazy.of(this::createFindAllInListSql);
+	private final Lazy<String> findOneSql = Lazy.of(() -> statement(FIND_ONE, this::createFindOneSql));
+	private final Lazy<String> findAllSql = Lazy.of(() -> statement(FIND_ALL, this::createFindAllSql));
+	private final Lazy<String> findAllInListSql = Lazy.of(() -> statement(FIND_ALL_IN_LIST, this::createFindAllInListSql));
 
-	private final Lazy<String> existsSql = Lazy.of(this::createExistsSql);
-	private final Lazy<String> countSql = Lazy.of(this::createCountSql);
+	private final Lazy<String> existsSql = Lazy.of(() -> statement(EXISTS, this::createExistsSql));
+	private final Lazy<String> existsByIdAndVersionSql = Lazy.of(() -> statement(EXISTS_BY_ID_AND_VERSION, this::createExistsByIdAndVersionSql));
+	private final Lazy<String> countSql = Lazy.of(() -> statement(COUNT, this::createCountSql));
 
-	private final Lazy<String> updateSql = Lazy.of(this::createUpdateSql);
-	private final Lazy<String> updateWithVersionSql = Lazy.of(this::createUpdateWithVersionSql);
+	private final Lazy<String> updateSql = Lazy.of(() -> statement(UPDATE, this::createUpdateSql));
+	private final Lazy<String> updateWithVersionSql = Lazy.of(() -> statement(UPDATE_WITH_VERSION, this::createUpdateWithVersionSql));
+	private final Map<Set<SqlIdentifier>, String> partialUpdateSql = new ConcurrentReferenceHashMap<>();
+	private final Map<Set<SqlIdentifier>, String> partialUpdateWithVersionSql = new ConcurrentReferenceHashMap<>();
 
-	private final Lazy<String> deleteByIdSql = Lazy.of(this::createDeleteSql);
-	private final Lazy<String> deleteByIdAndVersionSql = Lazy.of(this::createDeleteByIdAndVersionSql);
-	private final Lazy<String> deleteByListSql = Lazy.of(this::createDeleteByListSql);
+	private final Lazy<String> deleteByIdSql = Lazy.of(() -> statement(DELETE_BY_ID, this::createDeleteSql));
+	private final Lazy<String> deleteByIdAndVersionSql = Lazy.of(() -> statement(DELETE_BY_ID_AND_VERSION, this::createDeleteByIdAndVersionSql));
+	private final Lazy<String> deleteByListSql = Lazy.of(() -> statement(DELETE_BY_LIST, this::createDeleteByListSql));
+	private final Lazy<String> deleteAllSql = Lazy.of(
+			() -> statement(DELETE_ALL, () -> render(Delete.builder().from(getTable()).build())));
+	private final Map<PersistentPropertyPath<RelationalPersistentProperty>, String> deleteAllByPathSql = new ConcurrentReferenceHashMap<>();
+	private final Map<PersistentPropertyPath<RelationalPersistentProperty>, String> deleteByPathSql = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Create a new {@link SqlGenerator} given {@link RelationalMappingContext} and {@link RelationalPersistentEntity}.
@@ -91,11 +119,28 @@ class SqlGenerator {
 	 */
 	SqlGenerator(RelationalMappingContext mappingContext, JdbcConverter converter, RelationalPersistentEntity<?> entity,
 			Dialect dialect) {
+		this(mappingContext, converter, entity, dialect, Collections.emptyMap());
+	}
+
+	/**
+	 * Create a new {@link SqlGenerator} using statements rendered in advance, for example at build time, instead of
+	 * rendering them.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param precomputedStatements statements by the names used by {@link #getStatements()}. Must not be {@literal null}.
+	 * @since 2.3
+	 */
+	SqlGenerator(RelationalMappingContext mappingContext, JdbcConverter converter, RelationalPersistentEntity<?> entity,
+			Dialect dialect, Map<String, String> precomputedStatements) {
 
+		this.precomputedStatements = precomputedStatements;
 		this.mappingContext = mappingContext;
 		this.entity = entity;
 		this.sqlContext = new SqlContext(entity);
-		this.sqlRenderer = SqlRenderer.create(new RenderContextFactory(dialect).createRenderContext());
+		this.sqlRenderer = SinglePassSqlRenderer.create(new RenderContextFactory(dialect).createRenderContext());
 		this.columns = new Columns(entity, mappingContext, converter);
 		this.renderContext = new RenderContextFactory(dialect).createRenderContext();
 	}
@@ -246,6 +291,16 @@ class SqlGenerator {
 		return existsSql.get();
 	}
 
+	/**
+	 * Create a {@code SELECT COUNT(id) FROM … WHERE :id = … and :___oldOptimisticLockingVersion = ...} statement.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	String getExistsByIdAndVersion() {
+		return existsByIdAndVersionSql.get();
+	}
+
 	/**
 	 * Create a {@code SELECT … FROM … WHERE :id = …} statement.
 	 *
@@ -265,6 +320,17 @@ class SqlGenerator {
 		return this.createAcquireLockById(lockMode);
 	}
 
+	/**
+	 * Create a {@code SELECT id FROM … WHERE id IN (:ids) (LOCK CLAUSE)} statement.
+	 *
+	 * @param lockMode Lock clause mode.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	String getAcquireLockAllById(LockMode lockMode) {
+		return this.createAcquireLockAllById(lockMode);
+	}
+
 	/**
 	 * Create a {@code SELECT count(id) FROM … (LOCK CLAUSE)} statement.
 	 *
@@ -302,6 +368,33 @@ class SqlGenerator {
 		return updateWithVersionSql.get();
 	}
 
+	/**
+	 * Create a {@code UPDATE … SET …} statement that only updates the given columns. Columns that are not updateable get
+	 * ignored. Statements get cached per set of columns.
+	 *
+	 * @param columns the columns to update. Must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	String getUpdate(Set<SqlIdentifier> columns) {
+		return partialUpdateSql.computeIfAbsent(columns, it -> render(createBaseUpdate(it).build()));
+	}
+
+	/**
+	 * Create a {@code UPDATE … SET … WHERE ID = :id and VERSION_COLUMN = :___oldOptimisticLockingVersion } statement
+	 * that only updates the given columns. Columns that are not updateable get ignored. Statements get cached per set of
+	 * columns.
+	 *
+	 * @param columns the columns to update. Must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	String getUpdateWithVersion(Set<SqlIdentifier> columns) {
+		return partialUpdateWithVersionSql.computeIfAbsent(columns, it -> render(createBaseUpdate(it) //
+				.and(getVersionColumn().isEqualTo(SQL.bindMarker(":" + renderReference(VERSION_SQL_PARAMETER)))) //
+				.build()));
+	}
+
 	/**
 	 * Create a {@code SELECT COUNT(*) FROM …} statement.
 	 *
@@ -339,33 +432,90 @@ class SqlGenerator {
 	}
 
 	/**
-	 * Create a {@code DELETE} query and optionally filter by {@link PersistentPropertyPath}.
+	 * Create a {@code DELETE} query and optionally filter by {@link PersistentPropertyPath}. Statements get cached per
+	 * path.
 	 *
 	 * @param path can be {@literal null}.
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String createDeleteAllSql(@Nullable PersistentPropertyPath<RelationalPersistentProperty> path) {
 
-		Table table = getTable();
-
-		DeleteBuilder.DeleteWhere deleteAll = Delete.builder().from(table);
-
 		if (path == null) {
-			return render(deleteAll.build());
+			return deleteAllSql.get();
 		}
 
-		return createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path), Column::isNotNull);
+		return deleteAllByPathSql.computeIfAbsent(path, it -> statement(DELETE_ALL_BY_PATH + it.toDotPath(),
+				() -> createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, it), Column::isNotNull)));
 	}
 
 	/**
-	 * Create a {@code DELETE} query and filter by {@link PersistentPropertyPath}.
+	 * Create a {@code DELETE} query and filter by {@link PersistentPropertyPath}. Statements get cached per path.
 	 *
 	 * @param path must not be {@literal null}.
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String createDeleteByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
-		return createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path),
-				filterColumn -> filterColumn.isEqualTo(getBindMarker(ROOT_ID_PARAMETER)));
+		return deleteByPathSql.computeIfAbsent(path, it -> statement(DELETE_BY_PATH + it.toDotPath(),
+				() -> createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, it),
+						filterColumn -> filterColumn.isEqualTo(getBindMarker(ROOT_ID_PARAMETER)))));
+	}
+
+	/**
+	 * Renders the statements this {@link SqlGenerator} caches, including the {@code DELETE} statements for the paths to
+	 * referenced entities, so they don't get rendered on first use.
+	 */
+	void warmUp() {
+		getStatements();
+	}
+
+	/**
+	 * Returns all statements this {@link SqlGenerator} caches, including the {@code DELETE} statements for the paths to
+	 * referenced entities, by name. The statements get rendered unless already cached or precomputed.
+	 *
+	 * @return the statements by name. Guaranteed to be not {@literal null}.
+	 * @since 2.3
+	 */
+	Map<String, String> getStatements() {
+
+		Map<String, String> statements = new LinkedHashMap<>();
+
+		statements.put(FIND_ALL, getFindAll());
+		statements.put(COUNT, getCount());
+		statements.put(DELETE_ALL, createDeleteAllSql(null));
+
+		if (!entity.hasIdProperty()) {
+			return statements;
+		}
+
+		statements.put(FIND_ONE, getFindOne());
+		statements.put(FIND_ALL_IN_LIST, getFindAllInList());
+		statements.put(EXISTS, getExists());
+		statements.put(UPDATE, getUpdate());
+		statements.put(DELETE_BY_ID, getDeleteById());
+		statements.put(DELETE_BY_LIST, getDeleteByList());
+
+		if (entity.hasVersionProperty()) {
+
+			statements.put(EXISTS_BY_ID_AND_VERSION, getExistsByIdAndVersion());
+			statements.put(UPDATE_WITH_VERSION, getUpdateWithVersion());
+			statements.put(DELETE_BY_ID_AND_VERSION, getDeleteByIdAndVersion());
+		}
+
+		mappingContext.findPersistentPropertyPaths(entity.getType(), PersistentProperty::isEntity) //
+				.filter(path -> !path.getRequiredLeafProperty().isEmbedded()) //
+				.forEach(path -> {
+
+					statements.put(DELETE_BY_PATH + path.toDotPath(), createDeleteByPath(path));
+					statements.put(DELETE_ALL_BY_PATH + path.toDotPath(), createDeleteAllSql(path));
+				});
+
+		return statements;
+	}
+
+	private String statement(String name, Supplier<String> renderer) {
+
+		String statement = precomputedStatements.get(name);
+		return statement != null ? statement : renderer.get();
 	}
 
 	private String createFindOneSql() {
@@ -390,6 +540,20 @@ class SqlGenerator {
 		return render(select);
 	}
 
+	private String createAcquireLockAllById(LockMode lockMode) {
+
+		Table table = this.getTable();
+
+		Select select = StatementBuilder //
+			.select(getIdColumn()) //
+			.from(table) //
+			.where(getIdColumn().in(getBindMarker(IDS_SQL_PARAMETER))) //
+			.lock(lockMode) //
+			.build();
+
+		return render(select);
+	}
+
 	private String createAcquireLockAll(LockMode lockMode) {
 
 		Table table = this.getTable();
@@ -551,6 +715,20 @@ class SqlGenerator {
 		return render(select);
 	}
 
+	private String createExistsByIdAndVersionSql() {
+
+		Table table = getTable();
+
+		Select select = StatementBuilder //
+				.select(Functions.count(getIdColumn())) //
+				.from(table) //
+				.where(getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER))) //
+				.and(getVersionColumn().isEqualTo(SQL.bindMarker(":" + renderReference(VERSION_SQL_PARAMETER)))) //
+				.build();
+
+		return render(select);
+	}
+
 	private String createCountSql() {
 
 		Table table = getTable();
@@ -599,11 +777,16 @@ class SqlGenerator {
 	}
 
 	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate() {
+		return createBaseUpdate(columns.getUpdateableColumns());
+	}
+
+	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate(Set<SqlIdentifier> columnsToUpdate) {
 
 		Table table = getTable();
 
 		List<AssignValue> assignments = columns.getUpdateableColumns() //
 				.stream() //
+				.filter(columnsToUpdate::contains) //
 				.map(columnName -> Assignments.value( //
 						table.column(columnName), //
 						getBindMarker(columnName))) //
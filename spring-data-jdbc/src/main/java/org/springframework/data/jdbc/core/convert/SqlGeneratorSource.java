@@ -19,12 +19,14 @@ import java.util.Map;
 
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Provides {@link SqlGenerator}s per domain type. Instances get cached, so when asked multiple times for the same
- * domain type, the same generator will get returned.
+ * domain type, the same generator will get returned. Generators use {@link PrecomputedSqlStatements} found on the
+ * classpath for the {@link Dialect} instead of rendering statements.
  *
  * @author Jens Schauder
  * @author Mark Paluch
@@ -36,6 +38,7 @@ public class SqlGeneratorSource {
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final Dialect dialect;
+	private PrecomputedSqlStatements precomputedStatements;
 
 	public SqlGeneratorSource(RelationalMappingContext context, JdbcConverter converter, Dialect dialect) {
 
@@ -46,6 +49,21 @@ public class SqlGeneratorSource {
 		this.context = context;
 		this.converter = converter;
 		this.dialect = dialect;
+		this.precomputedStatements = PrecomputedSqlStatements.load(dialect, null);
+	}
+
+	/**
+	 * Replaces the {@link PrecomputedSqlStatements} loaded from the classpath.
+	 *
+	 * @param precomputedStatements must not be {@literal null}. Use {@link PrecomputedSqlStatements#empty()} to always
+	 *          render statements.
+	 * @since 2.3
+	 */
+	public void setPrecomputedStatements(PrecomputedSqlStatements precomputedStatements) {
+
+		Assert.notNull(precomputedStatements, "PrecomputedSqlStatements must not be null.");
+
+		this.precomputedStatements = precomputedStatements;
 	}
 
 	/**
@@ -56,9 +74,27 @@ public class SqlGeneratorSource {
 		return dialect;
 	}
 
+	/**
+	 * Creates the {@link SqlGenerator} for the given domain type and renders the statements it caches, so they don't get
+	 * rendered on first use.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 * @since 2.3
+	 */
+	public void warmUp(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null.");
+
+		getSqlGenerator(domainType).warmUp();
+	}
+
 	SqlGenerator getSqlGenerator(Class<?> domainType) {
 
-		return CACHE.computeIfAbsent(domainType,
-				t -> new SqlGenerator(context, converter, context.getRequiredPersistentEntity(t), dialect));
+		return CACHE.computeIfAbsent(domainType, t -> {
+
+			RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(t);
+			return new SqlGenerator(context, converter, entity, dialect,
+					precomputedStatements.getStatements(context, dialect, entity));
+		});
 	}
 }
@@ -66,9 +66,20 @@ class SqlIdentifierParameterSource extends AbstractSqlParameterSource {
 	}
 
 	void addValue(SqlIdentifier identifier, Object value, int sqlType) {
+		addValue(identifier, identifier.getReference(identifierProcessing), value, sqlType);
+	}
+
+	/**
+	 * Adds a value using a parameter name that was already derived from the {@link SqlIdentifier}.
+	 *
+	 * @param identifier the identifier of the parameter.
+	 * @param name the name of the parameter as obtained by {@link SqlIdentifier#getReference(IdentifierProcessing)}.
+	 * @param value the value of the parameter.
+	 * @param sqlType the SQL type of the parameter.
+	 */
+	void addValue(SqlIdentifier identifier, String name, Object value, int sqlType) {
 
 		identifiers.add(identifier);
-		String name = identifier.getReference(identifierProcessing);
 		namesToValues.put(name, value);
 		registerSqlType(name, sqlType);
 	}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy.NoValuePropertyAccessor;
+import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Plan for extracting the parameter values of an entity for an {@code INSERT} or {@code UPDATE} statement. The plan
+ * gets compiled once per entity and operation. It determines the properties to write, their parameter names as well as
+ * their column and SQL types upfront, so binding an instance only needs to read and convert the property values.
+ *
+ * @author agent
+ * @since 2.3
+ */
+class WritePlan<T> {
+
+	private final RelationalPersistentEntity<T> entity;
+	private final JdbcConverter converter;
+	private final ParameterBinding[] bindings;
+	private final String[] parameterNames;
+
+	private WritePlan(RelationalPersistentEntity<T> entity, JdbcConverter converter, List<ParameterBinding> bindings) {
+
+		this.entity = entity;
+		this.converter = converter;
+		this.bindings = bindings.toArray(new ParameterBinding[0]);
+
+		List<String> names = new ArrayList<>();
+		collectParameterNames(this.bindings, names);
+		this.parameterNames = names.toArray(new String[0]);
+	}
+
+	private static void collectParameterNames(ParameterBinding[] bindings, List<String> names) {
+
+		for (ParameterBinding binding : bindings) {
+
+			if (binding instanceof EmbeddedBinding) {
+				collectParameterNames(((EmbeddedBinding) binding).bindings, names);
+			} else {
+				names.add(((ColumnBinding) binding).parameterName);
+			}
+		}
+	}
+
+	/**
+	 * Compiles a {@link WritePlan} for the given entity.
+	 *
+	 * @param entity the entity to write.
+	 * @param skipProperty {@link Predicate} determining the properties that should not get written.
+	 * @param context the mapping context used for resolving embedded entities.
+	 * @param converter the converter used for determining column types and converting values.
+	 * @param identifierProcessing the {@link IdentifierProcessing} used for deriving parameter names.
+	 * @return the {@link WritePlan}. Guaranteed to be not {@literal null}.
+	 */
+	static <T> WritePlan<T> create(RelationalPersistentEntity<T> entity,
+			Predicate<RelationalPersistentProperty> skipProperty, RelationalMappingContext context, JdbcConverter converter,
+			IdentifierProcessing identifierProcessing) {
+
+		return new WritePlan<>(entity, converter,
+				compile(entity, "", skipProperty, context, converter, identifierProcessing));
+	}
+
+	private static List<ParameterBinding> compile(RelationalPersistentEntity<?> entity, String prefix,
+			Predicate<RelationalPersistentProperty> skipProperty, RelationalMappingContext context, JdbcConverter converter,
+			IdentifierProcessing identifierProcessing) {
+
+		List<ParameterBinding> bindings = new ArrayList<>();
+
+		entity.doWithAll(property -> {
+
+			if (skipProperty.test(property) || !property.isWritable()) {
+				return;
+			}
+			if (property.isEntity() && !property.isEmbedded()) {
+				return;
+			}
+
+			if (property.isEmbedded()) {
+
+				RelationalPersistentEntity<?> embeddedEntity = context.getRequiredPersistentEntity(property.getType());
+				List<ParameterBinding> embeddedBindings = compile(embeddedEntity, prefix + property.getEmbeddedPrefix(),
+						skipProperty, context, converter, identifierProcessing);
+
+				bindings.add(new EmbeddedBinding(property, embeddedEntity, embeddedBindings));
+			} else {
+
+				SqlIdentifier columnName = property.getColumnName().transform(prefix::concat);
+
+				bindings.add(new ColumnBinding(property, columnName.getReference(identifierProcessing),
+						converter.getColumnType(property), converter.getSqlType(property)));
+			}
+		});
+
+		return bindings;
+	}
+
+	/**
+	 * @return the names of the parameters in the order {@link #bind(Object, Object[], int[])} provides their values.
+	 */
+	String[] getParameterNames() {
+		return parameterNames;
+	}
+
+	/**
+	 * Extracts the parameter values from the given instance into arrays, in the order of
+	 * {@link #getParameterNames()}. The arrays may be larger than the number of parameters of the plan in order to hold
+	 * additional parameters.
+	 *
+	 * @param instance the instance to write.
+	 * @param values the array receiving the converted values.
+	 * @param sqlTypes the array receiving the SQL types of the values.
+	 */
+	void bind(T instance, Object[] values, int[] sqlTypes) {
+
+		Assert.isTrue(values.length >= parameterNames.length && sqlTypes.length >= parameterNames.length,
+				"Arrays must be able to hold all parameters");
+
+		bind(entity.getPropertyAccessor(instance), bindings, values, sqlTypes, 0);
+	}
+
+	private int bind(PersistentPropertyAccessor<?> accessor, ParameterBinding[] bindings, Object[] values,
+			int[] sqlTypes, int index) {
+
+		for (ParameterBinding binding : bindings) {
+
+			Object value = accessor.getProperty(binding.property);
+
+			if (binding instanceof EmbeddedBinding) {
+
+				EmbeddedBinding embedded = (EmbeddedBinding) binding;
+				index = bind(embedded.getAccessor(value), embedded.bindings, values, sqlTypes, index);
+			} else {
+
+				ColumnBinding column = (ColumnBinding) binding;
+				JdbcValue jdbcValue = converter.writeJdbcValue(value, column.columnType, column.sqlType);
+
+				values[index] = jdbcValue.getValue();
+				sqlTypes[index] = JdbcUtil.sqlTypeFor(jdbcValue.getJdbcType());
+				index++;
+			}
+		}
+
+		return index;
+	}
+
+	private abstract static class ParameterBinding {
+
+		final RelationalPersistentProperty property;
+
+		ParameterBinding(RelationalPersistentProperty property) {
+			this.property = property;
+		}
+	}
+
+	private static class ColumnBinding extends ParameterBinding {
+
+		final String parameterName;
+		final Class<?> columnType;
+		final int sqlType;
+
+		ColumnBinding(RelationalPersistentProperty property, String parameterName, Class<?> columnType, int sqlType) {
+
+			super(property);
+
+			this.parameterName = parameterName;
+			this.columnType = columnType;
+			this.sqlType = sqlType;
+		}
+	}
+
+	private static class EmbeddedBinding extends ParameterBinding {
+
+		final RelationalPersistentEntity<?> entity;
+		final ParameterBinding[] bindings;
+
+		EmbeddedBinding(RelationalPersistentProperty property, RelationalPersistentEntity<?> entity,
+				List<ParameterBinding> bindings) {
+
+			super(property);
+
+			this.entity = entity;
+			this.bindings = bindings.toArray(new ParameterBinding[0]);
+		}
+
+		@SuppressWarnings("unchecked")
+		PersistentPropertyAccessor<?> getAccessor(@Nullable Object value) {
+
+			return value == null //
+					? NoValuePropertyAccessor.instance() //
+					: ((RelationalPersistentEntity<Object>) entity).getPropertyAccessor(value);
+		}
+	}
+}
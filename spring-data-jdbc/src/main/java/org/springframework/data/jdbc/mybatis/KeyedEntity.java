@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.mybatis;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Result type of {@code findAllByPathIn-<propertyPath>} statements, which load the entities referenced by multiple
+ * parents at once. Each instance holds a loaded entity together with the value of its back reference, i.e. the id of
+ * the parent it belongs to. MyBatis populates instances of this class through a result map like the following:
+ *
+ * <pre class="code">
+ * &lt;resultMap id="itemByInvoice" type="org.springframework.data.jdbc.mybatis.KeyedEntity"&gt;
+ *     &lt;result property="key" column="invoice"/&gt;
+ *     &lt;association property="entity" resultMap="item"/&gt;
+ * &lt;/resultMap&gt;
+ * </pre>
+ *
+ * @author agent
+ * @since 2.3
+ * @see MyBatisDataAccessStrategy#findAllByPathIn(java.util.List, org.springframework.data.mapping.PersistentPropertyPath)
+ */
+public class KeyedEntity {
+
+	private @Nullable Object key;
+	private @Nullable Object entity;
+
+	/**
+	 * The value of the back reference of the entity.
+	 *
+	 * @return Might return {@literal null}.
+	 */
+	@Nullable
+	public Object getKey() {
+		return key;
+	}
+
+	public void setKey(@Nullable Object key) {
+		this.key = key;
+	}
+
+	/**
+	 * The loaded entity.
+	 *
+	 * @return Might return {@literal null}.
+	 */
+	@Nullable
+	public Object getEntity() {
+		return entity;
+	}
+
+	public void setEntity(@Nullable Object entity) {
+		this.entity = entity;
+	}
+}
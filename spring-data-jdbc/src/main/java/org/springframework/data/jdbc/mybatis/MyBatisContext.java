@@ -16,6 +16,7 @@
 package org.springframework.data.jdbc.mybatis;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.data.jdbc.core.convert.Identifier;
@@ -36,6 +37,8 @@ public class MyBatisContext {
 	private final @Nullable Identifier identifier;
 	private final @Nullable Class domainType;
 	private final Map<String, Object> additionalValues;
+	private final List<?> instances;
+	private final List<Identifier> identifiers;
 
 	public MyBatisContext(@Nullable Object id, @Nullable Object instance, @Nullable Class<?> domainType,
 			Map<String, Object> additionalValues) {
@@ -45,6 +48,8 @@ public class MyBatisContext {
 		this.instance = instance;
 		this.domainType = domainType;
 		this.additionalValues = additionalValues;
+		this.instances = Collections.emptyList();
+		this.identifiers = Collections.emptyList();
 	}
 
 	public MyBatisContext(Identifier identifier, @Nullable Object instance, @Nullable Class<?> domainType) {
@@ -54,6 +59,28 @@ public class MyBatisContext {
 		this.instance = instance;
 		this.domainType = domainType;
 		this.additionalValues = Collections.emptyMap();
+		this.instances = Collections.emptyList();
+		this.identifiers = Collections.emptyList();
+	}
+
+	/**
+	 * Creates a {@link MyBatisContext} for statements acting upon multiple entities at once, like {@code insertAll}.
+	 *
+	 * @param instances the entities to act upon. Must not be {@literal null}.
+	 * @param identifiers the {@link Identifier} for each entity, in the order of the entities. Must not be
+	 *          {@literal null}.
+	 * @param domainType the domain type of the entities.
+	 * @since 2.3
+	 */
+	public MyBatisContext(List<?> instances, List<Identifier> identifiers, @Nullable Class<?> domainType) {
+
+		this.id = null;
+		this.identifier = null;
+		this.instance = null;
+		this.domainType = domainType;
+		this.additionalValues = Collections.emptyMap();
+		this.instances = instances;
+		this.identifiers = identifiers;
 	}
 
 	/**
@@ -86,6 +113,27 @@ public class MyBatisContext {
 		return instance;
 	}
 
+	/**
+	 * The entities to act upon by statements handling multiple entities at once, like {@code insertAll}.
+	 *
+	 * @return guaranteed to be not {@literal null}. Empty for statements acting upon a single entity.
+	 * @since 2.3
+	 */
+	public List<?> getInstances() {
+		return instances;
+	}
+
+	/**
+	 * The {@link Identifier}s of the entities returned by {@link #getInstances()}, in the same order. Used to communicate
+	 * ids of parent entities.
+	 *
+	 * @return guaranteed to be not {@literal null}. Empty for statements acting upon a single entity.
+	 * @since 2.3
+	 */
+	public List<Identifier> getIdentifiers() {
+		return identifiers;
+	}
+
 	/**
 	 * The domain type of the entity to query or act upon.
 	 *
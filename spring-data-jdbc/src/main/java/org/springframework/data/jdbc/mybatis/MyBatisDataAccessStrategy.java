@@ -17,11 +17,21 @@ package org.springframework.data.jdbc.mybatis;
 
 import static java.util.Arrays.*;
 
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.keygen.NoKeyGenerator;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.slf4j.Logger;
@@ -40,12 +50,15 @@ import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * {@link DataAccessStrategy} implementation based on MyBatis. Each method gets mapped to a statement. The name of the
@@ -55,6 +68,12 @@ import org.springframework.util.Assert;
  * appended to the statement name. Each statement gets an instance of {@link MyBatisContext}, which at least has the
  * entityType set. For methods taking a {@link PropertyPath} the entityType if the context is set to the class of the
  * leaf type.
+ * <p>
+ * When constructed with a {@link SqlSessionTemplate} using {@link ExecutorType#BATCH}, write statements get queued and
+ * flushed at the end of each call, i.e. {@link #insertAll(List, Class, List)} and
+ * {@link #updateAllWithVersion(List, Class, List)} execute their statements as a JDBC batch. Flushing at the end of each
+ * call makes generated ids and update counts available and keeps the order of statements intact relative to other
+ * {@link DataAccessStrategy}s writing through the same transaction.
  *
  * @author Jens Schauder
  * @author Kazuki Shimizu
@@ -71,7 +90,9 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 	private final SqlSession sqlSession;
 	private final IdentifierProcessing identifierProcessing;
+	private final boolean batch;
 	private NamespaceStrategy namespaceStrategy = NamespaceStrategy.DEFAULT_INSTANCE;
+	private @Nullable RelationalMappingContext mappingContext;
 
 	/**
 	 * Create a {@link DataAccessStrategy} that first checks for queries defined by MyBatis and if it doesn't find one
@@ -98,6 +119,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		MyBatisDataAccessStrategy myBatisDataAccessStrategy = new MyBatisDataAccessStrategy(sqlSession,
 				dialect.getIdentifierProcessing());
 		myBatisDataAccessStrategy.setNamespaceStrategy(namespaceStrategy);
+		myBatisDataAccessStrategy.setMappingContext(context);
 
 		CascadingDataAccessStrategy cascadingDataAccessStrategy = new CascadingDataAccessStrategy(
 				asList(myBatisDataAccessStrategy, delegatingDataAccessStrategy));
@@ -132,6 +154,8 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 		this.sqlSession = sqlSession;
 		this.identifierProcessing = identifierProcessing;
+		this.batch = sqlSession instanceof SqlSessionTemplate
+				&& ((SqlSessionTemplate) sqlSession).getExecutorType() == ExecutorType.BATCH;
 	}
 
 	/**
@@ -146,6 +170,21 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		this.namespaceStrategy = namespaceStrategy;
 	}
 
+	/**
+	 * Set the {@link RelationalMappingContext} used to check the stored version of an entity when a batch executor
+	 * doesn't report the update count of a statement ({@link Statement#SUCCESS_NO_INFO}). The check uses the
+	 * {@code findById} statement. Without a {@link RelationalMappingContext}, such statements count as successful.
+	 *
+	 * @param mappingContext Must be non {@literal null}.
+	 * @since 2.3
+	 */
+	public void setMappingContext(RelationalMappingContext mappingContext) {
+
+		Assert.notNull(mappingContext, "The RelationalMappingContext must not be null");
+
+		this.mappingContext = mappingContext;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#insert(java.lang.Object, java.lang.Class, ParentKeys)
@@ -155,10 +194,47 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 		MyBatisContext myBatisContext = new MyBatisContext(identifier, instance, domainType);
 		sqlSession().insert(namespace(domainType) + ".insert", myBatisContext);
+		flushIfBatch();
 
 		return myBatisContext.getId();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insertAll(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <T> Object[] insertAll(List<T> instances, Class<T> domainType, List<Identifier> identifiers) {
+
+		Assert.isTrue(instances.size() == identifiers.size(), "An identifier is required for each instance");
+
+		// Generated keys can't be assigned to the instances of a single statement. Insert one instance after the other.
+		String statement = namespace(domainType) + ".insertAll";
+		if (hasStatement(statement) && !generatesKeys(namespace(domainType) + ".insert")) {
+
+			sqlSession().insert(statement, new MyBatisContext(instances, identifiers, domainType));
+			flushIfBatch();
+
+			return new Object[instances.size()];
+		}
+
+		if (!batch) {
+			return DataAccessStrategy.super.insertAll(instances, domainType, identifiers);
+		}
+
+		List<MyBatisContext> parameters = new ArrayList<>(instances.size());
+		for (int i = 0; i < instances.size(); i++) {
+
+			MyBatisContext parameter = new MyBatisContext(identifiers.get(i), instances.get(i), domainType);
+			sqlSession().insert(namespace(domainType) + ".insert", parameter);
+			parameters.add(parameter);
+		}
+
+		sqlSession().flushStatements();
+
+		return parameters.stream().map(MyBatisContext::getId).toArray();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#update(java.lang.Object, java.lang.Class)
@@ -166,8 +242,10 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <S> boolean update(S instance, Class<S> domainType) {
 
-		return sqlSession().update(namespace(domainType) + ".update",
-				new MyBatisContext(null, instance, domainType, Collections.emptyMap())) != 0;
+		MyBatisContext parameter = new MyBatisContext(null, instance, domainType, Collections.emptyMap());
+		int updateCount = getUpdateCount(sqlSession().update(namespace(domainType) + ".update", parameter), parameter);
+
+		return updateCount == Statement.SUCCESS_NO_INFO || updateCount > 0;
 	}
 
 	/*
@@ -180,7 +258,41 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		String statement = namespace(domainType) + ".updateWithVersion";
 		MyBatisContext parameter = new MyBatisContext(null, instance, domainType,
 				Collections.singletonMap(VERSION_SQL_PARAMETER_NAME_OLD, previousVersion));
-		return sqlSession().update(statement, parameter) != 0;
+		return isUpdated(getUpdateCount(sqlSession().update(statement, parameter), parameter), instance, domainType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#updateAllWithVersion(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <S> boolean[] updateAllWithVersion(List<S> instances, Class<S> domainType, List<Number> previousVersions) {
+
+		if (!batch) {
+			return DataAccessStrategy.super.updateAllWithVersion(instances, domainType, previousVersions);
+		}
+
+		Assert.isTrue(instances.size() == previousVersions.size(), "A previous version is required for each instance");
+
+		String statement = namespace(domainType) + ".updateWithVersion";
+		List<MyBatisContext> parameters = new ArrayList<>(instances.size());
+
+		for (int i = 0; i < instances.size(); i++) {
+
+			MyBatisContext parameter = new MyBatisContext(null, instances.get(i), domainType,
+					Collections.singletonMap(VERSION_SQL_PARAMETER_NAME_OLD, previousVersions.get(i)));
+			sqlSession().update(statement, parameter);
+			parameters.add(parameter);
+		}
+
+		Map<Object, Integer> updateCounts = flush();
+		boolean[] updated = new boolean[instances.size()];
+
+		for (int i = 0; i < parameters.size(); i++) {
+			updated[i] = isUpdated(updateCounts.getOrDefault(parameters.get(i), 0), instances.get(i), domainType);
+		}
+
+		return updated;
 	}
 
 	/*
@@ -193,6 +305,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		String statement = namespace(domainType) + ".delete";
 		MyBatisContext parameter = new MyBatisContext(id, null, domainType, Collections.emptyMap());
 		sqlSession().delete(statement, parameter);
+		flushIfBatch();
 	}
 
 	/*
@@ -206,6 +319,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		MyBatisContext parameter = new MyBatisContext(id, null, domainType,
 				Collections.singletonMap(VERSION_SQL_PARAMETER_NAME_OLD, previousVersion));
 		sqlSession().delete(statement, parameter);
+		flushIfBatch();
 	}
 
 	/*
@@ -221,6 +335,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		MyBatisContext parameter = new MyBatisContext(rootId, null, leafType, Collections.emptyMap());
 
 		sqlSession().delete(statement, parameter);
+		flushIfBatch();
 	}
 
 	/*
@@ -233,6 +348,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		String statement = namespace(domainType) + ".deleteAll";
 		MyBatisContext parameter = new MyBatisContext(null, null, domainType, Collections.emptyMap());
 		sqlSession().delete(statement, parameter);
+		flushIfBatch();
 	}
 
 	/*
@@ -248,6 +364,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		String statement = namespace(baseType) + ".deleteAll-" + toDashPath(propertyPath);
 		MyBatisContext parameter = new MyBatisContext(null, null, leafType, Collections.emptyMap());
 		sqlSession().delete(statement, parameter);
+		flushIfBatch();
 	}
 
 	/*
@@ -268,6 +385,33 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#tryAcquireLockById(java.lang.Object, org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
+	 */
+	@Override
+	public <T> boolean tryAcquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
+
+		String statement = namespace(domainType) + ".acquireLockById";
+		MyBatisContext parameter = new MyBatisContext(id, null, domainType, Collections.emptyMap());
+
+		Long result = sqlSession().selectOne(statement, parameter);
+		return result != null && result > 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#acquireLockAllById(java.lang.Iterable, org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
+	 */
+	@Override
+	public <T> Iterable<Object> acquireLockAllById(Iterable<?> ids, LockMode lockMode, Class<T> domainType) {
+
+		String statement = namespace(domainType) + ".acquireLockAllById";
+		MyBatisContext parameter = new MyBatisContext(ids, null, domainType, Collections.emptyMap());
+
+		return sqlSession().selectList(statement, parameter);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#acquireLockAll(org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
@@ -327,6 +471,54 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 	}
 
+	/**
+	 * Loads the entities referenced by multiple parents using a single {@code findAllByPathIn-<propertyPath>} statement,
+	 * if the mapper declares one. The statement receives the back reference values of all parents as {@code id} and has
+	 * to return {@link KeyedEntity} instances. Without such a statement, or for parents identified by more than a single
+	 * value, this falls back to one {@code findAllByPath-<propertyPath>} statement per parent.
+	 *
+	 * @see org.springframework.data.jdbc.core.convert.RelationResolver#findAllByPathIn(java.util.List,
+	 *      org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public Map<Identifier, Iterable<Object>> findAllByPathIn(List<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		String statementName = findAllByPathInStatement(path);
+
+		if (!hasStatement(statementName) || identifiers.stream().anyMatch(identifier -> identifier.size() != 1)) {
+			return DataAccessStrategy.super.findAllByPathIn(identifiers, path);
+		}
+
+		Map<Object, Identifier> identifiersByKey = new HashMap<>();
+		Map<Identifier, Iterable<Object>> result = new LinkedHashMap<>();
+		List<Object> ids = new ArrayList<>(identifiers.size());
+
+		for (Identifier identifier : identifiers) {
+
+			Object id = identifier.getParts().iterator().next().getValue();
+
+			identifiersByKey.put(toKey(id), identifier);
+			result.put(identifier, new ArrayList<>());
+			ids.add(id);
+		}
+
+		List<KeyedEntity> keyedEntities = sqlSession().selectList(statementName,
+				new MyBatisContext(ids, null, path.getRequiredLeafProperty().getType(), Collections.emptyMap()));
+
+		for (KeyedEntity keyedEntity : keyedEntities) {
+
+			Identifier identifier = identifiersByKey.get(toKey(keyedEntity.getKey()));
+
+			Assert.state(identifier != null,
+					() -> String.format("%s returned an entity for the unknown key %s", statementName, keyedEntity.getKey()));
+
+			((List<Object>) result.get(identifier)).add(keyedEntity.getEntity());
+		}
+
+		return result;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#existsById(java.lang.Object, java.lang.Class)
@@ -377,12 +569,119 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		return sqlSession().selectOne(statement, parameter);
 	}
 
+	/**
+	 * Normalizes numeric back reference values, so that a key read by MyBatis matches the id of the parent even if the
+	 * two are of different numeric types.
+	 */
+	@Nullable
+	private static Object toKey(@Nullable Object value) {
+		return value instanceof Number ? new BigDecimal(value.toString()).stripTrailingZeros() : value;
+	}
+
 	private Map<String, Object> convertToParameterMap(Map<SqlIdentifier, Object> additionalParameters) {
 
 		return additionalParameters.entrySet().stream() //
 				.collect(Collectors.toMap(e -> e.getKey().toSql(identifierProcessing), Map.Entry::getValue));
 	}
 
+	/**
+	 * Returns the number of rows affected by a single statement. With a batch executor, MyBatis returns a placeholder
+	 * instead, so the statement gets flushed to obtain the actual count.
+	 */
+	private int getUpdateCount(int result, Object parameter) {
+		return batch ? flush().getOrDefault(parameter, 0) : result;
+	}
+
+	/**
+	 * Determines whether a versioned update succeeded. Drivers may execute a batch without reporting counts, in which
+	 * case the stored version gets checked. Executions reported as failed ({@link Statement#EXECUTE_FAILED}) did not
+	 * update the row.
+	 */
+	private <S> boolean isUpdated(int updateCount, S instance, Class<S> domainType) {
+
+		return updateCount == Statement.SUCCESS_NO_INFO //
+				? isStoredWithCurrentVersion(instance, domainType) //
+				: updateCount > 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <S> boolean isStoredWithCurrentVersion(S instance, Class<S> domainType) {
+
+		if (mappingContext == null) {
+			return true;
+		}
+
+		RelationalPersistentEntity<S> persistentEntity = (RelationalPersistentEntity<S>) mappingContext
+				.getRequiredPersistentEntity(domainType);
+		RelationalPersistentProperty versionProperty = persistentEntity.getRequiredVersionProperty();
+
+		Object id = persistentEntity.getIdentifierAccessor(instance).getRequiredIdentifier();
+		S stored = findById(id, domainType);
+
+		return stored != null && ObjectUtils.nullSafeEquals(
+				persistentEntity.getPropertyAccessor(instance).getProperty(versionProperty),
+				persistentEntity.getPropertyAccessor(stored).getProperty(versionProperty));
+	}
+
+	/**
+	 * Flushes the queued statements of a batch executor.
+	 *
+	 * @return the number of affected rows by the parameter object of each flushed statement.
+	 */
+	private Map<Object, Integer> flush() {
+
+		Map<Object, Integer> updateCounts = new IdentityHashMap<>();
+
+		for (BatchResult result : sqlSession().flushStatements()) {
+
+			int[] counts = result.getUpdateCounts();
+			List<Object> parameterObjects = result.getParameterObjects();
+
+			for (int i = 0; i < counts.length && i < parameterObjects.size(); i++) {
+				updateCounts.put(parameterObjects.get(i), counts[i]);
+			}
+		}
+
+		return updateCounts;
+	}
+
+	private void flushIfBatch() {
+
+		if (batch) {
+			sqlSession().flushStatements();
+		}
+	}
+
+	/**
+	 * Reports paths for which the mapper declares a {@code findAllByPathIn-<propertyPath>} statement.
+	 *
+	 * @see org.springframework.data.jdbc.core.convert.RelationResolver#supportsFindAllByPathIn(org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public boolean supportsFindAllByPathIn(PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+		return hasStatement(findAllByPathInStatement(path));
+	}
+
+	private String findAllByPathInStatement(PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+		return namespace(path.getBaseProperty().getOwner().getType()) + ".findAllByPathIn-" + path.toDotPath();
+	}
+
+	private boolean hasStatement(String statement) {
+
+		Configuration configuration = sqlSession().getConfiguration();
+		return configuration != null && configuration.hasStatement(statement, false);
+	}
+
+	/**
+	 * Checks whether a statement obtains keys generated by the database, i.e. uses {@code useGeneratedKeys} or
+	 * {@code selectKey}.
+	 */
+	private boolean generatesKeys(String statement) {
+
+		return hasStatement(statement) && !(sqlSession().getConfiguration().getMappedStatement(statement, false)
+				.getKeyGenerator() instanceof NoKeyGenerator);
+	}
+
 	private String namespace(Class<?> domainType) {
 		return this.namespaceStrategy.getNamespace(domainType);
 	}
@@ -40,6 +40,7 @@ import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DefaultJdbcTypeFactory;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.data.jdbc.core.convert.JdbcWarmup;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
 import org.springframework.data.jdbc.core.convert.SqlGeneratorSource;
 import org.springframework.data.jdbc.core.dialect.JdbcDb2Dialect;
@@ -100,7 +101,8 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 	public JdbcConverter jdbcConverter(JdbcMappingContext mappingContext, NamedParameterJdbcOperations operations,
 			@Lazy RelationResolver relationResolver, JdbcCustomConversions conversions, Dialect dialect) {
 
-		DefaultJdbcTypeFactory jdbcTypeFactory = new DefaultJdbcTypeFactory(operations.getJdbcOperations());
+		DefaultJdbcTypeFactory jdbcTypeFactory = new DefaultJdbcTypeFactory(operations.getJdbcOperations(),
+				dialect.getArraySupport());
 
 		return new BasicJdbcConverter(mappingContext, relationResolver, conversions, jdbcTypeFactory,
 				dialect.getIdentifierProcessing());
@@ -176,7 +178,38 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 	}
 
 	/**
-	 * Resolves a {@link Dialect JDBC dialect} by inspecting {@link NamedParameterJdbcOperations}.
+	 * Register a {@link JdbcWarmup} preparing the SQL statements and mapping metadata of the aggregates managed by
+	 * repositories at application startup. The warm-up is disabled unless {@link #warmupMode()} gets overridden.
+	 *
+	 * @param mappingContext the mapping context to be used. Must not be {@literal null}.
+	 * @param dataAccessStrategy the {@link DataAccessStrategy} to warm up. Must not be {@literal null}.
+	 * @return a {@link JdbcWarmup}. Will never be {@literal null}.
+	 * @since 2.3
+	 */
+	@Bean
+	public JdbcWarmup jdbcWarmup(JdbcMappingContext mappingContext, DataAccessStrategy dataAccessStrategy) {
+
+		JdbcWarmup warmup = new JdbcWarmup(mappingContext, dataAccessStrategy);
+		warmup.setMode(warmupMode());
+
+		return warmup;
+	}
+
+	/**
+	 * Determines whether the SQL statements and mapping metadata of aggregates get prepared at application startup and
+	 * whether that happens concurrently. Returns {@link JdbcWarmup.Mode#DISABLED} by default.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.3
+	 */
+	protected JdbcWarmup.Mode warmupMode() {
+		return JdbcWarmup.Mode.DISABLED;
+	}
+
+	/**
+	 * Resolves a {@link Dialect JDBC dialect} by inspecting {@link NamedParameterJdbcOperations}. The properties
+	 * {@link DialectResolver#DIALECT_PROPERTY} and {@link DialectResolver#DIALECT_CACHE_PROPERTY} of the
+	 * {@link org.springframework.core.env.Environment} allow to avoid obtaining a {@link java.sql.Connection} for that.
 	 *
 	 * @param operations the {@link NamedParameterJdbcOperations} allowing access to a {@link java.sql.Connection}.
 	 * @return the {@link Dialect} to be used.
@@ -186,7 +219,9 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 	 */
 	@Bean
 	public Dialect jdbcDialect(NamedParameterJdbcOperations operations) {
-		return DialectResolver.getDialect(operations.getJdbcOperations());
+
+		return applicationContext == null ? DialectResolver.getDialect(operations.getJdbcOperations())
+				: DialectResolver.getDialect(operations.getJdbcOperations(), applicationContext.getEnvironment());
 	}
 
 	@Override
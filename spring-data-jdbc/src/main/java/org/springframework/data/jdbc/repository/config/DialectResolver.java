@@ -15,17 +15,30 @@
  */
 package org.springframework.data.jdbc.repository.config;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Properties;
 
 import javax.sql.DataSource;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.env.PropertyResolver;
 import org.springframework.core.io.support.SpringFactoriesLoader;
 import org.springframework.dao.NonTransientDataAccessException;
 import org.springframework.data.jdbc.core.dialect.JdbcDb2Dialect;
@@ -45,13 +58,23 @@ import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.util.Optionals;
 import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.support.JdbcAccessor;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
  * Resolves a {@link Dialect}. Resolution typically uses {@link JdbcOperations} to obtain and inspect a
  * {@link Connection}. Dialect resolution uses Spring's {@link SpringFactoriesLoader spring.factories} to determine
  * available {@link JdbcDialectProvider extensions}.
+ * <p>
+ * The default extensions first try to derive the {@link Dialect} from the JDBC URL of the {@link DataSource} and only
+ * fall back to the {@link DatabaseMetaData} of a {@link Connection} if that isn't possible.
+ * {@link #getDialect(JdbcOperations, PropertyResolver)} additionally considers an explicitly configured dialect (see
+ * {@link #DIALECT_PROPERTY}) and a file caching the detected dialect across restarts (see
+ * {@link #DIALECT_CACHE_PROPERTY}).
  *
  * @author Jens Schauder
  * @since 2.0
@@ -60,6 +83,21 @@ import org.springframework.util.StringUtils;
  */
 public class DialectResolver {
 
+	/**
+	 * Property to configure the {@link Dialect} to use. Either the name of a database as in {@code postgresql},
+	 * {@code h2} or {@code sqlserver}, or the fully qualified name of a {@link Dialect} class.
+	 *
+	 * @since 2.3
+	 */
+	public static final String DIALECT_PROPERTY = "spring.data.jdbc.dialect";
+
+	/**
+	 * Property to configure a file to cache the detected {@link Dialect} in for subsequent starts of the application.
+	 *
+	 * @since 2.3
+	 */
+	public static final String DIALECT_CACHE_PROPERTY = "spring.data.jdbc.dialect-cache";
+
 	private static final Log LOG = LogFactory.getLog(DialectResolver.class);
 
 	private static final List<JdbcDialectProvider> DETECTORS = SpringFactoriesLoader
@@ -86,6 +124,157 @@ public class DialectResolver {
 						String.format("Cannot determine a dialect for %s. Please provide a Dialect.", operations)));
 	}
 
+	/**
+	 * Retrieve a {@link Dialect} without inspecting a {@link Connection} where possible. The {@link Dialect} configured
+	 * by {@link #DIALECT_PROPERTY} takes precedence. Otherwise, if {@link #DIALECT_CACHE_PROPERTY} points to a file
+	 * written by a previous start for the same JDBC URL, the {@link Dialect} is read from that file. In all other cases
+	 * the {@link Dialect} gets resolved by {@link #getDialect(JdbcOperations)} and stored in the configured file.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 * @return the resolved {@link Dialect}.
+	 * @throws NoDialectException if no {@link Dialect} can be found.
+	 * @since 2.3
+	 */
+	public static Dialect getDialect(JdbcOperations operations, PropertyResolver properties) {
+
+		String configured = properties.getProperty(DIALECT_PROPERTY);
+		if (StringUtils.hasText(configured)) {
+			return getConfiguredDialect(configured.trim());
+		}
+
+		String cacheFile = properties.getProperty(DIALECT_CACHE_PROPERTY);
+		if (!StringUtils.hasText(cacheFile)) {
+			return getDialect(operations);
+		}
+
+		DialectCache cache = new DialectCache(Paths.get(cacheFile.trim()), getJdbcUrl(operations));
+
+		Dialect cached = cache.read();
+		if (cached != null) {
+			return cached;
+		}
+
+		Dialect dialect = getDialect(operations);
+		cache.write(dialect);
+
+		return dialect;
+	}
+
+	private static Dialect getConfiguredDialect(String configured) {
+
+		Dialect dialect = getDialectByName(configured, MySqlDialect.MYSQL_IDENTIFIER_PROCESSING);
+		if (dialect != null) {
+			return dialect;
+		}
+
+		if (configured.contains(".")) {
+			try {
+				return instantiate(ClassUtils.forName(configured, DialectResolver.class.getClassLoader()));
+			} catch (ClassNotFoundException | LinkageError e) {
+				throw new NoDialectException(String.format("Cannot load Dialect class %s configured by %s.", configured,
+						DIALECT_PROPERTY));
+			}
+		}
+
+		throw new NoDialectException(String.format("Unknown Dialect %s configured by %s.", configured, DIALECT_PROPERTY));
+	}
+
+	/**
+	 * Maps the name of a database, as used in JDBC URLs, to the {@link Dialect} for it.
+	 *
+	 * @param name the name of the database.
+	 * @param identifierProcessing the {@link IdentifierProcessing} to use for MySQL and MariaDB. These depend on the
+	 *          configuration of the database, so {@literal null} returns no {@link Dialect} for them.
+	 * @return the {@link Dialect} or {@literal null} if there is none for the given name.
+	 */
+	@Nullable
+	private static Dialect getDialectByName(String name, @Nullable IdentifierProcessing identifierProcessing) {
+
+		switch (name.toLowerCase(Locale.ENGLISH)) {
+			case "hsql":
+			case "hsqldb":
+				return HsqlDbDialect.INSTANCE;
+			case "h2":
+				return JdbcH2Dialect.INSTANCE;
+			case "mysql":
+				return identifierProcessing == null ? null : new JdbcMySqlDialect(identifierProcessing);
+			case "mariadb":
+				return identifierProcessing == null ? null : new MariaDbDialect(identifierProcessing);
+			case "postgres":
+			case "postgresql":
+				return PostgresDialect.INSTANCE;
+			case "sqlserver":
+			case "microsoft":
+				return JdbcSqlServerDialect.INSTANCE;
+			case "db2":
+				return JdbcDb2Dialect.INSTANCE;
+			case "oracle":
+				return OracleDialect.INSTANCE;
+			default:
+				return null;
+		}
+	}
+
+	private static Dialect instantiate(Class<?> type) {
+
+		if (!Dialect.class.isAssignableFrom(type)) {
+			throw new NoDialectException(String.format("%s is not a Dialect.", type.getName()));
+		}
+
+		Field instance = ReflectionUtils.findField(type, "INSTANCE", type);
+		if (instance != null && Modifier.isStatic(instance.getModifiers())) {
+			return (Dialect) ReflectionUtils.getField(instance, null);
+		}
+
+		return (Dialect) BeanUtils.instantiateClass(type);
+	}
+
+	/**
+	 * Determines the JDBC URL of the {@link DataSource} used by the given {@link JdbcOperations} without obtaining a
+	 * {@link Connection}. This works for {@link DataSource}s exposing the URL as a bean property, which most connection
+	 * pools and the {@link DataSource}s of Spring and the JDBC drivers do.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @return the JDBC URL or {@literal null} if it cannot be determined.
+	 */
+	@Nullable
+	static String getJdbcUrl(JdbcOperations operations) {
+
+		if (!(operations instanceof JdbcAccessor)) {
+			return null;
+		}
+
+		DataSource dataSource = ((JdbcAccessor) operations).getDataSource();
+		while (dataSource instanceof DelegatingDataSource) {
+			dataSource = ((DelegatingDataSource) dataSource).getTargetDataSource();
+		}
+
+		if (dataSource == null) {
+			return null;
+		}
+
+		BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(dataSource);
+		for (String property : new String[] { "jdbcUrl", "url", "URL" }) {
+
+			if (!wrapper.isReadableProperty(property)) {
+				continue;
+			}
+
+			try {
+
+				Object url = wrapper.getPropertyValue(property);
+				if (url instanceof String && ((String) url).startsWith("jdbc:")) {
+					return (String) url;
+				}
+			} catch (RuntimeException e) {
+				LOG.debug(String.format("Cannot read property %s of %s", property, dataSource), e);
+			}
+		}
+
+		return null;
+	}
+
 	/**
 	 * SPI to extend Spring's default JDBC Dialect discovery mechanism. Implementations of this interface are discovered
 	 * through Spring's {@link SpringFactoriesLoader} mechanism.
@@ -105,6 +294,51 @@ public class DialectResolver {
 		Optional<Dialect> getDialect(JdbcOperations operations);
 	}
 
+	/**
+	 * {@link JdbcDialectProvider} deriving the {@link Dialect} from the JDBC URL of the {@link DataSource} without
+	 * obtaining a {@link Connection}. MySQL and MariaDB are left to {@link DefaultDialectProvider} since their
+	 * {@link IdentifierProcessing} depends on the configuration of the database.
+	 *
+	 * @since 2.3
+	 */
+	static public class JdbcUrlDialectProvider implements JdbcDialectProvider {
+
+		@Override
+		public Optional<Dialect> getDialect(JdbcOperations operations) {
+
+			String url = getJdbcUrl(operations);
+			return url == null ? Optional.empty() : Optional.ofNullable(getDialect(url));
+		}
+
+		/**
+		 * Maps the subprotocol of a JDBC URL to a {@link Dialect}. Subprotocols of wrapping drivers, like {@code tc} in
+		 * {@code jdbc:tc:postgresql:13:///test}, get skipped.
+		 */
+		@Nullable
+		static Dialect getDialect(String url) {
+
+			String[] parts = url.split(":");
+			for (int i = 1; i < parts.length; i++) {
+
+				if (!StringUtils.hasText(parts[i]) || parts[i].startsWith("/") || parts[i].contains("@")) {
+					break;
+				}
+
+				String name = parts[i].toLowerCase(Locale.ENGLISH);
+				if (name.equals("mysql") || name.equals("mariadb")) {
+					return null;
+				}
+
+				Dialect dialect = getDialectByName(name, null);
+				if (dialect != null) {
+					return dialect;
+				}
+			}
+
+			return null;
+		}
+	}
+
 	static public class DefaultDialectProvider implements JdbcDialectProvider {
 
 		@Override
@@ -174,6 +408,125 @@ public class DialectResolver {
 		}
 	}
 
+	/**
+	 * Stores a {@link Dialect} together with the JDBC URL it got detected for in a properties file. The
+	 * {@link IdentifierProcessing} gets stored as well since it may depend on the configuration of the database.
+	 */
+	static class DialectCache {
+
+		private final Path file;
+		private final String url;
+
+		DialectCache(Path file, @Nullable String url) {
+
+			this.file = file;
+			this.url = url == null ? "" : url;
+		}
+
+		@Nullable
+		Dialect read() {
+
+			if (!Files.isRegularFile(file)) {
+				return null;
+			}
+
+			Properties properties = new Properties();
+			try (InputStream in = Files.newInputStream(file)) {
+				properties.load(in);
+			} catch (IOException e) {
+				LOG.warn(String.format("Cannot read Dialect cache %s", file), e);
+				return null;
+			}
+
+			if (!url.equals(properties.getProperty("url"))) {
+				LOG.info(String.format("Ignoring Dialect cache %s written for a different JDBC URL", file));
+				return null;
+			}
+
+			String name = properties.getProperty("dialect", "");
+			try {
+
+				IdentifierProcessing identifierProcessing = IdentifierProcessing.create(
+						new IdentifierProcessing.Quoting(properties.getProperty("quote-prefix", ""),
+								properties.getProperty("quote-suffix", "")),
+						IdentifierProcessing.LetterCasing.valueOf(properties.getProperty("letter-casing", "AS_IS")));
+
+				Dialect dialect = getDialectByName(name, identifierProcessing);
+				if (dialect == null && name.contains(".")) {
+					dialect = instantiate(ClassUtils.forName(name, DialectResolver.class.getClassLoader()));
+				}
+
+				return dialect;
+			} catch (ClassNotFoundException | LinkageError | RuntimeException e) {
+
+				LOG.warn(String.format("Cannot create Dialect %s from cache %s", name, file), e);
+				return null;
+			}
+		}
+
+		void write(Dialect dialect) {
+
+			String name = getName(dialect);
+			IdentifierProcessing identifierProcessing = dialect.getIdentifierProcessing();
+			String quoted = identifierProcessing.quote("x");
+			String standardized = identifierProcessing.standardizeLetterCase("aA");
+
+			Properties properties = new Properties();
+			properties.setProperty("url", url);
+			properties.setProperty("dialect", name);
+			properties.setProperty("quote-prefix", quoted.substring(0, quoted.indexOf('x')));
+			properties.setProperty("quote-suffix", quoted.substring(quoted.indexOf('x') + 1));
+			properties.setProperty("letter-casing", standardized.equals("AA") ? "UPPER_CASE"
+					: standardized.equals("aa") ? "LOWER_CASE" : "AS_IS");
+
+			try {
+
+				Path parent = file.toAbsolutePath().getParent();
+				if (parent != null) {
+					Files.createDirectories(parent);
+				}
+
+				try (OutputStream out = Files.newOutputStream(file)) {
+					properties.store(out, "Dialect detected by Spring Data JDBC");
+				}
+			} catch (IOException e) {
+				LOG.warn(String.format("Cannot write Dialect cache %s", file), e);
+			}
+		}
+
+		private static String getName(Dialect dialect) {
+
+			Class<?> type = dialect.getClass();
+
+			if (type == HsqlDbDialect.class) {
+				return "hsqldb";
+			}
+			if (type == JdbcH2Dialect.class) {
+				return "h2";
+			}
+			if (type == JdbcMySqlDialect.class) {
+				return "mysql";
+			}
+			if (type == MariaDbDialect.class) {
+				return "mariadb";
+			}
+			if (type == PostgresDialect.class) {
+				return "postgresql";
+			}
+			if (type == JdbcSqlServerDialect.class) {
+				return "sqlserver";
+			}
+			if (type == JdbcDb2Dialect.class) {
+				return "db2";
+			}
+			if (type == OracleDialect.class) {
+				return "oracle";
+			}
+
+			return type.getName();
+		}
+	}
+
 	/**
 	 * Exception thrown when {@link DialectResolver} cannot resolve a {@link Dialect}.
 	 */
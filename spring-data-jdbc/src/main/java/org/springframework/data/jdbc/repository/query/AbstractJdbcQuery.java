@@ -17,6 +17,7 @@ package org.springframework.data.jdbc.repository.query;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -160,7 +161,21 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 	 * @since 2.3
 	 */
 	public interface RowMapperFactory {
+
 		RowMapper<Object> create(Class<?> result);
+
+		/**
+		 * Create a {@link RowMapper} for a projection of the domain type {@code result} that only requires the given
+		 * properties. Implementations may use this to avoid reading or loading properties that are not part of the
+		 * projection. The default implementation falls back to {@link #create(Class)}.
+		 *
+		 * @param result the domain type to read.
+		 * @param projectedProperties names of the top-level properties required by the projection.
+		 * @return a {@link RowMapper} for {@code result}. Guaranteed to be not {@literal null}.
+		 */
+		default RowMapper<Object> create(Class<?> result, Collection<String> projectedProperties) {
+			return create(result);
+		}
 	}
 
 	/**
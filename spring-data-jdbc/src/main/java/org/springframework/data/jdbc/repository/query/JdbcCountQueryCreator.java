@@ -41,7 +41,7 @@ class JdbcCountQueryCreator extends JdbcQueryCreator {
 	JdbcCountQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
 			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
 			ReturnedType returnedType) {
-		super(context, tree, converter, dialect, entityMetadata, accessor, isSliceQuery, returnedType);
+		super(context, tree, converter, dialect, entityMetadata, accessor, isSliceQuery, returnedType, null);
 	}
 
 	@Override
@@ -16,6 +16,7 @@
 package org.springframework.data.jdbc.repository.query;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -35,11 +36,12 @@ import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SelectBuilder;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
-import org.springframework.data.relational.core.sql.render.SqlRenderer;
+import org.springframework.data.relational.core.sql.render.SinglePassSqlRenderer;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalQueryCreator;
@@ -69,6 +71,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	private final RenderContextFactory renderContextFactory;
 	private final boolean isSliceQuery;
 	private final ReturnedType returnedType;
+	private final @Nullable LockMode lockMode;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
@@ -82,10 +85,11 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	 * @param accessor parameter metadata provider, must not be {@literal null}.
 	 * @param isSliceQuery flag denoting if the query returns a {@link org.springframework.data.domain.Slice}.
 	 * @param returnedType the {@link ReturnedType} to be returned by the query. Must not be {@literal null}.
+	 * @param lockMode the {@link LockMode} to lock the selected rows with. May be {@literal null}.
 	 */
 	JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
 			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
-			ReturnedType returnedType) {
+			ReturnedType returnedType, @Nullable LockMode lockMode) {
 		super(tree, accessor);
 
 		Assert.notNull(converter, "JdbcConverter must not be null");
@@ -102,6 +106,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		this.renderContextFactory = new RenderContextFactory(dialect);
 		this.isSliceQuery = isSliceQuery;
 		this.returnedType = returnedType;
+		this.lockMode = lockMode;
 	}
 
 	/**
@@ -168,9 +173,12 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 				whereBuilder);
 		selectOrderBuilder = applyOrderBy(sort, entity, table, selectOrderBuilder);
 
-		Select select = selectOrderBuilder.build();
+		// aggregates can't be combined with row locks
+		Select select = lockMode != null && !tree.isCountProjection() //
+				? selectOrderBuilder.lock(lockMode).build() //
+				: selectOrderBuilder.build();
 
-		String sql = SqlRenderer.create(renderContextFactory.createRenderContext()).render(select);
+		String sql = SinglePassSqlRenderer.create(renderContextFactory.createRenderContext()).render(select);
 
 		return new ParametrizedQuery(sql, parameterSource);
 	}
@@ -230,15 +238,22 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		RelationalPersistentEntity<?> entity = entityMetadata.getTableEntity();
 		SqlContext sqlContext = new SqlContext(entity);
 
+		boolean projecting = returnedType.needsCustomConstruction();
+		List<String> projectedProperties = projecting ? returnedType.getInputProperties() : Collections.emptyList();
+		boolean requiresId = projecting && requiresIdForProjection(entity, projectedProperties);
+
 		List<Join> joinTables = new ArrayList<>();
 		for (PersistentPropertyPath<RelationalPersistentProperty> path : context
 				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
 
 			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(context, path);
 
-			if (returnedType.needsCustomConstruction()) {
-				if (!returnedType.getInputProperties()
-						.contains(extPath.getRequiredPersistentPropertyPath().getBaseProperty().getName())) {
+			if (projecting) {
+
+				RelationalPersistentProperty baseProperty = extPath.getRequiredPersistentPropertyPath().getBaseProperty();
+
+				if (!projectedProperties.contains(baseProperty.getName())
+						&& !(requiresId && extPath.getLength() == 1 && baseProperty.isIdProperty())) {
 					continue;
 				}
 			}
@@ -265,6 +280,29 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		return baseSelect;
 	}
 
+	/**
+	 * Projected collections and maps get loaded with a separate select by the id of the aggregate root, so the id must be
+	 * selected even if it is not part of the projection itself.
+	 */
+	private static boolean requiresIdForProjection(RelationalPersistentEntity<?> entity,
+			List<String> projectedProperties) {
+
+		if (!entity.hasIdProperty()) {
+			return false;
+		}
+
+		for (String propertyName : projectedProperties) {
+
+			RelationalPersistentProperty property = entity.getPersistentProperty(propertyName);
+
+			if (property != null && (property.isMap() || (property.isCollectionLike() && property.isEntity()))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	/**
 	 * Create a {@link Column} for {@link PersistentPropertyPathExtension}.
 	 *
@@ -26,6 +26,7 @@ import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameters;
 import org.springframework.data.relational.repository.query.SimpleRelationalEntityMetadata;
@@ -215,6 +216,18 @@ public class JdbcQueryMethod extends QueryMethod {
 		return AnnotationUtils.findAnnotation(method, Modifying.class) != null;
 	}
 
+	/**
+	 * Returns the {@link LockMode} declared in a {@link Lock} annotation or {@literal null} if the method doesn't declare
+	 * one.
+	 *
+	 * @return May be {@code null}.
+	 * @since 2.3
+	 */
+	@Nullable
+	LockMode getLockMode() {
+		return doFindAnnotation(Lock.class).map(Lock::value).orElse(null);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Nullable
 	private <T> T getMergedAnnotationAttribute(String attribute) {
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.data.relational.core.sql.LockMode;
+
+/**
+ * Annotation to lock the rows selected by a derived query method using the given {@link LockMode}. Using
+ * {@link LockMode#PESSIMISTIC_WRITE_SKIP_LOCKED} allows concurrent consumers to claim disjoint sets of aggregates
+ * without waiting for each other. The annotation has no effect on methods annotated with {@link Query}, nor on count
+ * queries.
+ *
+ * @author agent
+ * @since 2.3
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface Lock {
+
+	/**
+	 * The {@link LockMode} to apply to the query.
+	 */
+	LockMode value();
+}
@@ -141,10 +141,16 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 			rowMapper = rowMapperFactory.create(resolveTypeToRead(processor));
 		} else {
 
+			ReturnedType returnedType = processor.getReturnedType();
+
+			// closed projections and DTOs only select the projected columns, so only these get read or loaded
+			RowMapper<Object> domainTypeMapper = returnedType.needsCustomConstruction()
+					? rowMapperFactory.create(returnedType.getDomainType(), returnedType.getInputProperties())
+					: rowMapperFactory.create(returnedType.getDomainType());
+
 			Converter<Object, Object> resultProcessingConverter = new ResultProcessingConverter(processor,
 					this.converter.getMappingContext(), this.converter.getEntityInstantiators());
-			rowMapper = new ConvertingRowMapper<>(rowMapperFactory.create(processor.getReturnedType().getDomainType()),
-					resultProcessingConverter);
+			rowMapper = new ConvertingRowMapper<>(domainTypeMapper, resultProcessingConverter);
 		}
 
 		JdbcQueryExecution<?> queryExecution = getQueryMethod().isPageQuery() || getQueryMethod().isSliceQuery()
@@ -181,7 +187,7 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 
 		JdbcQueryCreator queryCreator = new JdbcQueryCreator(context, tree, converter, dialect, entityMetadata, accessor,
-				getQueryMethod().isSliceQuery(), returnedType);
+				getQueryMethod().isSliceQuery(), returnedType, getQueryMethod().getLockMode());
 		return queryCreator.createQuery(getDynamicSort(accessor));
 	}
 
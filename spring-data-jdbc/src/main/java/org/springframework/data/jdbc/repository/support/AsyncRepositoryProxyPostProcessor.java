@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.interceptor.AsyncExecutionInterceptor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.data.jdbc.support.ReadWriteRouting;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RepositoryProxyPostProcessor} executing repository methods declaring a {@link Future} return type, e.g.
+ * {@link java.util.concurrent.CompletableFuture} or {@link org.springframework.util.concurrent.ListenableFuture},
+ * using an {@link Executor} instead of the calling thread. This only happens if an {@link Executor} is
+ * {@link #setExecutor(Executor) configured}. Otherwise such methods run on the calling thread and return a completed
+ * {@link Future}. The execution happens outside of the transaction interceptor, so each invocation obtains its own
+ * {@link java.sql.Connection} and, for transactional methods, runs in its own transaction. If the calling thread
+ * has to read from the primary, e.g. because it is pinned to it, runs a transaction that is not read-only or already
+ * wrote in its transaction synchronization scope, the execution reads from the primary as well, see
+ * {@link ReadWriteRouting#isPrimaryRequired()}.
+ *
+ * @author agent
+ * @since 2.3
+ */
+class AsyncRepositoryProxyPostProcessor implements RepositoryProxyPostProcessor {
+
+	@Nullable private Executor executor;
+
+	/**
+	 * @param executor the {@link Executor} to use. {@literal null} to execute all repository methods on the calling
+	 *          thread.
+	 */
+	void setExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryProxyPostProcessor#postProcess(org.springframework.aop.framework.ProxyFactory, org.springframework.data.repository.core.RepositoryInformation)
+	 */
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+
+		if (executor == null) {
+			return;
+		}
+
+		for (Method method : repositoryInformation.getRepositoryInterface().getMethods()) {
+
+			if (isAsync(method)) {
+
+				factory.addAdvisor(new DefaultPointcutAdvisor(AsyncMethodPointcut.INSTANCE,
+						new AsyncExecutionInterceptor(propagatingReadFromPrimary(executor))));
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the given repository method gets executed asynchronously.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return whether the method declares a {@link Future} return type.
+	 */
+	static boolean isAsync(Method method) {
+		return Future.class.isAssignableFrom(method.getReturnType());
+	}
+
+	/**
+	 * Decorates the given {@link Executor} so that tasks submitted by a thread that has to read from the primary also
+	 * read from the primary.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @return guaranteed to be not {@literal null}.
+	 */
+	static Executor propagatingReadFromPrimary(Executor executor) {
+
+		return task -> {
+
+			if (!ReadWriteRouting.isPrimaryRequired()) {
+				executor.execute(task);
+				return;
+			}
+
+			executor.execute(() -> ReadWriteRouting.readFromPrimary(() -> {
+				task.run();
+				return null;
+			}));
+		};
+	}
+
+	private static class AsyncMethodPointcut extends StaticMethodMatcherPointcut {
+
+		private static final AsyncMethodPointcut INSTANCE = new AsyncMethodPointcut();
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.aop.MethodMatcher#matches(java.lang.reflect.Method, java.lang.Class)
+		 */
+		@Override
+		public boolean matches(Method method, Class<?> targetClass) {
+			return isAsync(method);
+		}
+	}
+}
@@ -18,12 +18,14 @@ package org.springframework.data.jdbc.repository.support;
 import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jdbc.core.convert.EntityRowMapper;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
+import org.springframework.data.jdbc.repository.query.AbstractJdbcQuery.RowMapperFactory;
 import org.springframework.data.jdbc.repository.query.JdbcQueryMethod;
 import org.springframework.data.jdbc.repository.query.PartTreeJdbcQuery;
 import org.springframework.data.jdbc.repository.query.StringBasedJdbcQuery;
@@ -34,6 +36,7 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.event.AfterLoadCallback;
 import org.springframework.data.relational.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.relational.core.mapping.event.LifecycleListenerDetector;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryCreationException;
@@ -60,15 +63,17 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 
 	private final ApplicationEventPublisher publisher;
 	private final @Nullable EntityCallbacks callbacks;
+	private final boolean callbacksFromContext;
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final Dialect dialect;
 	private final QueryMappingConfiguration queryMappingConfiguration;
 	private final NamedParameterJdbcOperations operations;
 	private final BeanFactory beanfactory;
+	private final LifecycleListenerDetector listenerDetector;
 
 	JdbcQueryLookupStrategy(ApplicationEventPublisher publisher, @Nullable EntityCallbacks callbacks,
-			RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			boolean callbacksFromContext, RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
 			QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
 		    BeanFactory beanfactory) {
 
@@ -81,12 +86,14 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 
 		this.publisher = publisher;
 		this.callbacks = callbacks;
+		this.callbacksFromContext = callbacksFromContext;
 		this.context = context;
 		this.converter = converter;
 		this.dialect = dialect;
 		this.queryMappingConfiguration = queryMappingConfiguration;
 		this.operations = operations;
 		this.beanfactory = beanfactory;
+		this.listenerDetector = LifecycleListenerDetector.create(publisher);
 	}
 
 	/*
@@ -107,7 +114,8 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 				query.setBeanFactory(beanfactory);
 				return query;
 			} else {
-				return new PartTreeJdbcQuery(context, queryMethod, dialect, converter, operations, this::createMapper);
+				return new PartTreeJdbcQuery(context, queryMethod, dialect, converter, operations,
+						new ProjectionAwareRowMapperFactory());
 			}
 		} catch (Exception e) {
 			throw QueryCreationException.create(queryMethod, e);
@@ -126,6 +134,30 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		return (RowMapper<Object>) determineDefaultMapper(returnedObjectType);
 	}
 
+	@SuppressWarnings("unchecked")
+	private RowMapper<Object> createMapper(Class<?> returnedObjectType, Collection<String> projectedProperties) {
+
+		RelationalPersistentEntity<?> persistentEntity = context.getPersistentEntity(returnedObjectType);
+
+		if (persistentEntity == null) {
+			return createMapper(returnedObjectType);
+		}
+
+		RowMapper<?> configuredQueryMapper = queryMappingConfiguration.getRowMapper(returnedObjectType);
+
+		if (configuredQueryMapper != null) {
+			return (RowMapper<Object>) configuredQueryMapper;
+		}
+
+		EntityRowMapper<?> projectingEntityRowMapper = new EntityRowMapper<>( //
+				persistentEntity, //
+				converter, //
+				property -> projectedProperties.contains(property.getName()) //
+		);
+
+		return (RowMapper<Object>) new PostProcessingRowMapper<>(projectingEntityRowMapper);
+	}
+
 	private RowMapper<?> determineDefaultMapper(Class<?> returnedObjectType) {
 
 		RowMapper<?> configuredQueryMapper = queryMappingConfiguration.getRowMapper(returnedObjectType);
@@ -141,6 +173,22 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		return new PostProcessingRowMapper<>(defaultEntityRowMapper);
 	}
 
+	/**
+	 * {@link RowMapperFactory} that creates {@link RowMapper}s which only read the properties required by a projection.
+	 */
+	private class ProjectionAwareRowMapperFactory implements RowMapperFactory {
+
+		@Override
+		public RowMapper<Object> create(Class<?> result) {
+			return createMapper(result);
+		}
+
+		@Override
+		public RowMapper<Object> create(Class<?> result, Collection<String> projectedProperties) {
+			return createMapper(result, projectedProperties);
+		}
+	}
+
 	class PostProcessingRowMapper<T> implements RowMapper<T> {
 
 		private final RowMapper<T> delegate;
@@ -156,9 +204,12 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 
 			if (entity != null) {
 
-				publisher.publishEvent(new AfterLoadEvent<>(entity));
+				if (listenerDetector.hasListenersFor(AfterLoadEvent.class)) {
+					publisher.publishEvent(new AfterLoadEvent<>(entity));
+				}
 
-				if (callbacks != null) {
+				if (callbacks != null
+						&& (!callbacksFromContext || listenerDetector.hasCallbacksFor(AfterLoadCallback.class))) {
 					return callbacks.callback(AfterLoadCallback.class, entity);
 				}
 			}
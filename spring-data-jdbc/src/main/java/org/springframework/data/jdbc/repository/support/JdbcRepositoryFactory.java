@@ -16,10 +16,12 @@
 package org.springframework.data.jdbc.repository.support;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.data.jdbc.core.cache.AggregateCache;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
@@ -59,6 +61,9 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 
 	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
 	private EntityCallbacks entityCallbacks;
+	private boolean entityCallbacksFromContext;
+	@Nullable private AggregateCache aggregateCache;
+	private final AsyncRepositoryProxyPostProcessor asyncPostProcessor = new AsyncRepositoryProxyPostProcessor();
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactory} for the given {@link DataAccessStrategy},
@@ -87,6 +92,9 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 		this.dialect = dialect;
 		this.accessStrategy = dataAccessStrategy;
 		this.operations = operations;
+
+		addRepositoryProxyPostProcessor(asyncPostProcessor);
+		addRepositoryProxyPostProcessor(new ReadFromPrimaryRepositoryProxyPostProcessor());
 	}
 
 	/**
@@ -122,6 +130,8 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 			template.setEntityCallbacks(entityCallbacks);
 		}
 
+		template.setAggregateCache(aggregateCache);
+
 		RelationalPersistentEntity<?> persistentEntity = context
 				.getRequiredPersistentEntity(repositoryInformation.getDomainType());
 
@@ -145,8 +155,8 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable QueryLookupStrategy.Key key,
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
-		return Optional.of(new JdbcQueryLookupStrategy(publisher, entityCallbacks, context, converter, dialect,
-				queryMappingConfiguration, operations, beanFactory));
+		return Optional.of(new JdbcQueryLookupStrategy(publisher, entityCallbacks, entityCallbacksFromContext, context,
+				converter, dialect, queryMappingConfiguration, operations, beanFactory));
 	}
 
 	/**
@@ -154,7 +164,43 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 	 * @since 1.1
 	 */
 	public void setEntityCallbacks(EntityCallbacks entityCallbacks) {
+
+		this.entityCallbacks = entityCallbacks;
+		this.entityCallbacksFromContext = false;
+	}
+
+	/**
+	 * Configures {@link EntityCallbacks} obtained from the {@link org.springframework.context.ApplicationContext} that
+	 * is also the {@link ApplicationEventPublisher} of this factory. Query methods skip invoking
+	 * {@link org.springframework.data.relational.core.mapping.event.AfterLoadCallback}s if that context doesn't contain
+	 * any.
+	 *
+	 * @param entityCallbacks the callbacks obtained from the context.
+	 */
+	void setEntityCallbacksFromContext(EntityCallbacks entityCallbacks) {
+
 		this.entityCallbacks = entityCallbacks;
+		this.entityCallbacksFromContext = true;
+	}
+
+	/**
+	 * @param aggregateCache the {@link AggregateCache} used by the repositories for caching aggregates loaded by id. May
+	 *          be {@literal null} to disable caching.
+	 * @since 2.3
+	 */
+	public void setAggregateCache(@Nullable AggregateCache aggregateCache) {
+		this.aggregateCache = aggregateCache;
+	}
+
+	/**
+	 * @param asyncExecutor the {@link Executor} running repository methods that return a
+	 *          {@link java.util.concurrent.Future}, e.g. a {@link java.util.concurrent.CompletableFuture}. May be
+	 *          {@literal null} to run such methods on the calling thread, returning a completed
+	 *          {@link java.util.concurrent.Future}.
+	 * @since 2.3
+	 */
+	public void setAsyncExecutor(@Nullable Executor asyncExecutor) {
+		this.asyncPostProcessor.setExecutor(asyncExecutor);
 	}
 
 	/**
@@ -16,14 +16,18 @@
 package org.springframework.data.jdbc.repository.support;
 
 import java.io.Serializable;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.jdbc.core.cache.AggregateCache;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.JdbcWarmup;
 import org.springframework.data.jdbc.core.convert.SqlGeneratorSource;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
 import org.springframework.data.mapping.callback.EntityCallbacks;
@@ -49,6 +53,14 @@ import org.springframework.util.Assert;
 public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
 		extends TransactionalRepositoryFactoryBeanSupport<T, S, ID> implements ApplicationEventPublisherAware {
 
+	/**
+	 * Name of the bean providing the {@link Executor} for repository methods returning a
+	 * {@link java.util.concurrent.Future}.
+	 *
+	 * @since 2.3
+	 */
+	public static final String ASYNC_EXECUTOR_BEAN_NAME = "jdbcRepositoryAsyncExecutor";
+
 	private ApplicationEventPublisher publisher;
 	private BeanFactory beanFactory;
 	private RelationalMappingContext mappingContext;
@@ -58,6 +70,9 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 	private NamedParameterJdbcOperations operations;
 	private EntityCallbacks entityCallbacks;
 	private Dialect dialect;
+	private AggregateCache aggregateCache;
+	private JdbcWarmup warmup;
+	private Executor asyncExecutor;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactoryBean} for the given repository interface.
@@ -89,8 +104,13 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		JdbcRepositoryFactory jdbcRepositoryFactory = new JdbcRepositoryFactory(dataAccessStrategy, mappingContext,
 				converter, dialect, publisher, operations);
 		jdbcRepositoryFactory.setQueryMappingConfiguration(queryMappingConfiguration);
-		jdbcRepositoryFactory.setEntityCallbacks(entityCallbacks);
 		jdbcRepositoryFactory.setBeanFactory(beanFactory);
+		jdbcRepositoryFactory.setAggregateCache(aggregateCache);
+		jdbcRepositoryFactory.setAsyncExecutor(asyncExecutor);
+
+		if (entityCallbacks != null) {
+			jdbcRepositoryFactory.setEntityCallbacksFromContext(entityCallbacks);
+		}
 
 		return jdbcRepositoryFactory;
 	}
@@ -141,6 +161,41 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		this.operations = operations;
 	}
 
+	/**
+	 * @param aggregateCache the {@link AggregateCache} to use for caching aggregates loaded by id. Caching is disabled
+	 *          when no {@link AggregateCache} is available.
+	 * @since 2.3
+	 */
+	@Autowired(required = false)
+	public void setAggregateCache(AggregateCache aggregateCache) {
+		this.aggregateCache = aggregateCache;
+	}
+
+	/**
+	 * @param warmup the {@link JdbcWarmup} to register the domain type and the creation of the repository with. The
+	 *          repository gets warmed up at startup when the {@link JdbcWarmup} is {@link JdbcWarmup#isEnabled()
+	 *          enabled}. Registration happens when this factory bean gets initialized, so repositories with a lazy bean
+	 *          definition, e.g. due to {@code bootstrapMode} {@code LAZY} or {@code DEFERRED}, register after the
+	 *          warm-up ran and don't get warmed up.
+	 * @since 2.3
+	 */
+	@Autowired(required = false)
+	public void setWarmup(JdbcWarmup warmup) {
+		this.warmup = warmup;
+	}
+
+	/**
+	 * @param asyncExecutor the {@link Executor} running repository methods that return a
+	 *          {@link java.util.concurrent.Future}, e.g. a {@link java.util.concurrent.CompletableFuture}. Gets autowired
+	 *          from a bean named {@value #ASYNC_EXECUTOR_BEAN_NAME}. Without one, such methods run on the calling
+	 *          thread and return a completed {@link java.util.concurrent.Future}.
+	 * @since 2.3
+	 */
+	@Autowired(required = false)
+	public void setAsyncExecutor(@Qualifier(ASYNC_EXECUTOR_BEAN_NAME) Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
 	@Autowired
 	public void setConverter(JdbcConverter converter) {
 
@@ -199,5 +254,9 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		}
 
 		super.afterPropertiesSet();
+
+		if (warmup != null && warmup.isEnabled()) {
+			warmup.register(getRepositoryInformation().getDomainType(), this::getObject);
+		}
 	}
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.support;
+
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jdbc.repository.query.Lock;
+import org.springframework.data.jdbc.repository.query.ReadFromPrimary;
+import org.springframework.data.jdbc.support.ReadWriteRouting;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RepositoryProxyPostProcessor} pinning the reads of repository methods annotated with {@link ReadFromPrimary}
+ * or {@link Lock} to the primary database, see {@link ReadWriteRouting}. Annotating the repository interface with
+ * {@link ReadFromPrimary} applies to all of its methods.
+ *
+ * @author agent
+ * @since 2.3
+ */
+class ReadFromPrimaryRepositoryProxyPostProcessor implements RepositoryProxyPostProcessor {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryProxyPostProcessor#postProcess(org.springframework.aop.framework.ProxyFactory, org.springframework.data.repository.core.RepositoryInformation)
+	 */
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+
+		Class<?> repositoryInterface = repositoryInformation.getRepositoryInterface();
+		boolean allMethods = AnnotatedElementUtils.hasAnnotation(repositoryInterface, ReadFromPrimary.class);
+
+		for (Method method : repositoryInterface.getMethods()) {
+
+			if (allMethods || isReadFromPrimary(method)) {
+
+				factory.addAdvisor(new DefaultPointcutAdvisor(new ReadFromPrimaryPointcut(allMethods),
+						ReadFromPrimaryInterceptor.INSTANCE));
+				return;
+			}
+		}
+	}
+
+	private static boolean isReadFromPrimary(Method method) {
+
+		return AnnotatedElementUtils.hasAnnotation(method, ReadFromPrimary.class)
+				|| AnnotatedElementUtils.hasAnnotation(method, Lock.class);
+	}
+
+	private static class ReadFromPrimaryPointcut extends StaticMethodMatcherPointcut {
+
+		private final boolean allMethods;
+
+		ReadFromPrimaryPointcut(boolean allMethods) {
+			this.allMethods = allMethods;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.aop.MethodMatcher#matches(java.lang.reflect.Method, java.lang.Class)
+		 */
+		@Override
+		public boolean matches(Method method, Class<?> targetClass) {
+			return allMethods || isReadFromPrimary(method);
+		}
+	}
+
+	private enum ReadFromPrimaryInterceptor implements MethodInterceptor {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+		 */
+		@Nullable
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			boolean previous = ReadWriteRouting.isReadFromPrimary();
+			ReadWriteRouting.setReadFromPrimary(true);
+
+			try {
+				return invocation.proceed();
+			} finally {
+				ReadWriteRouting.setReadFromPrimary(previous);
+			}
+		}
+	}
+}
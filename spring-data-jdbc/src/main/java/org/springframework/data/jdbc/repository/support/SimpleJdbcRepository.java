@@ -16,7 +16,6 @@
 package org.springframework.data.jdbc.repository.support;
 
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -24,7 +23,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.PagingAndSortingRepository;
-import org.springframework.data.util.Streamable;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -68,9 +66,7 @@ public class SimpleJdbcRepository<T, ID> implements PagingAndSortingRepository<T
 	@Override
 	public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
 
-		return Streamable.of(entities).stream() //
-				.map(this::save) //
-				.collect(Collectors.toList());
+		return entityOperations.saveAll(entities);
 	}
 
 	/*
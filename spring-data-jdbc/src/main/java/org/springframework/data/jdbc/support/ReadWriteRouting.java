@@ -0,0 +1,239 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Routes reads to a read replica and writes to the primary database. The {@link NamedParameterJdbcOperations} created
+ * by {@link #createOperations(NamedParameterJdbcOperations, NamedParameterJdbcOperations)} send all {@code query*}
+ * invocations to the replica, unless
+ * <ul>
+ * <li>a transaction that is not read-only is active, since it is bound to a connection of the primary,</li>
+ * <li>reads of the current thread are pinned to the primary using {@link #setReadFromPrimary(boolean)},</li>
+ * <li>or the current transaction synchronization scope already executed a write, so that the reads see it despite
+ * replication lag.</li>
+ * </ul>
+ * All other invocations, e.g. {@code update}, {@code batchUpdate} or {@code execute}, use the primary.
+ *
+ * @author agent
+ * @since 2.3
+ */
+public final class ReadWriteRouting {
+
+	private static final ThreadLocal<Boolean> readFromPrimary = new NamedThreadLocal<>("Read from primary");
+	private static final Object WRITES_KEY = new Object();
+
+	private ReadWriteRouting() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Creates {@link NamedParameterJdbcOperations} routing between the given primary and replica. The
+	 * {@link JdbcOperations} returned by {@link NamedParameterJdbcOperations#getJdbcOperations()} route the same way.
+	 *
+	 * @param primary the operations of the primary database. Must not be {@literal null}.
+	 * @param replica the operations of the read replica. Must not be {@literal null}.
+	 * @return guaranteed to be not {@literal null}.
+	 */
+	public static NamedParameterJdbcOperations createOperations(NamedParameterJdbcOperations primary,
+			NamedParameterJdbcOperations replica) {
+
+		Assert.notNull(primary, "Primary NamedParameterJdbcOperations must not be null");
+		Assert.notNull(replica, "Replica NamedParameterJdbcOperations must not be null");
+
+		Object scope = new Object();
+		JdbcOperations jdbcOperations = createProxy(JdbcOperations.class, primary.getJdbcOperations(),
+				replica.getJdbcOperations(), scope, null);
+
+		return createProxy(NamedParameterJdbcOperations.class, primary, replica, scope, jdbcOperations);
+	}
+
+	/**
+	 * Pins the reads of the current thread to the primary, or releases them again.
+	 *
+	 * @param readFromPrimary whether reads must use the primary.
+	 */
+	public static void setReadFromPrimary(boolean readFromPrimary) {
+
+		if (readFromPrimary) {
+			ReadWriteRouting.readFromPrimary.set(Boolean.TRUE);
+		} else {
+			ReadWriteRouting.readFromPrimary.remove();
+		}
+	}
+
+	/**
+	 * @return whether the reads of the current thread are pinned to the primary.
+	 */
+	public static boolean isReadFromPrimary() {
+		return readFromPrimary.get() != null;
+	}
+
+	/**
+	 * Invokes the given {@link Supplier} with the reads of the current thread pinned to the primary.
+	 *
+	 * @param supplier must not be {@literal null}.
+	 * @return the value returned by the {@link Supplier}.
+	 */
+	@Nullable
+	public static <T> T readFromPrimary(Supplier<T> supplier) {
+
+		boolean previous = isReadFromPrimary();
+		setReadFromPrimary(true);
+
+		try {
+			return supplier.get();
+		} finally {
+			setReadFromPrimary(previous);
+		}
+	}
+
+	/**
+	 * Returns whether reads of the current thread must use the primary of any routing created by this class, i.e.
+	 * whether they are pinned using {@link #setReadFromPrimary(boolean)}, a transaction that is not read-only is active
+	 * or the current transaction synchronization scope already executed a write. Work handed over to other threads on
+	 * behalf of the current thread should pin its reads to the primary in this case.
+	 *
+	 * @return whether reads must use the primary.
+	 */
+	public static boolean isPrimaryRequired() {
+		return isReadFromPrimary() || isReadWriteTransactionActive() || getWrites() != null;
+	}
+
+	private static boolean isReplicaAllowed(Object scope) {
+
+		if (isReadFromPrimary() || isReadWriteTransactionActive()) {
+			return false;
+		}
+
+		Set<Object> writes = getWrites();
+		return writes == null || !writes.contains(scope);
+	}
+
+	private static boolean isReadWriteTransactionActive() {
+
+		return TransactionSynchronizationManager.isActualTransactionActive()
+				&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static Set<Object> getWrites() {
+		return (Set<Object>) TransactionSynchronizationManager.getResource(WRITES_KEY);
+	}
+
+	private static void registerWrite(Object scope) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		Set<Object> writes = getWrites();
+
+		if (writes == null) {
+
+			writes = new HashSet<>();
+			TransactionSynchronizationManager.bindResource(WRITES_KEY, writes);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(WRITES_KEY);
+				}
+			});
+		}
+
+		writes.add(scope);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T createProxy(Class<T> type, T primary, T replica, Object scope, @Nullable Object jdbcOperations) {
+
+		return (T) Proxy.newProxyInstance(ReadWriteRouting.class.getClassLoader(), new Class<?>[] { type },
+				new RoutingInvocationHandler(primary, replica, scope, jdbcOperations));
+	}
+
+	/**
+	 * {@link InvocationHandler} sending {@code query*} invocations to the replica if allowed and all others to the
+	 * primary.
+	 */
+	private static class RoutingInvocationHandler implements InvocationHandler {
+
+		private final Object primary;
+		private final Object replica;
+		private final Object scope;
+		@Nullable private final Object jdbcOperations;
+
+		RoutingInvocationHandler(Object primary, Object replica, Object scope, @Nullable Object jdbcOperations) {
+
+			this.primary = primary;
+			this.replica = replica;
+			this.scope = scope;
+			this.jdbcOperations = jdbcOperations;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+		 */
+		@Nullable
+		@Override
+		public Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+			switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return "ReadWriteRouting[primary=" + primary + ", replica=" + replica + "]";
+				case "getJdbcOperations":
+					return jdbcOperations;
+			}
+
+			Object target;
+
+			if (method.getName().startsWith("query")) {
+				target = isReplicaAllowed(scope) ? replica : primary;
+			} else {
+
+				registerWrite(scope);
+				target = primary;
+			}
+
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
+}
@@ -15,14 +15,18 @@
  */
 package org.springframework.data.jdbc.core;
 
+import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
@@ -33,6 +37,8 @@ import org.springframework.data.jdbc.core.convert.JdbcIdentifierBuilder;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PersistentPropertyPaths;
 import org.springframework.data.relational.core.conversion.DbAction;
+import org.springframework.data.relational.core.conversion.DbActionExecutionException;
+import org.springframework.data.relational.core.conversion.MutableAggregateChange;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
@@ -94,6 +100,53 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		assertThat(dummyEntityNonPrimitiveVersion.version).isEqualTo(0);
 	}
 
+	@Test
+	public void updatesOfVersionedRootsGetExecutedAsBatch() {
+
+		DummyEntityNonPrimitiveVersion first = createVersionedRoot(1L, 3L);
+		DummyEntityNonPrimitiveVersion second = createVersionedRoot(2L, 7L);
+
+		when(accessStrategy.updateAllWithVersion(asList(first, second), DummyEntityNonPrimitiveVersion.class,
+				Arrays.<Number> asList(3L, 7L))).thenReturn(new boolean[] { true, true });
+
+		List<DummyEntityNonPrimitiveVersion> roots = executor
+				.executeAll(asList(createUpdateChange(first), createUpdateChange(second)));
+
+		assertThat(roots).containsExactly(first, second);
+		assertThat(first.version).isEqualTo(4L);
+		assertThat(second.version).isEqualTo(8L);
+		verify(accessStrategy, never()).updateWithVersion(any(), any(), any());
+	}
+
+	@Test
+	public void failedBatchedUpdateOfVersionedRootNamesTheEntity() {
+
+		DummyEntityNonPrimitiveVersion first = createVersionedRoot(1L, 3L);
+		DummyEntityNonPrimitiveVersion second = createVersionedRoot(2L, 7L);
+
+		when(accessStrategy.updateAllWithVersion(anyList(), eq(DummyEntityNonPrimitiveVersion.class), anyList()))
+				.thenReturn(new boolean[] { true, false });
+
+		assertThatThrownBy(() -> executor.executeAll(asList(createUpdateChange(first), createUpdateChange(second)))) //
+				.isInstanceOf(DbActionExecutionException.class) //
+				.hasCauseInstanceOf(OptimisticLockingFailureException.class) //
+				.hasMessageContaining(second.toString()) //
+				.satisfies(e -> assertThat(e.getMessage()).doesNotContain(first.toString()));
+	}
+
+	@Test
+	public void singleUpdateOfVersionedRootDoesNotGetBatched() {
+
+		DummyEntityNonPrimitiveVersion first = createVersionedRoot(1L, 3L);
+
+		when(accessStrategy.updateWithVersion(first, DummyEntityNonPrimitiveVersion.class, 3L)).thenReturn(true);
+
+		executor.executeAll(singletonList(createUpdateChange(first)));
+
+		assertThat(first.version).isEqualTo(4L);
+		verify(accessStrategy, never()).updateAllWithVersion(anyList(), any(), anyList());
+	}
+
 	@Test // DATAJDBC-453
 	public void idGenerationOfChild() {
 
@@ -134,6 +187,32 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		assertThat(content.id).isEqualTo(24L);
 	}
 
+	@Test
+	public void insertsOfElementsOfACollectionGetExecutedTogether() {
+
+		Content first = new Content();
+		Content second = new Content();
+		root.list.add(first);
+		root.list.add(second);
+
+		when(accessStrategy.insert(root, DummyEntity.class, Identifier.empty())).thenReturn(23L);
+		when(accessStrategy.insertAll(eq(asList(first, second)), eq(Content.class), anyList()))
+				.thenReturn(new Object[] { 24L, 25L });
+
+		DbAction.InsertRoot<DummyEntity> rootInsert = new DbAction.InsertRoot<>(root);
+		MutableAggregateChange<DummyEntity> change = MutableAggregateChange.forSave(root);
+		change.addAction(rootInsert);
+		change.addAction(createInsert(rootInsert, "list", first, 0));
+		change.addAction(createInsert(rootInsert, "list", second, 1));
+
+		executor.execute(change);
+
+		assertThat(root.id).isEqualTo(23L);
+		assertThat(first.id).isEqualTo(24L);
+		assertThat(second.id).isEqualTo(25L);
+		verify(accessStrategy, never()).insert(any(Content.class), any(), any());
+	}
+
 	DbAction.Insert<?> createInsert(DbAction.WithEntity<?> parent, String propertyName, Object value,
 			@Nullable Object key) {
 
@@ -143,6 +222,21 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		return insert;
 	}
 
+	DummyEntityNonPrimitiveVersion createVersionedRoot(Long id, Long version) {
+
+		DummyEntityNonPrimitiveVersion root = new DummyEntityNonPrimitiveVersion();
+		root.id = id;
+		root.version = version;
+		return root;
+	}
+
+	MutableAggregateChange<DummyEntityNonPrimitiveVersion> createUpdateChange(DummyEntityNonPrimitiveVersion root) {
+
+		MutableAggregateChange<DummyEntityNonPrimitiveVersion> change = MutableAggregateChange.forSave(root);
+		change.addAction(new DbAction.UpdateRoot<>(root));
+		return change;
+	}
+
 	PersistentPropertyPathExtension toPathExt(String path) {
 		return new PersistentPropertyPathExtension(context, getPersistentPropertyPath(path));
 	}
@@ -23,15 +23,23 @@ import static org.mockito.Mockito.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.cache.BoundedAggregateCache;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
@@ -42,11 +50,14 @@ import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.event.AfterDeleteCallback;
+import org.springframework.data.relational.core.mapping.event.AfterLoadBatchEvent;
 import org.springframework.data.relational.core.mapping.event.AfterLoadCallback;
+import org.springframework.data.relational.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.relational.core.mapping.event.AfterSaveCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeDeleteCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeSaveCallback;
+import org.springframework.data.relational.core.mapping.event.RelationalEventWithEntity;
 
 /**
  * Unit tests for {@link JdbcAggregateTemplate}.
@@ -190,6 +201,186 @@ public class JdbcAggregateTemplateUnitTests {
 		assertThat(all).containsExactly(alfred2, neumann2);
 	}
 
+	@Test
+	public void findByIdServesAggregatesFromCache() {
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+
+		((JdbcAggregateTemplate) template)
+				.setAggregateCache(BoundedAggregateCache.builder().cacheTypes(SampleEntity.class).build());
+
+		when(dataAccessStrategy.findById(23L, SampleEntity.class)).thenReturn(alfred);
+		when(callbacks.callback(any(Class.class), eq(alfred), any())).thenReturn(alfred);
+
+		assertThat(template.findById(23L, SampleEntity.class)).isSameAs(alfred);
+		assertThat(template.findById(23, SampleEntity.class)).isEqualTo(alfred).isNotSameAs(alfred);
+
+		verify(dataAccessStrategy, times(1)).findById(any(), eq(SampleEntity.class));
+	}
+
+	@Test
+	public void findByIdReturnsCopiesOfCachedAggregates() {
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+
+		((JdbcAggregateTemplate) template)
+				.setAggregateCache(BoundedAggregateCache.builder().cacheTypes(SampleEntity.class).build());
+
+		when(dataAccessStrategy.findById(23L, SampleEntity.class)).thenReturn(alfred);
+		when(callbacks.callback(any(Class.class), eq(alfred), any())).thenReturn(alfred);
+
+		template.findById(23L, SampleEntity.class).setName("Alfred E.");
+		template.findById(23L, SampleEntity.class).setName("Neumann");
+
+		assertThat(template.findById(23L, SampleEntity.class).getName()).isEqualTo("Alfred");
+	}
+
+	@Test
+	public void findByIdDoesNotCacheAggregateEvictedWhileLoading() {
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+
+		BoundedAggregateCache cache = BoundedAggregateCache.builder().cacheTypes(SampleEntity.class).build();
+		((JdbcAggregateTemplate) template).setAggregateCache(cache);
+
+		when(dataAccessStrategy.findById(23L, SampleEntity.class)).thenAnswer(invocation -> {
+
+			cache.evict(SampleEntity.class, 23L);
+			return alfred;
+		});
+		when(callbacks.callback(any(Class.class), eq(alfred), any())).thenReturn(alfred);
+
+		template.findById(23L, SampleEntity.class);
+
+		assertThat(cache.get(SampleEntity.class, 23L)).isNull();
+	}
+
+	@Test
+	public void findAllByIdOnlyLoadsAggregatesMissingInCache() {
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		SampleEntity neumann = new SampleEntity(42L, "Neumann");
+
+		BoundedAggregateCache cache = BoundedAggregateCache.builder().cacheTypes(SampleEntity.class).build();
+		cache.put(SampleEntity.class, 23L, alfred);
+		((JdbcAggregateTemplate) template).setAggregateCache(cache);
+
+		when(dataAccessStrategy.findAllById(singletonList(42L), SampleEntity.class)).thenReturn(singletonList(neumann));
+		when(callbacks.callback(any(Class.class), eq(neumann), any())).thenReturn(neumann);
+
+		assertThat(template.findAllById(asList(23L, 42L), SampleEntity.class)).containsExactlyInAnyOrder(alfred, neumann);
+		assertThat(cache.get(SampleEntity.class, 42L)).isEqualTo(neumann).isNotSameAs(neumann);
+	}
+
+	@Test
+	public void deleteEvictsAggregateFromCache() {
+
+		BoundedAggregateCache cache = BoundedAggregateCache.builder().cacheTypes(SampleEntity.class).build();
+		cache.put(SampleEntity.class, 23L, new SampleEntity(23L, "Alfred"));
+		((JdbcAggregateTemplate) template).setAggregateCache(cache);
+
+		template.deleteById(23L, SampleEntity.class);
+
+		assertThat(cache.get(SampleEntity.class, 23L)).isNull();
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void findAllPublishesBatchEventAfterEventsForIndividualEntities() {
+
+		SampleEntity alfred1 = new SampleEntity(23L, "Alfred");
+		SampleEntity alfred2 = new SampleEntity(23L, "Alfred E.");
+
+		when(dataAccessStrategy.findAll(SampleEntity.class)).thenReturn(singletonList(alfred1));
+		when(callbacks.callback(any(Class.class), eq(alfred1), any())).thenReturn(alfred2);
+
+		template.findAll(SampleEntity.class);
+
+		ArgumentCaptor<ApplicationEvent> captor = ArgumentCaptor.forClass(ApplicationEvent.class);
+		verify(eventPublisher, times(2)).publishEvent(captor.capture());
+
+		assertThat(captor.getAllValues()).extracting(e -> (Class) e.getClass()) //
+				.containsExactly(AfterLoadEvent.class, AfterLoadBatchEvent.class);
+		assertThat(((AfterLoadBatchEvent<?>) captor.getAllValues().get(1)).getEntities()).containsExactly(alfred2);
+	}
+
+	@Test
+	public void skipsAfterLoadDispatchWithoutListeners() {
+
+		GenericApplicationContext refreshedContext = new GenericApplicationContext();
+		refreshedContext.refresh();
+		GenericApplicationContext applicationContext = spy(refreshedContext);
+
+		RelationalMappingContext mappingContext = new RelationalMappingContext(NamingStrategy.INSTANCE);
+		JdbcAggregateTemplate template = new JdbcAggregateTemplate(applicationContext, mappingContext,
+				new BasicJdbcConverter(mappingContext, relationResolver), dataAccessStrategy);
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		when(dataAccessStrategy.findAll(SampleEntity.class)).thenReturn(singletonList(alfred));
+
+		assertThat(template.findAll(SampleEntity.class)).containsExactly(alfred);
+
+		verify(applicationContext, never()).publishEvent(any(ApplicationEvent.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void batchedSaveAllTriggersBeforeCallbacksOfAllAggregatesBeforeWritingAndAfterCallbacksAfterwards() {
+
+		VersionedEntity alfred = new VersionedEntity(23L, 1L, "Alfred");
+		VersionedEntity neumann = new VersionedEntity(42L, 1L, "Neumann");
+
+		List<String> triggered = new ArrayList<>();
+
+		doAnswer(invocation -> {
+
+			RelationalEventWithEntity<?> event = invocation.getArgument(0);
+			triggered.add(event.getClass().getSimpleName() + " " + ((VersionedEntity) event.getEntity()).name);
+			return null;
+		}).when(eventPublisher).publishEvent(any(ApplicationEvent.class));
+
+		when(callbacks.callback(any(Class.class), any(), any())).thenAnswer(invocation -> {
+
+			VersionedEntity entity = invocation.getArgument(1);
+			triggered.add(((Class<?>) invocation.getArgument(0)).getSimpleName() + " " + entity.name);
+			return entity;
+		});
+
+		when(dataAccessStrategy.updateAllWithVersion(anyList(), eq(VersionedEntity.class), anyList()))
+				.thenAnswer(invocation -> {
+
+					triggered.add("updateAllWithVersion");
+					return new boolean[] { true, true };
+				});
+
+		template.saveAll(asList(alfred, neumann));
+
+		assertThat(triggered).containsExactly( //
+				"BeforeConvertEvent Alfred", //
+				"BeforeConvertCallback Alfred", //
+				"BeforeSaveEvent Alfred", //
+				"BeforeSaveCallback Alfred", //
+				"BeforeConvertEvent Neumann", //
+				"BeforeConvertCallback Neumann", //
+				"BeforeSaveEvent Neumann", //
+				"BeforeSaveCallback Neumann", //
+				"updateAllWithVersion", //
+				"AfterSaveEvent Alfred", //
+				"AfterSaveCallback Alfred", //
+				"AfterSaveEvent Neumann", //
+				"AfterSaveCallback Neumann");
+	}
+
+	@Data
+	@AllArgsConstructor
+	private static class VersionedEntity {
+
+		@Id private Long id;
+		@Version private Long version;
+
+		private String name;
+	}
+
 	@Data
 	@AllArgsConstructor
 	private static class SampleEntity {
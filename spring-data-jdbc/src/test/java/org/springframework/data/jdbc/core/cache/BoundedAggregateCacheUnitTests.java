@@ -0,0 +1,154 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BoundedAggregateCache}.
+ *
+ * @author agent
+ */
+public class BoundedAggregateCacheUnitTests {
+
+	@Test
+	public void onlyCachesConfiguredTypes() {
+
+		BoundedAggregateCache cache = BoundedAggregateCache.builder().cacheTypes(String.class).build();
+
+		assertThat(cache.isCacheable(String.class)).isTrue();
+		assertThat(cache.isCacheable(Integer.class)).isFalse();
+	}
+
+	@Test
+	public void countsHitsAndMisses() {
+
+		BoundedAggregateCache cache = BoundedAggregateCache.builder().cacheTypes(String.class).build();
+
+		cache.put(String.class, 1L, "one");
+
+		assertThat(cache.get(String.class, 1L)).isEqualTo("one");
+		assertThat(cache.get(String.class, 2L)).isNull();
+		assertThat(cache.get(Integer.class, 1L)).isNull();
+
+		AggregateCacheStatistics statistics = cache.getStatistics();
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+		assertThat(statistics.getMissCount()).isEqualTo(2);
+		assertThat(statistics.getHitRate()).isEqualTo(1.0 / 3);
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedAggregateWhenFull() {
+
+		BoundedAggregateCache cache = BoundedAggregateCache.builder().cacheTypes(String.class).maximumSize(2).build();
+
+		cache.put(String.class, 1L, "one");
+		cache.put(String.class, 2L, "two");
+		cache.get(String.class, 1L);
+		cache.put(String.class, 3L, "three");
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(String.class, 1L)).isEqualTo("one");
+		assertThat(cache.get(String.class, 2L)).isNull();
+		assertThat(cache.get(String.class, 3L)).isEqualTo("three");
+		assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void expiresAggregatesAfterWrite() {
+
+		MutableClock clock = new MutableClock();
+		BoundedAggregateCache cache = BoundedAggregateCache.builder() //
+				.cacheTypes(String.class) //
+				.expireAfterWrite(Duration.ofMinutes(1)) //
+				.clock(clock) //
+				.build();
+
+		cache.put(String.class, 1L, "one");
+
+		clock.advance(Duration.ofSeconds(59));
+		assertThat(cache.get(String.class, 1L)).isEqualTo("one");
+
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(cache.get(String.class, 1L)).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void evictsAllAggregatesOfAType() {
+
+		BoundedAggregateCache cache = BoundedAggregateCache.builder().cacheTypes(type -> true).build();
+
+		cache.put(String.class, 1L, "one");
+		cache.put(String.class, 2L, "two");
+		cache.put(Integer.class, 1L, 1);
+
+		cache.evictAll(String.class);
+
+		assertThat(cache.get(String.class, 1L)).isNull();
+		assertThat(cache.get(String.class, 2L)).isNull();
+		assertThat(cache.get(Integer.class, 1L)).isEqualTo(1);
+	}
+
+	@Test
+	public void ignoresPutOfAggregateLoadedBeforeEviction() {
+
+		BoundedAggregateCache cache = BoundedAggregateCache.builder().cacheTypes(type -> true).build();
+
+		long stamp = cache.getStamp(String.class);
+		cache.evict(String.class, 1L);
+		cache.put(String.class, 1L, "outdated", stamp);
+		cache.put(Integer.class, 1L, 1, stamp);
+
+		assertThat(cache.get(String.class, 1L)).isNull();
+		assertThat(cache.get(Integer.class, 1L)).isEqualTo(1);
+
+		cache.put(String.class, 1L, "current", cache.getStamp(String.class));
+
+		assertThat(cache.get(String.class, 1L)).isEqualTo("current");
+	}
+
+	private static class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2021-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(java.time.ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
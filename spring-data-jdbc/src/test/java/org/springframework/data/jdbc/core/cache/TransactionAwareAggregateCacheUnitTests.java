@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link TransactionAwareAggregateCache}.
+ *
+ * @author agent
+ */
+public class TransactionAwareAggregateCacheUnitTests {
+
+	BoundedAggregateCache target = BoundedAggregateCache.builder().cacheTypes(String.class).build();
+	TransactionAwareAggregateCache cache = new TransactionAwareAggregateCache(target);
+
+	@AfterEach
+	public void tearDown() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+	}
+
+	@Test
+	public void evictsImmediatelyWithoutTransaction() {
+
+		target.put(String.class, 1L, "one");
+
+		cache.evict(String.class, 1L);
+
+		assertThat(target.get(String.class, 1L)).isNull();
+	}
+
+	@Test
+	public void defersEvictionToCompletionOfTransaction() {
+
+		target.put(String.class, 1L, "one");
+		target.put(String.class, 2L, "two");
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.evict(String.class, 1L);
+
+		assertThat(target.get(String.class, 1L)).isEqualTo("one");
+		assertThat(cache.get(String.class, 1L)).isNull();
+		assertThat(cache.get(String.class, 2L)).isEqualTo("two");
+
+		cache.put(String.class, 1L, "uncommitted");
+		assertThat(target.get(String.class, 1L)).isEqualTo("one");
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+		assertThat(target.get(String.class, 1L)).isNull();
+		assertThat(target.get(String.class, 2L)).isEqualTo("two");
+		assertThat(TransactionSynchronizationManager.hasResource(cache)).isFalse();
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * Unit tests for {@link AggregateCopier}.
+ *
+ * @author agent
+ */
+public class AggregateCopierUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+	RelationResolver relationResolver = mock(RelationResolver.class);
+	AggregateCopier copier = new AggregateCopier(new BasicJdbcConverter(context, relationResolver), relationResolver);
+
+	@Test
+	public void copiesMutableAggregateDeeply() {
+
+		Map<String, Item> itemsByKey = new HashMap<>();
+		itemsByKey.put("b", new Item("beta"));
+		List<Item> items = new ArrayList<>(singletonList(new Item("alpha")));
+		Order order = new Order(23L, new Date(0), items, itemsByKey, new int[] { 1, 2 });
+
+		Order copy = copier.copy(order);
+
+		assertThat(copy).isEqualTo(order).isNotSameAs(order);
+		assertThat(copy.created).isNotSameAs(order.created);
+		assertThat(copy.items).isNotSameAs(order.items);
+		assertThat(copy.items.get(0)).isNotSameAs(order.items.get(0));
+		assertThat(copy.itemsByKey.get("b")).isNotSameAs(order.itemsByKey.get("b"));
+		assertThat(copy.counts).isNotSameAs(order.counts);
+
+		copy.items.get(0).setName("gamma");
+		copy.counts[0] = 5;
+
+		assertThat(order.items.get(0).getName()).isEqualTo("alpha");
+		assertThat(order.counts[0]).isEqualTo(1);
+	}
+
+	@Test
+	public void copiesImmutableAggregateUsingItsConstructor() {
+
+		ImmutableOrder order = new ImmutableOrder(23L, singletonList(new Item("alpha")));
+
+		ImmutableOrder copy = copier.copy(order);
+
+		assertThat(copy).isEqualTo(order).isNotSameAs(order);
+		assertThat(copy.items.get(0)).isNotSameAs(order.items.get(0));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void replacesUnresolvedLazyLoadingProxyByNewProxy() {
+
+		Identifier identifier = Identifier.of(unquoted("order"), 23L, Long.class);
+		PersistentPropertyPath<RelationalPersistentProperty> path = mock(PersistentPropertyPath.class);
+		List<Item> lazyItems = (List<Item>) LazyLoadingProxyFactory.createProxy(List.class, identifier, path,
+				() -> singletonList(new Item("stale")));
+
+		when(relationResolver.findAllByPath(identifier, path)).thenReturn(singletonList(new Item("alpha")));
+
+		ImmutableOrder copy = copier.copy(new ImmutableOrder(23L, lazyItems));
+
+		assertThat(copy.items).isNotSameAs(lazyItems).isInstanceOf(LazyLoadingProxy.class);
+		assertThat(((LazyLoadingProxy) copy.items).isResolved()).isFalse();
+		assertThat(copy.items).containsExactly(new Item("alpha"));
+		assertThat(((LazyLoadingProxy) lazyItems).isResolved()).isFalse();
+	}
+
+	@Data
+	@AllArgsConstructor
+	static class Order {
+
+		@Id Long id;
+		Date created;
+		List<Item> items;
+		Map<String, Item> itemsByKey;
+		int[] counts;
+	}
+
+	@Value
+	static class ImmutableOrder {
+
+		@Id Long id;
+		List<Item> items;
+	}
+
+	@Data
+	@AllArgsConstructor
+	static class Item {
+		String name;
+	}
+}
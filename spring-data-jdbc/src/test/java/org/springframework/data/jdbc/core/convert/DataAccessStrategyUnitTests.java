@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.sql.LockMode;
+
+/**
+ * Unit tests for the default methods of {@link DataAccessStrategy}.
+ *
+ * @author agent
+ */
+public class DataAccessStrategyUnitTests {
+
+	DataAccessStrategy accessStrategy = mock(DataAccessStrategy.class, CALLS_REAL_METHODS);
+
+	@Test
+	public void acquiringLocksForMultipleIdsOnlyReturnsIdsOfExistingAggregates() {
+
+		doNothing().when(accessStrategy).acquireLockById(any(), any(LockMode.class), eq(String.class));
+		doReturn(true).when(accessStrategy).existsById(23L, String.class);
+		doReturn(false).when(accessStrategy).existsById(42L, String.class);
+
+		Iterable<Object> lockedIds = accessStrategy.acquireLockAllById(asList(23L, 42L), LockMode.PESSIMISTIC_WRITE,
+				String.class);
+
+		assertThat(lockedIds).containsExactly(23L);
+		verify(accessStrategy).acquireLockById(23L, LockMode.PESSIMISTIC_WRITE, String.class);
+		verify(accessStrategy).acquireLockById(42L, LockMode.PESSIMISTIC_WRITE, String.class);
+	}
+
+	@Test
+	public void acquiringLocksForMultipleIdsReturnsIdsReportedAsLocked() {
+
+		doReturn(false).when(accessStrategy).tryAcquireLockById(23L, LockMode.PESSIMISTIC_WRITE_SKIP_LOCKED,
+				String.class);
+		doReturn(true).when(accessStrategy).tryAcquireLockById(42L, LockMode.PESSIMISTIC_WRITE_SKIP_LOCKED,
+				String.class);
+
+		Iterable<Object> lockedIds = accessStrategy.acquireLockAllById(asList(23L, 42L),
+				LockMode.PESSIMISTIC_WRITE_SKIP_LOCKED, String.class);
+
+		assertThat(lockedIds).containsExactly(42L);
+		verify(accessStrategy, never()).existsById(any(), any());
+	}
+
+	@Test
+	public void defaultLockAcquisitionRejectsModesSkippingLockedRows() {
+
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(
+				() -> accessStrategy.tryAcquireLockById(23L, LockMode.PESSIMISTIC_WRITE_SKIP_LOCKED, String.class));
+
+		verify(accessStrategy, never()).acquireLockById(any(), any(), any());
+	}
+}
@@ -27,15 +27,24 @@ import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
@@ -44,12 +53,20 @@ import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.HsqlDbDialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlProvider;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Unit tests for {@link DefaultDataAccessStrategy}.
@@ -72,6 +89,7 @@ public class DefaultDataAccessStrategyUnitTests {
 
 	HashMap<SqlIdentifier, Object> additionalParameters = new HashMap<>();
 	ArgumentCaptor<SqlParameterSource> paramSourceCaptor = ArgumentCaptor.forClass(SqlParameterSource.class);
+	ArgumentCaptor<PreparedStatementSetter> setterCaptor = ArgumentCaptor.forClass(PreparedStatementSetter.class);
 
 	JdbcConverter converter;
 	DefaultDataAccessStrategy accessStrategy;
@@ -91,21 +109,33 @@ public class DefaultDataAccessStrategyUnitTests {
 				namedJdbcOperations);
 
 		relationResolver.setDelegate(accessStrategy);
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+	}
+
+	@AfterEach
+	public void after() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			completeTransaction();
+		}
 	}
 
 	@Test // DATAJDBC-146
-	public void additionalParameterForIdDoesNotLeadToDuplicateParameters() {
+	public void additionalParameterForIdDoesNotLeadToDuplicateParameters() throws SQLException {
 
 		additionalParameters.put(SqlIdentifier.quoted("ID"), ID_FROM_ADDITIONAL_VALUES);
 
 		accessStrategy.insert(new DummyEntity(ORIGINAL_ID), DummyEntity.class, Identifier.from(additionalParameters));
 
-		verify(namedJdbcOperations).update(eq("INSERT INTO \"DUMMY_ENTITY\" (\"ID\") VALUES (:ID)"),
-				paramSourceCaptor.capture());
+		verify(jdbcOperations).update(eq("INSERT INTO \"DUMMY_ENTITY\" (\"ID\") VALUES (?)"),
+				setterCaptor.capture());
+
+		assertThat(boundValues(setterCaptor.getValue())).hasSize(1);
 	}
 
 	@Test // DATAJDBC-146
-	public void additionalParametersGetAddedToStatement() {
+	public void additionalParametersGetAddedToStatement() throws SQLException {
 
 		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
 
@@ -113,34 +143,33 @@ public class DefaultDataAccessStrategyUnitTests {
 
 		accessStrategy.insert(new DummyEntity(ORIGINAL_ID), DummyEntity.class, Identifier.from(additionalParameters));
 
-		verify(namedJdbcOperations).update(sqlCaptor.capture(), paramSourceCaptor.capture());
+		verify(jdbcOperations).update(sqlCaptor.capture(), setterCaptor.capture());
 
 		assertThat(sqlCaptor.getValue()) //
-				.containsSubsequence("INSERT INTO \"DUMMY_ENTITY\" (", "\"ID\"", ") VALUES (", ":id", ")") //
-				.containsSubsequence("INSERT INTO \"DUMMY_ENTITY\" (", "reference", ") VALUES (", ":reference", ")");
-		assertThat(paramSourceCaptor.getValue().getValue("id")).isEqualTo(ORIGINAL_ID);
+				.containsSubsequence("INSERT INTO \"DUMMY_ENTITY\" (", "\"ID\"", ") VALUES (", "?", ")") //
+				.containsSubsequence("INSERT INTO \"DUMMY_ENTITY\" (", "reference", ") VALUES (", "?", "?", ")") //
+				.doesNotContain(":");
+		assertThat(boundValues(setterCaptor.getValue())).containsExactlyInAnyOrder(ORIGINAL_ID,
+				ID_FROM_ADDITIONAL_VALUES);
 	}
 
 	@Test // DATAJDBC-235
-	public void considersConfiguredWriteConverter() {
+	public void considersConfiguredWriteConverter() throws SQLException {
 
 		DefaultDataAccessStrategy accessStrategy = createAccessStrategyWithConverter(
 				asList(BooleanToStringConverter.INSTANCE, StringToBooleanConverter.INSTANCE));
 
-		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
-
 		EntityWithBoolean entity = new EntityWithBoolean(ORIGINAL_ID, true);
 
 		accessStrategy.insert(entity, EntityWithBoolean.class, Identifier.empty());
 
-		verify(namedJdbcOperations).update(sqlCaptor.capture(), paramSourceCaptor.capture());
+		verify(jdbcOperations).update(anyString(), setterCaptor.capture());
 
-		assertThat(paramSourceCaptor.getValue().getValue("id")).isEqualTo(ORIGINAL_ID);
-		assertThat(paramSourceCaptor.getValue().getValue("flag")).isEqualTo("T");
+		assertThat(boundValues(setterCaptor.getValue())).containsExactlyInAnyOrder(ORIGINAL_ID, "T");
 	}
 
 	@Test // DATAJDBC-412
-	public void considersConfiguredWriteConverterForIdValueObjects() {
+	public void considersConfiguredWriteConverterForIdValueObjects() throws SQLException {
 
 		DefaultDataAccessStrategy accessStrategy = createAccessStrategyWithConverter(
 				singletonList(IdValueToStringConverter.INSTANCE));
@@ -152,10 +181,9 @@ public class DefaultDataAccessStrategyUnitTests {
 
 		accessStrategy.insert(entity, WithValueObjectId.class, Identifier.empty());
 
-		verify(namedJdbcOperations).update(anyString(), paramSourceCaptor.capture());
+		verify(jdbcOperations).update(anyString(), setterCaptor.capture());
 
-		assertThat(paramSourceCaptor.getValue().getValue("id")).isEqualTo(rawId);
-		assertThat(paramSourceCaptor.getValue().getValue("value")).isEqualTo("vs. superman");
+		assertThat(boundValues(setterCaptor.getValue())).containsExactlyInAnyOrder(rawId, "vs. superman");
 
 		accessStrategy.findById(new IdValue(rawId), WithValueObjectId.class);
 
@@ -164,7 +192,8 @@ public class DefaultDataAccessStrategyUnitTests {
 	}
 
 	@Test // DATAJDBC-349
-	public void considersConfiguredWriteConverterForIdValueObjectsWhichReferencedInOneToManyRelationship() {
+	public void considersConfiguredWriteConverterForIdValueObjectsWhichReferencedInOneToManyRelationship()
+			throws SQLException {
 
 		DefaultDataAccessStrategy accessStrategy = createAccessStrategyWithConverter(
 				singletonList(IdValueToStringConverter.INSTANCE));
@@ -179,9 +208,9 @@ public class DefaultDataAccessStrategyUnitTests {
 		additionalParameters.put(SqlIdentifier.quoted("DUMMYENTITYROOT"), rootIdValue);
 		accessStrategy.insert(root, DummyEntityRoot.class, Identifier.from(additionalParameters));
 
-		verify(namedJdbcOperations).update(anyString(), paramSourceCaptor.capture());
+		verify(jdbcOperations).update(anyString(), setterCaptor.capture());
 
-		assertThat(paramSourceCaptor.getValue().getValue("id")).isEqualTo(rawId);
+		assertThat(boundValues(setterCaptor.getValue())).contains(rawId);
 
 		PersistentPropertyPath<RelationalPersistentProperty> path = context.getPersistentPropertyPath("dummyEntities",
 				DummyEntityRoot.class);
@@ -200,27 +229,412 @@ public class DefaultDataAccessStrategyUnitTests {
 
 		assertThat(generatedId).isNull();
 
-		verify(namedJdbcOperations).update(eq("INSERT INTO \"DUMMY_ENTITY\" (\"ID\") VALUES (:id)"),
-				paramSourceCaptor.capture());
+		verify(jdbcOperations).update(eq("INSERT INTO \"DUMMY_ENTITY\" (\"ID\") VALUES (?)"),
+				any(PreparedStatementSetter.class));
+		verify(jdbcOperations, never()).update(any(PreparedStatementCreator.class), any(KeyHolder.class));
 	}
 
 	@Test // GH-933
 	public void insertWithUndefinedIdRetrievesGeneratedKeys() {
 
-		when(namedJdbcOperations.update(any(), any(), any()))
+		when(jdbcOperations.update(any(PreparedStatementCreator.class), any(KeyHolder.class)))
 				.then(invocation -> {
 
-					KeyHolder keyHolder = invocation.getArgument(2);
+					KeyHolder keyHolder = invocation.getArgument(1);
 					keyHolder.getKeyList().add(singletonMap("ID", GENERATED_ID));
 					return 1;
 				});
+		ArgumentCaptor<PreparedStatementCreator> creatorCaptor = ArgumentCaptor
+				.forClass(PreparedStatementCreator.class);
 
 		Object generatedId = accessStrategy.insert(new DummyEntity(null), DummyEntity.class, Identifier.from(additionalParameters));
 
 		assertThat(generatedId).isEqualTo(GENERATED_ID);
 
-		verify(namedJdbcOperations).update(eq("INSERT INTO \"DUMMY_ENTITY\" VALUES ()"),
-				paramSourceCaptor.capture(), any(KeyHolder.class));
+		verify(jdbcOperations).update(creatorCaptor.capture(), any(KeyHolder.class));
+		assertThat(((SqlProvider) creatorCaptor.getValue()).getSql()) //
+				.isEqualTo("INSERT INTO \"DUMMY_ENTITY\" VALUES ()");
+	}
+
+	@Test
+	public void bindsValuesOfInsertWithGeneratedKeysPositionally() throws SQLException {
+
+		additionalParameters.put(unquoted("reference"), ID_FROM_ADDITIONAL_VALUES);
+		ArgumentCaptor<PreparedStatementCreator> creatorCaptor = ArgumentCaptor
+				.forClass(PreparedStatementCreator.class);
+
+		accessStrategy.insert(new EntityWithNameAndDescription(null, "alpha", "first"),
+				EntityWithNameAndDescription.class, Identifier.from(additionalParameters));
+
+		verify(jdbcOperations).update(creatorCaptor.capture(), any(KeyHolder.class));
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		when(connection.prepareStatement(anyString(), anyInt())).thenReturn(preparedStatement);
+
+		creatorCaptor.getValue().createPreparedStatement(connection);
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		verify(connection).prepareStatement(sqlCaptor.capture(), eq(Statement.RETURN_GENERATED_KEYS));
+		assertThat(sqlCaptor.getValue()) //
+				.containsSubsequence("INSERT INTO", "(", "DESCRIPTION", "NAME", "reference", ")", //
+						"VALUES (", "?", "?", "?", ")") //
+				.doesNotContain(":");
+		verify(preparedStatement).setString(1, "first");
+		verify(preparedStatement).setString(2, "alpha");
+		verify(preparedStatement).setObject(3, ID_FROM_ADDITIONAL_VALUES, Types.BIGINT);
+	}
+
+	@Test
+	public void bindsIdOfDeleteByIdPositionally() throws SQLException {
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<PreparedStatementSetter> setterCaptor = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+
+		accessStrategy.delete(ORIGINAL_ID, DummyEntity.class);
+
+		verify(jdbcOperations).update(sqlCaptor.capture(), setterCaptor.capture());
+
+		assertThat(sqlCaptor.getValue()) //
+				.containsSubsequence("DELETE FROM \"DUMMY_ENTITY\"", "WHERE", "\"ID\" = ?") //
+				.doesNotContain(":");
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		setterCaptor.getValue().setValues(preparedStatement);
+
+		verify(preparedStatement).setObject(1, ORIGINAL_ID, Types.BIGINT);
+	}
+
+	@Test
+	public void skipsUpdateOfUnchangedAggregateRoot() {
+
+		SnapshotChangeDetector changeDetector = new SnapshotChangeDetector(context);
+		accessStrategy.setChangeDetector(changeDetector);
+
+		startTransaction();
+
+		EntityWithNameAndDescription entity = new EntityWithNameAndDescription(ORIGINAL_ID, "alpha", "first");
+		changeDetector.onAfterLoad(entity);
+
+		assertThat(accessStrategy.update(entity, EntityWithNameAndDescription.class)).isTrue();
+
+		verifyNoInteractions(namedJdbcOperations, jdbcOperations);
+	}
+
+	@Test
+	public void doesNotSkipUpdateOfAggregateRootLoadedInPreviousTransaction() {
+
+		SnapshotChangeDetector changeDetector = new SnapshotChangeDetector(context);
+		accessStrategy.setChangeDetector(changeDetector);
+
+		startTransaction();
+		EntityWithNameAndDescription entity = new EntityWithNameAndDescription(ORIGINAL_ID, "alpha", "first");
+		changeDetector.onAfterLoad(entity);
+		completeTransaction();
+
+		// the row gets changed externally, e.g. by another thread or a modifying query, before the aggregate gets saved
+
+		when(jdbcOperations.update(anyString(), any(PreparedStatementSetter.class))).thenReturn(1);
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+
+		startTransaction();
+		assertThat(accessStrategy.update(entity, EntityWithNameAndDescription.class)).isTrue();
+
+		verify(jdbcOperations).update(sqlCaptor.capture(), any(PreparedStatementSetter.class));
+
+		assertThat(sqlCaptor.getValue()).contains("NAME", "DESCRIPTION");
+	}
+
+	@Test
+	public void doesNotSkipUpdateOfInstanceOtherThanTheLoadedOne() {
+
+		SnapshotChangeDetector changeDetector = new SnapshotChangeDetector(context);
+		accessStrategy.setChangeDetector(changeDetector);
+
+		startTransaction();
+		changeDetector.onAfterLoad(new EntityWithNameAndDescription(ORIGINAL_ID, "alpha", "first"));
+
+		when(jdbcOperations.update(anyString(), any(PreparedStatementSetter.class))).thenReturn(1);
+
+		accessStrategy.update(new EntityWithNameAndDescription(ORIGINAL_ID, "alpha", "first"),
+				EntityWithNameAndDescription.class);
+
+		verify(jdbcOperations).update(anyString(), any(PreparedStatementSetter.class));
+	}
+
+	@Test
+	public void updatesOnlyChangedColumnsOfAggregateRoot() throws SQLException {
+
+		SnapshotChangeDetector changeDetector = new SnapshotChangeDetector(context);
+		accessStrategy.setChangeDetector(changeDetector);
+
+		startTransaction();
+
+		EntityWithNameAndDescription entity = new EntityWithNameAndDescription(ORIGINAL_ID, "alpha", "first");
+		changeDetector.onAfterLoad(entity);
+		entity.name = "beta";
+
+		when(jdbcOperations.update(anyString(), any(PreparedStatementSetter.class))).thenReturn(1);
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<PreparedStatementSetter> setterCaptor = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+
+		assertThat(accessStrategy.update(entity, EntityWithNameAndDescription.class)).isTrue();
+
+		verify(jdbcOperations).update(sqlCaptor.capture(), setterCaptor.capture());
+
+		assertThat(sqlCaptor.getValue()) //
+				.containsSubsequence("UPDATE", "SET", "NAME", "= ?", "WHERE", "ID", "= ?") //
+				.doesNotContain("DESCRIPTION");
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		setterCaptor.getValue().setValues(preparedStatement);
+
+		verify(preparedStatement).setString(1, "beta");
+		verify(preparedStatement).setObject(2, ORIGINAL_ID, Types.BIGINT);
+		assertThat(changeDetector.getChangedColumns(entity)).isEmpty();
+	}
+
+	@Test
+	public void updatesAllColumnsOfAggregateRootWithoutSnapshot() {
+
+		accessStrategy.setChangeDetector(new SnapshotChangeDetector(context));
+
+		EntityWithNameAndDescription entity = new EntityWithNameAndDescription(ORIGINAL_ID, "alpha", "first");
+
+		when(jdbcOperations.update(anyString(), any(PreparedStatementSetter.class))).thenReturn(1);
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+
+		accessStrategy.update(entity, EntityWithNameAndDescription.class);
+
+		verify(jdbcOperations).update(sqlCaptor.capture(), any(PreparedStatementSetter.class));
+
+		assertThat(sqlCaptor.getValue()).contains("NAME", "DESCRIPTION");
+	}
+
+	@Test
+	public void batchesUpdatesWithVersionAndReportsRowsNotUpdated() throws SQLException {
+
+		VersionedEntity first = new VersionedEntity(ORIGINAL_ID, 3L, "alpha");
+		VersionedEntity second = new VersionedEntity(GENERATED_ID, 5L, "beta");
+
+		when(jdbcOperations.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class))).thenReturn(new int[] { 1, 0 });
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<BatchPreparedStatementSetter> setterCaptor = ArgumentCaptor
+				.forClass(BatchPreparedStatementSetter.class);
+
+		boolean[] updated = accessStrategy.updateAllWithVersion(asList(first, second), VersionedEntity.class,
+				asList(2L, 4L));
+
+		assertThat(updated).containsExactly(true, false);
+
+		verify(jdbcOperations).batchUpdate(sqlCaptor.capture(), setterCaptor.capture());
+		verify(jdbcOperations, never()).update(anyString(), any(PreparedStatementSetter.class));
+
+		assertThat(sqlCaptor.getValue()) //
+				.containsSubsequence("UPDATE", "SET", "WHERE", "\"ID\" = ?", "\"VERSION\" = ?") //
+				.doesNotContain(":");
+		assertThat(setterCaptor.getValue().getBatchSize()).isEqualTo(2);
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		setterCaptor.getValue().setValues(preparedStatement, 1);
+
+		verify(preparedStatement).setString(anyInt(), eq("beta"));
+		verify(preparedStatement).setObject(anyInt(), eq(4L));
+	}
+
+	@Test
+	public void checksRowsOfBatchedUpdatesWithoutUpdateCounts() {
+
+		VersionedEntity first = new VersionedEntity(ORIGINAL_ID, 3L, "alpha");
+		VersionedEntity second = new VersionedEntity(GENERATED_ID, 5L, "beta");
+
+		when(jdbcOperations.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+				.thenReturn(new int[] { Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO });
+		when(namedJdbcOperations.queryForObject(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+				.thenReturn(1L, 0L);
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+
+		boolean[] updated = accessStrategy.updateAllWithVersion(asList(first, second), VersionedEntity.class,
+				asList(2L, 4L));
+
+		assertThat(updated).containsExactly(true, false);
+
+		verify(namedJdbcOperations, times(2)).queryForObject(sqlCaptor.capture(), paramSourceCaptor.capture(),
+				eq(Long.class));
+
+		assertThat(sqlCaptor.getValue()).containsSubsequence("SELECT COUNT", "WHERE", "\"ID\" = :id", "\"VERSION\" = ");
+		assertThat(paramSourceCaptor.getAllValues()) //
+				.extracting(source -> source.getValue("id")) //
+				.containsExactly(ORIGINAL_ID, GENERATED_ID);
+	}
+
+	@Test
+	public void reportsFailedExecutionsOfBatchedUpdatesAsNotUpdated() {
+
+		VersionedEntity first = new VersionedEntity(ORIGINAL_ID, 3L, "alpha");
+		VersionedEntity second = new VersionedEntity(GENERATED_ID, 5L, "beta");
+
+		when(jdbcOperations.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+				.thenReturn(new int[] { Statement.SUCCESS_NO_INFO, Statement.EXECUTE_FAILED });
+		when(namedJdbcOperations.queryForObject(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+				.thenReturn(1L);
+
+		boolean[] updated = accessStrategy.updateAllWithVersion(asList(first, second), VersionedEntity.class,
+				asList(2L, 4L));
+
+		assertThat(updated).containsExactly(true, false);
+
+		verify(namedJdbcOperations).queryForObject(anyString(), paramSourceCaptor.capture(), eq(Long.class));
+
+		assertThat(paramSourceCaptor.getValue().getValue("id")).isEqualTo(ORIGINAL_ID);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void acquiresLocksForAllIdsInOneStatement() throws SQLException {
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<RowMapper<Object>> rowMapperCaptor = ArgumentCaptor.forClass(RowMapper.class);
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(singletonList(ORIGINAL_ID));
+
+		Iterable<Object> lockedIds = accessStrategy.acquireLockAllById(asList(ORIGINAL_ID, GENERATED_ID),
+				LockMode.PESSIMISTIC_WRITE, DummyEntity.class);
+
+		assertThat(lockedIds).containsExactly(ORIGINAL_ID);
+
+		verify(namedJdbcOperations).query(sqlCaptor.capture(), paramSourceCaptor.capture(), rowMapperCaptor.capture());
+
+		assertThat(sqlCaptor.getValue()) //
+				.containsSubsequence("SELECT", "\"ID\"", "WHERE", "\"ID\" IN (:ids)", "FOR UPDATE");
+		assertThat((Iterable<Object>) paramSourceCaptor.getValue().getValue("ids")).containsExactly(ORIGINAL_ID,
+				GENERATED_ID);
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getObject(1)).thenReturn((int) ORIGINAL_ID);
+
+		assertThat(rowMapperCaptor.getValue().mapRow(resultSet, 0)).isEqualTo(ORIGINAL_ID);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void reportsWhetherLockQueryReturnedTheRow() {
+
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class)))
+				.thenReturn(true, false);
+
+		assertThat(accessStrategy.tryAcquireLockById(ORIGINAL_ID, LockMode.PESSIMISTIC_WRITE, DummyEntity.class))
+				.isTrue();
+		assertThat(accessStrategy.tryAcquireLockById(GENERATED_ID, LockMode.PESSIMISTIC_WRITE, DummyEntity.class))
+				.isFalse();
+
+		verify(namedJdbcOperations, times(2)).query(anyString(), any(SqlParameterSource.class),
+				any(ResultSetExtractor.class));
+		verifyNoMoreInteractions(namedJdbcOperations);
+	}
+
+	@Test
+	public void acquiringLocksForNoIdsDoesNotExecuteAStatement() {
+
+		assertThat(accessStrategy.acquireLockAllById(emptyList(), LockMode.PESSIMISTIC_WRITE, DummyEntity.class))
+				.isEmpty();
+
+		verifyNoInteractions(namedJdbcOperations, jdbcOperations);
+	}
+
+	@Test
+	public void warmUpOfAggregateWithReferencedEntitiesDoesNotAccessTheDatabase() {
+
+		accessStrategy.warmUp(DummyEntityRoot.class);
+
+		assertThat(context.getPersistentEntity(DummyEntity.class)).isNotNull();
+		verifyNoInteractions(namedJdbcOperations, jdbcOperations);
+	}
+
+	@Test
+	public void insertAllOfEntitiesWithIdsExecutesASingleBatch() throws SQLException {
+
+		additionalParameters.put(unquoted("reference"), ID_FROM_ADDITIONAL_VALUES);
+		Identifier identifier = Identifier.from(additionalParameters);
+
+		Object[] ids = accessStrategy.insertAll(asList(new DummyEntity(1L), new DummyEntity(2L)), DummyEntity.class,
+				asList(identifier, identifier));
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<BatchPreparedStatementSetter> batchCaptor = ArgumentCaptor
+				.forClass(BatchPreparedStatementSetter.class);
+		verify(jdbcOperations).batchUpdate(sqlCaptor.capture(), batchCaptor.capture());
+		verify(jdbcOperations, never()).update(anyString(), any(PreparedStatementSetter.class));
+
+		assertThat(sqlCaptor.getValue()) //
+				.containsSubsequence("INSERT INTO \"DUMMY_ENTITY\" (", "reference", ") VALUES (", "?", "?", ")") //
+				.doesNotContain(":");
+		assertThat(batchCaptor.getValue().getBatchSize()).isEqualTo(2);
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		batchCaptor.getValue().setValues(preparedStatement, 1);
+
+		verify(preparedStatement).setObject(anyInt(), eq(2L), eq(Types.BIGINT));
+		verify(preparedStatement).setObject(anyInt(), eq(ID_FROM_ADDITIONAL_VALUES), eq(Types.BIGINT));
+		assertThat(ids).containsExactly(null, null);
+	}
+
+	@Test
+	public void insertAllOfEntitiesWithGeneratedIdsInsertsOneAfterTheOther() {
+
+		when(jdbcOperations.update(any(PreparedStatementCreator.class), any(KeyHolder.class))).then(invocation -> {
+
+			KeyHolder keyHolder = invocation.getArgument(1);
+			keyHolder.getKeyList().add(singletonMap("ID", GENERATED_ID));
+			return 1;
+		});
+
+		Object[] ids = accessStrategy.insertAll(asList(new DummyEntity(null), new DummyEntity(null)), DummyEntity.class,
+				asList(Identifier.empty(), Identifier.empty()));
+
+		verify(jdbcOperations, never()).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+		verify(jdbcOperations, times(2)).update(any(PreparedStatementCreator.class), any(KeyHolder.class));
+		assertThat(ids).containsExactly(GENERATED_ID, GENERATED_ID);
+	}
+
+	@Test
+	public void insertAllFallsBackToSingleInsertsForDifferentParentKeys() {
+
+		Identifier first = Identifier.of(unquoted("reference"), ID_FROM_ADDITIONAL_VALUES, Long.class);
+		Identifier second = Identifier.of(unquoted("other_reference"), ID_FROM_ADDITIONAL_VALUES, Long.class);
+
+		accessStrategy.insertAll(asList(new DummyEntity(1L), new DummyEntity(2L)), DummyEntity.class,
+				asList(first, second));
+
+		verify(jdbcOperations, never()).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+		verify(jdbcOperations, times(2)).update(anyString(), any(PreparedStatementSetter.class));
+	}
+
+	/**
+	 * Returns the values the given {@link PreparedStatementSetter} binds, in the order of the placeholders.
+	 */
+	private static List<Object> boundValues(PreparedStatementSetter setter) throws SQLException {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		setter.setValues(preparedStatement);
+
+		return mockingDetails(preparedStatement).getInvocations().stream() //
+				.filter(invocation -> invocation.getMethod().getName().startsWith("set")) //
+				.map(invocation -> invocation.getArgument(1)) //
+				.collect(Collectors.toList());
+	}
+
+	private static void startTransaction() {
+
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+	}
+
+	private static void completeTransaction() {
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		TransactionSynchronizationManager.clear();
 	}
 
 	private DefaultDataAccessStrategy createAccessStrategyWithConverter(List<?> converters) {
@@ -261,6 +675,22 @@ public class DefaultDataAccessStrategyUnitTests {
 		boolean flag;
 	}
 
+	@AllArgsConstructor
+	private static class EntityWithNameAndDescription {
+
+		@Id Long id;
+		String name;
+		String description;
+	}
+
+	@AllArgsConstructor
+	private static class VersionedEntity {
+
+		@Id Long id;
+		@Version Long version;
+		String name;
+	}
+
 	@Data
 	private static class WithValueObjectId {
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+
+/**
+ * Unit tests for {@link DefaultJdbcTypeFactory}.
+ *
+ * @author agent
+ */
+class DefaultJdbcTypeFactoryUnitTests {
+
+	JdbcOperations operations = mock(JdbcOperations.class);
+
+	@Test
+	void createsArrayParameterOnConnectionOfStatement() throws SQLException {
+
+		Object parameter = new DefaultJdbcTypeFactory(operations).createArrayParameter(new String[] { "one", "two" });
+
+		verifyNoInteractions(operations);
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		Array array = mock(Array.class);
+		when(statement.getConnection()).thenReturn(connection);
+		when(connection.createArrayOf(eq("VARCHAR"), any())).thenReturn(array);
+
+		StatementCreatorUtils.setParameterValue(statement, 1, Types.ARRAY, parameter);
+
+		verify(connection).createArrayOf("VARCHAR", new Object[] { "one", "two" });
+		verify(statement).setArray(1, array);
+
+		StatementCreatorUtils.cleanupParameters(parameter);
+
+		verify(array).free();
+	}
+
+	@Test
+	void boxesPrimitiveArraysByDefault() {
+
+		Object parameter = new DefaultJdbcTypeFactory(operations).createArrayParameter(new int[] { 1, 2, 3 });
+
+		assertThat(parameter).isInstanceOf(DeferredArray.class);
+		assertThat(((DeferredArray) parameter).getTypeName()).isEqualTo("INTEGER");
+		assertThat(((DeferredArray) parameter).getElements()).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	void passesOnSupportedPrimitiveArraysUnchanged() {
+
+		DefaultJdbcTypeFactory typeFactory = new DefaultJdbcTypeFactory(operations,
+				PostgresDialect.INSTANCE.getArraySupport());
+
+		int[] ints = { 1, 2, 3 };
+		long[] longs = { 1L, 2L };
+		double[] doubles = { 1.5d };
+
+		assertThat(typeFactory.createArrayParameter(ints)).isSameAs(ints);
+		assertThat(typeFactory.createArrayParameter(longs)).isSameAs(longs);
+		assertThat(typeFactory.createArrayParameter(doubles)).isSameAs(doubles);
+		assertThat(typeFactory.createArrayParameter(new boolean[] { true })).isInstanceOf(DeferredArray.class);
+	}
+}
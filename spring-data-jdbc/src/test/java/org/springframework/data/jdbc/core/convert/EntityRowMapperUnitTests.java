@@ -38,7 +38,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,7 +57,9 @@ import org.springframework.data.annotation.PersistenceConstructor;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.support.ReadWriteRouting;
 import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.model.MappingInstantiationException;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.Embedded.OnEmpty;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
@@ -62,6 +68,8 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentEnti
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.repository.query.Param;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.LinkedCaseInsensitiveMap;
 
@@ -496,6 +504,21 @@ public class EntityRowMapperUnitTests {
 
 	}
 
+	@Test
+	public void convertsValuesForPrimitivePropertiesWhenSettingThem() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "AGE", "REFERENCE_TO_CUSTOMER"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, 42L, 4711);
+		rs.next();
+		TrivialMapPropertiesToNullIfNotNeeded extracted = createRowMapper(TrivialMapPropertiesToNullIfNotNeeded.class)
+				.mapRow(rs, 1);
+
+		assertThat(extracted) //
+				.isNotNull() //
+				.extracting(e -> e.id, e -> e.age, e -> e.referenceToCustomer) //
+				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, 42, 4711L);
+	}
+
 	@Test // DATAJDBC-341
 	public void columnNamesAreCaseInsensitive() throws SQLException {
 
@@ -655,8 +678,294 @@ public class EntityRowMapperUnitTests {
 		assertThat(result.getComputed()).isEqualTo("Hello World");
 	}
 
+	@Test
+	public void doesNotLoadCollectionsExcludedByPropertyFilter() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		OneToSet extracted = createRowMapper(OneToSet.class, NamingStrategy.INSTANCE,
+				property -> property.getName().equals("name")).mapRow(rs, 1);
+
+		assertThat(extracted) //
+				.isNotNull() //
+				.extracting(e -> e.id, e -> e.name, e -> e.children) //
+				.containsExactly(null, "alpha", null);
+	}
+
+	@Test
+	public void loadsCollectionsAcceptedByPropertyFilter() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		OneToSet extracted = createRowMapper(OneToSet.class, NamingStrategy.INSTANCE,
+				property -> property.getName().equals("children")).mapRow(rs, 1);
+
+		assertThat(extracted.name).isNull();
+		assertThat(extracted.children).extracting(e -> e.id).containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@Test
+	public void usesDefaultValueForPrimitiveConstructorArgumentExcludedByPropertyFilter() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		WithPrimitiveConstructorArgument extracted = createRowMapper(WithPrimitiveConstructorArgument.class,
+				NamingStrategy.INSTANCE, property -> !property.getName().equals("count")).mapRow(rs, 1);
+
+		assertThat(extracted) //
+				.isNotNull() //
+				.extracting(e -> e.id, e -> e.name, e -> e.count) //
+				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", 0);
+	}
+
+	@Test
+	public void usesDefaultValueForPrimitiveConstructorArgumentAbsentFromResult() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		WithPrimitiveConstructorArgument extracted = createRowMapper(WithPrimitiveConstructorArgument.class).mapRow(rs, 1);
+
+		assertThat(extracted) //
+				.isNotNull() //
+				.extracting(e -> e.id, e -> e.name, e -> e.count) //
+				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", 0);
+	}
+
+	@Test
+	public void failsForNullValueOfPrimitiveConstructorArgument() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME", "COUNT"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", null);
+		rs.next();
+
+		EntityRowMapper<WithPrimitiveConstructorArgument> rowMapper = createRowMapper(
+				WithPrimitiveConstructorArgument.class);
+
+		assertThatExceptionOfType(MappingInstantiationException.class).isThrownBy(() -> rowMapper.mapRow(rs, 1));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void resolvesIndependentCollectionsUsingRelationResolutionExecutor() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		RelationalMappingContext context = new JdbcMappingContext();
+		DataAccessStrategy accessStrategy = mock(DataAccessStrategy.class);
+		Set<String> resolvingThreads = ConcurrentHashMap.newKeySet();
+
+		doAnswer(invocation -> {
+
+			resolvingThreads.add(Thread.currentThread().getName());
+			return singleton(new Trivial(1L, "one"));
+		}).when(accessStrategy).findAllByPath(any(Identifier.class), any(PersistentPropertyPath.class));
+
+		BasicJdbcConverter converter = new BasicJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
+				JdbcTypeFactory.unsupported(), IdentifierProcessing.ANSI);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "relation-resolver"));
+		converter.setRelationResolutionExecutor(executor);
+
+		try {
+
+			RelationalPersistentEntity<OneToTwoSets> entity = (RelationalPersistentEntity<OneToTwoSets>) context
+					.getRequiredPersistentEntity(OneToTwoSets.class);
+
+			OneToTwoSets extracted = new EntityRowMapper<>(entity, converter).mapRow(rs, 1);
+
+			assertThat(extracted.children).extracting(e -> e.id).containsExactly(1L);
+			assertThat(extracted.others).extracting(e -> e.id).containsExactly(1L);
+			assertThat(resolvingThreads).containsExactly("relation-resolver");
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void keepsReadsPinnedToPrimaryWhenResolvingRelationsInParallel() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		RelationalMappingContext context = new JdbcMappingContext();
+		DataAccessStrategy accessStrategy = mock(DataAccessStrategy.class);
+		Map<String, Boolean> pinnedByThread = new ConcurrentHashMap<>();
+
+		doAnswer(invocation -> {
+
+			pinnedByThread.put(Thread.currentThread().getName(), ReadWriteRouting.isReadFromPrimary());
+			return singleton(new Trivial(1L, "one"));
+		}).when(accessStrategy).findAllByPath(any(Identifier.class), any(PersistentPropertyPath.class));
+
+		BasicJdbcConverter converter = new BasicJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
+				JdbcTypeFactory.unsupported(), IdentifierProcessing.ANSI);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "relation-resolver"));
+		converter.setRelationResolutionExecutor(executor);
+
+		try {
+
+			RelationalPersistentEntity<OneToTwoSets> entity = (RelationalPersistentEntity<OneToTwoSets>) context
+					.getRequiredPersistentEntity(OneToTwoSets.class);
+
+			ReadWriteRouting.setReadFromPrimary(true);
+			new EntityRowMapper<>(entity, converter).mapRow(rs, 1);
+
+			assertThat(pinnedByThread).containsOnly(entry("relation-resolver", true));
+		} finally {
+
+			ReadWriteRouting.setReadFromPrimary(false);
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void resolvesRelationsSequentiallyWhileTransactionSynchronizationIsActive() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		RelationalMappingContext context = new JdbcMappingContext();
+		DataAccessStrategy accessStrategy = mock(DataAccessStrategy.class);
+		Set<String> resolvingThreads = ConcurrentHashMap.newKeySet();
+
+		doAnswer(invocation -> {
+
+			resolvingThreads.add(Thread.currentThread().getName());
+			return singleton(new Trivial(1L, "one"));
+		}).when(accessStrategy).findAllByPath(any(Identifier.class), any(PersistentPropertyPath.class));
+
+		BasicJdbcConverter converter = new BasicJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
+				JdbcTypeFactory.unsupported(), IdentifierProcessing.ANSI);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "relation-resolver"));
+		converter.setRelationResolutionExecutor(executor);
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+
+			RelationalPersistentEntity<OneToTwoSets> entity = (RelationalPersistentEntity<OneToTwoSets>) context
+					.getRequiredPersistentEntity(OneToTwoSets.class);
+
+			new EntityRowMapper<>(entity, converter).mapRow(rs, 1);
+
+			assertThat(resolvingThreads).containsExactly(Thread.currentThread().getName());
+		} finally {
+
+			TransactionSynchronizationManager.clearSynchronization();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void mapsSimpleEntitiesUsingReadPlan() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", //
+				ID_FOR_ENTITY_REFERENCING_MAP, "beta");
+		EntityRowMapper<Trivial> rowMapper = createRowMapper(Trivial.class, NamingStrategy.INSTANCE, null, true);
+
+		rs.next();
+		Trivial first = rowMapper.mapRow(rs, 1);
+		rs.next();
+		Trivial second = rowMapper.mapRow(rs, 2);
+
+		assertThat(first).extracting(e -> e.id, e -> e.name).containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		assertThat(second).extracting(e -> e.id, e -> e.name).containsExactly(ID_FOR_ENTITY_REFERENCING_MAP, "beta");
+	}
+
+	@Test
+	public void resolvesReadPlanOncePerResultSet() throws SQLException {
+
+		EntityRowMapper<Trivial> rowMapper = createRowMapper(Trivial.class, NamingStrategy.INSTANCE, null, true);
+
+		ResultSet first = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", //
+				ID_FOR_ENTITY_REFERENCING_MAP, "beta");
+		first.next();
+		rowMapper.mapRow(first, 0);
+		first.next();
+		rowMapper.mapRow(first, 1);
+
+		ResultSet second = mockResultSet(asList("NAME", "ID"), //
+				"gamma", ID_FOR_ENTITY_REFERENCING_LIST);
+		second.next();
+		Trivial extracted = rowMapper.mapRow(second, 0);
+
+		verify(first, times(1)).getMetaData();
+		verify(second, times(1)).getMetaData();
+		assertThat(extracted).extracting(e -> e.id, e -> e.name) //
+				.containsExactly(ID_FOR_ENTITY_REFERENCING_LIST, "gamma");
+	}
+
+	@Test
+	public void mapsImmutableEntitiesUsingReadPlan() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		TrivialImmutable extracted = createRowMapper(TrivialImmutable.class, NamingStrategy.INSTANCE, null, true)
+				.mapRow(rs, 1);
+
+		assertThat(extracted).extracting(e -> e.id, e -> e.name).containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP,
+				"alpha");
+	}
+
+	@Test
+	public void readPlanLeavesPropertiesWithoutColumnUnset() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "AGE"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, 42L);
+		rs.next();
+
+		TrivialMapPropertiesToNullIfNotNeeded extracted = createRowMapper(TrivialMapPropertiesToNullIfNotNeeded.class,
+				NamingStrategy.INSTANCE, null, true).mapRow(rs, 1);
+
+		assertThat(extracted) //
+				.extracting(e -> e.id, e -> e.age, e -> e.phone, e -> e.referenceToCustomer) //
+				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, 42, null, 0L);
+	}
+
+	@Test
+	public void usesGenericMappingForEntitiesNotSupportedByReadPlans() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		OneToSet extracted = createRowMapper(OneToSet.class, NamingStrategy.INSTANCE, null, true).mapRow(rs, 1);
+
+		assertThat(extracted) //
+				.extracting(e -> e.id, e -> e.name, e -> e.children.size()) //
+				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", 2);
+	}
+
 	// Model classes to be used in tests
 
+	@RequiredArgsConstructor
+	static class WithPrimitiveConstructorArgument {
+
+		@Id private final Long id;
+		private final String name;
+		private final int count;
+	}
+
 	@With
 	@RequiredArgsConstructor
 	static class TrivialImmutable {
@@ -731,6 +1040,14 @@ public class EntityRowMapperUnitTests {
 		Set<Trivial> children;
 	}
 
+	static class OneToTwoSets {
+
+		@Id Long id;
+		String name;
+		Set<Trivial> children;
+		Set<Trivial> others;
+	}
+
 	static class OneToMap {
 
 		@Id Long id;
@@ -869,8 +1186,18 @@ public class EntityRowMapperUnitTests {
 		return createRowMapper(type, NamingStrategy.INSTANCE);
 	}
 
-	@SuppressWarnings("unchecked")
 	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy) {
+		return createRowMapper(type, namingStrategy, null);
+	}
+
+	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy,
+			@Nullable Predicate<? super RelationalPersistentProperty> propertyFilter) {
+		return createRowMapper(type, namingStrategy, propertyFilter, false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy,
+			@Nullable Predicate<? super RelationalPersistentProperty> propertyFilter, boolean readPlansEnabled) {
 
 		RelationalMappingContext context = new JdbcMappingContext(namingStrategy);
 
@@ -906,11 +1233,13 @@ public class EntityRowMapperUnitTests {
 
 		BasicJdbcConverter converter = new BasicJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
 				JdbcTypeFactory.unsupported(), IdentifierProcessing.ANSI);
+		converter.setReadPlansEnabled(readPlansEnabled);
 
-		return new EntityRowMapper<>( //
-				(RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(type), //
-				converter //
-		);
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(type);
+
+		return propertyFilter == null //
+				? new EntityRowMapper<>(entity, converter) //
+				: new EntityRowMapper<>(entity, converter, propertyFilter);
 	}
 
 	private Identifier identifierOfValue(long value) {
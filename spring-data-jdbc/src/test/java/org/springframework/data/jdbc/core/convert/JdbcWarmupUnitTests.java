@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+
+/**
+ * Unit tests for {@link JdbcWarmup}.
+ *
+ * @author agent
+ */
+class JdbcWarmupUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	DataAccessStrategy accessStrategy = mock(DataAccessStrategy.class);
+	JdbcWarmup warmup = new JdbcWarmup(context, accessStrategy);
+
+	@Test
+	void warmsUpRegisteredTypesAndReportsTimingsPerType() {
+
+		AtomicInteger initialized = new AtomicInteger();
+
+		warmup.register(Person.class, initialized::incrementAndGet);
+		warmup.register(Address.class);
+
+		warmup.afterSingletonsInstantiated();
+
+		verify(accessStrategy).warmUp(Person.class);
+		verify(accessStrategy).warmUp(Address.class);
+		assertThat(initialized).hasValue(1);
+		assertThat(context.getPersistentEntity(Person.class)).isNotNull();
+		assertThat(warmup.getTimings()).containsOnlyKeys(Person.class, Address.class);
+	}
+
+	@Test
+	void continuesAfterFailingType() {
+
+		doThrow(new IllegalStateException("broken")).when(accessStrategy).warmUp(Person.class);
+
+		warmup.register(Person.class);
+		warmup.register(Address.class);
+
+		warmup.warmUp();
+
+		verify(accessStrategy).warmUp(Address.class);
+		assertThat(warmup.getTimings()).containsOnlyKeys(Person.class, Address.class);
+	}
+
+	@Test
+	void warmsUpTypesConcurrentlyInParallelMode() {
+
+		ForkJoinPool pool = new ForkJoinPool(2);
+
+		try {
+
+			warmup.setMode(JdbcWarmup.Mode.PARALLEL);
+			warmup.setForkJoinPool(pool);
+			warmup.register(Person.class);
+			warmup.register(Address.class);
+
+			warmup.afterSingletonsInstantiated();
+
+			verify(accessStrategy).warmUp(Person.class);
+			verify(accessStrategy).warmUp(Address.class);
+			assertThat(warmup.getTimings()).containsOnlyKeys(Person.class, Address.class);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void doesNothingWhenDisabled() {
+
+		warmup.setMode(JdbcWarmup.Mode.DISABLED);
+		warmup.register(Person.class);
+
+		warmup.afterSingletonsInstantiated();
+
+		verifyNoInteractions(accessStrategy);
+		assertThat(warmup.getTimings()).isEmpty();
+	}
+
+	static class Person {
+		@Id Long id;
+		String name;
+	}
+
+	static class Address {
+		@Id Long id;
+		String street;
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link LazyLoadingBatch}.
+ *
+ * @author agent
+ */
+public class LazyLoadingBatchUnitTests {
+
+	Object scope = new Object();
+	RelationResolver relationResolver = mock(RelationResolver.class);
+	@SuppressWarnings("unchecked") PersistentPropertyPath<RelationalPersistentProperty> path = mock(
+			PersistentPropertyPath.class, RETURNS_DEEP_STUBS);
+
+	Identifier one = Identifier.of(unquoted("parent"), 1L, Long.class);
+	Identifier two = Identifier.of(unquoted("parent"), 2L, Long.class);
+	Identifier three = Identifier.of(unquoted("parent"), 3L, Long.class);
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void before() {
+
+		when(path.getBaseProperty().getOwner().getType()).thenReturn((Class) String.class);
+		when(path.toDotPath()).thenReturn("children");
+
+		when(relationResolver.findAllByPathIn(anyList(), eq(path))).thenAnswer(invocation -> {
+
+			Map<Identifier, Iterable<Object>> result = new HashMap<>();
+			for (Identifier identifier : invocation.<List<Identifier>> getArgument(0)) {
+				result.put(identifier, singletonList(identifier.toMap().get(unquoted("parent"))));
+			}
+			return result;
+		});
+
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	public void after() {
+
+		TransactionSynchronizationManager.unbindResourceIfPossible(scope);
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	public void loadsAllIdentifiersOfBatchAtOnce() {
+
+		LazyLoadingBatch batch = LazyLoadingBatch.join(scope, relationResolver, one, path, 10);
+
+		assertThat(LazyLoadingBatch.join(scope, relationResolver, two, path, 10)).isSameAs(batch);
+		assertThat(LazyLoadingBatch.join(scope, relationResolver, three, path, 10)).isSameAs(batch);
+
+		assertThat(batch.get(two)).containsExactly(2L);
+		assertThat(batch.get(one)).containsExactly(1L);
+		assertThat(batch.get(three)).containsExactly(3L);
+
+		verify(relationResolver).findAllByPathIn(asList(one, two, three), path);
+		verify(relationResolver, never()).findAllByPath(any(), any());
+	}
+
+	@Test
+	public void resolvesIdentifiersWithoutReferencedEntitiesWithoutFurtherQueries() {
+
+		Map<Identifier, Iterable<Object>> result = new HashMap<>();
+		result.put(two, singletonList(2L));
+		when(relationResolver.findAllByPathIn(anyList(), eq(path))).thenReturn(result);
+
+		LazyLoadingBatch batch = LazyLoadingBatch.join(scope, relationResolver, one, path, 10);
+		LazyLoadingBatch.join(scope, relationResolver, two, path, 10);
+		LazyLoadingBatch.join(scope, relationResolver, three, path, 10);
+
+		assertThat(batch.get(one)).isEmpty();
+		assertThat(batch.get(two)).containsExactly(2L);
+		assertThat(batch.get(three)).isEmpty();
+
+		// a single query for the whole batch
+		verify(relationResolver).findAllByPathIn(asList(one, two, three), path);
+		verifyNoMoreInteractions(relationResolver);
+	}
+
+	@Test
+	public void startsNewBatchWhenFullOrLoaded() {
+
+		LazyLoadingBatch first = LazyLoadingBatch.join(scope, relationResolver, one, path, 2);
+		assertThat(LazyLoadingBatch.join(scope, relationResolver, two, path, 2)).isSameAs(first);
+
+		LazyLoadingBatch second = LazyLoadingBatch.join(scope, relationResolver, three, path, 2);
+		assertThat(second).isNotSameAs(first);
+
+		second.get(three);
+
+		assertThat(LazyLoadingBatch.join(scope, relationResolver, one, path, 2)).isNotSameAs(second);
+	}
+
+	@Test
+	public void doesNotBatchWithoutTransactionSynchronization() {
+
+		TransactionSynchronizationManager.clearSynchronization();
+
+		assertThat(LazyLoadingBatch.join(scope, relationResolver, one, path, 10)).isNull();
+	}
+
+	@Test
+	public void discardsBatchesOnCompletion() {
+
+		LazyLoadingBatch batch = LazyLoadingBatch.join(scope, relationResolver, one, path, 10);
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+		assertThat(TransactionSynchronizationManager.hasResource(scope)).isFalse();
+		assertThat(LazyLoadingBatch.join(scope, relationResolver, two, path, 10)).isNotSameAs(batch);
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * Unit tests for {@link LazyLoadingProxyFactory}.
+ *
+ * @author agent
+ */
+public class LazyLoadingProxyFactoryUnitTests {
+
+	Identifier identifier = Identifier.of(unquoted("parent"), 23L, Long.class);
+	@SuppressWarnings("unchecked") PersistentPropertyPath<RelationalPersistentProperty> path = mock(
+			PersistentPropertyPath.class);
+
+	@Test
+	public void onlyProxiesCollectionAndMapInterfaces() {
+
+		assertThat(LazyLoadingProxyFactory.canProxy(List.class)).isTrue();
+		assertThat(LazyLoadingProxyFactory.canProxy(Set.class)).isTrue();
+		assertThat(LazyLoadingProxyFactory.canProxy(Map.class)).isTrue();
+		assertThat(LazyLoadingProxyFactory.canProxy(ArrayList.class)).isFalse();
+		assertThat(LazyLoadingProxyFactory.canProxy(Object[].class)).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadsOnFirstAccessOnly() {
+
+		AtomicInteger loadCount = new AtomicInteger();
+		Supplier<Iterable<Object>> loader = () -> {
+
+			loadCount.incrementAndGet();
+			return Arrays.asList("one", "two");
+		};
+
+		List<Object> proxy = (List<Object>) LazyLoadingProxyFactory.createProxy(List.class, identifier, path, loader);
+
+		assertThat(loadCount).hasValue(0);
+		assertThat(((LazyLoadingProxy) proxy).isResolved()).isFalse();
+		assertThat(((LazyLoadingProxy) proxy).getIdentifier()).isEqualTo(identifier);
+		assertThat(((LazyLoadingProxy) proxy).getPath()).isSameAs(path);
+
+		assertThat(proxy).containsExactly("one", "two");
+		assertThat(proxy.size()).isEqualTo(2);
+
+		assertThat(loadCount).hasValue(1);
+		assertThat(((LazyLoadingProxy) proxy).isResolved()).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void convertsEntriesForMaps() {
+
+		Map<Object, Object> proxy = (Map<Object, Object>) LazyLoadingProxyFactory.createProxy(Map.class, identifier, path,
+				() -> Arrays.asList(new SimpleEntry<>("a", "one"), new SimpleEntry<>("b", "two")));
+
+		assertThat(proxy).containsEntry("a", "one").containsEntry("b", "two").hasSize(2);
+	}
+
+	@Test
+	public void propagatesExceptionsOfTheLoader() {
+
+		Object proxy = LazyLoadingProxyFactory.createProxy(Set.class, identifier, path, () -> {
+			throw new IllegalStateException("no connection");
+		});
+
+		assertThatIllegalStateException().isThrownBy(() -> ((Set<?>) proxy).isEmpty()).withMessage("no connection");
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.KeyHolder;
+
+/**
+ * Unit tests for {@link PositionalStatement}.
+ *
+ * @author agent
+ */
+class PositionalStatementUnitTests {
+
+	@Test
+	void replacesNamedParametersWithPlaceholders() {
+
+		PositionalStatement statement = PositionalStatement.of("UPDATE t SET a = :a WHERE id = :id AND b = :a",
+				new String[] { "id", "a" });
+
+		assertThat(statement.getSql()).isEqualTo("UPDATE t SET a = ? WHERE id = ? AND b = ?");
+	}
+
+	@Test
+	void bindsValuesInOrderOfPlaceholders() throws SQLException {
+
+		PositionalStatement statement = PositionalStatement.of("UPDATE t SET a = :a WHERE id = :id AND b = :a",
+				new String[] { "id", "a" });
+
+		JdbcOperations operations = mock(JdbcOperations.class);
+		ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+
+		statement.update(operations, new Object[] { 23L, "alpha" }, new int[] { Types.BIGINT, JdbcUtils.TYPE_UNKNOWN });
+
+		verify(operations).update(eq("UPDATE t SET a = ? WHERE id = ? AND b = ?"), setter.capture());
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		setter.getValue().setValues(preparedStatement);
+
+		verify(preparedStatement, times(2)).setString(anyInt(), eq("alpha"));
+		verify(preparedStatement).setString(1, "alpha");
+		verify(preparedStatement).setObject(2, 23L, Types.BIGINT);
+		verify(preparedStatement).setString(3, "alpha");
+	}
+
+	@Test
+	void requestsGeneratedKeysOfGivenColumns() throws SQLException {
+
+		PositionalStatement statement = PositionalStatement.of("INSERT INTO t (a) VALUES (:a)", new String[] { "a" });
+
+		JdbcOperations operations = mock(JdbcOperations.class);
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+
+		statement.update(operations, new Object[] { "alpha" }, new int[] { JdbcUtils.TYPE_UNKNOWN }, keyHolder,
+				new String[] { "ID" });
+
+		verify(operations).update(creator.capture(), eq(keyHolder));
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		when(connection.prepareStatement(anyString(), any(String[].class))).thenReturn(preparedStatement);
+
+		assertThat(creator.getValue().createPreparedStatement(connection)).isSameAs(preparedStatement);
+
+		verify(connection).prepareStatement("INSERT INTO t (a) VALUES (?)", new String[] { "ID" });
+		verify(preparedStatement).setString(1, "alpha");
+	}
+
+	@Test
+	void rejectsStatementsUsingUnknownParameters() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> PositionalStatement.of("DELETE FROM t WHERE id = :id", new String[] { "other" }));
+	}
+}
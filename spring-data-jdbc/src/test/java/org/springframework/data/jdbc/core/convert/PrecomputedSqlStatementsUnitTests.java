@@ -0,0 +1,206 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.AbstractDialect;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.LimitClause;
+import org.springframework.data.relational.core.dialect.LockClause;
+import org.springframework.data.relational.core.mapping.NamingStrategy;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+
+/**
+ * Unit tests for {@link PrecomputedSqlStatements}.
+ *
+ * @author agent
+ */
+class PrecomputedSqlStatementsUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+
+	@TempDir Path directory;
+
+	@Test
+	void writesStatementsAndFingerprintPerType() throws IOException {
+
+		Properties properties = properties(write(context));
+
+		String prefix = Invoice.class.getName() + "#";
+
+		assertThat(properties.getProperty(prefix + "fingerprint")).isNotEmpty();
+		assertThat(properties.getProperty(prefix + "findOne")).isEqualTo(sqlGenerator().getFindOne());
+		assertThat(properties.getProperty(prefix + "updateWithVersion")).isEqualTo(sqlGenerator().getUpdateWithVersion());
+		assertThat(properties.getProperty(prefix + "deleteByPath.items"))
+				.isEqualTo("DELETE FROM item WHERE item.invoice = :rootId");
+	}
+
+	@Test
+	void writesSameContentForSameStatements() throws IOException {
+
+		String written = write(context);
+
+		assertThat(written).isEqualTo(write(context)).doesNotStartWith("#");
+	}
+
+	@Test
+	void usesLoadedStatements() throws IOException {
+
+		Properties properties = properties(write(context));
+		properties.setProperty(Invoice.class.getName() + "#findOne", "precomputed");
+
+		StringWriter content = new StringWriter();
+		properties.store(content, null);
+
+		PrecomputedSqlStatements statements = load(content.toString());
+
+		SqlGeneratorSource source = new SqlGeneratorSource(context, converter, NonQuotingDialect.INSTANCE);
+		source.setPrecomputedStatements(statements);
+
+		assertThat(source.getSqlGenerator(Invoice.class).getFindOne()).isEqualTo("precomputed");
+	}
+
+	@Test
+	void ignoresStatementsNotMatchingTheMapping() throws IOException {
+
+		RelationalMappingContext otherContext = new JdbcMappingContext(new NamingStrategy() {
+			@Override
+			public String getTableName(Class<?> type) {
+				return "other_" + NamingStrategy.super.getTableName(type);
+			}
+		});
+
+		SqlGeneratorSource source = new SqlGeneratorSource(context, converter, NonQuotingDialect.INSTANCE);
+		source.setPrecomputedStatements(load(write(otherContext)));
+
+		assertThat(source.getSqlGenerator(Invoice.class).getFindOne()).isEqualTo(sqlGenerator().getFindOne())
+				.doesNotContain("other_");
+	}
+
+	@Test
+	void ignoresStatementsOfOtherIdentifierProcessing() throws IOException {
+
+		Dialect quotingDialect = new AbstractDialect() {
+
+			@Override
+			public LimitClause limit() {
+				return NonQuotingDialect.INSTANCE.limit();
+			}
+
+			@Override
+			public LockClause lock() {
+				return NonQuotingDialect.INSTANCE.lock();
+			}
+
+			@Override
+			public IdentifierProcessing getIdentifierProcessing() {
+				return IdentifierProcessing.ANSI;
+			}
+		};
+
+		SqlGeneratorSource source = new SqlGeneratorSource(context, converter, quotingDialect);
+		source.setPrecomputedStatements(load(write(context)));
+
+		assertThat(source.getSqlGenerator(Invoice.class).getFindOne()).contains("\"INVOICE\"");
+		assertThat(PrecomputedSqlStatements.getLocation(quotingDialect))
+				.isNotEqualTo(PrecomputedSqlStatements.getLocation(NonQuotingDialect.INSTANCE));
+	}
+
+	@Test
+	void loadsNothingWithoutResource() {
+
+		SqlGeneratorSource source = new SqlGeneratorSource(context, converter, NonQuotingDialect.INSTANCE);
+		source.setPrecomputedStatements(PrecomputedSqlStatements.load(NonQuotingDialect.INSTANCE,
+				new URLClassLoader(new URL[0], null)));
+
+		assertThat(source.getSqlGenerator(Invoice.class).getFindOne()).isEqualTo(sqlGenerator().getFindOne());
+	}
+
+	private SqlGenerator sqlGenerator() {
+		return new SqlGenerator(context, converter, context.getRequiredPersistentEntity(Invoice.class),
+				NonQuotingDialect.INSTANCE);
+	}
+
+	private String write(RelationalMappingContext context) throws IOException {
+
+		JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+			throw new UnsupportedOperationException();
+		});
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		PrecomputedSqlStatements.write(context, converter, NonQuotingDialect.INSTANCE, singletonList(Invoice.class), out);
+
+		return new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+	}
+
+	private static Properties properties(String content) throws IOException {
+
+		Properties properties = new Properties();
+		properties.load(new StringReader(content));
+
+		return properties;
+	}
+
+	private PrecomputedSqlStatements load(String content) throws IOException {
+
+		File file = directory.resolve(PrecomputedSqlStatements.getLocation(NonQuotingDialect.INSTANCE)).toFile();
+		assertThat(file.getParentFile().mkdirs()).isTrue();
+
+		try (OutputStream out = new FileOutputStream(file)) {
+			out.write(content.getBytes(StandardCharsets.ISO_8859_1));
+		}
+
+		return PrecomputedSqlStatements.load(NonQuotingDialect.INSTANCE,
+				new URLClassLoader(new URL[] { directory.toUri().toURL() }, null));
+	}
+
+	static class Invoice {
+
+		@Id Long id;
+		@Version Long version;
+		String name;
+		List<Item> items;
+	}
+
+	static class Item {
+		String description;
+	}
+}
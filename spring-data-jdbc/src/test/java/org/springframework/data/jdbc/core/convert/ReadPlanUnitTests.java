@@ -0,0 +1,262 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+
+/**
+ * Unit tests for {@link ReadPlan}.
+ *
+ * @author agent
+ */
+class ReadPlanUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	BasicJdbcConverter converter = new BasicJdbcConverter(context, mock(RelationResolver.class),
+			new JdbcCustomConversions(), JdbcTypeFactory.unsupported(), IdentifierProcessing.ANSI);
+
+	@Test
+	void readsColumnsUsingTypedGetters() throws SQLException {
+
+		ResultSet resultSet = mockResultSet(new String[] { "ID", "NAME", "AGE" },
+				new int[] { Types.BIGINT, Types.VARCHAR, Types.INTEGER });
+		when(resultSet.getLong(1)).thenReturn(23L);
+		when(resultSet.getString(2)).thenReturn("alpha");
+		when(resultSet.getInt(3)).thenReturn(42);
+
+		Person person = createPlan(Person.class, resultSet).mapRow(resultSet);
+
+		assertThat(person).isEqualTo(new Person(23L, "alpha", 42));
+		verify(resultSet, never()).getObject(anyInt());
+	}
+
+	@Test
+	void readsNullForPrimitiveGettersOfNullColumns() throws SQLException {
+
+		ResultSet resultSet = mockResultSet(new String[] { "ID", "NAME", "AGE" },
+				new int[] { Types.BIGINT, Types.VARCHAR, Types.INTEGER });
+		when(resultSet.getLong(1)).thenReturn(0L);
+		when(resultSet.wasNull()).thenReturn(true);
+
+		Person person = createPlan(Person.class, resultSet).mapRow(resultSet);
+
+		assertThat(person).isEqualTo(new Person(null, null, null));
+	}
+
+	@Test
+	void readsColumnsOfOtherTypesAsObjectsAndConvertsThem() throws SQLException {
+
+		ResultSet resultSet = mockResultSet(new String[] { "ID", "NAME", "AGE" },
+				new int[] { Types.DECIMAL, Types.VARCHAR, Types.BIGINT });
+		when(resultSet.getObject(1)).thenReturn(new BigDecimal("23"));
+		when(resultSet.getString(2)).thenReturn("alpha");
+		when(resultSet.getObject(3)).thenReturn(42L);
+
+		Person person = createPlan(Person.class, resultSet).mapRow(resultSet);
+
+		assertThat(person).isEqualTo(new Person(23L, "alpha", 42));
+	}
+
+	@Test
+	void readsPrimitivesFromNumericColumnsUsingTypedGetters() throws SQLException {
+
+		ResultSet resultSet = mockResultSet(new String[] { "ID", "COUNT", "RATIO" },
+				new int[] { Types.BIGINT, Types.DECIMAL, Types.NUMERIC });
+		when(resultSet.getLong(1)).thenReturn(23L);
+		when(resultSet.getInt(2)).thenReturn(42);
+		when(resultSet.getDouble(3)).thenReturn(0.5d);
+
+		Measurement measurement = createPlan(Measurement.class, resultSet).mapRow(resultSet);
+
+		assertThat(measurement.count).isEqualTo(42);
+		assertThat(measurement.ratio).isEqualTo(0.5d);
+		verify(resultSet, never()).getObject(anyInt());
+	}
+
+	@Test
+	void readsPrimitivesAsObjectsWhenCustomConversionAppliesToColumnValue() throws SQLException {
+
+		converter = new BasicJdbcConverter(context, mock(RelationResolver.class),
+				new JdbcCustomConversions(Collections.singletonList(RoundingBigDecimalToIntegerConverter.INSTANCE)),
+				JdbcTypeFactory.unsupported(), IdentifierProcessing.ANSI);
+
+		ResultSet resultSet = mockResultSet(new String[] { "ID", "COUNT", "RATIO" },
+				new int[] { Types.BIGINT, Types.DECIMAL, Types.NUMERIC });
+		when(resultSet.getLong(1)).thenReturn(23L);
+		when(resultSet.getObject(2)).thenReturn(new BigDecimal("41.6"));
+		when(resultSet.getDouble(3)).thenReturn(0.5d);
+
+		Measurement measurement = createPlan(Measurement.class, resultSet).mapRow(resultSet);
+
+		assertThat(measurement.count).isEqualTo(42);
+		assertThat(measurement.ratio).isEqualTo(0.5d);
+		verify(resultSet, never()).getInt(anyInt());
+	}
+
+	@Test
+	void usesDefaultValueForPrimitiveConstructorArgumentsAbsentFromResult() throws SQLException {
+
+		ResultSet resultSet = mockResultSet(new String[] { "ID", "RATIO" }, new int[] { Types.BIGINT, Types.DOUBLE });
+		when(resultSet.getLong(1)).thenReturn(23L);
+		when(resultSet.getDouble(2)).thenReturn(0.5d);
+
+		Measurement measurement = createPlan(Measurement.class, resultSet).mapRow(resultSet);
+
+		assertThat(measurement).isEqualTo(new Measurement(23L, 0, 0.5d));
+	}
+
+	@Test
+	void readsJsr310TypesUsingGetObjectWithType() throws SQLException {
+
+		LocalDateTime now = LocalDateTime.now();
+
+		ResultSet resultSet = mockResultSet(new String[] { "ID", "CREATED" }, new int[] { Types.BIGINT, Types.TIMESTAMP });
+		when(resultSet.getLong(1)).thenReturn(23L);
+		when(resultSet.getObject(2, LocalDateTime.class)).thenReturn(now);
+
+		Event event = createPlan(Event.class, resultSet).mapRow(resultSet);
+
+		assertThat(event.created).isEqualTo(now);
+		verify(resultSet, never()).getTimestamp(anyInt());
+	}
+
+	@Test
+	void fallsBackToTimestampForDriversNotSupportingJsr310Types() throws SQLException {
+
+		LocalDateTime now = LocalDateTime.now();
+
+		ResultSet resultSet = mockResultSet(new String[] { "ID", "CREATED" }, new int[] { Types.BIGINT, Types.TIMESTAMP });
+		when(resultSet.getLong(1)).thenReturn(23L);
+		when(resultSet.getObject(2, LocalDateTime.class)).thenThrow(new SQLFeatureNotSupportedException());
+		when(resultSet.getTimestamp(2)).thenReturn(Timestamp.valueOf(now));
+
+		Event event = createPlan(Event.class, resultSet).mapRow(resultSet);
+
+		assertThat(event.created).isEqualTo(now);
+	}
+
+	@Test
+	void doesNotSupportEntitiesWithCollections() throws SQLException {
+
+		ResultSet resultSet = mockResultSet(new String[] { "ID" }, new int[] { Types.BIGINT });
+
+		assertThat(createPlan(WithChildren.class, resultSet).isSupported()).isFalse();
+	}
+
+	@Test
+	void layoutsOfDifferentColumnsAreNotEqual() throws SQLException {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(Person.class);
+
+		ReadPlan.Layout layout = ReadPlan.Layout.of(entity,
+				mockResultSet(new String[] { "ID", "NAME" }, new int[] { Types.BIGINT, Types.VARCHAR }));
+
+		assertThat(layout).isEqualTo(ReadPlan.Layout.of(entity,
+				mockResultSet(new String[] { "ID", "NAME" }, new int[] { Types.BIGINT, Types.VARCHAR })));
+		assertThat(layout).isNotEqualTo(ReadPlan.Layout.of(entity,
+				mockResultSet(new String[] { "ID", "NAME" }, new int[] { Types.BIGINT, Types.CLOB })));
+		assertThat(layout).isNotEqualTo(ReadPlan.Layout.of(entity,
+				mockResultSet(new String[] { "ID", "AGE" }, new int[] { Types.BIGINT, Types.VARCHAR })));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> ReadPlan<T> createPlan(Class<T> type, ResultSet resultSet) {
+
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(type);
+		return ReadPlan.create(ReadPlan.Layout.of(entity, resultSet), converter, IdentifierProcessing.ANSI);
+	}
+
+	private static ResultSet mockResultSet(String[] labels, int[] sqlTypes) throws SQLException {
+
+		ResultSet resultSet = mock(ResultSet.class);
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+
+		when(resultSet.getMetaData()).thenReturn(metaData);
+		when(metaData.getColumnCount()).thenReturn(labels.length);
+		for (int i = 0; i < labels.length; i++) {
+
+			when(metaData.getColumnLabel(i + 1)).thenReturn(labels[i]);
+			when(metaData.getColumnType(i + 1)).thenReturn(sqlTypes[i]);
+		}
+
+		return resultSet;
+	}
+
+	@Value
+	static class Person {
+
+		@Id Long id;
+		String name;
+		Integer age;
+	}
+
+	@Value
+	static class Measurement {
+
+		@Id Long id;
+		int count;
+		double ratio;
+	}
+
+	@ReadingConverter
+	enum RoundingBigDecimalToIntegerConverter implements Converter<BigDecimal, Integer> {
+
+		INSTANCE;
+
+		@Override
+		public Integer convert(BigDecimal source) {
+			return source.setScale(0, RoundingMode.HALF_UP).intValue();
+		}
+	}
+
+	@Value
+	static class Event {
+
+		@Id Long id;
+		LocalDateTime created;
+	}
+
+	@Value
+	static class WithChildren {
+
+		@Id Long id;
+		List<Person> children;
+	}
+}
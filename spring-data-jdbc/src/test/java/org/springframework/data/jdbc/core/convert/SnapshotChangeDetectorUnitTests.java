@@ -0,0 +1,186 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link SnapshotChangeDetector}.
+ *
+ * @author agent
+ */
+class SnapshotChangeDetectorUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	SnapshotChangeDetector changeDetector = new SnapshotChangeDetector(context);
+
+	@BeforeEach
+	void startTransaction() {
+
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+	}
+
+	@AfterEach
+	void completeTransaction() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+			TransactionSynchronizationManager.clear();
+		}
+	}
+
+	@Test
+	void noChangedColumnsWithoutSnapshot() {
+		assertThat(changeDetector.getChangedColumns(new Person(1L, "Alfred", null, null))).isNull();
+	}
+
+	@Test
+	void detectsChangedColumns() {
+
+		Person person = new Person(1L, "Alfred", new Address("Main Street", "Gotham"), new ArrayList<>());
+		changeDetector.onAfterLoad(person);
+
+		assertThat(changeDetector.getChangedColumns(person)).isEmpty();
+
+		person.name = "Bruce";
+		person.address.city = "Metropolis";
+
+		assertThat(changeDetector.getChangedColumns(person)).containsExactlyInAnyOrder(column("name"),
+				column("address_city"));
+	}
+
+	@Test
+	void detectsInPlaceModificationsOfCollections() {
+
+		Person person = new Person(1L, "Alfred", null, new ArrayList<>());
+		changeDetector.onAfterLoad(person);
+
+		person.nicknames.add("Al");
+
+		assertThat(changeDetector.getChangedColumns(person)).containsExactly(column("nicknames"));
+	}
+
+	@Test
+	void discardsSnapshots() {
+
+		Person person = new Person(1L, "Alfred", null, null);
+		Person other = new Person(2L, "Bruce", null, null);
+		changeDetector.onAfterLoad(person);
+		changeDetector.onAfterLoad(other);
+
+		changeDetector.discard(Person.class, 1L);
+
+		assertThat(changeDetector.getChangedColumns(person)).isNull();
+		assertThat(changeDetector.getChangedColumns(other)).isEmpty();
+
+		changeDetector.discardAll(Person.class);
+
+		assertThat(changeDetector.getChangedColumns(other)).isNull();
+	}
+
+	@Test
+	void usesSnapshotsOnlyForTheLoadedInstance() {
+
+		Person person = new Person(1L, "Alfred", null, null);
+		changeDetector.onAfterLoad(person);
+
+		assertThat(changeDetector.getChangedColumns(new Person(1L, "Alfred", null, null))).isNull();
+	}
+
+	@Test
+	void discardsSnapshotsWhenTransactionCompletes() {
+
+		Person person = new Person(1L, "Alfred", null, null);
+		changeDetector.onAfterLoad(person);
+
+		completeTransaction();
+		startTransaction();
+
+		assertThat(changeDetector.getChangedColumns(person)).isNull();
+	}
+
+	@Test
+	void takesNoSnapshotsOutsideOfTransactions() {
+
+		completeTransaction();
+
+		Person person = new Person(1L, "Alfred", null, null);
+		changeDetector.onAfterLoad(person);
+
+		assertThat(changeDetector.getChangedColumns(person)).isNull();
+	}
+
+	@Test
+	void takesNoSnapshotsInReadOnlyTransactions() {
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		Person person = new Person(1L, "Alfred", null, null);
+		changeDetector.onAfterLoad(person);
+
+		assertThat(changeDetector.getChangedColumns(person)).isNull();
+	}
+
+	private SqlIdentifier column(String propertyPath) {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(Person.class);
+
+		if (propertyPath.startsWith("address_")) {
+
+			RelationalPersistentEntity<?> address = context.getRequiredPersistentEntity(Address.class);
+			return address.getRequiredPersistentProperty(propertyPath.substring("address_".length())).getColumnName()
+					.transform("address_"::concat);
+		}
+
+		return entity.getRequiredPersistentProperty(propertyPath).getColumnName();
+	}
+
+	@AllArgsConstructor
+	static class Person {
+
+		@Id Long id;
+		String name;
+		@Embedded.Nullable(prefix = "address_") Address address;
+		List<String> nicknames;
+	}
+
+	@AllArgsConstructor
+	static class Address {
+
+		String street;
+		String city;
+	}
+}
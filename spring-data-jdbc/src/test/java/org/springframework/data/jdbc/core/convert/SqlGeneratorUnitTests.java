@@ -123,6 +123,20 @@ public class SqlGeneratorUnitTests {
 				.doesNotContain("Element AS elements"));
 	}
 
+	@Test
+	public void getAcquireLockAllById() {
+
+		String sql = sqlGenerator.getAcquireLockAllById(LockMode.PESSIMISTIC_WRITE);
+
+		assertSoftly(softly -> softly //
+				.assertThat(sql) //
+				.startsWith("SELECT") //
+				.contains("dummy_entity.id1") //
+				.contains("WHERE dummy_entity.id1 IN (:ids)") //
+				.contains("FOR UPDATE") //
+				.doesNotContain("Element AS elements"));
+	}
+
 	@Test // DATAJDBC-493
 	public void getAcquireLockAll() {
 
@@ -186,6 +200,28 @@ public class SqlGeneratorUnitTests {
 		assertThat(sql).isEqualTo("DELETE FROM element WHERE element.dummy_entity IS NOT NULL");
 	}
 
+	@Test
+	void deleteByPathStatementsGetCachedPerPath() {
+
+		sqlGenerator.warmUp();
+
+		assertThat(sqlGenerator.createDeleteByPath(getPath("ref.further", DummyEntity.class)))
+				.isSameAs(sqlGenerator.createDeleteByPath(getPath("ref.further", DummyEntity.class)));
+		assertThat(sqlGenerator.createDeleteAllSql(getPath("mappedElements", DummyEntity.class)))
+				.isSameAs(sqlGenerator.createDeleteAllSql(getPath("mappedElements", DummyEntity.class)));
+	}
+
+	@Test
+	void warmUpRendersStatementsOfVersionedEntities() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(VersionedEntity.class);
+
+		sqlGenerator.warmUp();
+
+		assertThat(sqlGenerator.getUpdateWithVersion()).contains("x_version = :___oldOptimisticLockingVersion");
+		assertThat(sqlGenerator.getDeleteByIdAndVersion()).contains("x_version = :___oldOptimisticLockingVersion");
+	}
+
 	@Test // DATAJDBC-227
 	public void deleteMapByPath() {
 
@@ -434,6 +470,32 @@ public class SqlGeneratorUnitTests {
 				"\"id1\" = :id1");
 	}
 
+	@Test
+	public void updateOfSelectedColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+		SqlIdentifier name = context.getRequiredPersistentEntity(DummyEntity.class).getRequiredPersistentProperty("name")
+				.getColumnName();
+
+		assertThat(sqlGenerator.getUpdate(singleton(name))).isEqualToIgnoringCase( //
+				"UPDATE \"DUMMY_ENTITY\" " //
+						+ "SET \"X_NAME\" = :X_NAME " //
+						+ "WHERE \"DUMMY_ENTITY\".\"id1\" = :id1");
+	}
+
+	@Test
+	public void updateWithVersionOfSelectedColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(VersionedEntity.class, AnsiDialect.INSTANCE);
+		SqlIdentifier version = context.getRequiredPersistentEntity(VersionedEntity.class)
+				.getRequiredPersistentProperty("version").getColumnName();
+
+		assertThat(sqlGenerator.getUpdateWithVersion(singleton(version))) //
+				.startsWith("UPDATE \"VERSIONED_ENTITY\" SET \"X_VERSION\" = :X_VERSION WHERE") //
+				.containsSubsequence("\"id1\" = :id1", "AND", "\"X_VERSION\" = :___oldOptimisticLockingVersion") //
+				.doesNotContain("X_NAME");
+	}
+
 	@Test // DATAJDBC-324
 	public void readOnlyPropertyExcludedFromQuery_when_generateUpdateSql() {
 
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import lombok.AllArgsConstructor;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unit tests for {@link WritePlan}.
+ *
+ * @author agent
+ */
+class WritePlanUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	JdbcConverter converter = new BasicJdbcConverter(context, mock(RelationResolver.class));
+
+	@Test
+	void bindsSimpleAndEmbeddedProperties() {
+
+		WritePlan<Person> plan = createPlan(DefaultDataAccessStrategy.Predicates.includeAll());
+		Object[] values = bind(plan, new Person(23L, "Alfred", new Address("Main Street", "Gotham"), "ignored"));
+
+		assertThat(plan.getParameterNames()).containsExactlyInAnyOrder("id", "name", "address_street", "address_city");
+		assertThat(valueOf(plan, values, "id")).isEqualTo(23L);
+		assertThat(valueOf(plan, values, "name")).isEqualTo("Alfred");
+		assertThat(valueOf(plan, values, "address_city")).isEqualTo("Gotham");
+	}
+
+	@Test
+	void bindsNullForPropertiesOfNullEmbeddable() {
+
+		WritePlan<Person> plan = createPlan(DefaultDataAccessStrategy.Predicates.includeAll());
+		Object[] values = bind(plan, new Person(23L, "Alfred", null, null));
+
+		assertThat(plan.getParameterNames()).contains("address_street");
+		assertThat(valueOf(plan, values, "address_street")).isNull();
+	}
+
+	@Test
+	void skipsPropertiesMatchingPredicate() {
+
+		WritePlan<Person> plan = createPlan(PersistentProperty::isIdProperty);
+
+		assertThat(plan.getParameterNames()).doesNotContain("id").contains("name");
+	}
+
+	@Test
+	void leavesAdditionalArrayElementsUntouched() {
+
+		WritePlan<Person> plan = createPlan(PersistentProperty::isIdProperty);
+		int parameterCount = plan.getParameterNames().length;
+
+		Object[] values = new Object[parameterCount + 1];
+		int[] sqlTypes = new int[parameterCount + 1];
+		values[parameterCount] = "parent";
+
+		plan.bind(new Person(23L, "Alfred", null, null), values, sqlTypes);
+
+		assertThat(values[parameterCount]).isEqualTo("parent");
+	}
+
+	private static Object[] bind(WritePlan<Person> plan, Person person) {
+
+		int parameterCount = plan.getParameterNames().length;
+		Object[] values = new Object[parameterCount];
+		plan.bind(person, values, new int[parameterCount]);
+
+		return values;
+	}
+
+	@Nullable
+	private static Object valueOf(WritePlan<?> plan, Object[] values, String parameterName) {
+		return values[Arrays.asList(plan.getParameterNames()).indexOf(parameterName)];
+	}
+
+	@SuppressWarnings("unchecked")
+	private WritePlan<Person> createPlan(Predicate<RelationalPersistentProperty> skip) {
+
+		RelationalPersistentEntity<Person> entity = (RelationalPersistentEntity<Person>) context
+				.getRequiredPersistentEntity(Person.class);
+
+		return WritePlan.create(entity, skip, context, converter, IdentifierProcessing.NONE);
+	}
+
+	@AllArgsConstructor
+	static class Person {
+
+		@Id Long id;
+		String name;
+		@Embedded.Nullable(prefix = "address_") Address address;
+		@ReadOnlyProperty String nickname;
+	}
+
+	@AllArgsConstructor
+	static class Address {
+
+		String street;
+		String city;
+	}
+}
@@ -22,10 +22,28 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.keygen.Jdbc3KeyGenerator;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.PropertyPathTestingUtils;
@@ -37,6 +55,7 @@ import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * Unit tests for the {@link MyBatisDataAccessStrategy}, mainly ensuring that the correct statements get's looked up.
@@ -390,6 +409,276 @@ public class MyBatisDataAccessStrategyUnitTests {
 				);
 	}
 
+	@Test
+	public void insertAllUsesInsertAllStatementIfPresent() {
+
+		Configuration configuration = mock(Configuration.class);
+		when(session.getConfiguration()).thenReturn(configuration);
+		when(configuration.hasStatement("java.lang.StringMapper.insertAll", false)).thenReturn(true);
+
+		accessStrategy.insertAll(asList("x", "y"), String.class, asList(Identifier.empty(), Identifier.empty()));
+
+		verify(session).insert(eq("java.lang.StringMapper.insertAll"), captor.capture());
+		verify(session, never()).insert(eq("java.lang.StringMapper.insert"), any());
+
+		assertThat(captor.getValue().getInstances()).containsExactly("x", "y");
+		assertThat(captor.getValue().getIdentifiers()).hasSize(2);
+		assertThat(captor.getValue().getDomainType()).isEqualTo(String.class);
+	}
+
+	@Test
+	public void insertAllInsertsOneAfterTheOtherWithoutInsertAllStatement() {
+
+		accessStrategy.insertAll(asList("x", "y"), String.class, asList(Identifier.empty(), Identifier.empty()));
+
+		verify(session, times(2)).insert(eq("java.lang.StringMapper.insert"), captor.capture());
+
+		assertThat(captor.getAllValues()).extracting(MyBatisContext::getInstance).containsExactly("x", "y");
+	}
+
+	@Test
+	public void insertAllInsertsOneAfterTheOtherIfInsertGeneratesKeys() {
+
+		Configuration configuration = new Configuration();
+		addStatement(configuration, "java.lang.StringMapper.insertAll", false);
+		addStatement(configuration, "java.lang.StringMapper.insert", true);
+		when(session.getConfiguration()).thenReturn(configuration);
+
+		accessStrategy.insertAll(asList("x", "y"), String.class, asList(Identifier.empty(), Identifier.empty()));
+
+		verify(session, never()).insert(eq("java.lang.StringMapper.insertAll"), any());
+		verify(session, times(2)).insert(eq("java.lang.StringMapper.insert"), captor.capture());
+
+		assertThat(captor.getAllValues()).extracting(MyBatisContext::getInstance).containsExactly("x", "y");
+	}
+
+	@Test
+	public void insertAllWithBatchExecutorReturnsGeneratedIds() {
+
+		SqlSessionTemplate template = batchSessionTemplate(new ArrayList<>(), 1, 1);
+		MyBatisDataAccessStrategy batchStrategy = new MyBatisDataAccessStrategy(template, IdentifierProcessing.ANSI);
+
+		Configuration configuration = new Configuration();
+		addStatement(configuration, "java.lang.StringMapper.insertAll", false);
+		addStatement(configuration, "java.lang.StringMapper.insert", true);
+		when(template.getConfiguration()).thenReturn(configuration);
+
+		// emulates MyBatis setting the generated key on the parameter object
+		doAnswer(invocation -> {
+
+			ReflectionTestUtils.setField(invocation.getArgument(1), "id",
+					((MyBatisContext) invocation.getArgument(1)).getInstance() + "-id");
+			return BatchExecutor.BATCH_UPDATE_RETURN_VALUE;
+		}).when(template).insert(eq("java.lang.StringMapper.insert"), any());
+
+		Object[] ids = batchStrategy.insertAll(asList("x", "y"), String.class,
+				asList(Identifier.empty(), Identifier.empty()));
+
+		assertThat(ids).containsExactly("x-id", "y-id");
+		verify(template, never()).insert(eq("java.lang.StringMapper.insertAll"), any());
+	}
+
+	@Test
+	public void insertAllWithBatchExecutorFlushesOnce() {
+
+		SqlSessionTemplate template = batchSessionTemplate(new ArrayList<>(), 1, 1);
+		MyBatisDataAccessStrategy batchStrategy = new MyBatisDataAccessStrategy(template, IdentifierProcessing.ANSI);
+
+		batchStrategy.insertAll(asList("x", "y"), String.class, asList(Identifier.empty(), Identifier.empty()));
+
+		verify(template, times(2)).insert(eq("java.lang.StringMapper.insert"), any());
+		verify(template).flushStatements();
+	}
+
+	@Test
+	public void updateAllWithVersionWithBatchExecutorReportsFlushedUpdateCounts() {
+
+		List<Object> parameters = new ArrayList<>();
+		SqlSessionTemplate template = batchSessionTemplate(parameters, 1, 0);
+		MyBatisDataAccessStrategy batchStrategy = new MyBatisDataAccessStrategy(template, IdentifierProcessing.ANSI);
+
+		boolean[] updated = batchStrategy.updateAllWithVersion(asList("x", "y"), String.class, asList(1, 2));
+
+		assertThat(updated).containsExactly(true, false);
+		assertThat(parameters).extracting(p -> ((MyBatisContext) p).get("___oldOptimisticLockingVersion"))
+				.containsExactly(1, 2);
+		verify(template).flushStatements();
+	}
+
+	@Test
+	public void updateAllWithVersionWithBatchExecutorChecksStoredVersionWithoutUpdateCount() {
+
+		SqlSessionTemplate template = batchSessionTemplate(new ArrayList<>(), Statement.SUCCESS_NO_INFO,
+				Statement.SUCCESS_NO_INFO, Statement.EXECUTE_FAILED);
+		MyBatisDataAccessStrategy batchStrategy = new MyBatisDataAccessStrategy(template, IdentifierProcessing.ANSI);
+		batchStrategy.setMappingContext(context);
+
+		Map<Object, VersionedEntity> stored = new HashMap<>();
+		stored.put(1L, new VersionedEntity(1L, 2L));
+		stored.put(2L, new VersionedEntity(2L, 3L));
+		stored.put(3L, new VersionedEntity(3L, 2L));
+
+		when(template.selectOne(eq(VersionedEntity.class.getName() + "Mapper.findById"), any()))
+				.thenAnswer(invocation -> stored.get(((MyBatisContext) invocation.getArgument(1)).getId()));
+
+		boolean[] updated = batchStrategy.updateAllWithVersion(
+				asList(new VersionedEntity(1L, 2L), new VersionedEntity(2L, 2L), new VersionedEntity(3L, 2L)),
+				VersionedEntity.class, asList(1L, 1L, 1L));
+
+		assertThat(updated).containsExactly(true, false, false);
+	}
+
+	@Test
+	public void updateWithBatchExecutorUsesFlushedUpdateCount() {
+
+		SqlSessionTemplate template = batchSessionTemplate(new ArrayList<>(), 0);
+		MyBatisDataAccessStrategy batchStrategy = new MyBatisDataAccessStrategy(template, IdentifierProcessing.ANSI);
+
+		assertThat(batchStrategy.update("x", String.class)).isFalse();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void findAllByPathInUsesSingleStatementAndGroupsByKey() {
+
+		PersistentPropertyPath path = mockPath();
+
+		Configuration configuration = mock(Configuration.class);
+		when(session.getConfiguration()).thenReturn(configuration);
+		when(configuration.hasStatement("java.lang.StringMapper.findAllByPathIn-dot.path", false)).thenReturn(true);
+		when(session.selectList(eq("java.lang.StringMapper.findAllByPathIn-dot.path"), any())).thenReturn(
+				asList(keyedEntity(1L, "one-a"), keyedEntity(3L, "three"), keyedEntity(1L, "one-b")));
+
+		Identifier one = Identifier.of(unquoted("parent"), 1, Object.class);
+		Identifier two = Identifier.of(unquoted("parent"), 2, Object.class);
+		Identifier three = Identifier.of(unquoted("parent"), 3, Object.class);
+
+		Map<Identifier, Iterable<Object>> result = accessStrategy.findAllByPathIn(asList(one, two, three), path);
+
+		verify(session).selectList(eq("java.lang.StringMapper.findAllByPathIn-dot.path"), captor.capture());
+		verify(session, never()).selectList(eq("java.lang.StringMapper.findAllByPath-dot.path"), any());
+
+		assertThat(captor.getValue().getId()).isEqualTo(asList(1, 2, 3));
+		assertThat(captor.getValue().getDomainType()).isEqualTo(Number.class);
+
+		assertThat(result.get(one)).containsExactly("one-a", "one-b");
+		assertThat(result.get(two)).isEmpty();
+		assertThat(result.get(three)).containsExactly("three");
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void findAllByPathInFallsBackToFindAllByPathWithoutStatement() {
+
+		PersistentPropertyPath path = mockPath();
+
+		Identifier one = Identifier.of(unquoted("parent"), 1, Object.class);
+		Identifier two = Identifier.of(unquoted("parent"), 2, Object.class);
+
+		accessStrategy.findAllByPathIn(asList(one, two), path);
+
+		verify(session, times(2)).selectList(eq("java.lang.StringMapper.findAllByPath-dot.path"), captor.capture());
+
+		assertThat(captor.getAllValues()).extracting(MyBatisContext::getIdentifier).containsExactly(one, two);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void supportsFindAllByPathInOnlyForPathsWithStatement() {
+
+		PersistentPropertyPath path = mockPath();
+
+		assertThat(accessStrategy.supportsFindAllByPathIn(path)).isFalse();
+
+		Configuration configuration = mock(Configuration.class);
+		when(session.getConfiguration()).thenReturn(configuration);
+		when(configuration.hasStatement("java.lang.StringMapper.findAllByPathIn-dot.path", false)).thenReturn(true);
+
+		assertThat(accessStrategy.supportsFindAllByPathIn(path)).isTrue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static PersistentPropertyPath mockPath() {
+
+		RelationalPersistentProperty property = mock(RelationalPersistentProperty.class, RETURNS_DEEP_STUBS);
+		PersistentPropertyPath path = mock(PersistentPropertyPath.class, RETURNS_DEEP_STUBS);
+
+		when(path.getBaseProperty()).thenReturn(property);
+		when(property.getOwner().getType()).thenReturn((Class) String.class);
+
+		when(path.getRequiredLeafProperty()).thenReturn(property);
+		when(property.getType()).thenReturn((Class) Number.class);
+
+		when(path.toDotPath()).thenReturn("dot.path");
+
+		return path;
+	}
+
+	private static KeyedEntity keyedEntity(Object key, Object entity) {
+
+		KeyedEntity keyedEntity = new KeyedEntity();
+		keyedEntity.setKey(key);
+		keyedEntity.setEntity(entity);
+		return keyedEntity;
+	}
+
+	/**
+	 * Creates a {@link SqlSessionTemplate} mock with a batch executor, reporting the given update counts for the
+	 * statements queued since the last flush.
+	 */
+	private static SqlSessionTemplate batchSessionTemplate(List<Object> parameters, int... updateCounts) {
+
+		SqlSessionTemplate template = mock(SqlSessionTemplate.class);
+		when(template.getExecutorType()).thenReturn(ExecutorType.BATCH);
+
+		List<Object> queued = new ArrayList<>();
+		Answer<Integer> queue = invocation -> {
+
+			parameters.add(invocation.getArgument(1));
+			queued.add(invocation.getArgument(1));
+			return BatchExecutor.BATCH_UPDATE_RETURN_VALUE;
+		};
+
+		doAnswer(queue).when(template).update(anyString(), any());
+		doAnswer(queue).when(template).insert(anyString(), any());
+
+		when(template.flushStatements()).thenAnswer(invocation -> {
+
+			BatchResult result = new BatchResult(null, "sql");
+			queued.forEach(result::addParameterObject);
+			result.setUpdateCounts(updateCounts);
+			queued.clear();
+
+			return singletonList(result);
+		});
+
+		return template;
+	}
+
+	private static void addStatement(Configuration configuration, String id, boolean generatesKeys) {
+
+		MappedStatement.Builder builder = new MappedStatement.Builder(configuration, id,
+				new StaticSqlSource(configuration, "sql"), SqlCommandType.INSERT);
+
+		if (generatesKeys) {
+			builder.keyGenerator(Jdbc3KeyGenerator.INSTANCE);
+		}
+
+		configuration.addMappedStatement(builder.build());
+	}
+
+	private static class VersionedEntity {
+
+		@Id Long id;
+		@Version Long version;
+
+		VersionedEntity(Long id, Long version) {
+
+			this.id = id;
+			this.version = version;
+		}
+	}
+
 	@SuppressWarnings("unused")
 	private static class DummyEntity {
 		ChildOne one;
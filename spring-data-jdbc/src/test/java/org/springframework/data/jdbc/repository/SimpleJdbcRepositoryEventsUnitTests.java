@@ -52,6 +52,7 @@ import org.springframework.data.relational.core.dialect.H2Dialect;
 import org.springframework.data.relational.core.dialect.HsqlDbDialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.relational.core.mapping.event.AfterLoadBatchEvent;
 import org.springframework.data.relational.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.relational.core.mapping.event.AfterSaveEvent;
 import org.springframework.data.relational.core.mapping.event.BeforeConvertEvent;
@@ -62,8 +63,8 @@ import org.springframework.data.relational.core.mapping.event.RelationalEvent;
 import org.springframework.data.relational.core.mapping.event.WithId;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.lang.Nullable;
 
@@ -198,7 +199,8 @@ public class SimpleJdbcRepositoryEventsUnitTests {
 				.extracting(e -> (Class) e.getClass()) //
 				.containsExactly( //
 						AfterLoadEvent.class, //
-						AfterLoadEvent.class //
+						AfterLoadEvent.class, //
+						AfterLoadBatchEvent.class //
 				);
 	}
 
@@ -217,7 +219,8 @@ public class SimpleJdbcRepositoryEventsUnitTests {
 				.extracting(e -> (Class) e.getClass()) //
 				.containsExactly( //
 						AfterLoadEvent.class, //
-						AfterLoadEvent.class //
+						AfterLoadEvent.class, //
+						AfterLoadBatchEvent.class //
 				);
 	}
 
@@ -253,7 +256,8 @@ public class SimpleJdbcRepositoryEventsUnitTests {
 				.extracting(e -> (Class) e.getClass()) //
 				.containsExactly( //
 						AfterLoadEvent.class, //
-						AfterLoadEvent.class //
+						AfterLoadEvent.class, //
+						AfterLoadBatchEvent.class //
 				);
 	}
 
@@ -273,7 +277,8 @@ public class SimpleJdbcRepositoryEventsUnitTests {
 				.extracting(e -> (Class) e.getClass()) //
 				.containsExactly( //
 						AfterLoadEvent.class, //
-						AfterLoadEvent.class //
+						AfterLoadEvent.class, //
+						AfterLoadBatchEvent.class //
 				);
 	}
 
@@ -283,16 +288,18 @@ public class SimpleJdbcRepositoryEventsUnitTests {
 
 			HashMap<String, Object> keys = new HashMap<>();
 			keys.put("id", 4711L);
-			KeyHolder keyHolder = invocation.getArgument(2);
+			KeyHolder keyHolder = invocation.getArgument(1);
 			keyHolder.getKeyList().add(keys);
 
 			return 1;
 		};
 
-		NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
-		when(operations.update(anyString(), any(SqlParameterSource.class), any(KeyHolder.class)))
+		JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+		when(jdbcOperations.update(any(PreparedStatementCreator.class), any(KeyHolder.class)))
 				.thenAnswer(setIdInKeyHolder);
-		when(operations.getJdbcOperations()).thenReturn(mock(JdbcOperations.class));
+
+		NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+		when(operations.getJdbcOperations()).thenReturn(jdbcOperations);
 		return operations;
 	}
 
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.data.jdbc.core.dialect.JdbcH2Dialect;
+import org.springframework.data.jdbc.core.dialect.JdbcMySqlDialect;
+import org.springframework.data.jdbc.repository.config.DialectResolver.JdbcUrlDialectProvider;
+import org.springframework.data.jdbc.repository.config.DialectResolver.NoDialectException;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+
+/**
+ * Unit tests for {@link DialectResolver}.
+ *
+ * @author agent
+ */
+class DialectResolverUnitTests {
+
+	@TempDir Path directory;
+
+	@Test
+	void resolvesDialectFromJdbcUrlWithoutConnection() {
+
+		JdbcTemplate operations = new JdbcTemplate(new DriverManagerDataSource("jdbc:postgresql://localhost:5432/test"));
+
+		assertThat(DialectResolver.getDialect(operations)).isSameAs(PostgresDialect.INSTANCE);
+	}
+
+	@Test
+	void resolvesJdbcUrlOfDelegatingDataSource() {
+
+		JdbcTemplate operations = new JdbcTemplate(
+				new TransactionAwareDataSourceProxy(new DriverManagerDataSource("jdbc:hsqldb:mem:test")));
+
+		assertThat(DialectResolver.getJdbcUrl(operations)).isEqualTo("jdbc:hsqldb:mem:test");
+	}
+
+	@Test
+	void mapsSubprotocolOfJdbcUrl() {
+
+		assertThat(JdbcUrlDialectProvider.getDialect("jdbc:tc:postgresql:13:///test")).isSameAs(PostgresDialect.INSTANCE);
+		assertThat(JdbcUrlDialectProvider.getDialect("jdbc:h2:mem:db2")).isSameAs(JdbcH2Dialect.INSTANCE);
+		assertThat(JdbcUrlDialectProvider.getDialect("jdbc:hsqldb:hsql://localhost/test"))
+				.isSameAs(HsqlDbDialect.INSTANCE);
+		assertThat(JdbcUrlDialectProvider.getDialect("jdbc:unknown://localhost/h2")).isNull();
+	}
+
+	@Test
+	void leavesMySqlToMetadataBasedDetection() {
+		assertThat(JdbcUrlDialectProvider.getDialect("jdbc:mysql://localhost:3306/test")).isNull();
+	}
+
+	@Test
+	void configuredDialectTakesPrecedence() {
+
+		JdbcOperations operations = mock(JdbcOperations.class);
+
+		assertThat(DialectResolver.getDialect(operations, environment(DialectResolver.DIALECT_PROPERTY, "h2")))
+				.isSameAs(JdbcH2Dialect.INSTANCE);
+		verifyNoInteractions(operations);
+	}
+
+	@Test
+	void configuredDialectClassUsesItsInstance() {
+
+		Dialect dialect = DialectResolver.getDialect(mock(JdbcOperations.class),
+				environment(DialectResolver.DIALECT_PROPERTY, PostgresDialect.class.getName()));
+
+		assertThat(dialect).isSameAs(PostgresDialect.INSTANCE);
+	}
+
+	@Test
+	void rejectsUnknownConfiguredDialect() {
+
+		assertThatExceptionOfType(NoDialectException.class).isThrownBy(() -> DialectResolver
+				.getDialect(mock(JdbcOperations.class), environment(DialectResolver.DIALECT_PROPERTY, "unknown")));
+	}
+
+	@Test
+	void writesDetectedDialectToCache() throws IOException {
+
+		Path cache = directory.resolve("dialect.properties");
+		JdbcTemplate operations = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:test"));
+
+		Dialect dialect = DialectResolver.getDialect(operations,
+				environment(DialectResolver.DIALECT_CACHE_PROPERTY, cache.toString()));
+
+		assertThat(dialect).isSameAs(JdbcH2Dialect.INSTANCE);
+		assertThat(load(cache)).containsEntry("url", "jdbc:h2:mem:test") //
+				.containsEntry("dialect", "h2") //
+				.containsEntry("quote-prefix", "\"") //
+				.containsEntry("letter-casing", "UPPER_CASE");
+	}
+
+	@Test
+	void readsDialectFromCacheWithoutConnection() throws IOException {
+
+		Path cache = directory.resolve("dialect.properties");
+		store(cache, "jdbc:mysql://localhost:3306/test", "mysql");
+		JdbcTemplate operations = spy(new JdbcTemplate(new DriverManagerDataSource("jdbc:mysql://localhost:3306/test")));
+
+		Dialect dialect = DialectResolver.getDialect(operations,
+				environment(DialectResolver.DIALECT_CACHE_PROPERTY, cache.toString()));
+
+		assertThat(dialect).isInstanceOf(JdbcMySqlDialect.class);
+		assertThat(dialect.getIdentifierProcessing().quote("aB")).isEqualTo("`aB`");
+		assertThat(dialect.getIdentifierProcessing().standardizeLetterCase("aB")).isEqualTo("aB");
+		verify(operations, never()).execute(any(ConnectionCallback.class));
+	}
+
+	@Test
+	void ignoresCacheOfOtherJdbcUrl() throws IOException {
+
+		Path cache = directory.resolve("dialect.properties");
+		store(cache, "jdbc:postgresql://localhost:5432/test", "postgresql");
+		JdbcTemplate operations = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:test"));
+
+		Dialect dialect = DialectResolver.getDialect(operations,
+				environment(DialectResolver.DIALECT_CACHE_PROPERTY, cache.toString()));
+
+		assertThat(dialect).isSameAs(JdbcH2Dialect.INSTANCE);
+		assertThat(load(cache)).containsEntry("dialect", "h2");
+	}
+
+	private static StandardEnvironment environment(String key, String value) {
+
+		Map<String, Object> properties = new HashMap<>();
+		properties.put(key, value);
+
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+		return environment;
+	}
+
+	private static void store(Path file, String url, String dialect) throws IOException {
+
+		Properties properties = new Properties();
+		properties.setProperty("url", url);
+		properties.setProperty("dialect", dialect);
+		properties.setProperty("quote-prefix", "`");
+		properties.setProperty("quote-suffix", "`");
+		properties.setProperty("letter-casing", "AS_IS");
+
+		try (OutputStream out = Files.newOutputStream(file)) {
+			properties.store(out, null);
+		}
+	}
+
+	private static Properties load(Path file) throws IOException {
+
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(file)) {
+			properties.load(in);
+		}
+		return properties;
+	}
+}
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.*;
 import lombok.AllArgsConstructor;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -42,6 +43,7 @@ import org.springframework.data.relational.core.dialect.H2Dialect;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.Repository;
@@ -168,6 +170,20 @@ public class PartTreeJdbcQueryUnitTests {
 				+ " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
 	}
 
+	@Test
+	public void createsQueryForProjectionOfCollectionIncludingTheId() throws Exception {
+
+		when(returnedType.needsCustomConstruction()).thenReturn(true);
+		when(returnedType.getInputProperties()).thenReturn(Arrays.asList("firstName", "hobbies"));
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }), returnedType);
+
+		assertThat(query.getQuery()).isEqualTo("SELECT " + TABLE + ".\"ID\" AS \"ID\", " + TABLE
+				+ ".\"FIRST_NAME\" AS \"FIRST_NAME\" FROM \"users\"" + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
+	}
+
 	@Test // DATAJDBC-318
 	public void createsQueryWithIsNullCondition() throws Exception {
 
@@ -622,6 +638,28 @@ public class PartTreeJdbcQueryUnitTests {
 				.isEqualTo("SELECT COUNT(*) FROM " + TABLE + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
 	}
 
+	@Test
+	public void createsQueryWithLockForLockAnnotatedMethod() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findTop3LockedByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }), returnedType);
+
+		assertThat(query.getQuery())
+				.isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name LIMIT 3 FOR UPDATE");
+	}
+
+	@Test
+	public void createsCountQueryWithoutLockForLockAnnotatedMethod() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("countLockedByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery((getAccessor(queryMethod, new Object[] { "John" })), returnedType);
+
+		assertThat(query.getQuery())
+				.isEqualTo("SELECT COUNT(*) FROM " + TABLE + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
+	}
+
 	private PartTreeJdbcQuery createQuery(JdbcQueryMethod queryMethod) {
 		return new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
 				mock(NamedParameterJdbcOperations.class), mock(RowMapper.class));
@@ -721,6 +759,12 @@ public class PartTreeJdbcQueryUnitTests {
 		User findByAnotherEmbeddedList(Object list);
 
 		long countByFirstName(String name);
+
+		@Lock(LockMode.PESSIMISTIC_WRITE)
+		List<User> findTop3LockedByFirstName(String firstName);
+
+		@Lock(LockMode.PESSIMISTIC_WRITE)
+		long countLockedByFirstName(String name);
 	}
 
 	@Table("users")
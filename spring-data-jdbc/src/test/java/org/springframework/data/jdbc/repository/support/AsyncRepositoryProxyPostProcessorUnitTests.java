@@ -0,0 +1,196 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.support;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.jdbc.support.ReadWriteRouting;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link AsyncRepositoryProxyPostProcessor}.
+ *
+ * @author agent
+ */
+public class AsyncRepositoryProxyPostProcessorUnitTests {
+
+	AsyncRepositoryProxyPostProcessor postProcessor = new AsyncRepositoryProxyPostProcessor();
+	Executor executor = task -> new Thread(task, "async-test").start();
+
+	@AfterEach
+	public void after() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	public void executesMethodsReturningFuturesUsingExecutor() throws Exception {
+
+		postProcessor.setExecutor(executor);
+
+		DummyRepository repository = createProxy(DummyRepository.class, new DummyRepositoryImpl());
+
+		assertThat(repository.findAsync().get(10, TimeUnit.SECONDS)).isEqualTo("async-test");
+		assertThat(repository.find()).isEqualTo(Thread.currentThread().getName());
+	}
+
+	@Test
+	public void propagatesExceptionsThroughFuture() {
+
+		postProcessor.setExecutor(executor);
+
+		DummyRepository repository = createProxy(DummyRepository.class, new DummyRepositoryImpl());
+
+		assertThatThrownBy(() -> repository.failAsync().get(10, TimeUnit.SECONDS))
+				.hasRootCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void propagatesReadsFromPrimaryToExecutor() throws Exception {
+
+		postProcessor.setExecutor(executor);
+
+		DummyRepository repository = createProxy(DummyRepository.class, new DummyRepositoryImpl());
+
+		CompletableFuture<Boolean> pinned = ReadWriteRouting.readFromPrimary(repository::readsFromPrimaryAsync);
+
+		assertThat(pinned.get(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(repository.readsFromPrimaryAsync().get(10, TimeUnit.SECONDS)).isFalse();
+	}
+
+	@Test
+	public void readsFromPrimaryInReadWriteTransaction() throws Exception {
+
+		postProcessor.setExecutor(executor);
+
+		DummyRepository repository = createProxy(DummyRepository.class, new DummyRepositoryImpl());
+
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		assertThat(repository.readsFromPrimaryAsync().get(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void readsFromPrimaryAfterWriteInSameSynchronizationScope() throws Exception {
+
+		postProcessor.setExecutor(executor);
+
+		DummyRepository repository = createProxy(DummyRepository.class, new DummyRepositoryImpl());
+		NamedParameterJdbcOperations operations = ReadWriteRouting.createOperations(
+				mock(NamedParameterJdbcOperations.class), mock(NamedParameterJdbcOperations.class));
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		assertThat(repository.readsFromPrimaryAsync().get(10, TimeUnit.SECONDS)).isFalse();
+
+		operations.update("update", emptyMap());
+
+		assertThat(repository.readsFromPrimaryAsync().get(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void doesNotAdviseRepositoriesWithoutAsyncMethods() {
+
+		postProcessor.setExecutor(executor);
+
+		ProxyFactory factory = new ProxyFactory(new Object());
+		postProcessor.postProcess(factory, information(Runnable.class));
+
+		assertThat(factory.getAdvisors()).isEmpty();
+	}
+
+	@Test
+	public void executesMethodsReturningFuturesOnCallingThreadWithoutExecutor() throws Exception {
+
+		DummyRepository repository = createProxy(DummyRepository.class, new DummyRepositoryImpl());
+
+		assertThat(repository.findAsync().get(10, TimeUnit.SECONDS)).isEqualTo(Thread.currentThread().getName());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T createProxy(Class<T> repositoryInterface, T target) {
+
+		ProxyFactory factory = new ProxyFactory(target);
+		factory.addInterface(repositoryInterface);
+
+		postProcessor.postProcess(factory, information(repositoryInterface));
+
+		return (T) factory.getProxy();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static RepositoryInformation information(Class<?> repositoryInterface) {
+
+		RepositoryInformation information = mock(RepositoryInformation.class);
+		when(information.getRepositoryInterface()).thenReturn((Class) repositoryInterface);
+		return information;
+	}
+
+	interface DummyRepository {
+
+		CompletableFuture<String> findAsync();
+
+		CompletableFuture<String> failAsync();
+
+		CompletableFuture<Boolean> readsFromPrimaryAsync();
+
+		String find();
+	}
+
+	static class DummyRepositoryImpl implements DummyRepository {
+
+		@Override
+		public CompletableFuture<String> findAsync() {
+			return CompletableFuture.completedFuture(Thread.currentThread().getName());
+		}
+
+		@Override
+		public CompletableFuture<String> failAsync() {
+			throw new IllegalStateException("failed");
+		}
+
+		@Override
+		public CompletableFuture<Boolean> readsFromPrimaryAsync() {
+			return CompletableFuture.completedFuture(ReadWriteRouting.isReadFromPrimary());
+		}
+
+		@Override
+		public String find() {
+			return Thread.currentThread().getName();
+		}
+	}
+}
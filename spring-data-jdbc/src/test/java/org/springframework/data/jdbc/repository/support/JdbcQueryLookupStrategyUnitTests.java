@@ -15,16 +15,20 @@
  */
 package org.springframework.data.jdbc.repository.support;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.text.NumberFormat;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
 import org.springframework.data.jdbc.repository.config.DefaultQueryMappingConfiguration;
@@ -33,6 +37,7 @@ import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.relational.core.dialect.H2Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.event.AfterLoadCallback;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.RepositoryQuery;
@@ -88,10 +93,49 @@ public class JdbcQueryLookupStrategyUnitTests {
 		verify(operations).queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
 	}
 
+	@Test
+	public void skipsAfterLoadCallbacksOfQueryMethodsIfContextHasNone() throws SQLException {
+
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+
+			context.refresh();
+
+			Object mapped = createPostProcessingRowMapper(context, true).mapRow(mock(ResultSet.class), 1);
+
+			assertThat(mapped).isEqualTo("entity");
+			verifyNoInteractions(callbacks);
+		}
+	}
+
+	@Test
+	public void invokesAfterLoadCallbacksOfQueryMethodsNotObtainedFromContext() throws SQLException {
+
+		when(callbacks.callback(AfterLoadCallback.class, "entity")).thenReturn("callback result");
+
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+
+			context.refresh();
+
+			Object mapped = createPostProcessingRowMapper(context, false).mapRow(mock(ResultSet.class), 1);
+
+			assertThat(mapped).isEqualTo("callback result");
+		}
+	}
+
+	private RowMapper<Object> createPostProcessingRowMapper(ApplicationEventPublisher publisher,
+			boolean callbacksFromContext) {
+
+		JdbcQueryLookupStrategy queryLookupStrategy = new JdbcQueryLookupStrategy(publisher, callbacks,
+				callbacksFromContext, mappingContext, converter, H2Dialect.INSTANCE, QueryMappingConfiguration.EMPTY,
+				operations, null);
+
+		return queryLookupStrategy.new PostProcessingRowMapper<>((rs, rowNum) -> "entity");
+	}
+
 	private RepositoryQuery getRepositoryQuery(String name, QueryMappingConfiguration mappingConfiguration) {
 
-		JdbcQueryLookupStrategy queryLookupStrategy = new JdbcQueryLookupStrategy(publisher, callbacks, mappingContext,
-				converter, H2Dialect.INSTANCE, mappingConfiguration, operations, null);
+		JdbcQueryLookupStrategy queryLookupStrategy = new JdbcQueryLookupStrategy(publisher, callbacks, false,
+				mappingContext, converter, H2Dialect.INSTANCE, mappingConfiguration, operations, null);
 
 		Method method = ReflectionUtils.findMethod(MyRepository.class, name);
 		return queryLookupStrategy.resolveQuery(method, metadata, projectionFactory, namedQueries);
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.jdbc.repository.query.Lock;
+import org.springframework.data.jdbc.repository.query.ReadFromPrimary;
+import org.springframework.data.jdbc.support.ReadWriteRouting;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.repository.core.RepositoryInformation;
+
+/**
+ * Unit tests for {@link ReadFromPrimaryRepositoryProxyPostProcessor}.
+ *
+ * @author agent
+ */
+public class ReadFromPrimaryRepositoryProxyPostProcessorUnitTests {
+
+	ReadFromPrimaryRepositoryProxyPostProcessor postProcessor = new ReadFromPrimaryRepositoryProxyPostProcessor();
+
+	@Test
+	public void pinsReadsOfAnnotatedMethodsToPrimary() {
+
+		DummyRepository repository = createProxy(DummyRepository.class, new DummyRepositoryImpl());
+
+		assertThat(repository.annotated()).isTrue();
+		assertThat(repository.locked()).isTrue();
+		assertThat(repository.notAnnotated()).isFalse();
+		assertThat(ReadWriteRouting.isReadFromPrimary()).isFalse();
+	}
+
+	@Test
+	public void pinsReadsOfAllMethodsOfAnnotatedRepositoryToPrimary() {
+
+		PrimaryRepository repository = createProxy(PrimaryRepository.class, () -> ReadWriteRouting.isReadFromPrimary());
+
+		assertThat(repository.notAnnotated()).isTrue();
+	}
+
+	@Test
+	public void doesNotAdviseRepositoriesWithoutAnnotations() {
+
+		ProxyFactory factory = new ProxyFactory(new Object());
+		postProcessor.postProcess(factory, information(Runnable.class));
+
+		assertThat(factory.getAdvisors()).isEmpty();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T createProxy(Class<T> repositoryInterface, T target) {
+
+		ProxyFactory factory = new ProxyFactory(target);
+		factory.addInterface(repositoryInterface);
+
+		postProcessor.postProcess(factory, information(repositoryInterface));
+
+		return (T) factory.getProxy();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static RepositoryInformation information(Class<?> repositoryInterface) {
+
+		RepositoryInformation information = mock(RepositoryInformation.class);
+		when(information.getRepositoryInterface()).thenReturn((Class) repositoryInterface);
+		return information;
+	}
+
+	interface DummyRepository {
+
+		@ReadFromPrimary
+		boolean annotated();
+
+		@Lock(LockMode.PESSIMISTIC_WRITE)
+		boolean locked();
+
+		boolean notAnnotated();
+	}
+
+	static class DummyRepositoryImpl implements DummyRepository {
+
+		@Override
+		public boolean annotated() {
+			return ReadWriteRouting.isReadFromPrimary();
+		}
+
+		@Override
+		public boolean locked() {
+			return ReadWriteRouting.isReadFromPrimary();
+		}
+
+		@Override
+		public boolean notAnnotated() {
+			return ReadWriteRouting.isReadFromPrimary();
+		}
+	}
+
+	@ReadFromPrimary
+	interface PrimaryRepository {
+
+		boolean notAnnotated();
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.support;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link ReadWriteRouting}.
+ *
+ * @author agent
+ */
+public class ReadWriteRoutingUnitTests {
+
+	NamedParameterJdbcOperations primary = mock(NamedParameterJdbcOperations.class);
+	NamedParameterJdbcOperations replica = mock(NamedParameterJdbcOperations.class);
+	JdbcOperations primaryJdbcOperations = mock(JdbcOperations.class);
+	JdbcOperations replicaJdbcOperations = mock(JdbcOperations.class);
+
+	NamedParameterJdbcOperations operations;
+
+	@BeforeEach
+	public void before() {
+
+		when(primary.getJdbcOperations()).thenReturn(primaryJdbcOperations);
+		when(replica.getJdbcOperations()).thenReturn(replicaJdbcOperations);
+
+		operations = ReadWriteRouting.createOperations(primary, replica);
+	}
+
+	@AfterEach
+	public void after() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	public void readsUseReplicaOutsideOfTransactions() {
+
+		operations.queryForList("select", emptyMap());
+
+		verify(replica).queryForList("select", emptyMap());
+		verify(primary, never()).queryForList(anyString(), anyMap());
+	}
+
+	@Test
+	public void writesUsePrimary() {
+
+		operations.update("update", emptyMap());
+
+		verify(primary).update("update", emptyMap());
+		verify(replica, never()).update(anyString(), anyMap());
+	}
+
+	@Test
+	public void readsUsePrimaryInReadWriteTransaction() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		operations.queryForList("select", emptyMap());
+
+		verify(primary).queryForList("select", emptyMap());
+	}
+
+	@Test
+	public void readsUseReplicaInReadOnlyTransaction() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		operations.queryForList("select", emptyMap());
+
+		verify(replica).queryForList("select", emptyMap());
+	}
+
+	@Test
+	public void readsUsePrimaryAfterWriteUntilCompletion() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		operations.update("update", emptyMap());
+		operations.queryForList("select", emptyMap());
+
+		verify(primary).queryForList("select", emptyMap());
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+		operations.queryForList("select", emptyMap());
+
+		verify(replica).queryForList("select", emptyMap());
+	}
+
+	@Test
+	public void writesOnlyAffectReadsOfTheirRouting() {
+
+		NamedParameterJdbcOperations otherReplica = mock(NamedParameterJdbcOperations.class);
+		when(otherReplica.getJdbcOperations()).thenReturn(replicaJdbcOperations);
+		NamedParameterJdbcOperations other = ReadWriteRouting.createOperations(primary, otherReplica);
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		operations.update("update", emptyMap());
+		other.queryForList("select", emptyMap());
+
+		verify(otherReplica).queryForList("select", emptyMap());
+	}
+
+	@Test
+	public void primaryIsRequiredWhenPinnedInReadWriteTransactionOrAfterWrite() {
+
+		assertThat(ReadWriteRouting.isPrimaryRequired()).isFalse();
+		assertThat(ReadWriteRouting.readFromPrimary(ReadWriteRouting::isPrimaryRequired)).isTrue();
+
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertThat(ReadWriteRouting.isPrimaryRequired()).isFalse();
+
+		operations.update("update", emptyMap());
+
+		assertThat(ReadWriteRouting.isPrimaryRequired()).isTrue();
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+		assertThat(ReadWriteRouting.isPrimaryRequired()).isTrue();
+	}
+
+	@Test
+	public void pinnedReadsUsePrimary() {
+
+		ReadWriteRouting.readFromPrimary(() -> operations.queryForList("select", emptyMap()));
+
+		verify(primary).queryForList("select", emptyMap());
+		assertThat(ReadWriteRouting.isReadFromPrimary()).isFalse();
+	}
+
+	@Test
+	public void jdbcOperationsRouteTheSameWay() {
+
+		operations.getJdbcOperations().queryForList("select");
+		operations.getJdbcOperations().update("update");
+
+		verify(replicaJdbcOperations).queryForList("select");
+		verify(primaryJdbcOperations).update("update");
+	}
+
+	@Test
+	public void propagatesExceptionsOfTarget() {
+
+		when(replica.queryForList(anyString(), anyMap())).thenThrow(new IllegalStateException("failed"));
+
+		assertThatIllegalStateException().isThrownBy(() -> operations.queryForList("select", emptyMap()));
+	}
+}
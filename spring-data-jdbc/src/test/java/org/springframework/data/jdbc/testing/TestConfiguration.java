@@ -140,7 +140,7 @@ public class TestConfiguration {
 				mappingContext, //
 				relationResolver, //
 				conversions, //
-				new DefaultJdbcTypeFactory(template.getJdbcOperations()), //
+				new DefaultJdbcTypeFactory(template.getJdbcOperations(), dialect.getArraySupport()), //
 				dialect.getIdentifierProcessing());
 	}
 
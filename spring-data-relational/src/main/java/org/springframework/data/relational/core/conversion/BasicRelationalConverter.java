@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.conversion;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -43,6 +44,7 @@ import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * {@link RelationalConverter} that uses a {@link MappingContext} to apply basic conversion of relational values to
@@ -63,6 +65,10 @@ public class BasicRelationalConverter implements RelationalConverter {
 	private final EntityInstantiators entityInstantiators;
 	private final CustomConversions conversions;
 
+	private final Map<ConversionKey, Function<Object, Object>> readConversions = new ConcurrentReferenceHashMap<>();
+	private final Map<ConversionKey, Function<Object, Object>> writeConversions = new ConcurrentReferenceHashMap<>();
+	private final Map<Class<?>, Function<Object, Object>> simpleWriteConversions = new ConcurrentReferenceHashMap<>();
+
 	/**
 	 * Creates a new {@link BasicRelationalConverter} given {@link MappingContext}.
 	 *
@@ -160,15 +166,8 @@ public class BasicRelationalConverter implements RelationalConverter {
 			return null;
 		}
 
-		if (getConversions().hasCustomReadTarget(value.getClass(), type.getType())) {
-
-			TypeDescriptor sourceDescriptor = TypeDescriptor.valueOf(value.getClass());
-			TypeDescriptor targetDescriptor = createTypeDescriptor(type);
-
-			return getConversionService().convert(value, sourceDescriptor, targetDescriptor);
-		}
-
-		return getPotentiallyConvertedSimpleRead(value, type.getType());
+		return readConversions.computeIfAbsent(new ConversionKey(value.getClass(), type), this::createReadConversion)
+				.apply(value);
 	}
 
 	/*
@@ -183,74 +182,118 @@ public class BasicRelationalConverter implements RelationalConverter {
 			return null;
 		}
 
-		if (getConversions().isSimpleType(value.getClass())) {
+		return writeConversions.computeIfAbsent(new ConversionKey(value.getClass(), type), this::createWriteConversion)
+				.apply(value);
+	}
+
+	@Override
+	public EntityInstantiators getEntityInstantiators() {
+		return this.entityInstantiators;
+	}
+
+	/**
+	 * Resolves how values of the given source type get converted when read into a property of the given type. Checks
+	 * whether we have a custom conversion for the source type, applies {@link Enum} handling or returns values as they
+	 * are when they are assignable to the target type.
+	 *
+	 * @param key the source and target type of the conversion. Must not be {@code null}.
+	 * @return the conversion to apply to non-{@code null} values. Guaranteed to be not {@code null}.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private Function<Object, Object> createReadConversion(ConversionKey key) {
+
+		Class<?> sourceType = key.sourceType;
+		Class<?> target = key.targetType.getType();
+
+		if (getConversions().hasCustomReadTarget(sourceType, target)) {
 
-			if (ClassTypeInformation.OBJECT != type) {
+			TypeDescriptor sourceDescriptor = TypeDescriptor.valueOf(sourceType);
+			TypeDescriptor targetDescriptor = createTypeDescriptor(key.targetType);
 
-				if (conversionService.canConvert(value.getClass(), type.getType())) {
-					value = conversionService.convert(value, type.getType());
-				}
+			return value -> getConversionService().convert(value, sourceDescriptor, targetDescriptor);
+		}
+
+		if (ClassUtils.isAssignable(target, sourceType)) {
+			return Function.identity();
+		}
+
+		if (Enum.class.isAssignableFrom(target)) {
+			return value -> Enum.valueOf((Class<Enum>) target, value.toString());
+		}
+
+		return value -> conversionService.convert(value, target);
+	}
+
+	/**
+	 * Resolves how values of the given source type get converted when written for a property of the given type. Simple
+	 * types get converted into the target type if possible and are then subject to custom conversions and {@link Enum}
+	 * handling. Entities get replaced by their id.
+	 *
+	 * @param key the source and target type of the conversion. Must not be {@code null}.
+	 * @return the conversion to apply to non-{@code null} values. Guaranteed to be not {@code null}.
+	 */
+	private Function<Object, Object> createWriteConversion(ConversionKey key) {
+
+		Class<?> sourceType = key.sourceType;
+		Class<?> target = key.targetType.getType();
+
+		if (getConversions().isSimpleType(sourceType)) {
+
+			if (ClassTypeInformation.OBJECT != key.targetType && target != sourceType
+					&& conversionService.canConvert(sourceType, target)) {
+				return value -> getPotentiallyConvertedSimpleWrite(conversionService.convert(value, target));
 			}
 
-			return getPotentiallyConvertedSimpleWrite(value);
+			return simpleWriteConversions.computeIfAbsent(sourceType, this::createSimpleWriteConversion);
 		}
 
-		RelationalPersistentEntity<?> persistentEntity = context.getPersistentEntity(value.getClass());
+		RelationalPersistentEntity<?> persistentEntity = context.getPersistentEntity(sourceType);
 
 		if (persistentEntity != null) {
 
-			Object id = persistentEntity.getIdentifierAccessor(value).getIdentifier();
-			return writeValue(id, type);
+			TypeInformation<?> type = key.targetType;
+			return value -> writeValue(persistentEntity.getIdentifierAccessor(value).getIdentifier(), type);
 		}
 
-		return conversionService.convert(value, type.getType());
-	}
-
-	@Override
-	public EntityInstantiators getEntityInstantiators() {
-		return this.entityInstantiators;
+		return value -> conversionService.convert(value, target);
 	}
 
 	/**
-	 * Checks whether we have a custom conversion registered for the given value into an arbitrary simple JDBC type.
-	 * Returns the converted value if so. If not, we perform special enum handling or simply return the value as is.
+	 * Checks whether we have a custom conversion registered for the given type into an arbitrary simple JDBC type.
+	 * Returns a conversion applying it if so. If not, we perform special enum handling or simply return values as they
+	 * are.
 	 *
-	 * @param value to be converted. Must not be {@code null}.
-	 * @return the converted value if a conversion applies or the original value. Might return {@code null}.
+	 * @param sourceType the type of the values to be converted. Must not be {@code null}.
+	 * @return the conversion to apply to non-{@code null} values. Guaranteed to be not {@code null}.
 	 */
-	@Nullable
-	private Object getPotentiallyConvertedSimpleWrite(Object value) {
+	private Function<Object, Object> createSimpleWriteConversion(Class<?> sourceType) {
 
-		Optional<Class<?>> customTarget = conversions.getCustomWriteTarget(value.getClass());
+		Optional<Class<?>> customTarget = conversions.getCustomWriteTarget(sourceType);
 
 		if (customTarget.isPresent()) {
-			return conversionService.convert(value, customTarget.get());
+
+			Class<?> target = customTarget.get();
+			return value -> conversionService.convert(value, target);
 		}
 
-		return Enum.class.isAssignableFrom(value.getClass()) ? ((Enum<?>) value).name() : value;
+		return Enum.class.isAssignableFrom(sourceType) ? value -> ((Enum<?>) value).name() : Function.identity();
 	}
 
 	/**
-	 * Checks whether we have a custom conversion for the given simple object. Converts the given value if so, applies
-	 * {@link Enum} handling or returns the value as is.
+	 * Checks whether we have a custom conversion registered for the given value into an arbitrary simple JDBC type.
+	 * Returns the converted value if so. If not, we perform special enum handling or simply return the value as is.
 	 *
-	 * @param value to be converted. May be {@code null}..
-	 * @param target may be {@code null}..
+	 * @param value to be converted. May be {@code null}.
 	 * @return the converted value if a conversion applies or the original value. Might return {@code null}.
 	 */
 	@Nullable
-	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private Object getPotentiallyConvertedSimpleRead(@Nullable Object value, @Nullable Class<?> target) {
-
-		if (value == null || target == null || ClassUtils.isAssignableValue(target, value)) {
-			return value;
-		}
+	private Object getPotentiallyConvertedSimpleWrite(@Nullable Object value) {
 
-		if (Enum.class.isAssignableFrom(target)) {
-			return Enum.valueOf((Class<Enum>) target, value.toString());
+		if (value == null) {
+			return null;
 		}
 
-		return conversionService.convert(value, target);
+		return simpleWriteConversions.computeIfAbsent(value.getClass(), this::createSimpleWriteConversion).apply(value);
 	}
 
 	protected static TypeDescriptor createTypeDescriptor(TypeInformation<?> type) {
@@ -291,4 +334,40 @@ public class BasicRelationalConverter implements RelationalConverter {
 			return (T) readValue(delegate.apply(parameter), parameter.getType());
 		}
 	}
+
+	/**
+	 * Cache key for conversions resolved for a runtime value type and the type to convert into.
+	 */
+	private static final class ConversionKey {
+
+		private final Class<?> sourceType;
+		private final TypeInformation<?> targetType;
+		private final int hashCode;
+
+		ConversionKey(Class<?> sourceType, TypeInformation<?> targetType) {
+
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+			this.hashCode = 31 * sourceType.hashCode() + targetType.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof ConversionKey)) {
+				return false;
+			}
+
+			ConversionKey that = (ConversionKey) o;
+			return sourceType == that.sourceType && targetType.equals(that.targetType);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
 }
@@ -98,6 +98,30 @@ public abstract class AbstractDialect implements Dialect {
 		return afterOrderByLock.andThen(PrependWithLeadingWhitespace.INSTANCE);
 	}
 
+	/**
+	 * Returns the {@code SKIP LOCKED} or {@code NOWAIT} suffix of a lock clause for databases supporting the common syntax
+	 * of these.
+	 */
+	static String getWaitPolicy(LockMode lockMode) {
+
+		if (lockMode.isSkipLocked()) {
+			return " SKIP LOCKED";
+		}
+
+		return lockMode.isNoWait() ? " NOWAIT" : "";
+	}
+
+	/**
+	 * Rejects lock modes that skip locked rows or don't wait for locks, for lock clauses not supporting these.
+	 */
+	static void assertWaitingLockMode(LockMode lockMode) {
+
+		if (lockMode.isSkipLocked() || lockMode.isNoWait()) {
+			throw new UnsupportedOperationException(
+					String.format("Lock mode %s is not supported by this dialect", lockMode));
+		}
+	}
+
 	/**
 	 * {@link SelectRenderContext} derived from {@link Dialect} specifics.
 	 */
@@ -83,6 +83,9 @@ public class AnsiDialect extends AbstractDialect {
 		 */
 		@Override
 		public String getLock(LockOptions lockOptions) {
+
+			assertWaitingLockMode(lockOptions.getLockMode());
+
 			return "FOR UPDATE";
 		}
 
@@ -41,6 +41,18 @@ public interface ArrayColumns {
 	 */
 	Class<?> getArrayType(Class<?> userType);
 
+	/**
+	 * Returns {@literal true} if values of the given primitive array type (e.g. {@code int[]}) can be passed to the JDBC
+	 * driver as they are for array-typed columns, without converting them into an array of boxed elements first.
+	 *
+	 * @param arrayType the primitive array type. Must not be {@literal null}.
+	 * @return {@literal true} if the driver binds the primitive array itself. {@literal false} by default.
+	 * @since 2.3
+	 */
+	default boolean isPrimitiveArraySupported(Class<?> arrayType) {
+		return false;
+	}
+
 	/**
 	 * Default {@link ArrayColumns} implementation for dialects that do not support array-typed columns.
 	 */
@@ -95,6 +95,9 @@ public class Db2Dialect extends AbstractDialect {
 
 			@Override
 			public String getLock(LockOptions lockOptions) {
+
+				assertWaitingLockMode(lockOptions.getLockMode());
+
 				return "FOR UPDATE WITH RS USE AND KEEP EXCLUSIVE LOCKS";
 			}
 
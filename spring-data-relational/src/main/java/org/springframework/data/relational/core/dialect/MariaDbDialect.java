@@ -19,6 +19,8 @@ import java.util.Collection;
 import java.util.Collections;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockOptions;
 
 /**
  * A SQL dialect for MariaDb.
@@ -28,10 +30,61 @@ import org.springframework.data.relational.core.sql.IdentifierProcessing;
  */
 public class MariaDbDialect extends MySqlDialect {
 
+	private static final LockClause LOCK_CLAUSE = new LockClause() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.LockClause#getLock(LockOptions)
+		 */
+		@Override
+		public String getLock(LockOptions lockOptions) {
+
+			LockMode lockMode = lockOptions.getLockMode();
+
+			// MariaDB doesn't support FOR SHARE and supports SKIP LOCKED only as of 10.6.
+			if (lockMode.isSkipLocked()) {
+				throw new UnsupportedOperationException(
+						String.format("Lock mode %s is not supported by this dialect", lockMode));
+			}
+
+			String waitPolicy = lockMode.isNoWait() ? " NOWAIT" : "";
+
+			switch (lockMode.getBaseMode()) {
+
+				case PESSIMISTIC_WRITE:
+					return "FOR UPDATE" + waitPolicy;
+
+				case PESSIMISTIC_READ:
+					return "LOCK IN SHARE MODE" + waitPolicy;
+
+				default:
+					return "";
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.LockClause#getClausePosition()
+		 */
+		@Override
+		public Position getClausePosition() {
+			return Position.AFTER_ORDER_BY;
+		}
+	};
+
 	public MariaDbDialect(IdentifierProcessing identifierProcessing) {
 		super(identifierProcessing);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.MySqlDialect#lock()
+	 */
+	@Override
+	public LockClause lock() {
+		return LOCK_CLAUSE;
+	}
+
 	@Override
 	public Collection<Object> getConverters() {
 		return Collections.singletonList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE);
@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.Collections;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.LetterCasing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.Quoting;
@@ -115,13 +116,18 @@ public class MySqlDialect extends AbstractDialect {
 		 */
 		@Override
 		public String getLock(LockOptions lockOptions) {
-			switch (lockOptions.getLockMode()) {
+			LockMode lockMode = lockOptions.getLockMode();
+
+			switch (lockMode.getBaseMode()) {
 
 				case PESSIMISTIC_WRITE:
-					return "FOR UPDATE";
+					return "FOR UPDATE" + getWaitPolicy(lockMode);
 
 				case PESSIMISTIC_READ:
-					return "LOCK IN SHARE MODE";
+					// LOCK IN SHARE MODE doesn't support SKIP LOCKED and NOWAIT, FOR SHARE does.
+					return lockMode == LockMode.PESSIMISTIC_READ //
+							? "LOCK IN SHARE MODE" //
+							: "FOR SHARE" + getWaitPolicy(lockMode);
 
 				default:
 					return "";
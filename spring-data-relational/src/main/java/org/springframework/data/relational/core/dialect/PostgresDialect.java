@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
@@ -151,13 +152,15 @@ public class PostgresDialect extends AbstractDialect {
 			// without schema
 			String tableName = last.toSql(this.identifierProcessing);
 
-			switch (lockOptions.getLockMode()) {
+			LockMode lockMode = lockOptions.getLockMode();
+
+			switch (lockMode.getBaseMode()) {
 
 				case PESSIMISTIC_WRITE:
-					return "FOR UPDATE OF " + tableName;
+					return "FOR UPDATE OF " + tableName + getWaitPolicy(lockMode);
 
 				case PESSIMISTIC_READ:
-					return "FOR SHARE OF " + tableName;
+					return "FOR SHARE OF " + tableName + getWaitPolicy(lockMode);
 
 				default:
 					return "";
@@ -196,6 +199,15 @@ public class PostgresDialect extends AbstractDialect {
 
 			return ClassUtils.resolvePrimitiveIfNecessary(userType);
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.ArrayColumns#isPrimitiveArraySupported(java.lang.Class)
+		 */
+		@Override
+		public boolean isPrimitiveArraySupported(Class<?> arrayType) {
+			return arrayType == int[].class || arrayType == long[].class || arrayType == double[].class;
+		}
 	}
 
 	@Override
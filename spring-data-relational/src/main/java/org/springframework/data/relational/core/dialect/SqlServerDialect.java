@@ -89,9 +89,22 @@ public class SqlServerDialect extends AbstractDialect {
 				case PESSIMISTIC_WRITE:
 					return "WITH (UPDLOCK, ROWLOCK)";
 
+				case PESSIMISTIC_WRITE_SKIP_LOCKED:
+					return "WITH (UPDLOCK, ROWLOCK, READPAST)";
+
+				case PESSIMISTIC_WRITE_NOWAIT:
+					return "WITH (UPDLOCK, ROWLOCK, NOWAIT)";
+
 				case PESSIMISTIC_READ:
 					return "WITH (HOLDLOCK, ROWLOCK)";
 
+				case PESSIMISTIC_READ_SKIP_LOCKED:
+					// READPAST can't be combined with HOLDLOCK
+					return "WITH (REPEATABLEREAD, ROWLOCK, READPAST)";
+
+				case PESSIMISTIC_READ_NOWAIT:
+					return "WITH (HOLDLOCK, ROWLOCK, NOWAIT)";
+
 				default:
 					return "";
 			}
@@ -46,6 +46,7 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 	private final Lazy<SqlIdentifier> collectionKeyColumnName;
 	private final Lazy<Boolean> isEmbedded;
 	private final Lazy<String> embeddedPrefix;
+	private final Lazy<Boolean> isLazyLoaded;
 	private final NamingStrategy namingStrategy;
 	private boolean forceQuote = true;
 
@@ -108,6 +109,10 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 				.filter(StringUtils::hasText).findFirst() //
 				.map(this::createSqlIdentifier) //
 				.orElseGet(() -> createDerivedSqlIdentifier(namingStrategy.getKeyColumn(this))));
+
+		this.isLazyLoaded = Lazy.of(() -> (isMap() || (isCollectionLike() && isEntity())) //
+				&& (Optional.ofNullable(findAnnotation(MappedCollection.class)).map(MappedCollection::lazy).orElse(false) //
+						|| getOwner().isAnnotationPresent(LazyLoading.class)));
 	}
 
 	private SqlIdentifier createSqlIdentifier(String name) {
@@ -248,6 +253,15 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 		return findAnnotation != null && OnEmpty.USE_EMPTY.equals(findAnnotation.onEmpty());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.mapping.RelationalPersistentProperty#isLazyLoaded()
+	 */
+	@Override
+	public boolean isLazyLoaded() {
+		return isLazyLoaded.get();
+	}
+
 	private boolean isListLike() {
 		return isCollectionLike() && !Set.class.isAssignableFrom(this.getType());
 	}
@@ -34,12 +34,16 @@ class DerivedSqlIdentifier implements SqlIdentifier {
 
 	private final String name;
 	private final boolean quoted;
+	private final String canonical;
+	private final int hash;
 
 	DerivedSqlIdentifier(String name, boolean quoted) {
 
 		Assert.hasText(name, "A database object must have at least on name part.");
 		this.name = name;
 		this.quoted = quoted;
+		this.canonical = quoted ? toSql(IdentifierProcessing.ANSI) : name;
+		this.hash = canonical.hashCode();
 	}
 
 	/*
@@ -95,8 +99,14 @@ class DerivedSqlIdentifier implements SqlIdentifier {
 			return true;
 		}
 
+		if (o instanceof DerivedSqlIdentifier) {
+
+			DerivedSqlIdentifier that = (DerivedSqlIdentifier) o;
+			return hash == that.hash && canonical.equals(that.canonical);
+		}
+
 		if (o instanceof SqlIdentifier) {
-			return toString().equals(o.toString());
+			return canonical.equals(o.toString());
 		}
 
 		return false;
@@ -108,7 +118,7 @@ class DerivedSqlIdentifier implements SqlIdentifier {
 	 */
 	@Override
 	public int hashCode() {
-		return toString().hashCode();
+		return hash;
 	}
 
 	/*
@@ -117,6 +127,6 @@ class DerivedSqlIdentifier implements SqlIdentifier {
 	 */
 	@Override
 	public String toString() {
-		return quoted ? toSql(IdentifierProcessing.ANSI) : this.name;
+		return canonical;
 	}
 }
@@ -51,4 +51,14 @@ public @interface MappedCollection {
 	 * @see NamingStrategy#getKeyColumn(RelationalPersistentProperty)
 	 */
 	String keyColumn() default "";
+
+	/**
+	 * Whether the referenced entities get loaded lazily on first access of the property instead of when the owning
+	 * entity gets loaded. Only applies to properties of type {@link java.util.Collection}, {@link List}, {@link Set} or
+	 * {@link Map}.
+	 *
+	 * @since 2.3
+	 * @see LazyLoading
+	 */
+	boolean lazy() default false;
 }
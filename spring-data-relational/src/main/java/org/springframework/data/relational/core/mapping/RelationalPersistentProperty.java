@@ -84,4 +84,16 @@ public interface RelationalPersistentProperty extends PersistentProperty<Relatio
 	 * @return
 	 */
 	boolean shouldCreateEmptyEmbedded();
+
+	/**
+	 * Returns whether the entities referenced by this property are supposed to be loaded lazily on first access.
+	 *
+	 * @return {@literal true} if the property is a collection or map of entities configured for lazy loading.
+	 * @since 2.3
+	 * @see MappedCollection#lazy()
+	 * @see LazyLoading
+	 */
+	default boolean isLazyLoaded() {
+		return false;
+	}
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Gets published once for all entities loaded by a single operation returning multiple aggregates, after the
+ * {@link AfterLoadEvent}s and {@link AfterLoadCallback}s for the individual entities. This allows listeners to process
+ * a whole result in one dispatch instead of handling each entity separately.
+ *
+ * @author agent
+ * @since 2.3
+ */
+public class AfterLoadBatchEvent<E> extends AbstractRelationalEvent<E> {
+
+	private static final long serialVersionUID = -2542532463419340158L;
+
+	private final Class<E> type;
+	private final List<E> entities;
+
+	/**
+	 * @param type the type of the loaded entities. Must not be {@literal null}.
+	 * @param entities the loaded entities. Must not be {@literal null}.
+	 */
+	public AfterLoadBatchEvent(Class<E> type, List<E> entities) {
+
+		super(entities);
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(entities, "Entities must not be null!");
+
+		this.type = type;
+		this.entities = Collections.unmodifiableList(entities);
+	}
+
+	/**
+	 * @return the loaded entities. Guaranteed to be not {@literal null}.
+	 */
+	public List<E> getEntities() {
+		return entities;
+	}
+
+	/**
+	 * @return always {@literal null} since this event refers to multiple entities. Use {@link #getEntities()} instead.
+	 */
+	@Nullable
+	@Override
+	public E getEntity() {
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.mapping.event.RelationalEvent#getType()
+	 */
+	@Override
+	public Class<E> getType() {
+		return type;
+	}
+}
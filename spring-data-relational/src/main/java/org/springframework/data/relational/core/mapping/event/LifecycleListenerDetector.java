@@ -0,0 +1,214 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.mapping.callback.EntityCallback;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Detects whether an {@link ApplicationContext} contains any {@link ApplicationListener} for a given event type or any
+ * {@link EntityCallback} bean of a given callback type, so that publishing events and invoking callbacks nobody
+ * receives can be skipped.
+ * <p>
+ * Results are cached per type. The cache is discarded whenever the number of listeners or bean definitions of the
+ * context or one of its parents changes, and it can be discarded explicitly using {@link #refresh()}. If the
+ * {@link ApplicationEventPublisher} isn't an {@link AbstractApplicationContext} listeners can't be inspected and the
+ * detector reports listeners and callbacks to be present.
+ *
+ * @author agent
+ * @since 2.3
+ */
+public class LifecycleListenerDetector {
+
+	private final @Nullable AbstractApplicationContext context;
+
+	private final Map<Class<?>, Boolean> listeners = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Boolean> callbacks = new ConcurrentHashMap<>();
+
+	private volatile long signature;
+
+	private LifecycleListenerDetector(@Nullable AbstractApplicationContext context) {
+
+		this.context = context;
+		this.signature = computeSignature();
+	}
+
+	/**
+	 * Creates a {@link LifecycleListenerDetector} for the given {@link ApplicationEventPublisher}.
+	 *
+	 * @param publisher must not be {@literal null}.
+	 * @return a new {@link LifecycleListenerDetector}. Guaranteed to be not {@literal null}.
+	 */
+	public static LifecycleListenerDetector create(ApplicationEventPublisher publisher) {
+
+		Assert.notNull(publisher, "ApplicationEventPublisher must not be null!");
+
+		return new LifecycleListenerDetector(
+				publisher instanceof AbstractApplicationContext ? (AbstractApplicationContext) publisher : null);
+	}
+
+	/**
+	 * Returns whether an event of the given type might have a listener.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @return {@literal false} if it is known that no listener would receive an event of the given type.
+	 */
+	public boolean hasListenersFor(Class<?> eventType) {
+
+		Assert.notNull(eventType, "Event type must not be null!");
+
+		if (context == null) {
+			return true;
+		}
+
+		discardOnChanges();
+
+		return listeners.computeIfAbsent(eventType, this::detectListeners);
+	}
+
+	/**
+	 * Returns whether the {@link ApplicationContext} might contain an {@link EntityCallback} bean of the given type.
+	 * Only meaningful for {@link org.springframework.data.mapping.callback.EntityCallbacks} obtained from that context.
+	 *
+	 * @param callbackType must not be {@literal null}.
+	 * @return {@literal false} if it is known that the context doesn't contain a callback of the given type.
+	 */
+	public boolean hasCallbacksFor(Class<? extends EntityCallback> callbackType) {
+
+		Assert.notNull(callbackType, "Callback type must not be null!");
+
+		if (context == null) {
+			return true;
+		}
+
+		discardOnChanges();
+
+		return callbacks.computeIfAbsent(callbackType, this::detectCallbacks);
+	}
+
+	/**
+	 * Discards all cached detection results, for example after listeners got registered in ways the detector can't
+	 * notice.
+	 */
+	public void refresh() {
+
+		listeners.clear();
+		callbacks.clear();
+		signature = computeSignature();
+	}
+
+	private void discardOnChanges() {
+
+		if (computeSignature() != signature) {
+			refresh();
+		}
+	}
+
+	private long computeSignature() {
+
+		long result = 17;
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+
+			if (!isActive(current)) {
+				continue;
+			}
+
+			if (current instanceof AbstractApplicationContext) {
+				result = 31 * result + ((AbstractApplicationContext) current).getApplicationListeners().size();
+			}
+
+			result = 31 * result + current.getBeanDefinitionCount();
+		}
+
+		return result;
+	}
+
+	private boolean detectListeners(Class<?> eventType) {
+
+		ResolvableType resolvableEventType = ResolvableType.forClass(eventType);
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+
+			if (!(current instanceof AbstractApplicationContext) || !isActive(current)) {
+				return true;
+			}
+
+			for (ApplicationListener<?> listener : ((AbstractApplicationContext) current).getApplicationListeners()) {
+				if (new GenericApplicationListenerAdapter(listener).supportsEventType(resolvableEventType)) {
+					return true;
+				}
+			}
+
+			for (String beanName : current.getBeanNamesForType(ApplicationListener.class, true, false)) {
+				if (mightListenTo(current.getType(beanName, false), eventType)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean mightListenTo(@Nullable Class<?> listenerType, Class<?> eventType) {
+
+		if (listenerType == null || SmartApplicationListener.class.isAssignableFrom(listenerType)) {
+			return true;
+		}
+
+		Class<?> declaredEventType = ResolvableType.forClass(listenerType).as(ApplicationListener.class).getGeneric()
+				.resolve();
+
+		return declaredEventType == null || declaredEventType.isAssignableFrom(eventType);
+	}
+
+	private boolean detectCallbacks(Class<?> callbackType) {
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+
+			if (!isActive(current)) {
+				return true;
+			}
+
+			for (String beanName : current.getBeanNamesForType(EntityCallback.class, true, false)) {
+
+				Class<?> beanType = current.getType(beanName, false);
+
+				if (beanType == null || callbackType.isAssignableFrom(beanType) || beanType.isAssignableFrom(callbackType)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isActive(ApplicationContext context) {
+		return !(context instanceof ConfigurableApplicationContext) || ((ConfigurableApplicationContext) context).isActive();
+	}
+}
@@ -32,6 +32,8 @@ import org.springframework.util.Assert;
 class CompositeSqlIdentifier implements SqlIdentifier {
 
 	private final SqlIdentifier[] parts;
+	private final String canonical;
+	private final int hash;
 
 	CompositeSqlIdentifier(SqlIdentifier... parts) {
 
@@ -40,6 +42,8 @@ class CompositeSqlIdentifier implements SqlIdentifier {
 		Assert.isTrue(parts.length > 0, "SqlIdentifier parts must not be empty");
 
 		this.parts = parts;
+		this.canonical = toSql(IdentifierProcessing.ANSI);
+		this.hash = canonical.hashCode();
 	}
 
 	/*
@@ -96,8 +100,14 @@ class CompositeSqlIdentifier implements SqlIdentifier {
 			return true;
 		}
 
+		if (o instanceof CompositeSqlIdentifier) {
+
+			CompositeSqlIdentifier that = (CompositeSqlIdentifier) o;
+			return hash == that.hash && canonical.equals(that.canonical);
+		}
+
 		if (o instanceof SqlIdentifier) {
-			return toString().equals(o.toString());
+			return canonical.equals(o.toString());
 		}
 
 		return false;
@@ -109,7 +119,7 @@ class CompositeSqlIdentifier implements SqlIdentifier {
 	 */
 	@Override
 	public int hashCode() {
-		return toString().hashCode();
+		return hash;
 	}
 
 	/*
@@ -118,6 +128,6 @@ class CompositeSqlIdentifier implements SqlIdentifier {
 	 */
 	@Override
 	public String toString() {
-		return toSql(IdentifierProcessing.ANSI);
+		return canonical;
 	}
 }
@@ -32,6 +32,8 @@ class DefaultSqlIdentifier implements SqlIdentifier {
 
 	private final String name;
 	private final boolean quoted;
+	private final String canonical;
+	private final int hash;
 
 	DefaultSqlIdentifier(String name, boolean quoted) {
 
@@ -39,6 +41,8 @@ class DefaultSqlIdentifier implements SqlIdentifier {
 
 		this.name = name;
 		this.quoted = quoted;
+		this.canonical = quoted ? toSql(IdentifierProcessing.ANSI) : name;
+		this.hash = canonical.hashCode();
 	}
 
 	/*
@@ -91,8 +95,14 @@ class DefaultSqlIdentifier implements SqlIdentifier {
 			return true;
 		}
 
+		if (o instanceof DefaultSqlIdentifier) {
+
+			DefaultSqlIdentifier that = (DefaultSqlIdentifier) o;
+			return hash == that.hash && canonical.equals(that.canonical);
+		}
+
 		if (o instanceof SqlIdentifier) {
-			return toString().equals(o.toString());
+			return canonical.equals(o.toString());
 		}
 
 		return false;
@@ -104,7 +114,7 @@ class DefaultSqlIdentifier implements SqlIdentifier {
 	 */
 	@Override
 	public int hashCode() {
-		return toString().hashCode();
+		return hash;
 	}
 
 	/*
@@ -113,6 +123,6 @@ class DefaultSqlIdentifier implements SqlIdentifier {
 	 */
 	@Override
 	public String toString() {
-		return quoted ? toSql(IdentifierProcessing.ANSI) : this.name;
+		return canonical;
 	}
 }
@@ -23,5 +23,69 @@ package org.springframework.data.relational.core.sql;
  */
 public enum LockMode {
 
-	PESSIMISTIC_READ, PESSIMISTIC_WRITE
+	PESSIMISTIC_READ(false, false, false), PESSIMISTIC_WRITE(true, false, false),
+
+	/**
+	 * Like {@link #PESSIMISTIC_READ} but skipping rows locked by other transactions instead of waiting for them.
+	 *
+	 * @since 2.3
+	 */
+	PESSIMISTIC_READ_SKIP_LOCKED(false, true, false),
+
+	/**
+	 * Like {@link #PESSIMISTIC_WRITE} but skipping rows locked by other transactions instead of waiting for them. This
+	 * allows concurrent consumers to claim disjoint sets of rows, e.g. when using a table as a work queue.
+	 *
+	 * @since 2.3
+	 */
+	PESSIMISTIC_WRITE_SKIP_LOCKED(true, true, false),
+
+	/**
+	 * Like {@link #PESSIMISTIC_READ} but failing immediately if a row is locked by another transaction.
+	 *
+	 * @since 2.3
+	 */
+	PESSIMISTIC_READ_NOWAIT(false, false, true),
+
+	/**
+	 * Like {@link #PESSIMISTIC_WRITE} but failing immediately if a row is locked by another transaction.
+	 *
+	 * @since 2.3
+	 */
+	PESSIMISTIC_WRITE_NOWAIT(true, false, true);
+
+	private final boolean write;
+	private final boolean skipLocked;
+	private final boolean noWait;
+
+	LockMode(boolean write, boolean skipLocked, boolean noWait) {
+
+		this.write = write;
+		this.skipLocked = skipLocked;
+		this.noWait = noWait;
+	}
+
+	/**
+	 * @return the lock mode without a wait policy, i.e. either {@link #PESSIMISTIC_READ} or {@link #PESSIMISTIC_WRITE}.
+	 * @since 2.3
+	 */
+	public LockMode getBaseMode() {
+		return write ? PESSIMISTIC_WRITE : PESSIMISTIC_READ;
+	}
+
+	/**
+	 * @return {@literal true} if rows locked by other transactions get skipped.
+	 * @since 2.3
+	 */
+	public boolean isSkipLocked() {
+		return skipLocked;
+	}
+
+	/**
+	 * @return {@literal true} if acquiring the lock fails instead of waiting for rows locked by other transactions.
+	 * @since 2.3
+	 */
+	public boolean isNoWait() {
+		return noWait;
+	}
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.function.Function;
+
+import org.springframework.data.relational.core.sql.Delete;
+import org.springframework.data.relational.core.sql.Insert;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.Update;
+import org.springframework.data.relational.core.sql.Visitable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Renderer} producing the same SQL as {@link SqlRenderer} with less overhead. Statements get written into a
+ * single {@link StringBuilder} during one traversal, without creating visitor instances or intermediate buffers per
+ * clause, condition and expression. The few statement shapes that can't be rendered that way get rendered by a
+ * {@link SqlRenderer}.
+ * <p>
+ * Useful for statements that get rendered per invocation, like derived or criteria queries.
+ *
+ * @author agent
+ * @since 2.3
+ * @see SqlRenderer
+ */
+public class SinglePassSqlRenderer implements Renderer {
+
+	private static final int DEFAULT_CAPACITY = 128;
+	private static final int MAX_CAPACITY = 2048;
+
+	private final RenderContext context;
+	private final SqlRenderer fallback;
+
+	private volatile int capacity = DEFAULT_CAPACITY;
+
+	private SinglePassSqlRenderer(RenderContext context) {
+
+		Assert.notNull(context, "RenderContext must not be null!");
+
+		this.context = context;
+		this.fallback = SqlRenderer.create(context);
+	}
+
+	/**
+	 * Creates a new {@link SinglePassSqlRenderer}.
+	 *
+	 * @return the renderer.
+	 */
+	public static SinglePassSqlRenderer create() {
+		return new SinglePassSqlRenderer(new SimpleRenderContext(NamingStrategies.asIs()));
+	}
+
+	/**
+	 * Creates a new {@link SinglePassSqlRenderer} using a {@link RenderContext}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @return the renderer.
+	 */
+	public static SinglePassSqlRenderer create(RenderContext context) {
+		return new SinglePassSqlRenderer(context);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.Renderer#render(org.springframework.data.relational.core.sql.Select)
+	 */
+	@Override
+	public String render(Select select) {
+		return render(select, fallback::render);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.Renderer#render(org.springframework.data.relational.core.sql.Insert)
+	 */
+	@Override
+	public String render(Insert insert) {
+		return render(insert, fallback::render);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.Renderer#render(org.springframework.data.relational.core.sql.Update)
+	 */
+	@Override
+	public String render(Update update) {
+		return render(update, fallback::render);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.Renderer#render(org.springframework.data.relational.core.sql.Delete)
+	 */
+	@Override
+	public String render(Delete delete) {
+		return render(delete, fallback::render);
+	}
+
+	private <T extends Visitable> String render(T statement, Function<T, String> fallbackRenderer) {
+
+		StatementWriter writer = new StatementWriter(context, capacity);
+
+		try {
+			statement.visit(writer);
+		} catch (StatementWriter.UnsupportedStatementException e) {
+			return fallbackRenderer.apply(statement);
+		}
+
+		// size the buffer of the next statement after the largest one seen so far
+		if (writer.length() > capacity) {
+			capacity = Math.min(writer.length(), MAX_CAPACITY);
+		}
+
+		return writer.toString();
+	}
+}
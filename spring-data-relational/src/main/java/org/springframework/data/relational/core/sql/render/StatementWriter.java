@@ -0,0 +1,778 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.Arrays;
+
+import org.springframework.data.relational.core.sql.Aliased;
+import org.springframework.data.relational.core.sql.AndCondition;
+import org.springframework.data.relational.core.sql.AsteriskFromTable;
+import org.springframework.data.relational.core.sql.Assignment;
+import org.springframework.data.relational.core.sql.Between;
+import org.springframework.data.relational.core.sql.BindMarker;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Comparison;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.ConstantCondition;
+import org.springframework.data.relational.core.sql.Delete;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.FalseCondition;
+import org.springframework.data.relational.core.sql.From;
+import org.springframework.data.relational.core.sql.In;
+import org.springframework.data.relational.core.sql.Insert;
+import org.springframework.data.relational.core.sql.Into;
+import org.springframework.data.relational.core.sql.IsNull;
+import org.springframework.data.relational.core.sql.Join;
+import org.springframework.data.relational.core.sql.Like;
+import org.springframework.data.relational.core.sql.Literal;
+import org.springframework.data.relational.core.sql.Named;
+import org.springframework.data.relational.core.sql.NestedCondition;
+import org.springframework.data.relational.core.sql.OrCondition;
+import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.SelectList;
+import org.springframework.data.relational.core.sql.SimpleFunction;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.core.sql.SubselectExpression;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.TrueCondition;
+import org.springframework.data.relational.core.sql.Update;
+import org.springframework.data.relational.core.sql.Values;
+import org.springframework.data.relational.core.sql.Visitable;
+import org.springframework.data.relational.core.sql.Visitor;
+import org.springframework.data.relational.core.sql.Where;
+
+/**
+ * {@link Visitor} writing a statement into a single {@link StringBuilder} while the statement gets visited. Each
+ * {@code *Visitor} of this package is represented by a frame on an array based stack instead of a visitor instance, and
+ * clauses are appended in place instead of being rendered into intermediate buffers. Separators and keywords that
+ * depend on whether a clause renders any text are appended eagerly and removed again if the clause stays empty.
+ * <p>
+ * The output is identical to the one of the {@link DelegatingVisitor} based visitors. Constructs for which that would
+ * require more state than the frames carry abort rendering with {@link UnsupportedStatementException}.
+ *
+ * @author agent
+ * @since 2.3
+ * @see SinglePassSqlRenderer
+ */
+class StatementWriter implements Visitor {
+
+	private static final int SELECT = 1;
+	private static final int SELECT_LIST = 2;
+	private static final int FROM = 3;
+	private static final int JOIN = 4;
+	private static final int WHERE = 5;
+	private static final int ORDER_BY_FIELD = 6;
+	private static final int INSERT = 7;
+	private static final int INTO = 8;
+	private static final int VALUES = 9;
+	private static final int UPDATE = 10;
+	private static final int ASSIGNMENT = 11;
+	private static final int DELETE = 12;
+	private static final int COLUMN = 13;
+
+	private static final int MULTI = 20;
+	private static final int IS_NULL = 21;
+	private static final int BETWEEN = 22;
+	private static final int COMPARISON = 23;
+	private static final int LIKE = 24;
+	private static final int IN = 25;
+	private static final int EMPTY_IN = 26;
+	private static final int NESTED = 27;
+	private static final int CONSTANT = 28;
+	private static final int UNSUPPORTED_CONDITION = 29;
+
+	private static final int EXPRESSION = 40;
+	private static final int FUNCTION = 41;
+	private static final int SUBSELECT = 42;
+
+	// flags
+	private static final int FIRST_DONE = 1;
+	private static final int REQUIRES_COMMA = 2;
+	private static final int INSIDE_FUNCTION = 4;
+	private static final int ORDER_BY_STARTED = 8;
+	private static final int SET_STARTED = 16;
+
+	private static final String ORDER_BY = " ORDER BY ";
+	private static final String WHERE_KEYWORD = " WHERE ";
+
+	private final RenderContext context;
+	private final RenderNamingStrategy namingStrategy;
+	private final StringBuilder builder;
+
+	private int depth = 0;
+	private int[] kinds = new int[16];
+	private Visitable[] segments = new Visitable[16];
+	private int[] starts = new int[16];
+	private int[] children = new int[16];
+	private int[] flags = new int[16];
+	private int[] marks = new int[16];
+
+	StatementWriter(RenderContext context, int capacity) {
+
+		this.context = context;
+		this.namingStrategy = context.getNamingStrategy();
+		this.builder = new StringBuilder(capacity);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.Visitor#enter(org.springframework.data.relational.core.sql.Visitable)
+	 */
+	@Override
+	public void enter(Visitable segment) {
+
+		if (depth == 0) {
+			enterStatement(segment);
+			return;
+		}
+
+		int top = depth - 1;
+
+		switch (kinds[top]) {
+
+			case SELECT:
+				enterSelectClause(top, segment);
+				break;
+
+			case SELECT_LIST:
+				enterSelectListElement(top, segment);
+				break;
+
+			case FROM:
+			case INTO:
+				if (segment instanceof Table) {
+					appendTableSeparator(top);
+					appendTable((Table) segment);
+				}
+				break;
+
+			case JOIN:
+				enterJoinPart(segment);
+				break;
+
+			case WHERE:
+				if (segment instanceof Condition) {
+					pushCondition((Condition) segment);
+				}
+				break;
+
+			case INSERT:
+				enterInsertClause(top, segment);
+				break;
+
+			case VALUES:
+				if (segment instanceof Expression) {
+
+					appendSeparatorAfterFirst(top, ", ");
+					pushExpression((Expression) segment);
+				}
+				break;
+
+			case UPDATE:
+				enterUpdateClause(top, segment);
+				break;
+
+			case ASSIGNMENT:
+				enterAssignmentPart(segment);
+				break;
+
+			case DELETE:
+				if (segment instanceof From) {
+					push(FROM, segment);
+				} else if (segment instanceof Where) {
+					pushWhere(segment);
+				}
+				break;
+
+			case NESTED:
+				if (segment instanceof Condition) {
+
+					builder.append('(');
+					pushCondition((Condition) segment);
+				}
+				break;
+
+			case MULTI:
+			case IS_NULL:
+			case BETWEEN:
+			case COMPARISON:
+			case LIKE:
+			case IN:
+			case EMPTY_IN:
+			case CONSTANT:
+			case FUNCTION:
+				enterOperand(top, segment);
+				break;
+
+			case EXPRESSION:
+				if (segment instanceof Condition) {
+
+					// a nested condition replaces the rendered expression
+					builder.setLength(starts[top]);
+					pushCondition((Condition) segment);
+				}
+				break;
+
+			case SUBSELECT:
+				if (segment instanceof Select) {
+					pushSelect((Select) segment);
+				}
+				break;
+
+			default:
+				// ORDER_BY_FIELD, COLUMN and UNSUPPORTED_CONDITION render on leave or not at all.
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.Visitor#leave(org.springframework.data.relational.core.sql.Visitable)
+	 */
+	@Override
+	public void leave(Visitable segment) {
+
+		int top = depth - 1;
+
+		if (segments[top] != segment) {
+			leaveNested(top, segment);
+			return;
+		}
+
+		complete(top);
+
+		segments[top] = null;
+		depth--;
+
+		if (depth > 0) {
+			leaveOperand(depth - 1, segment);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return builder.toString();
+	}
+
+	int length() {
+		return builder.length();
+	}
+
+	private void enterStatement(Visitable segment) {
+
+		if (segment instanceof Select) {
+			pushSelect((Select) segment);
+		} else if (segment instanceof Insert) {
+
+			builder.append("INSERT INTO ");
+			push(INSERT, segment);
+		} else if (segment instanceof Update) {
+
+			builder.append("UPDATE");
+			push(UPDATE, segment);
+		} else if (segment instanceof Delete) {
+
+			builder.append("DELETE ");
+			push(DELETE, segment);
+		} else {
+			throw new UnsupportedStatementException();
+		}
+	}
+
+	private void enterSelectClause(int top, Visitable segment) {
+
+		if (segment instanceof SelectList) {
+			push(SELECT_LIST, segment);
+		} else if (segment instanceof OrderByField) {
+
+			if ((flags[top] & ORDER_BY_STARTED) == 0) {
+
+				flags[top] |= ORDER_BY_STARTED;
+				marks[top] = builder.length();
+				builder.append(ORDER_BY);
+			} else {
+				builder.append(", ");
+			}
+
+			push(ORDER_BY_FIELD, segment);
+		} else if (segment instanceof From) {
+			push(FROM, segment);
+		} else if (segment instanceof Join) {
+
+			builder.append(' ').append(((Join) segment).getType().getSql()).append(' ');
+			push(JOIN, segment);
+		} else if (segment instanceof Where) {
+			pushWhere(segment);
+		}
+	}
+
+	private void enterSelectListElement(int top, Visitable segment) {
+
+		if ((flags[top] & REQUIRES_COMMA) != 0) {
+
+			builder.append(", ");
+			flags[top] &= ~REQUIRES_COMMA;
+		}
+
+		if (segment instanceof SimpleFunction) {
+
+			builder.append(((SimpleFunction) segment).getFunctionName()).append("(");
+			flags[top] |= INSIDE_FUNCTION;
+		}
+	}
+
+	private void leaveSelectListElement(int top, Visitable segment) {
+
+		if (segment instanceof Table) {
+			append(namingStrategy.getReferenceName((Table) segment)).append('.');
+		}
+
+		if (segment instanceof SimpleFunction) {
+
+			builder.append(")");
+			if (segment instanceof Aliased) {
+				builder.append(" AS ");
+				append(((Aliased) segment).getAlias());
+			}
+
+			flags[top] &= ~INSIDE_FUNCTION;
+			flags[top] |= REQUIRES_COMMA;
+		} else if (segment instanceof AsteriskFromTable) {
+
+			builder.append("*");
+			flags[top] |= REQUIRES_COMMA;
+		} else if (segment instanceof Column) {
+
+			append(namingStrategy.getName((Column) segment));
+			if (segment instanceof Aliased && (flags[top] & INSIDE_FUNCTION) == 0) {
+				builder.append(" AS ");
+				append(((Aliased) segment).getAlias());
+			}
+
+			flags[top] |= REQUIRES_COMMA;
+		} else if (segment instanceof Expression) {
+			builder.append(segment.toString());
+		}
+	}
+
+	private void enterJoinPart(Visitable segment) {
+
+		if (segment instanceof Table) {
+			appendTable((Table) segment);
+		} else if (segment instanceof Condition) {
+
+			builder.append(" ON ");
+			pushCondition((Condition) segment);
+		}
+	}
+
+	private void enterInsertClause(int top, Visitable segment) {
+
+		if (segment instanceof Into) {
+			push(INTO, segment);
+		} else if (segment instanceof Column) {
+
+			builder.append(children[top]++ == 0 ? " (" : ", ");
+			push(COLUMN, segment);
+		} else if (segment instanceof Values) {
+
+			if (children[top] != 0) {
+				builder.append(")");
+			}
+
+			builder.append(" VALUES (");
+			push(VALUES, segment);
+		}
+	}
+
+	private void enterUpdateClause(int top, Visitable segment) {
+
+		if (segment instanceof Table) {
+
+			builder.append((flags[top] & FIRST_DONE) == 0 ? " " : ", ");
+			flags[top] |= FIRST_DONE;
+			appendTable((Table) segment);
+		} else if (segment instanceof Assignment) {
+
+			builder.append((flags[top] & SET_STARTED) == 0 ? " SET " : ", ");
+			flags[top] |= SET_STARTED;
+			push(ASSIGNMENT, segment);
+		} else if (segment instanceof Where) {
+			pushWhere(segment);
+		}
+	}
+
+	private void enterAssignmentPart(Visitable segment) {
+
+		if (segment instanceof Column) {
+			push(COLUMN, segment);
+		} else if (segment instanceof Expression) {
+
+			if (!(segment instanceof SubselectExpression || segment instanceof SimpleFunction
+					|| segment instanceof BindMarker || segment instanceof Literal)) {
+
+				// AssignmentVisitor reuses the value rendered for a previous assignment.
+				throw new UnsupportedStatementException();
+			}
+
+			pushExpression((Expression) segment);
+		} else {
+			throw new IllegalStateException("Cannot provide visitor for " + segment);
+		}
+	}
+
+	private void enterOperand(int top, Visitable segment) {
+
+		if (!(segment instanceof Expression) && !(segment instanceof Condition)) {
+			throw new IllegalStateException("Cannot provide visitor for " + segment);
+		}
+
+		int index = children[top]++;
+		Visitable owner = segments[top];
+
+		switch (kinds[top]) {
+
+			case MULTI:
+				if (builder.length() > starts[top]) {
+					builder.append(owner instanceof AndCondition ? " AND " : " OR ");
+				}
+				break;
+
+			case COMPARISON:
+				if (builder.length() > starts[top]) {
+					builder.append(' ').append(((Comparison) owner).getComparator()).append(' ');
+				}
+				break;
+
+			case LIKE:
+				if (builder.length() > starts[top]) {
+					builder.append(((Like) owner).isNegated() ? " NOT LIKE " : " LIKE ");
+				}
+				break;
+
+			case BETWEEN:
+				if (index == 1) {
+					builder.append(((Between) owner).isNegated() ? " NOT BETWEEN " : " BETWEEN ");
+				} else if (index == 2) {
+					builder.append(" AND ");
+				} else if (index > 2) {
+					throw new UnsupportedStatementException();
+				}
+				break;
+
+			case IN:
+				if ((flags[top] & REQUIRES_COMMA) != 0) {
+					builder.append(", ");
+				}
+				marks[top] = builder.length();
+				break;
+
+			case FUNCTION:
+				if (index == 0) {
+					builder.append(((SimpleFunction) owner).getFunctionName()).append("(");
+				} else {
+					builder.append(", ");
+				}
+				break;
+
+			default:
+				// IS_NULL renders the operand as is, EMPTY_IN and CONSTANT discard it.
+		}
+
+		if (segment instanceof Expression) {
+			pushExpression((Expression) segment);
+		} else {
+			pushCondition((Condition) segment);
+		}
+	}
+
+	private void leaveOperand(int top, Visitable segment) {
+
+		switch (kinds[top]) {
+
+			case SELECT:
+				if (segment instanceof SelectList) {
+					builder.append(context.getSelect().afterSelectList().apply((Select) segments[top]));
+				} else if (segment instanceof From) {
+					builder.append(context.getSelect().afterFromTable().apply((Select) segments[top]));
+				}
+				break;
+
+			case NESTED:
+				if (segment instanceof Condition) {
+					builder.append(')');
+				}
+				break;
+
+			case ASSIGNMENT:
+				if (segment instanceof Column && builder.length() > starts[top]) {
+					builder.append(" = ");
+				}
+				break;
+
+			case IN:
+				if (marks[top] == starts[top]) {
+
+					if (((In) segments[top]).isNotIn()) {
+						builder.append(" NOT");
+					}
+					builder.append(" IN (");
+				} else {
+					flags[top] |= REQUIRES_COMMA;
+				}
+				break;
+
+			default:
+				// nothing to do
+		}
+	}
+
+	private void leaveNested(int top, Visitable segment) {
+
+		switch (kinds[top]) {
+
+			case SELECT_LIST:
+				leaveSelectListElement(top, segment);
+				break;
+
+			case ORDER_BY_FIELD:
+				if (segment instanceof Column) {
+					append(namingStrategy.getReferenceName((Column) segment));
+				}
+				break;
+
+			default:
+				// nothing to do
+		}
+	}
+
+	private void complete(int top) {
+
+		Visitable segment = segments[top];
+
+		switch (kinds[top]) {
+
+			case SELECT:
+				completeSelect(top, (Select) segment);
+				break;
+
+			case WHERE:
+				if (builder.length() == starts[top] + WHERE_KEYWORD.length()) {
+					builder.setLength(starts[top]);
+				}
+				break;
+
+			case ORDER_BY_FIELD:
+				OrderByField field = (OrderByField) segment;
+				if (field.getDirection() != null) {
+					builder.append(" ").append(field.getDirection());
+				}
+				break;
+
+			case VALUES:
+				builder.append(")");
+				break;
+
+			case IS_NULL:
+				builder.append(((IsNull) segment).isNegated() ? " IS NOT NULL" : " IS NULL");
+				break;
+
+			case IN:
+			case FUNCTION:
+				builder.append(")");
+				break;
+
+			case EMPTY_IN:
+				builder.setLength(starts[top]);
+				builder.append(((In) segment).isNotIn() ? TrueCondition.INSTANCE.toString()
+						: FalseCondition.INSTANCE.toString());
+				break;
+
+			case CONSTANT:
+				builder.setLength(starts[top]);
+				builder.append(segment.toString());
+				break;
+
+			default:
+				// nothing to do
+		}
+	}
+
+	private void completeSelect(int top, Select select) {
+
+		boolean hasOrderBy = false;
+
+		if ((flags[top] & ORDER_BY_STARTED) != 0) {
+
+			if (builder.length() == marks[top] + ORDER_BY.length()) {
+				builder.setLength(marks[top]);
+			} else {
+				hasOrderBy = true;
+			}
+		}
+
+		builder.append(context.getSelect().afterOrderBy(hasOrderBy).apply(select));
+	}
+
+	private void pushSelect(Select select) {
+
+		builder.append("SELECT ");
+
+		if (select.isDistinct()) {
+			builder.append("DISTINCT ");
+		}
+
+		push(SELECT, select);
+	}
+
+	private void pushWhere(Visitable where) {
+
+		push(WHERE, where);
+		builder.append(WHERE_KEYWORD);
+	}
+
+	private void pushCondition(Condition condition) {
+
+		if (condition instanceof AndCondition || condition instanceof OrCondition) {
+			push(MULTI, condition);
+		} else if (condition instanceof IsNull) {
+			push(IS_NULL, condition);
+		} else if (condition instanceof Between) {
+			push(BETWEEN, condition);
+		} else if (condition instanceof Comparison) {
+			push(COMPARISON, condition);
+		} else if (condition instanceof Like) {
+			push(LIKE, condition);
+		} else if (condition instanceof In) {
+			push(((In) condition).hasExpressions() ? IN : EMPTY_IN, condition);
+		} else if (condition instanceof NestedCondition) {
+			push(NESTED, condition);
+		} else if (condition instanceof ConstantCondition) {
+			push(CONSTANT, condition);
+		} else {
+			push(UNSUPPORTED_CONDITION, condition);
+		}
+	}
+
+	private void pushExpression(Expression expression) {
+
+		if (expression instanceof SubselectExpression) {
+			push(SUBSELECT, expression);
+			return;
+		}
+
+		if (expression instanceof SimpleFunction) {
+			push(FUNCTION, expression);
+			return;
+		}
+
+		push(EXPRESSION, expression);
+
+		if (expression instanceof Column) {
+
+			Column column = (Column) expression;
+
+			append(namingStrategy.getReferenceName(column.getTable())).append('.');
+			append(namingStrategy.getReferenceName(column));
+		} else if (expression instanceof BindMarker) {
+
+			if (expression instanceof Named) {
+				append(((Named) expression).getName());
+			} else {
+				builder.append(expression.toString());
+			}
+		} else if (expression instanceof Literal) {
+			builder.append(expression.toString());
+		}
+	}
+
+	private void push(int kind, Visitable segment) {
+
+		if (depth == kinds.length) {
+
+			int capacity = depth * 2;
+
+			kinds = Arrays.copyOf(kinds, capacity);
+			segments = Arrays.copyOf(segments, capacity);
+			starts = Arrays.copyOf(starts, capacity);
+			children = Arrays.copyOf(children, capacity);
+			flags = Arrays.copyOf(flags, capacity);
+			marks = Arrays.copyOf(marks, capacity);
+		}
+
+		kinds[depth] = kind;
+		segments[depth] = segment;
+		starts[depth] = builder.length();
+		children[depth] = 0;
+		flags[depth] = 0;
+		marks[depth] = 0;
+
+		depth++;
+
+		if (kind == COLUMN) {
+			append(namingStrategy.getName((Column) segment));
+		}
+	}
+
+	private void appendTableSeparator(int top) {
+
+		if ((flags[top] & FIRST_DONE) != 0) {
+			builder.append(", ");
+			return;
+		}
+
+		flags[top] |= FIRST_DONE;
+
+		if (kinds[top] == FROM) {
+			builder.append(kinds[top - 1] == SELECT ? " FROM " : "FROM ");
+		}
+	}
+
+	private void appendSeparatorAfterFirst(int top, String separator) {
+
+		if ((flags[top] & FIRST_DONE) != 0) {
+			builder.append(separator);
+		} else {
+			flags[top] |= FIRST_DONE;
+		}
+	}
+
+	private void appendTable(Table table) {
+
+		append(namingStrategy.getName(table));
+
+		if (table instanceof Aliased) {
+			builder.append(" ");
+			append(((Aliased) table).getAlias());
+		}
+	}
+
+	private StringBuilder append(SqlIdentifier identifier) {
+		return builder.append(identifier.toSql(context.getIdentifierProcessing()));
+	}
+
+	/**
+	 * Signals a statement that can't be rendered in a single pass with identical results.
+	 */
+	static class UnsupportedStatementException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		UnsupportedStatementException() {
+			super(null, null, false, false);
+		}
+	}
+}
@@ -116,6 +116,29 @@ public class BasicRelationalConverterUnitTests {
 		assertThat(result).isEqualTo(new MyValue("hello-world"));
 	}
 
+	@Test
+	public void shouldResolveReadConversionPerValueType() {
+
+		ClassTypeInformation<Long> type = ClassTypeInformation.from(Long.class);
+
+		assertThat(converter.readValue(23, type)).isEqualTo(23L);
+		assertThat(converter.readValue(42L, type)).isEqualTo(42L);
+		assertThat(converter.readValue("4711", type)).isEqualTo(4711L);
+		assertThat(converter.readValue(24, type)).isEqualTo(24L);
+	}
+
+	@Test
+	public void shouldResolveWriteConversionPerValueType() {
+
+		ClassTypeInformation<String> type = ClassTypeInformation.from(String.class);
+
+		assertThat(converter.writeValue(MyEnum.ON, type)).isEqualTo("ON");
+		assertThat(converter.writeValue(new MyValue("hello-world"), type)).isEqualTo("hello-world");
+		assertThat(converter.writeValue(23, type)).isEqualTo("23");
+		assertThat(converter.writeValue(MyEnum.OFF, type)).isEqualTo("OFF");
+		assertThat(converter.writeValue(MyEnum.OFF, ClassTypeInformation.OBJECT)).isEqualTo("OFF");
+	}
+
 	@Data
 	static class MyEntity {
 		boolean flag;
@@ -21,6 +21,7 @@ import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -82,4 +83,16 @@ public class HsqlDbDialectUnitTests {
 		assertThat(limit.getLock(lockOptions)).isEqualTo("FOR UPDATE");
 		assertThat(limit.getClausePosition()).isEqualTo(LockClause.Position.AFTER_ORDER_BY);
 	}
+
+	@Test
+	public void shouldRejectLockModesNotWaitingForLocks() {
+
+		LockClause lock = HsqlDbDialect.INSTANCE.lock();
+		From from = mock(From.class);
+
+		assertThatThrownBy(() -> lock.getLock(new LockOptions(LockMode.PESSIMISTIC_WRITE_SKIP_LOCKED, from)))
+				.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> lock.getLock(new LockOptions(LockMode.PESSIMISTIC_WRITE_NOWAIT, from)))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.NamingStrategies;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
+
+/**
+ * Tests for {@link MariaDbDialect}-specific rendering.
+ *
+ * @author agent
+ */
+public class MariaDbDialectRenderingUnitTests {
+
+	private final RenderContextFactory factory = new RenderContextFactory(
+			new MariaDbDialect(MySqlDialect.MYSQL_IDENTIFIER_PROCESSING));
+
+	@BeforeEach
+	public void before() {
+		factory.setNamingStrategy(NamingStrategies.asIs());
+	}
+
+	@Test
+	public void shouldRenderSelectWithLockWrite() {
+
+		assertThat(render(LockMode.PESSIMISTIC_WRITE)).isEqualTo("SELECT foo.* FROM foo LIMIT 10 FOR UPDATE");
+	}
+
+	@Test
+	public void shouldRenderSelectWithLockRead() {
+
+		assertThat(render(LockMode.PESSIMISTIC_READ)).isEqualTo("SELECT foo.* FROM foo LIMIT 10 LOCK IN SHARE MODE");
+	}
+
+	@Test
+	public void shouldRenderSelectWithLockWriteNoWait() {
+
+		assertThat(render(LockMode.PESSIMISTIC_WRITE_NOWAIT))
+				.isEqualTo("SELECT foo.* FROM foo LIMIT 10 FOR UPDATE NOWAIT");
+	}
+
+	@Test
+	public void shouldRenderSelectWithLockReadNoWaitUsingLockInShareMode() {
+
+		assertThat(render(LockMode.PESSIMISTIC_READ_NOWAIT))
+				.isEqualTo("SELECT foo.* FROM foo LIMIT 10 LOCK IN SHARE MODE NOWAIT");
+	}
+
+	@Test
+	public void shouldRejectLockModesSkippingLockedRows() {
+
+		assertThatThrownBy(() -> render(LockMode.PESSIMISTIC_WRITE_SKIP_LOCKED))
+				.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> render(LockMode.PESSIMISTIC_READ_SKIP_LOCKED))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	private String render(LockMode lockMode) {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table).limit(10).lock(lockMode).build();
+
+		return SqlRenderer.create(factory.createRenderContext()).render(select);
+	}
+}
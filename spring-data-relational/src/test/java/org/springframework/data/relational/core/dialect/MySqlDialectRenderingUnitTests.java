@@ -123,4 +123,28 @@ public class MySqlDialectRenderingUnitTests {
 
 		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 10 LOCK IN SHARE MODE");
 	}
+
+	@Test
+	public void shouldRenderSelectWithLockWriteSkipLocked() {
+
+		Table table = Table.create("foo");
+		LockMode lockMode = LockMode.PESSIMISTIC_WRITE_SKIP_LOCKED;
+		Select select = StatementBuilder.select(table.asterisk()).from(table).limit(10).lock(lockMode).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 10 FOR UPDATE SKIP LOCKED");
+	}
+
+	@Test
+	public void shouldRenderSelectWithLockReadNoWait() {
+
+		Table table = Table.create("foo");
+		LockMode lockMode = LockMode.PESSIMISTIC_READ_NOWAIT;
+		Select select = StatementBuilder.select(table.asterisk()).from(table).limit(10).lock(lockMode).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 10 FOR SHARE NOWAIT");
+	}
 }
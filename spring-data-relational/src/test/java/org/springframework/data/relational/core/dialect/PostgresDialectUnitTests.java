@@ -55,6 +55,19 @@ public class PostgresDialectUnitTests {
 		});
 	}
 
+	@Test
+	public void shouldSupportIntLongAndDoublePrimitiveArrays() {
+
+		ArrayColumns arrayColumns = PostgresDialect.INSTANCE.getArraySupport();
+
+		assertSoftly(it -> {
+			it.assertThat(arrayColumns.isPrimitiveArraySupported(int[].class)).isTrue();
+			it.assertThat(arrayColumns.isPrimitiveArraySupported(long[].class)).isTrue();
+			it.assertThat(arrayColumns.isPrimitiveArraySupported(double[].class)).isTrue();
+			it.assertThat(arrayColumns.isPrimitiveArraySupported(boolean[].class)).isFalse();
+		});
+	}
+
 	@Test // DATAJDBC-278
 	public void shouldRenderLimit() {
 
@@ -128,6 +128,25 @@ public class BasicRelationalPersistentPropertyUnitTests {
 		softly.assertAll();
 	}
 
+	@Test
+	public void detectsLazyLoadedProperties() {
+
+		RelationalPersistentEntity<?> lazyEntity = context.getRequiredPersistentEntity(WithLazyCollections.class);
+		RelationalPersistentEntity<?> lazyByDefaultEntity = context
+				.getRequiredPersistentEntity(WithLazyLoadingByDefault.class);
+
+		SoftAssertions softly = new SoftAssertions();
+
+		softly.assertThat(lazyEntity.getRequiredPersistentProperty("lazyList").isLazyLoaded()).isTrue();
+		softly.assertThat(lazyEntity.getRequiredPersistentProperty("eagerList").isLazyLoaded()).isFalse();
+		softly.assertThat(lazyEntity.getRequiredPersistentProperty("name").isLazyLoaded()).isFalse();
+		softly.assertThat(lazyByDefaultEntity.getRequiredPersistentProperty("list").isLazyLoaded()).isTrue();
+		softly.assertThat(lazyByDefaultEntity.getRequiredPersistentProperty("listOfString").isLazyLoaded()).isFalse();
+		softly.assertThat(lazyByDefaultEntity.getRequiredPersistentProperty("name").isLazyLoaded()).isFalse();
+
+		softly.assertAll();
+	}
+
 	@Data
 	@SuppressWarnings("unused")
 	private static class DummyEntity {
@@ -182,4 +201,23 @@ public class BasicRelationalPersistentPropertyUnitTests {
 
 	@SuppressWarnings("unused")
 	private static class OtherEntity {}
+
+	@SuppressWarnings("unused")
+	private static class WithLazyCollections {
+
+		@Id Long id;
+		String name;
+		@MappedCollection(lazy = true) List<OtherEntity> lazyList;
+		List<OtherEntity> eagerList;
+	}
+
+	@LazyLoading
+	@SuppressWarnings("unused")
+	private static class WithLazyLoadingByDefault {
+
+		@Id Long id;
+		String name;
+		List<OtherEntity> list;
+		List<String> listOfString;
+	}
 }
@@ -82,4 +82,18 @@ public class DerivedSqlIdentifierUnitTests {
 			softly.assertThat(basis).isNotEqualTo(notSimple);
 		});
 	}
+
+	@Test
+	public void equalsQuotedIdentifierWithSameAnsiRepresentation() {
+
+		SqlIdentifier derived = new DerivedSqlIdentifier("simple", true);
+		SqlIdentifier quoted = SqlIdentifier.quoted("SIMPLE");
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(derived).isEqualTo(quoted).hasSameHashCodeAs(quoted);
+			softly.assertThat(quoted).isEqualTo(derived);
+			softly.assertThat(derived).isNotEqualTo(SqlIdentifier.quoted("simple"));
+		});
+	}
 }
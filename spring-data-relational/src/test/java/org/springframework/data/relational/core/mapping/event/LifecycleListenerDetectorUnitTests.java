@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Unit tests for {@link LifecycleListenerDetector}.
+ *
+ * @author agent
+ */
+public class LifecycleListenerDetectorUnitTests {
+
+	GenericApplicationContext context = new GenericApplicationContext();
+
+	@AfterEach
+	void tearDown() {
+		context.close();
+	}
+
+	@Test
+	public void reportsNoListenersOrCallbacksForEmptyContext() {
+
+		context.refresh();
+
+		LifecycleListenerDetector detector = LifecycleListenerDetector.create(context);
+
+		assertThat(detector.hasListenersFor(AfterLoadEvent.class)).isFalse();
+		assertThat(detector.hasCallbacksFor(AfterLoadCallback.class)).isFalse();
+	}
+
+	@Test
+	public void detectsListenerBeansForMatchingEventTypesOnly() {
+
+		context.registerBean(AfterSaveListener.class);
+		context.refresh();
+
+		LifecycleListenerDetector detector = LifecycleListenerDetector.create(context);
+
+		assertThat(detector.hasListenersFor(AfterSaveEvent.class)).isTrue();
+		assertThat(detector.hasListenersFor(AfterLoadEvent.class)).isFalse();
+	}
+
+	@Test
+	public void detectsGenericRelationalEventListeners() {
+
+		context.registerBean(AllEventsListener.class);
+		context.refresh();
+
+		LifecycleListenerDetector detector = LifecycleListenerDetector.create(context);
+
+		assertThat(detector.hasListenersFor(AfterLoadEvent.class)).isTrue();
+		assertThat(detector.hasListenersFor(AfterLoadBatchEvent.class)).isTrue();
+	}
+
+	@Test
+	public void detectsListenersRegisteredAfterFirstDetection() {
+
+		context.refresh();
+
+		LifecycleListenerDetector detector = LifecycleListenerDetector.create(context);
+
+		assertThat(detector.hasListenersFor(AfterLoadEvent.class)).isFalse();
+
+		context.addApplicationListener(new AllEventsListener());
+
+		assertThat(detector.hasListenersFor(AfterLoadEvent.class)).isTrue();
+	}
+
+	@Test
+	public void detectsCallbackBeans() {
+
+		context.registerBean(AfterLoadCallback.class, () -> entity -> entity);
+		context.refresh();
+
+		LifecycleListenerDetector detector = LifecycleListenerDetector.create(context);
+
+		assertThat(detector.hasCallbacksFor(AfterLoadCallback.class)).isTrue();
+		assertThat(detector.hasCallbacksFor(AfterSaveCallback.class)).isFalse();
+	}
+
+	@Test
+	public void assumesListenersForPublishersThatCannotBeInspected() {
+
+		LifecycleListenerDetector detector = LifecycleListenerDetector.create(mock(ApplicationEventPublisher.class));
+
+		assertThat(detector.hasListenersFor(AfterLoadEvent.class)).isTrue();
+		assertThat(detector.hasCallbacksFor(AfterLoadCallback.class)).isTrue();
+	}
+
+	static class AfterSaveListener implements ApplicationListener<AfterSaveEvent<?>> {
+
+		@Override
+		public void onApplicationEvent(AfterSaveEvent<?> event) {}
+	}
+
+	static class AllEventsListener implements ApplicationListener<AbstractRelationalEvent<?>> {
+
+		@Override
+		public void onApplicationEvent(AbstractRelationalEvent<?> event) {}
+	}
+}
@@ -87,4 +87,20 @@ public class SqlIdentifierUnitTests {
 			softly.assertThat(basis).isNotEqualTo(notSimple);
 		});
 	}
+
+	@Test
+	public void equalIdentifiersHaveEqualHashCodes() {
+
+		SqlIdentifier quoted = quoted("simple");
+		SqlIdentifier composite = SqlIdentifier.from(unquoted("some"), quoted("name"));
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(quoted).isEqualTo(quoted("simple")).hasSameHashCodeAs(quoted("simple"));
+			softly.assertThat(composite).isEqualTo(SqlIdentifier.from(unquoted("some"), quoted("name")))
+					.hasSameHashCodeAs(SqlIdentifier.from(unquoted("some"), quoted("name")));
+			softly.assertThat(quoted.hashCode()).isEqualTo(quoted.toString().hashCode());
+			softly.assertThat(composite).isNotEqualTo(SqlIdentifier.from(unquoted("some"), unquoted("name")));
+		});
+	}
 }
@@ -17,7 +17,8 @@ package org.springframework.data.relational.core.sql.render;
 
 import static org.assertj.core.api.Assertions.*;
 
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Conditions;
@@ -39,55 +40,63 @@ public class ConditionRendererUnitTests {
 	Column right = table.column("right");
 	Column other = table.column("other");
 
-	@Test // DATAJDBC-309
-	public void shouldRenderEquals() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderEquals(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.isEqualTo(right)).build());
+		String sql = factory.create()
+				.render(StatementBuilder.select(left).from(table).where(left.isEqualTo(right)).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left = my_table.right");
 	}
 
-	@Test // DATAJDBC-514
-	public void shouldRenderEqualsCaseInsensitive() {
+	@ParameterizedTest // DATAJDBC-514
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderEqualsCaseInsensitive(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table)
+		String sql = factory.create().render(StatementBuilder.select(left).from(table)
 				.where(Conditions.isEqual(Functions.upper(left), Functions.upper(right))).build());
 
 		assertThat(sql).endsWith("WHERE UPPER(my_table.left) = UPPER(my_table.right)");
 	}
 
-	@Test // DATAJDBC-490
-	public void shouldRenderEqualsNested() {
+	@ParameterizedTest // DATAJDBC-490
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderEqualsNested(RendererFactory factory) {
 
-		String sql = SqlRenderer
-				.toString(StatementBuilder.select(left).from(table).where(Conditions.nest(left.isEqualTo(right))).build());
+		String sql = factory.create()
+				.render(StatementBuilder.select(left).from(table).where(Conditions.nest(left.isEqualTo(right)))
+						.build());
 
 		assertThat(sql).endsWith("WHERE (my_table.left = my_table.right)");
 	}
 
-	@Test // DATAJDBC-490
-	public void shouldRenderAndNest() {
+	@ParameterizedTest // DATAJDBC-490
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderAndNest(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table)
+		String sql = factory.create().render(StatementBuilder.select(left).from(table)
 				.where(Conditions.nest(left.isEqualTo(right).and(left.isGreater(right)))).build());
 
 		assertThat(sql).endsWith("WHERE (my_table.left = my_table.right AND my_table.left > my_table.right)");
 	}
 
-	@Test // DATAJDBC-490
-	public void shouldRenderAndGroupOr() {
+	@ParameterizedTest // DATAJDBC-490
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderAndGroupOr(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table)
+		String sql = factory.create().render(StatementBuilder.select(left).from(table)
 				.where(Conditions.nest(left.isEqualTo(right).and(left.isGreater(right))).or(left.like(right))).build());
 
 		assertThat(sql).endsWith(
 				"WHERE (my_table.left = my_table.right AND my_table.left > my_table.right) OR my_table.left LIKE my_table.right");
 	}
 
-	@Test // DATAJDBC-490
-	public void shouldRenderAndGroupOrAndNested() {
+	@ParameterizedTest // DATAJDBC-490
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderAndGroupOrAndNested(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table)
+		String sql = factory.create().render(StatementBuilder.select(left).from(table)
 				.where(Conditions.nest(left.isEqualTo(right).and(left.isGreater(right)))
 						.or(Conditions.nest(left.like(right).and(right.like(left)))))
 				.build());
@@ -96,157 +105,179 @@ public class ConditionRendererUnitTests {
 				"WHERE (my_table.left = my_table.right AND my_table.left > my_table.right) OR (my_table.left LIKE my_table.right AND my_table.right LIKE my_table.left)");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderNotEquals() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderNotEquals(RendererFactory factory) {
 
-		String sql = SqlRenderer
-				.toString(StatementBuilder.select(left).from(table).where(left.isNotEqualTo(right)).build());
+		String sql = factory.create()
+				.render(StatementBuilder.select(left).from(table).where(left.isNotEqualTo(right)).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left != my_table.right");
 
-		sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.isEqualTo(right).not()).build());
+		sql = factory.create()
+				.render(StatementBuilder.select(left).from(table).where(left.isEqualTo(right).not()).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left != my_table.right");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderIsLess() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderIsLess(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.isLess(right)).build());
+		String sql = factory.create()
+				.render(StatementBuilder.select(left).from(table).where(left.isLess(right)).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left < my_table.right");
 	}
 
-	@Test // DATAJDBC-513
-	public void shouldRenderBetween() {
+	@ParameterizedTest // DATAJDBC-513
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderBetween(RendererFactory factory) {
 
-		String sql = SqlRenderer
-				.toString(StatementBuilder.select(left).from(table).where(left.between(right, other)).build());
+		String sql = factory.create()
+				.render(StatementBuilder.select(left).from(table).where(left.between(right, other)).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left BETWEEN my_table.right AND my_table.other");
 	}
 
-	@Test // DATAJDBC-513
-	public void shouldRenderNotBetween() {
+	@ParameterizedTest // DATAJDBC-513
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderNotBetween(RendererFactory factory) {
 
-		String sql = SqlRenderer
-				.toString(StatementBuilder.select(left).from(table).where(left.notBetween(right, other)).build());
+		String sql = factory.create()
+				.render(StatementBuilder.select(left).from(table).where(left.notBetween(right, other)).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left NOT BETWEEN my_table.right AND my_table.other");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderIsLessOrEqualTo() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderIsLessOrEqualTo(RendererFactory factory) {
 
-		String sql = SqlRenderer
-				.toString(StatementBuilder.select(left).from(table).where(left.isLessOrEqualTo(right)).build());
+		String sql = factory.create()
+				.render(StatementBuilder.select(left).from(table).where(left.isLessOrEqualTo(right)).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left <= my_table.right");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderIsGreater() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderIsGreater(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.isGreater(right)).build());
+		String sql = factory.create()
+				.render(StatementBuilder.select(left).from(table).where(left.isGreater(right)).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left > my_table.right");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderIsGreaterOrEqualTo() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderIsGreaterOrEqualTo(RendererFactory factory) {
 
-		String sql = SqlRenderer
-				.toString(StatementBuilder.select(left).from(table).where(left.isGreaterOrEqualTo(right)).build());
+		String sql = factory.create()
+				.render(StatementBuilder.select(left).from(table).where(left.isGreaterOrEqualTo(right)).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left >= my_table.right");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderIn() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderIn(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.in(right)).build());
+		String sql = factory.create().render(StatementBuilder.select(left).from(table).where(left.in(right)).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left IN (my_table.right)");
 	}
 
-	@Test // DATAJDBC-604
-	public void shouldRenderEmptyIn() {
+	@ParameterizedTest // DATAJDBC-604
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderEmptyIn(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.in()).build());
+		String sql = factory.create().render(StatementBuilder.select(left).from(table).where(left.in()).build());
 
 		assertThat(sql).endsWith("WHERE 1 = 0");
 	}
 
-	@Test // DATAJDBC-604
-	public void shouldRenderEmptyNotIn() {
+	@ParameterizedTest // DATAJDBC-604
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderEmptyNotIn(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.notIn()).build());
+		String sql = factory.create().render(StatementBuilder.select(left).from(table).where(left.notIn()).build());
 
 		assertThat(sql).endsWith("WHERE 1 = 1");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderLike() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderLike(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.like(right)).build());
+		String sql = factory.create().render(StatementBuilder.select(left).from(table).where(left.like(right)).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left LIKE my_table.right");
 	}
 
-	@Test // DATAJDBC-513
-	public void shouldRenderNotLike() {
+	@ParameterizedTest // DATAJDBC-513
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderNotLike(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.notLike(right)).build());
+		String sql = factory.create()
+				.render(StatementBuilder.select(left).from(table).where(left.notLike(right)).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left NOT LIKE my_table.right");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderIsNull() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderIsNull(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.isNull()).build());
+		String sql = factory.create().render(StatementBuilder.select(left).from(table).where(left.isNull()).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left IS NULL");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderIsNotNull() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderIsNotNull(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.isNotNull()).build());
+		String sql = factory.create().render(StatementBuilder.select(left).from(table).where(left.isNotNull()).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left IS NOT NULL");
 
-		sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.isNull().not()).build());
+		sql = factory.create().render(StatementBuilder.select(left).from(table).where(left.isNull().not()).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left IS NOT NULL");
 	}
 
-	@Test // DATAJDBC-410
-	public void shouldRenderNotIn() {
+	@ParameterizedTest // DATAJDBC-410
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderNotIn(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.in(right).not()).build());
+		String sql = factory.create()
+				.render(StatementBuilder.select(left).from(table).where(left.in(right).not()).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left NOT IN (my_table.right)");
 
-		sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(left.notIn(right)).build());
+		sql = factory.create().render(StatementBuilder.select(left).from(table).where(left.notIn(right)).build());
 
 		assertThat(sql).endsWith("WHERE my_table.left NOT IN (my_table.right)");
 	}
 
-	@Test // GH-907
-	public void shouldRenderJust() {
+	@ParameterizedTest // GH-907
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderJust(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table)
+		String sql = factory.create().render(StatementBuilder.select(left).from(table)
 				.where(Conditions.just("sql"))
 				.build());
 
 		assertThat(sql).endsWith("WHERE sql");
 	}
 
-	@Test // GH-907
-	public void shouldRenderMultipleJust() {
+	@ParameterizedTest // GH-907
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderMultipleJust(RendererFactory factory) {
 
-		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table)
+		String sql = factory.create().render(StatementBuilder.select(left).from(table)
 				.where( Conditions.just("sql1").and(Conditions.just("sql2")))
 				.build());
 
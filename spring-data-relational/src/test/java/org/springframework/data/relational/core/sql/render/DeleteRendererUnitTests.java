@@ -17,30 +17,33 @@ package org.springframework.data.relational.core.sql.render;
 
 import static org.assertj.core.api.Assertions.*;
 
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.data.relational.core.sql.Delete;
 import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.Table;
 
 /**
- * Unit tests for {@link SqlRenderer}.
+ * Unit tests for {@link SqlRenderer} and {@link SinglePassSqlRenderer}.
  *
  * @author Mark Paluch
  */
 public class DeleteRendererUnitTests {
 
-	@Test // DATAJDBC-335
-	public void shouldRenderWithoutWhere() {
+	@ParameterizedTest // DATAJDBC-335
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderWithoutWhere(RendererFactory factory) {
 
 		Table bar = SQL.table("bar");
 
 		Delete delete = Delete.builder().from(bar).build();
 
-		assertThat(SqlRenderer.toString(delete)).isEqualTo("DELETE FROM bar");
+		assertThat(factory.create().render(delete)).isEqualTo("DELETE FROM bar");
 	}
 
-	@Test // DATAJDBC-335
-	public void shouldRenderWithCondition() {
+	@ParameterizedTest // DATAJDBC-335
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderWithCondition(RendererFactory factory) {
 
 		Table table = Table.create("bar");
 
@@ -48,11 +51,13 @@ public class DeleteRendererUnitTests {
 				.where(table.column("foo").isEqualTo(table.column("baz"))) //
 				.and(table.column("doe").isNull()).build();
 
-		assertThat(SqlRenderer.toString(delete)).isEqualTo("DELETE FROM bar WHERE bar.foo = bar.baz AND bar.doe IS NULL");
+		assertThat(factory.create().render(delete))
+				.isEqualTo("DELETE FROM bar WHERE bar.foo = bar.baz AND bar.doe IS NULL");
 	}
 
-	@Test // DATAJDBC-335
-	public void shouldConsiderTableAlias() {
+	@ParameterizedTest // DATAJDBC-335
+	@EnumSource(RendererFactory.class)
+	public void shouldConsiderTableAlias(RendererFactory factory) {
 
 		Table table = Table.create("bar").as("my_bar");
 
@@ -60,6 +65,6 @@ public class DeleteRendererUnitTests {
 				.where(table.column("foo").isEqualTo(table.column("baz"))) //
 				.build();
 
-		assertThat(SqlRenderer.toString(delete)).isEqualTo("DELETE FROM bar my_bar WHERE my_bar.foo = my_bar.baz");
+		assertThat(factory.create().render(delete)).isEqualTo("DELETE FROM bar my_bar WHERE my_bar.foo = my_bar.baz");
 	}
 }
@@ -17,58 +17,63 @@ package org.springframework.data.relational.core.sql.render;
 
 import static org.assertj.core.api.Assertions.*;
 
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.data.relational.core.sql.Insert;
 import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.Table;
 
 /**
- * Unit tests for {@link SqlRenderer}.
+ * Unit tests for {@link SqlRenderer} and {@link SinglePassSqlRenderer}.
  *
  * @author Mark Paluch
  * @author Jens Schauder
  */
 public class InsertRendererUnitTests {
 
-	@Test // DATAJDBC-335
-	public void shouldRenderInsert() {
+	@ParameterizedTest // DATAJDBC-335
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderInsert(RendererFactory factory) {
 
 		Table bar = SQL.table("bar");
 
 		Insert insert = Insert.builder().into(bar).values(SQL.bindMarker()).build();
 
-		assertThat(SqlRenderer.toString(insert)).isEqualTo("INSERT INTO bar VALUES (?)");
+		assertThat(factory.create().render(insert)).isEqualTo("INSERT INTO bar VALUES (?)");
 	}
 
-	@Test // DATAJDBC-335
-	public void shouldRenderInsertColumn() {
+	@ParameterizedTest // DATAJDBC-335
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderInsertColumn(RendererFactory factory) {
 
 		Table bar = SQL.table("bar");
 
 		Insert insert = Insert.builder().into(bar).column(bar.column("foo")).values(SQL.bindMarker()).build();
 
-		assertThat(SqlRenderer.toString(insert)).isEqualTo("INSERT INTO bar (foo) VALUES (?)");
+		assertThat(factory.create().render(insert)).isEqualTo("INSERT INTO bar (foo) VALUES (?)");
 	}
 
-	@Test // DATAJDBC-335
-	public void shouldRenderInsertMultipleColumns() {
+	@ParameterizedTest // DATAJDBC-335
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderInsertMultipleColumns(RendererFactory factory) {
 
 		Table bar = SQL.table("bar");
 
 		Insert insert = Insert.builder().into(bar).columns(bar.columns("foo", "baz")).value(SQL.bindMarker())
 				.value(SQL.literalOf("foo")).build();
 
-		assertThat(SqlRenderer.toString(insert)).isEqualTo("INSERT INTO bar (foo, baz) VALUES (?, 'foo')");
+		assertThat(factory.create().render(insert)).isEqualTo("INSERT INTO bar (foo, baz) VALUES (?, 'foo')");
 	}
 
-	@Test // DATAJDBC-340
-	public void shouldRenderInsertWithZeroColumns() {
+	@ParameterizedTest // DATAJDBC-340
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderInsertWithZeroColumns(RendererFactory factory) {
 
 		Table bar = SQL.table("bar");
 
 		Insert insert = Insert.builder().into(bar).build();
 
-		assertThat(SqlRenderer.toString(insert)).isEqualTo("INSERT INTO bar VALUES ()");
+		assertThat(factory.create().render(insert)).isEqualTo("INSERT INTO bar VALUES ()");
 	}
 
 }
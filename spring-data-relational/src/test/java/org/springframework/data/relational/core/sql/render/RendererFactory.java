@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.function.Function;
+
+/**
+ * Creates the {@link Renderer} implementations that renderer tests run against. Both renderers must produce identical
+ * SQL.
+ *
+ * @author agent
+ */
+enum RendererFactory {
+
+	SQL_RENDERER(SqlRenderer::create), SINGLE_PASS_SQL_RENDERER(SinglePassSqlRenderer::create);
+
+	private final Function<RenderContext, Renderer> factory;
+
+	RendererFactory(Function<RenderContext, Renderer> factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * Creates a new {@link Renderer} using {@link NamingStrategies#asIs()}.
+	 *
+	 * @return the renderer.
+	 */
+	Renderer create() {
+		return create(new SimpleRenderContext(NamingStrategies.asIs()));
+	}
+
+	/**
+	 * Creates a new {@link Renderer} using a {@link RenderContext}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @return the renderer.
+	 */
+	Renderer create(RenderContext context) {
+		return factory.apply(context);
+	}
+}
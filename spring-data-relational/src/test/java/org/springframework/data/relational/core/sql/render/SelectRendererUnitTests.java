@@ -17,7 +17,8 @@ package org.springframework.data.relational.core.sql.render;
 
 import static org.assertj.core.api.Assertions.*;
 
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import org.springframework.data.relational.core.dialect.PostgresDialect;
 import org.springframework.data.relational.core.dialect.RenderContextFactory;
@@ -33,36 +34,39 @@ import org.springframework.data.relational.core.sql.Table;
 import org.springframework.util.StringUtils;
 
 /**
- * Unit tests for {@link SqlRenderer}.
+ * Unit tests for {@link SqlRenderer} and {@link SinglePassSqlRenderer}.
  *
  * @author Mark Paluch
  * @author Jens Schauder
  */
 public class SelectRendererUnitTests {
 
-	@Test // DATAJDBC-309, DATAJDBC-278
-	public void shouldRenderSingleColumn() {
+	@ParameterizedTest // DATAJDBC-309, DATAJDBC-278
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderSingleColumn(RendererFactory factory) {
 
 		Table bar = SQL.table("bar");
 		Column foo = bar.column("foo");
 
 		Select select = Select.builder().select(foo).from(bar).limitOffset(1, 2).build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT bar.foo FROM bar");
+		assertThat(factory.create().render(select)).isEqualTo("SELECT bar.foo FROM bar");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderAliasedColumnAndFrom() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderAliasedColumnAndFrom(RendererFactory factory) {
 
 		Table table = Table.create("bar").as("my_bar");
 
 		Select select = Select.builder().select(table.column("foo").as("my_foo")).from(table).build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT my_bar.foo AS my_foo FROM bar my_bar");
+		assertThat(factory.create().render(select)).isEqualTo("SELECT my_bar.foo AS my_foo FROM bar my_bar");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderMultipleColumnsFromTables() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderMultipleColumnsFromTables(RendererFactory factory) {
 
 		Table table1 = Table.create("table1");
 		Table table2 = Table.create("table2");
@@ -70,11 +74,12 @@ public class SelectRendererUnitTests {
 		Select select = Select.builder().select(table1.column("col1")).select(table2.column("col2")).from(table1)
 				.from(table2).build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT table1.col1, table2.col2 FROM table1, table2");
+		assertThat(factory.create().render(select)).isEqualTo("SELECT table1.col1, table2.col2 FROM table1, table2");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderDistinct() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderDistinct(RendererFactory factory) {
 
 		Table table = SQL.table("bar");
 		Column foo = table.column("foo");
@@ -82,11 +87,12 @@ public class SelectRendererUnitTests {
 
 		Select select = Select.builder().distinct().select(foo, bar).from(table).build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT DISTINCT bar.foo, bar.bar FROM bar");
+		assertThat(factory.create().render(select)).isEqualTo("SELECT DISTINCT bar.foo, bar.bar FROM bar");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderCountFunction() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderCountFunction(RendererFactory factory) {
 
 		Table table = SQL.table("bar");
 		Column foo = table.column("foo");
@@ -94,22 +100,24 @@ public class SelectRendererUnitTests {
 
 		Select select = Select.builder().select(Functions.count(foo), bar).from(table).build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT COUNT(bar.foo), bar.bar FROM bar");
+		assertThat(factory.create().render(select)).isEqualTo("SELECT COUNT(bar.foo), bar.bar FROM bar");
 	}
 
-	@Test // DATAJDBC-340
-	public void shouldRenderCountFunctionWithAliasedColumn() {
+	@ParameterizedTest // DATAJDBC-340
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderCountFunctionWithAliasedColumn(RendererFactory factory) {
 
 		Table table = SQL.table("bar");
 		Column foo = table.column("foo").as("foo_bar");
 
 		Select select = Select.builder().select(Functions.count(foo), foo).from(table).build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT COUNT(bar.foo), bar.foo AS foo_bar FROM bar");
+		assertThat(factory.create().render(select)).isEqualTo("SELECT COUNT(bar.foo), bar.foo AS foo_bar FROM bar");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderSimpleJoin() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderSimpleJoin(RendererFactory factory) {
 
 		Table employee = SQL.table("employee");
 		Table department = SQL.table("department");
@@ -118,12 +126,13 @@ public class SelectRendererUnitTests {
 				.join(department).on(employee.column("department_id")).equals(department.column("id")) //
 				.build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT employee.id, department.name FROM employee "
+		assertThat(factory.create().render(select)).isEqualTo("SELECT employee.id, department.name FROM employee "
 				+ "JOIN department ON employee.department_id = department.id");
 	}
 
-	@Test // DATAJDBC-340
-	public void shouldRenderOuterJoin() {
+	@ParameterizedTest // DATAJDBC-340
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderOuterJoin(RendererFactory factory) {
 
 		Table employee = SQL.table("employee");
 		Table department = SQL.table("department");
@@ -133,12 +142,13 @@ public class SelectRendererUnitTests {
 				.leftOuterJoin(department).on(employee.column("department_id")).equals(department.column("id")) //
 				.build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT employee.id, department.name FROM employee "
+		assertThat(factory.create().render(select)).isEqualTo("SELECT employee.id, department.name FROM employee "
 				+ "LEFT OUTER JOIN department ON employee.department_id = department.id");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderSimpleJoinWithAnd() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderSimpleJoinWithAnd(RendererFactory factory) {
 
 		Table employee = SQL.table("employee");
 		Table department = SQL.table("department");
@@ -148,13 +158,14 @@ public class SelectRendererUnitTests {
 				.and(employee.column("tenant")).equals(department.column("tenant")) //
 				.build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT employee.id, department.name FROM employee " //
+		assertThat(factory.create().render(select)).isEqualTo("SELECT employee.id, department.name FROM employee " //
 				+ "JOIN department ON employee.department_id = department.id " //
 				+ "AND employee.tenant = department.tenant");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderMultipleJoinWithAnd() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderMultipleJoinWithAnd(RendererFactory factory) {
 
 		Table employee = SQL.table("employee");
 		Table department = SQL.table("department");
@@ -166,48 +177,52 @@ public class SelectRendererUnitTests {
 				.join(tenant).on(tenant.column("tenant_id")).equals(department.column("tenant")) //
 				.build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT employee.id, department.name FROM employee " //
+		assertThat(factory.create().render(select)).isEqualTo("SELECT employee.id, department.name FROM employee " //
 				+ "JOIN department ON employee.department_id = department.id " //
 				+ "AND employee.tenant = department.tenant " //
 				+ "JOIN tenant tenant_base ON tenant_base.tenant_id = department.tenant");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderOrderByName() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderOrderByName(RendererFactory factory) {
 
 		Table employee = SQL.table("employee").as("emp");
 		Column column = employee.column("name").as("emp_name");
 
 		Select select = Select.builder().select(column).from(employee).orderBy(OrderByField.from(column).asc()).build();
 
-		assertThat(SqlRenderer.toString(select))
+		assertThat(factory.create().render(select))
 				.isEqualTo("SELECT emp.name AS emp_name FROM employee emp ORDER BY emp_name ASC");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderIsNull() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderIsNull(RendererFactory factory) {
 
 		Table table = SQL.table("foo");
 		Column bar = table.column("bar");
 
 		Select select = Select.builder().select(bar).from(table).where(Conditions.isNull(bar)).build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar IS NULL");
+		assertThat(factory.create().render(select)).isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar IS NULL");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderNotNull() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderNotNull(RendererFactory factory) {
 
 		Table table = SQL.table("foo");
 		Column bar = table.column("bar");
 
 		Select select = Select.builder().select(bar).from(table).where(Conditions.isNull(bar).not()).build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar IS NOT NULL");
+		assertThat(factory.create().render(select)).isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar IS NOT NULL");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderEqualityCondition() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderEqualityCondition(RendererFactory factory) {
 
 		Table table = SQL.table("foo");
 		Column bar = table.column("bar");
@@ -215,11 +230,12 @@ public class SelectRendererUnitTests {
 		Select select = Select.builder().select(bar).from(table).where(Conditions.isEqual(bar, SQL.bindMarker(":name")))
 				.build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar = :name");
+		assertThat(factory.create().render(select)).isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar = :name");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRendersAndOrConditionWithProperParentheses() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRendersAndOrConditionWithProperParentheses(RendererFactory factory) {
 
 		Table table = SQL.table("foo");
 		Column bar = table.column("bar");
@@ -228,23 +244,25 @@ public class SelectRendererUnitTests {
 		Select select = Select.builder().select(bar).from(table).where(Conditions.isEqual(bar, SQL.bindMarker(":name"))
 				.or(Conditions.isEqual(bar, SQL.bindMarker(":name2"))).and(Conditions.isNull(baz))).build();
 
-		assertThat(SqlRenderer.toString(select))
+		assertThat(factory.create().render(select))
 				.isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar = :name OR foo.bar = :name2 AND foo.baz IS NULL");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldInWithNamedParameter() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldInWithNamedParameter(RendererFactory factory) {
 
 		Table table = SQL.table("foo");
 		Column bar = table.column("bar");
 
 		Select select = Select.builder().select(bar).from(table).where(Conditions.in(bar, SQL.bindMarker(":name"))).build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar IN (:name)");
+		assertThat(factory.create().render(select)).isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar IN (:name)");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldInWithNamedParameters() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldInWithNamedParameters(RendererFactory factory) {
 
 		Table table = SQL.table("foo");
 		Column bar = table.column("bar");
@@ -252,11 +270,13 @@ public class SelectRendererUnitTests {
 		Select select = Select.builder().select(bar).from(table)
 				.where(Conditions.in(bar, SQL.bindMarker(":name"), SQL.bindMarker(":name2"))).build();
 
-		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar IN (:name, :name2)");
+		assertThat(factory.create().render(select))
+				.isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar IN (:name, :name2)");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldRenderInSubselect() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderInSubselect(RendererFactory factory) {
 
 		Table foo = SQL.table("foo");
 		Column bar = foo.column("bar");
@@ -268,12 +288,13 @@ public class SelectRendererUnitTests {
 
 		Select select = Select.builder().select(bar).from(foo).where(bar.in(subselect)).build();
 
-		assertThat(SqlRenderer.toString(select))
+		assertThat(factory.create().render(select))
 				.isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar IN (SELECT floo.bah FROM floo)");
 	}
 
-	@Test // DATAJDBC-309
-	public void shouldConsiderNamingStrategy() {
+	@ParameterizedTest // DATAJDBC-309
+	@EnumSource(RendererFactory.class)
+	public void shouldConsiderNamingStrategy(RendererFactory factory) {
 
 		Table foo = SQL.table("Foo");
 		Column bar = foo.column("BaR");
@@ -281,32 +302,34 @@ public class SelectRendererUnitTests {
 
 		Select select = Select.builder().select(bar).from(foo).where(bar.isEqualTo(baz)).build();
 
-		String upper = SqlRenderer.create(new SimpleRenderContext(NamingStrategies.toUpper())).render(select);
+		String upper = factory.create(new SimpleRenderContext(NamingStrategies.toUpper())).render(select);
 		assertThat(upper).isEqualTo("SELECT FOO.BAR FROM FOO WHERE FOO.BAR = FOO.BAZ");
 
-		String lower = SqlRenderer.create(new SimpleRenderContext(NamingStrategies.toLower())).render(select);
+		String lower = factory.create(new SimpleRenderContext(NamingStrategies.toLower())).render(select);
 		assertThat(lower).isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar = foo.baz");
 
-		String mapped = SqlRenderer.create(new SimpleRenderContext(NamingStrategies.mapWith(StringUtils::uncapitalize)))
+		String mapped = factory.create(new SimpleRenderContext(NamingStrategies.mapWith(StringUtils::uncapitalize)))
 				.render(select);
 		assertThat(mapped).isEqualTo("SELECT foo.baR FROM foo WHERE foo.baR = foo.baZ");
 	}
 
-	@Test // DATAJDBC-340
-	public void shouldRenderCountStar() {
+	@ParameterizedTest // DATAJDBC-340
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderCountStar(RendererFactory factory) {
 
 		Select select = Select.builder() //
 				.select(Functions.count(Expressions.asterisk())) //
 				.from(SQL.table("foo")) //
 				.build();
 
-		String rendered = SqlRenderer.toString(select);
+		String rendered = factory.create().render(select);
 
 		assertThat(rendered).isEqualTo("SELECT COUNT(*) FROM foo");
 	}
 
-	@Test // DATAJDBC-340
-	public void shouldRenderCountTableStar() {
+	@ParameterizedTest // DATAJDBC-340
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderCountTableStar(RendererFactory factory) {
 
 		Table foo = SQL.table("foo");
 		Select select = Select.builder() //
@@ -314,13 +337,14 @@ public class SelectRendererUnitTests {
 				.from(foo) //
 				.build();
 
-		String rendered = SqlRenderer.toString(select);
+		String rendered = factory.create().render(select);
 
 		assertThat(rendered).isEqualTo("SELECT COUNT(foo.*) FROM foo");
 	}
 
-	@Test // DATAJDBC-340
-	public void shouldRenderFunctionWithAlias() {
+	@ParameterizedTest // DATAJDBC-340
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderFunctionWithAlias(RendererFactory factory) {
 
 		Table foo = SQL.table("foo");
 		Select select = Select.builder() //
@@ -328,13 +352,14 @@ public class SelectRendererUnitTests {
 				.from(foo) //
 				.build();
 
-		String rendered = SqlRenderer.toString(select);
+		String rendered = factory.create().render(select);
 
 		assertThat(rendered).isEqualTo("SELECT COUNT(foo.*) AS counter FROM foo");
 	}
 
-	@Test // DATAJDBC-479
-	public void shouldRenderWithRenderContext() {
+	@ParameterizedTest // DATAJDBC-479
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderWithRenderContext(RendererFactory factory) {
 
 		Table table = Table.create(SqlIdentifier.quoted("my_table"));
 		Table join_table = Table.create(SqlIdentifier.quoted("join_table"));
@@ -343,7 +368,7 @@ public class SelectRendererUnitTests {
 				.from(table) //
 				.join(join_table).on(table.column("source")).equals(join_table.column("target")).build();
 
-		String rendered = SqlRenderer.create(new RenderContextFactory(PostgresDialect.INSTANCE).createRenderContext())
+		String rendered = factory.create(new RenderContextFactory(PostgresDialect.INSTANCE).createRenderContext())
 				.render(select);
 
 		assertThat(rendered).isEqualTo(
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Delete;
+import org.springframework.data.relational.core.sql.Expressions;
+import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.Insert;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Update;
+
+/**
+ * Unit tests for {@link SinglePassSqlRenderer}. Each statement gets rendered by {@link SqlRenderer} as well, since both
+ * renderers must produce identical SQL.
+ *
+ * @author agent
+ */
+class SinglePassSqlRendererUnitTests {
+
+	RenderContext context = new SimpleRenderContext(NamingStrategies.asIs());
+
+	Table table = Table.create("foo").as("f");
+	Column id = table.column("id");
+	Column name = table.column("name");
+
+	@Test
+	void rendersSelectWithJoinsWhereAndOrderBy() {
+
+		Table bar = SQL.table("bar");
+
+		Select select = Select.builder().select(id, name.as("n"), bar.column("x")) //
+				.from(table) //
+				.join(bar).on(bar.column("foo_id")).equals(id) //
+				.leftOuterJoin(Table.create("baz")).on(Table.create("baz").column("bar_id")).equals(bar.column("id")) //
+				.where(id.isGreater(SQL.bindMarker(":id")).and(name.like(SQL.literalOf("a%")))) //
+				.orderBy(OrderByField.from(name, Sort.Direction.DESC), OrderByField.from(id)) //
+				.build();
+
+		assertThat(render(select)).isEqualTo("SELECT f.id, f.name AS n, bar.x FROM foo f " //
+				+ "JOIN bar ON bar.foo_id = f.id " //
+				+ "LEFT OUTER JOIN baz ON baz.bar_id = bar.id " //
+				+ "WHERE f.id > :id AND f.name LIKE 'a%' ORDER BY name DESC, id");
+	}
+
+	@Test
+	void rendersFunctionsAndDistinct() {
+
+		Select select = Select.builder().distinct()
+				.select(Functions.count(id), Functions.upper(Functions.lower(name)), Expressions.asterisk(table))
+				.from(table).build();
+
+		assertThat(render(select)).isEqualTo("SELECT DISTINCT COUNT(f.id), UPPER(LOWER(f.name)), f.* FROM foo f");
+	}
+
+	@Test
+	void rendersNestedAndNegatedConditions() {
+
+		Select select = Select.builder().select(id).from(table) //
+				.where(Conditions.nest(id.isNull().or(name.isNotNull())) //
+						.and(id.notBetween(SQL.literalOf(1), SQL.literalOf(5))) //
+						.and(name.notLike(SQL.bindMarker(":name")).not()) //
+						.and(Conditions.just("1 = 1"))) //
+				.build();
+
+		assertThat(render(select)).isEqualTo("SELECT f.id FROM foo f WHERE (f.id IS NULL OR f.name IS NOT NULL) "
+				+ "AND f.id NOT BETWEEN 1 AND 5 AND f.name LIKE :name AND 1 = 1");
+	}
+
+	@Test
+	void rendersInConditions() {
+
+		Table other = SQL.table("other");
+		Select subselect = Select.builder().select(other.column("id")).from(other)
+				.where(other.column("active").isEqualTo(SQL.literalOf(true))).build();
+
+		Select select = Select.builder().select(id).from(table) //
+				.where(id.in(subselect)) //
+				.and(name.notIn(SQL.bindMarker(":a"), SQL.bindMarker(":b"))) //
+				.and(Conditions.in(id, Collections.emptyList())) //
+				.or(Conditions.notIn(name, Collections.emptyList())) //
+				.build();
+
+		assertThat(render(select)).isEqualTo("SELECT f.id FROM foo f " //
+				+ "WHERE f.id IN (SELECT other.id FROM other WHERE other.active = TRUE) " //
+				+ "AND f.name NOT IN (:a, :b) AND 1 = 0 OR 1 = 1");
+	}
+
+	@Test
+	void rendersLimitAndLockThroughSelectRenderContext() {
+
+		RenderContext postgres = new RenderContextFactory(PostgresDialect.INSTANCE).createRenderContext();
+		Table unaliased = SQL.table("foo");
+
+		Select select = Select.builder().select(unaliased.column("id")).from(unaliased).limitOffset(10, 20)
+				.lock(LockMode.PESSIMISTIC_WRITE).build();
+
+		String expected = SqlRenderer.create(postgres).render(select);
+
+		assertThat(SinglePassSqlRenderer.create(postgres).render(select)).isEqualTo(expected);
+		assertThat(expected).isEqualTo("SELECT foo.id FROM foo LIMIT 10 OFFSET 20 FOR UPDATE OF foo");
+	}
+
+	@Test
+	void rendersInsert() {
+
+		Table unaliased = SQL.table("foo");
+		Insert insert = StatementBuilder.insert(unaliased).columns(unaliased.column("id"), unaliased.column("name"))
+				.values(SQL.bindMarker(":id"), SQL.literalOf("x")).build();
+
+		assertThat(render(insert)).isEqualTo("INSERT INTO foo (id, name) VALUES (:id, 'x')");
+	}
+
+	@Test
+	void rendersUpdate() {
+
+		Table unaliased = SQL.table("foo");
+		Update update = StatementBuilder.update(unaliased) //
+				.set(unaliased.column("name").set(SQL.bindMarker(":name")), unaliased.column("version").set(SQL.literalOf(2))) //
+				.where(unaliased.column("id").isEqualTo(SQL.bindMarker(":id"))) //
+				.build();
+
+		assertThat(render(update)).isEqualTo("UPDATE foo SET name = :name, version = 2 WHERE foo.id = :id");
+	}
+
+	@Test
+	void fallsBackForAssignmentsOfPlainExpressions() {
+
+		Table unaliased = SQL.table("foo");
+		Update update = StatementBuilder.update(unaliased) //
+				.set(unaliased.column("a").set(Expressions.just("x")), unaliased.column("b").set(SQL.bindMarker(":b"))) //
+				.build();
+
+		render(update);
+	}
+
+	@Test
+	void rendersDelete() {
+
+		Delete delete = StatementBuilder.delete(table).where(id.isEqualTo(SQL.bindMarker(":id")).or(name.isNull()))
+				.build();
+
+		assertThat(render(delete)).isEqualTo("DELETE FROM foo f WHERE f.id = :id OR f.name IS NULL");
+	}
+
+	@Test
+	void appliesNamingStrategy() {
+
+		RenderContext upper = new SimpleRenderContext(NamingStrategies.toUpper());
+		Select select = Select.builder().select(id).from(table).where(name.isNotNull()).build();
+
+		assertThat(SinglePassSqlRenderer.create(upper).render(select))
+				.isEqualTo(SqlRenderer.create(upper).render(select)) //
+				.isEqualTo("SELECT F.ID FROM FOO f WHERE F.NAME IS NOT NULL");
+	}
+
+	private String render(Select select) {
+
+		String expected = SqlRenderer.create(context).render(select);
+		assertThat(SinglePassSqlRenderer.create(context).render(select)).isEqualTo(expected);
+		return expected;
+	}
+
+	private String render(Insert insert) {
+
+		String expected = SqlRenderer.create(context).render(insert);
+		assertThat(SinglePassSqlRenderer.create(context).render(insert)).isEqualTo(expected);
+		return expected;
+	}
+
+	private String render(Update update) {
+
+		String expected = SqlRenderer.create(context).render(update);
+		assertThat(SinglePassSqlRenderer.create(context).render(update)).isEqualTo(expected);
+		return expected;
+	}
+
+	private String render(Delete delete) {
+
+		String expected = SqlRenderer.create(context).render(delete);
+		assertThat(SinglePassSqlRenderer.create(context).render(delete)).isEqualTo(expected);
+		return expected;
+	}
+}
@@ -17,7 +17,8 @@ package org.springframework.data.relational.core.sql.render;
 
 import static org.assertj.core.api.Assertions.*;
 
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.SQL;
@@ -26,25 +27,27 @@ import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.core.sql.Update;
 
 /**
- * Unit tests for {@link SqlRenderer}.
+ * Unit tests for {@link SqlRenderer} and {@link SinglePassSqlRenderer}.
  *
  * @author Mark Paluch
  */
 public class UpdateRendererUnitTests {
 
-	@Test // DATAJDBC-335
-	public void shouldRenderSimpleUpdate() {
+	@ParameterizedTest // DATAJDBC-335
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderSimpleUpdate(RendererFactory factory) {
 
 		Table table = SQL.table("mytable");
 		Column column = table.column("foo");
 
 		Update update = StatementBuilder.update(table).set(column.set(SQL.bindMarker())).build();
 
-		assertThat(SqlRenderer.toString(update)).isEqualTo("UPDATE mytable SET foo = ?");
+		assertThat(factory.create().render(update)).isEqualTo("UPDATE mytable SET foo = ?");
 	}
 
-	@Test // DATAJDBC-335
-	public void shouldRenderMultipleColumnUpdate() {
+	@ParameterizedTest // DATAJDBC-335
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderMultipleColumnUpdate(RendererFactory factory) {
 
 		Table table = SQL.table("mytable");
 		Column foo = table.column("foo");
@@ -54,28 +57,30 @@ public class UpdateRendererUnitTests {
 				.set(foo.set(SQL.bindMarker()), bar.set(SQL.bindMarker())) //
 				.build();
 
-		assertThat(SqlRenderer.toString(update)).isEqualTo("UPDATE mytable SET foo = ?, bar = ?");
+		assertThat(factory.create().render(update)).isEqualTo("UPDATE mytable SET foo = ?, bar = ?");
 	}
 
-	@Test // DATAJDBC-335
-	public void shouldRenderUpdateWithLiteral() {
+	@ParameterizedTest // DATAJDBC-335
+	@EnumSource(RendererFactory.class)
+	public void shouldRenderUpdateWithLiteral(RendererFactory factory) {
 
 		Table table = SQL.table("mytable");
 		Column column = table.column("foo");
 
 		Update update = StatementBuilder.update(table).set(column.set(SQL.literalOf(20))).build();
 
-		assertThat(SqlRenderer.toString(update)).isEqualTo("UPDATE mytable SET foo = 20");
+		assertThat(factory.create().render(update)).isEqualTo("UPDATE mytable SET foo = 20");
 	}
 
-	@Test // DATAJDBC-335
-	public void shouldCreateUpdateWIthCondition() {
+	@ParameterizedTest // DATAJDBC-335
+	@EnumSource(RendererFactory.class)
+	public void shouldCreateUpdateWIthCondition(RendererFactory factory) {
 
 		Table table = SQL.table("mytable");
 		Column column = table.column("foo");
 
 		Update update = StatementBuilder.update(table).set(column.set(SQL.bindMarker())).where(column.isNull()).build();
 
-		assertThat(SqlRenderer.toString(update)).isEqualTo("UPDATE mytable SET foo = ? WHERE mytable.foo IS NULL");
+		assertThat(factory.create().render(update)).isEqualTo("UPDATE mytable SET foo = ? WHERE mytable.foo IS NULL");
 	}
 }